@@ -18,6 +18,7 @@ import org.kie.perf.annotation.KPKConstraint;
 import org.kie.perf.annotation.KPKLimit;
 import org.kie.perf.metrics.CPUUsageHistogramSet;
 import org.kie.perf.metrics.CsvSingleReporter;
+import org.kie.perf.metrics.HdrHistogramReporter;
 import org.kie.perf.metrics.MemoryUsageGaugeSet;
 import org.kie.perf.metrics.PerfRepoReporter;
 import org.kie.perf.metrics.ThreadStatesGaugeSet;
@@ -78,6 +79,14 @@ public class Executor {
             PerfRepoClient client = new PerfRepoClient(tc.getPerfRepoHost(), tc.getPerfRepoUrlPath(), tc.getPerfRepoUsername(),
                     tc.getPerfRepoPassword());
             reporter = PerfRepoReporter.forRegistry(metrics).convertRatesTo(TimeUnit.SECONDS).convertDurationsTo(TimeUnit.MILLISECONDS).build(client);
+        } else if (reporterType == ReporterType.HDRHISTOGRAM) {
+            File reportDataLocation = new File(tc.getReportDataLocation());
+            if (!reportDataLocation.exists()) {
+                reportDataLocation.mkdirs();
+            }
+            // every periodicity seconds one interval is written, intervals are the samples RunComparison works with
+            reporter = HdrHistogramReporter.forRegistry(metrics).convertDurationsTo(TimeUnit.MILLISECONDS).build(reportDataLocation);
+            reporter.start(tc.getPeriodicity(), TimeUnit.SECONDS);
         }
     }
     
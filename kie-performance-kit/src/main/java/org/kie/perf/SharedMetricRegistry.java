@@ -1,6 +1,9 @@
 package org.kie.perf;
 
+import org.kie.perf.metrics.HdrHistogramReservoir;
+
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
 public class SharedMetricRegistry {
 
@@ -29,4 +32,20 @@ public class SharedMetricRegistry {
         return instance;
     }
 
+    /**
+     * Returns timer recording every value into an HdrHistogram, so tail latencies are not lost to reservoir
+     * sampling.
+     */
+    public static Timer latencyTimer(String name) {
+        return latencyTimer(name, 0);
+    }
+
+    /**
+     * Returns timer recording every value into an HdrHistogram, correcting for coordinated omission when the
+     * executions are expected to start every <code>expectedIntervalNanos</code>.
+     */
+    public static Timer latencyTimer(String name, long expectedIntervalNanos) {
+        return getInstance().timer(name, () -> new Timer(new HdrHistogramReservoir(expectedIntervalNanos)));
+    }
+
 }
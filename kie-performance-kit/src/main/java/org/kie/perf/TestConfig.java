@@ -7,6 +7,7 @@ import java.util.Properties;
 import org.kie.perf.run.Duration;
 import org.kie.perf.run.IRunType;
 import org.kie.perf.run.Iteration;
+import org.kie.perf.suite.ArrivalRateSuite;
 import org.kie.perf.suite.ConcurrentLoadSuite;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +35,7 @@ public class TestConfig {
     protected int duration;
     protected int iterations;
     protected int expectedRate;
+    protected int arrivalRate;
 
     protected ReporterType reporterType;
     protected int periodicity;
@@ -105,10 +107,18 @@ public class TestConfig {
             expectedRate = Integer.valueOf(expectedRateProp);
         }
 
+        String arrivalRateProp = System.getProperty("arrivalRate");
+        if (arrivalRateProp == null) {
+            arrivalRate = 10;
+        } else {
+            arrivalRate = Integer.valueOf(arrivalRateProp);
+        }
+
         properties.put("runType", runType);
         properties.put("duration", duration);
         properties.put("iterations", iterations);
         properties.put("expectedRate", expectedRate);
+        properties.put("arrivalRate", arrivalRate);
 
         reporterType = ReporterType.valueOf(System.getProperty("reporterType").toUpperCase());
         periodicity = Integer.valueOf(System.getProperty("periodicity"));
@@ -122,6 +132,8 @@ public class TestConfig {
         properties.put("threads", threads);
         if (suite.equals(ConcurrentLoadSuite.class.getSimpleName())) {
             addTag("thread-" + threads);
+        } else if (suite.equals(ArrivalRateSuite.class.getSimpleName())) {
+            addTag("rate-" + arrivalRate);
         }
 
         warmUp = Boolean.valueOf(System.getProperty("warmUp"));
@@ -234,6 +246,13 @@ public class TestConfig {
         return expectedRate;
     }
 
+    /**
+     * Number of scenario executions started per second by the ArrivalRateSuite regardless of how long they take.
+     */
+    public int getArrivalRate() {
+        return arrivalRate;
+    }
+
     public ReporterType getReporterType() {
         return reporterType;
     }
@@ -291,7 +310,7 @@ public class TestConfig {
     }
 
     public static enum ReporterType {
-        CONSOLE, CSV, CSVSINGLE, PERFREPO
+        CONSOLE, CSV, CSVSINGLE, PERFREPO, HDRHISTOGRAM
     }
 
     public static enum Measure {
@@ -0,0 +1,105 @@
+package org.kie.perf.metrics;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+/**
+ * Reads and merges HdrHistogram logs written by {@link HdrHistogramReporter}, e.g. to combine results of forked
+ * scenarios or repeated runs before comparing them.
+ * <p>
+ * Usage: <code>HdrHistogramLogs &lt;merged.hlog&gt; &lt;run1.hlog&gt; &lt;run2.hlog&gt; ...</code>
+ */
+public class HdrHistogramLogs {
+
+    private HdrHistogramLogs() {
+
+    }
+
+    /**
+     * Returns interval histograms of the log in the order they were written.
+     */
+    public static List<Histogram> readIntervals(File log) throws FileNotFoundException {
+        List<Histogram> intervals = new ArrayList<Histogram>();
+        HistogramLogReader reader = new HistogramLogReader(log);
+        try {
+            EncodableHistogram interval;
+            while ((interval = reader.nextIntervalHistogram()) != null) {
+                if (interval instanceof Histogram) {
+                    intervals.add((Histogram) interval);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return intervals;
+    }
+
+    /**
+     * Returns histogram of all values in the given logs.
+     */
+    public static Histogram merge(List<File> logs) throws FileNotFoundException {
+        Histogram merged = new Histogram(HdrHistogramReservoir.SIGNIFICANT_DIGITS);
+        for (File log : logs) {
+            for (Histogram interval : readIntervals(log)) {
+                merged.add(interval);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Writes intervals of all given logs into one log, intervals of the same position are added together, so logs
+     * of concurrent runs reported with the same periodicity are merged interval by interval.
+     */
+    public static void merge(List<File> logs, File target) throws FileNotFoundException, UnsupportedEncodingException {
+        List<Histogram> merged = new ArrayList<Histogram>();
+        for (File log : logs) {
+            List<Histogram> intervals = readIntervals(log);
+            for (int i = 0; i < intervals.size(); i++) {
+                if (merged.size() <= i) {
+                    Histogram interval = new Histogram(HdrHistogramReservoir.SIGNIFICANT_DIGITS);
+                    interval.setStartTimeStamp(intervals.get(i).getStartTimeStamp());
+                    interval.setEndTimeStamp(intervals.get(i).getEndTimeStamp());
+                    merged.add(interval);
+                }
+                merged.get(i).add(intervals.get(i));
+            }
+        }
+        PrintStream out = new PrintStream(new FileOutputStream(target), false, "UTF-8");
+        try {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputComment("Merged from " + logs);
+            writer.outputLegend();
+            for (Histogram interval : merged) {
+                writer.outputIntervalHistogram(interval);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: HdrHistogramLogs <merged.hlog> <run1.hlog> [<run2.hlog> ...]");
+            System.exit(1);
+        }
+        List<File> logs = new ArrayList<File>();
+        for (String log : Arrays.copyOfRange(args, 1, args.length)) {
+            logs.add(new File(log));
+        }
+        merge(logs, new File(args[0]));
+    }
+
+}
@@ -0,0 +1,155 @@
+package org.kie.perf.metrics;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.ScheduledReporter;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+
+/**
+ * Exports timers and histograms backed by {@link HdrHistogramReservoir}. Every report appends the values recorded
+ * since the previous one to <code>&lt;metric&gt;.hlog</code> (HdrHistogram log format, readable by
+ * HistogramLogProcessor or {@link HdrHistogramLogs}) and rewrites <code>&lt;metric&gt;.percentiles.csv</code> with
+ * the full percentile spectrum of the run so far. Other metrics are ignored.
+ */
+public class HdrHistogramReporter extends ScheduledReporter {
+
+    public static Builder forRegistry(MetricRegistry registry) {
+        return new Builder(registry);
+    }
+
+    public static class Builder {
+        private final MetricRegistry registry;
+        private TimeUnit durationUnit;
+        private MetricFilter filter;
+
+        private Builder(MetricRegistry registry) {
+            this.registry = registry;
+            this.durationUnit = TimeUnit.MILLISECONDS;
+            this.filter = MetricFilter.ALL;
+        }
+
+        public Builder convertDurationsTo(TimeUnit durationUnit) {
+            this.durationUnit = durationUnit;
+            return this;
+        }
+
+        public Builder filter(MetricFilter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public HdrHistogramReporter build(File directory) {
+            return new HdrHistogramReporter(registry, directory, durationUnit, filter);
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(HdrHistogramReporter.class);
+
+    private static final int PERCENTILE_TICKS_PER_HALF_DISTANCE = 5;
+
+    private final File directory;
+    private final double durationUnitRatio;
+    private final long startTime = System.currentTimeMillis();
+    private final Map<String, IntervalLog> logs = new HashMap<String, IntervalLog>();
+
+    private HdrHistogramReporter(MetricRegistry registry, File directory, TimeUnit durationUnit, MetricFilter filter) {
+        super(registry, "hdrhistogram-reporter", filter, TimeUnit.SECONDS, durationUnit);
+        this.directory = directory;
+        // timers record nanoseconds
+        this.durationUnitRatio = durationUnit.toNanos(1);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public synchronized void report(SortedMap<String, Gauge> gauges, SortedMap<String, Counter> counters,
+            SortedMap<String, com.codahale.metrics.Histogram> histograms, SortedMap<String, Meter> meters, SortedMap<String, Timer> timers) {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, com.codahale.metrics.Histogram> entry : histograms.entrySet()) {
+            report(entry.getKey(), entry.getValue().getSnapshot(), 1.0, now);
+        }
+        for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+            report(entry.getKey(), entry.getValue().getSnapshot(), durationUnitRatio, now);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        super.stop();
+        for (IntervalLog intervalLog : logs.values()) {
+            intervalLog.out.close();
+        }
+        logs.clear();
+    }
+
+    private void report(String name, Snapshot snapshot, double unitRatio, long now) {
+        if (!(snapshot instanceof HdrHistogramSnapshot)) {
+            return;
+        }
+        Histogram total = ((HdrHistogramSnapshot) snapshot).getHistogram();
+        try {
+            IntervalLog intervalLog = logs.get(name);
+            if (intervalLog == null) {
+                intervalLog = new IntervalLog(new File(directory, name + ".hlog"));
+                logs.put(name, intervalLog);
+            }
+            intervalLog.append(total, unitRatio, now);
+
+            PrintStream out = new PrintStream(new FileOutputStream(new File(directory, name + ".percentiles.csv")), false, "UTF-8");
+            try {
+                total.outputPercentileDistribution(out, PERCENTILE_TICKS_PER_HALF_DISTANCE, unitRatio, true);
+            } finally {
+                out.close();
+            }
+        } catch (FileNotFoundException | UnsupportedEncodingException e) {
+            log.warn("Error writing histogram of {}", name, e);
+        }
+    }
+
+    private class IntervalLog {
+
+        private final PrintStream out;
+        private final HistogramLogWriter writer;
+        private Histogram previous;
+        private long lastTimestamp = startTime;
+
+        IntervalLog(File file) throws FileNotFoundException, UnsupportedEncodingException {
+            out = new PrintStream(new FileOutputStream(file), false, "UTF-8");
+            writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startTime);
+            writer.setBaseTime(startTime);
+            writer.outputLegend();
+        }
+
+        void append(Histogram total, double unitRatio, long now) {
+            Histogram interval = total.copy();
+            if (previous != null) {
+                interval.subtract(previous);
+            }
+            previous = total;
+            writer.outputIntervalHistogram((lastTimestamp - startTime) / 1000.0, (now - startTime) / 1000.0, interval, unitRatio);
+            out.flush();
+            lastTimestamp = now;
+        }
+    }
+
+}
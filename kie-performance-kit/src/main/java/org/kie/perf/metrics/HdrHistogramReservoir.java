@@ -0,0 +1,65 @@
+package org.kie.perf.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+
+/**
+ * Reservoir keeping every recorded value in an HdrHistogram instead of a sample, so high percentiles and max are
+ * not lost. Values are recorded concurrently without locking; snapshots contain all values recorded so far.
+ */
+public class HdrHistogramReservoir implements Reservoir {
+
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+    private final long expectedInterval;
+    private Histogram interval;
+
+    public HdrHistogramReservoir() {
+        this(0);
+    }
+
+    /**
+     * @param expectedInterval
+     *            expected time between two executions in closed loop runs, in the unit of recorded values. A value
+     *            longer than that is recorded together with the values the executions delayed by it would have
+     *            seen (coordinated omission correction). 0 disables the correction.
+     */
+    public HdrHistogramReservoir(long expectedInterval) {
+        this.expectedInterval = expectedInterval;
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        long v = Math.max(0, value);
+        if (expectedInterval > 0) {
+            recorder.recordValueWithExpectedInterval(v, expectedInterval);
+        } else {
+            recorder.recordValue(v);
+        }
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        return new HdrHistogramSnapshot(getHistogram());
+    }
+
+    /**
+     * Returns copy of histogram with all values recorded so far.
+     */
+    public synchronized Histogram getHistogram() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+        return total.copy();
+    }
+
+}
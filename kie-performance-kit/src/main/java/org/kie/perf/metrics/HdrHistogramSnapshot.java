@@ -0,0 +1,93 @@
+package org.kie.perf.metrics;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import com.codahale.metrics.Snapshot;
+
+/**
+ * Snapshot of {@link HdrHistogramReservoir}, gives access to the underlying histogram for exporting full percentile
+ * spectra.
+ */
+public class HdrHistogramSnapshot extends Snapshot {
+
+    private final Histogram histogram;
+
+    public HdrHistogramSnapshot(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public double getValue(double quantile) {
+        if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException(quantile + " is not in [0..1]");
+        }
+        return histogram.getValueAtPercentile(quantile * 100.0);
+    }
+
+    /**
+     * Returns one value per recorded histogram bucket, the values themselves are not kept.
+     */
+    @Override
+    public long[] getValues() {
+        long[] values = new long[countBuckets()];
+        int i = 0;
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            values[i++] = histogram.highestEquivalentValue(value.getValueIteratedTo());
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(histogram.getTotalCount(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getMax() {
+        return histogram.getMaxValue();
+    }
+
+    @Override
+    public double getMean() {
+        return histogram.getMean();
+    }
+
+    @Override
+    public long getMin() {
+        return histogram.getTotalCount() > 0 ? histogram.getMinValue() : 0;
+    }
+
+    @Override
+    public double getStdDev() {
+        return histogram.getStdDeviation();
+    }
+
+    @Override
+    public void dump(OutputStream output) {
+        try {
+            PrintStream out = new PrintStream(output, false, "UTF-8");
+            histogram.outputPercentileDistribution(out, 1.0);
+            out.flush();
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int countBuckets() {
+        int count = 0;
+        for (@SuppressWarnings("unused") HistogramIterationValue value : histogram.recordedValues()) {
+            count++;
+        }
+        return count;
+    }
+
+}
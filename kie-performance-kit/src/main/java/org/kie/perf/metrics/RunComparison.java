@@ -0,0 +1,204 @@
+package org.kie.perf.metrics;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Compares latency percentiles of two runs from the HdrHistogram logs written by {@link HdrHistogramReporter}.
+ * <p>
+ * Every reported interval of a run is taken as one sample of each percentile, a delta is marked significant when
+ * Welch's t-test on those samples rejects equal means at the 95% level. Runs need at least two intervals, i.e. a
+ * duration of at least twice the reporter periodicity, otherwise the significance is not evaluated.
+ * <p>
+ * Usage: <code>RunComparison &lt;baseline dir or .hlog&gt; &lt;candidate dir or .hlog&gt; [&lt;output.csv&gt;]</code>
+ */
+public class RunComparison {
+
+    private static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9, 99.99, 100.0 };
+
+    // recorded values are nanoseconds, reported as milliseconds
+    private static final double VALUE_UNIT_RATIO = 1000000.0;
+
+    // 97.5% quantile of normal distribution, i.e. two-sided 95% confidence
+    private static final double Z = 1.959964;
+
+    private RunComparison() {
+
+    }
+
+    public static List<Delta> compare(File baseline, File candidate) throws FileNotFoundException {
+        List<Delta> deltas = new ArrayList<Delta>();
+        for (File baselineLog : listLogs(baseline)) {
+            File candidateLog = candidate.isDirectory() ? new File(candidate, baselineLog.getName()) : candidate;
+            if (!candidateLog.isFile()) {
+                continue;
+            }
+            List<Histogram> baselineIntervals = HdrHistogramLogs.readIntervals(baselineLog);
+            List<Histogram> candidateIntervals = HdrHistogramLogs.readIntervals(candidateLog);
+            Histogram baselineTotal = HdrHistogramLogs.merge(Collections.singletonList(baselineLog));
+            Histogram candidateTotal = HdrHistogramLogs.merge(Collections.singletonList(candidateLog));
+            String metric = baselineLog.getName().substring(0, baselineLog.getName().length() - ".hlog".length());
+            for (double percentile : PERCENTILES) {
+                deltas.add(new Delta(metric, percentile, baselineTotal.getValueAtPercentile(percentile) / VALUE_UNIT_RATIO,
+                        candidateTotal.getValueAtPercentile(percentile) / VALUE_UNIT_RATIO,
+                        welchTest(samples(baselineIntervals, percentile), samples(candidateIntervals, percentile))));
+            }
+        }
+        return deltas;
+    }
+
+    private static List<File> listLogs(File location) {
+        if (!location.isDirectory()) {
+            return Collections.singletonList(location);
+        }
+        File[] logs = location.listFiles((dir, name) -> name.endsWith(".hlog"));
+        if (logs == null) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(logs);
+        return Arrays.asList(logs);
+    }
+
+    private static double[] samples(List<Histogram> intervals, double percentile) {
+        List<Double> samples = new ArrayList<Double>();
+        for (Histogram interval : intervals) {
+            if (interval.getTotalCount() > 0) {
+                samples.add(interval.getValueAtPercentile(percentile) / VALUE_UNIT_RATIO);
+            }
+        }
+        double[] values = new double[samples.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = samples.get(i);
+        }
+        return values;
+    }
+
+    /**
+     * Returns whether means of the samples differ significantly, or null when there are not enough samples.
+     */
+    static Boolean welchTest(double[] a, double[] b) {
+        if (a.length < 2 || b.length < 2) {
+            return null;
+        }
+        double meanA = mean(a);
+        double meanB = mean(b);
+        double seA = variance(a, meanA) / a.length;
+        double seB = variance(b, meanB) / b.length;
+        double se = seA + seB;
+        if (se == 0.0) {
+            return meanA != meanB;
+        }
+        double t = Math.abs(meanB - meanA) / Math.sqrt(se);
+        double df = (se * se) / ((seA * seA) / (a.length - 1) + (seB * seB) / (b.length - 1));
+        return t > criticalValue(df);
+    }
+
+    /**
+     * Approximates the two-sided 95% critical value of Student's t distribution (Cornish-Fisher expansion).
+     */
+    static double criticalValue(double df) {
+        double z3 = Z * Z * Z;
+        double z5 = z3 * Z * Z;
+        double z7 = z5 * Z * Z;
+        return Z + (z3 + Z) / (4 * df) + (5 * z5 + 16 * z3 + 3 * Z) / (96 * df * df)
+                + (3 * z7 + 19 * z5 + 17 * z3 - 15 * Z) / (384 * df * df * df);
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double variance(double[] values, double mean) {
+        double sum = 0;
+        for (double value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return sum / (values.length - 1);
+    }
+
+    public static void print(List<Delta> deltas, PrintStream out) {
+        out.println("Metric,Percentile,Baseline [ms],Candidate [ms],Delta [%],Significant");
+        for (Delta delta : deltas) {
+            out.printf(Locale.US, "%s,%s,%.3f,%.3f,%.2f,%s%n", delta.getMetric(), delta.getPercentile(), delta.getBaseline(),
+                    delta.getCandidate(), delta.getChange(), delta.getSignificant() == null ? "n/a" : delta.getSignificant());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: RunComparison <baseline dir or .hlog> <candidate dir or .hlog> [<output.csv>]");
+            System.exit(1);
+        }
+        List<Delta> deltas = compare(new File(args[0]), new File(args[1]));
+        print(deltas, System.out);
+        if (args.length > 2) {
+            PrintStream out = new PrintStream(new FileOutputStream(args[2]), false, "UTF-8");
+            try {
+                print(deltas, out);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    public static class Delta {
+
+        private final String metric;
+        private final double percentile;
+        private final double baseline;
+        private final double candidate;
+        private final Boolean significant;
+
+        public Delta(String metric, double percentile, double baseline, double candidate, Boolean significant) {
+            this.metric = metric;
+            this.percentile = percentile;
+            this.baseline = baseline;
+            this.candidate = candidate;
+            this.significant = significant;
+        }
+
+        public String getMetric() {
+            return metric;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public double getBaseline() {
+            return baseline;
+        }
+
+        public double getCandidate() {
+            return candidate;
+        }
+
+        /**
+         * Relative change of the candidate against the baseline in percent.
+         */
+        public double getChange() {
+            return baseline == 0.0 ? 0.0 : (candidate - baseline) / baseline * 100.0;
+        }
+
+        /**
+         * Returns null when the runs have too few intervals to tell.
+         */
+        public Boolean getSignificant() {
+            return significant;
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.kie.perf.scenario;
+
+/**
+ * Time (System.nanoTime) the current scenario execution was scheduled to start. Suites that start executions at
+ * a fixed rate set it before calling {@link IPerfTest#execute()} so that scenarios timing their own operations
+ * include the time the execution waited for a free thread (coordinated omission). In other suites executions
+ * start when scheduled, so the current time is returned.
+ */
+public final class ScheduledStart {
+
+    private static final ThreadLocal<Long> scheduledStart = new ThreadLocal<Long>();
+
+    private ScheduledStart() {
+
+    }
+
+    public static long get() {
+        Long start = scheduledStart.get();
+        return start != null ? start : System.nanoTime();
+    }
+
+    public static void set(long nanoTime) {
+        scheduledStart.set(nanoTime);
+    }
+
+    public static void clear() {
+        scheduledStart.remove();
+    }
+
+}
@@ -0,0 +1,167 @@
+package org.kie.perf.suite;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.perf.Executor;
+import org.kie.perf.SharedMetricRegistry;
+import org.kie.perf.TestConfig;
+import org.kie.perf.TestConfig.Measure;
+import org.kie.perf.TestConfig.RunType;
+import org.kie.perf.annotation.KPKConstraint;
+import org.kie.perf.annotation.KPKLimit;
+import org.kie.perf.metrics.CPUUsageHistogramSet;
+import org.kie.perf.run.IRunType;
+import org.kie.perf.scenario.IPerfTest;
+import org.kie.perf.scenario.ScheduledStart;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * Open model load - scenario executions are started at a fixed rate (arrivalRate per second) no matter how long
+ * the previous ones take, executed by a pool of threads. Latency is measured from the time the execution was
+ * supposed to start so time spent waiting for a free thread is included, unlike in LoadSuite and
+ * ConcurrentLoadSuite where slow responses also slow down the load. Executions that cannot be even queued are
+ * counted as dropped.
+ */
+public class ArrivalRateSuite implements ITestSuite {
+
+    protected static final Logger log = LoggerFactory.getLogger(ArrivalRateSuite.class);
+
+    private static final int QUEUE_SIZE_PER_THREAD = 100;
+
+    @Override
+    public void start() throws Exception {
+        TestConfig tc = TestConfig.getInstance();
+        Executor exec = Executor.getInstance();
+        Set<Class<? extends IPerfTest>> scenarios = exec.getScenarios(tc.getTestPackage());
+        if (scenarios.size() == 1) {
+            Class<? extends IPerfTest> scenarioClass = scenarios.iterator().next();
+            IPerfTest scenario = scenarioClass.newInstance();
+
+            exec.initMetrics(scenario);
+            scenario.init();
+            if (tc.isWarmUp()) {
+                exec.performWarmUp(scenario);
+            }
+            scenario.close();
+
+            CPUUsageHistogramSet cpuusage = null;
+            boolean cpuusageEnabled = tc.getMeasure().contains(Measure.CPUUSAGE);
+            if (cpuusageEnabled) {
+                cpuusage = CPUUsageHistogramSet.getInstance(scenarioClass);
+                cpuusage.start();
+            }
+            startScenario(scenarioClass);
+            if (cpuusageEnabled) {
+                cpuusage.stop();
+            }
+
+            exec.getReporter().report();
+        } else {
+            for (Class<? extends IPerfTest> c : scenarios) {
+                KPKConstraint constraint = exec.checkScenarioConstraints(c);
+                if (constraint != null) {
+                    log.info("Scenario '" + c.getSimpleName() + "' skipped due to constraints " + Arrays.toString(constraint.value()));
+                } else {
+                    exec.forkScenario(c.getSimpleName());
+                }
+            }
+        }
+    }
+
+    private void startScenario(Class<? extends IPerfTest> scenarioClass) throws InterruptedException {
+        TestConfig tc = TestConfig.getInstance();
+        MetricRegistry metrics = SharedMetricRegistry.getInstance();
+
+        Timer latency = SharedMetricRegistry.latencyTimer(MetricRegistry.name(scenarioClass, "scenario.single.duration"));
+        Timer serviceTime = SharedMetricRegistry.latencyTimer(MetricRegistry.name(scenarioClass, "scenario.service.duration"));
+        Meter dropped = metrics.meter(MetricRegistry.name(scenarioClass, "scenario.dropped"));
+
+        // scenarios are not thread safe, every worker thread gets its own instance
+        List<IPerfTest> instances = new CopyOnWriteArrayList<IPerfTest>();
+        ThreadLocal<IPerfTest> scenario = ThreadLocal.withInitial(() -> {
+            try {
+                IPerfTest test = scenarioClass.newInstance();
+                test.init();
+                test.initMetrics();
+                instances.add(test);
+                return test;
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to create scenario " + scenarioClass.getName(), e);
+            }
+        });
+
+        int threads = tc.getThreads();
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(threads * QUEUE_SIZE_PER_THREAD));
+
+        KPKLimit limit = scenarioClass.getAnnotation(KPKLimit.class);
+        int max = (limit != null) ? limit.value() : Integer.MAX_VALUE;
+
+        Timer.Context contextDuration = null;
+        if (tc.getRunType() != RunType.DURATION) {
+            Timer duration = metrics.timer(MetricRegistry.name(scenarioClass, "scenario.total.duration"));
+            contextDuration = duration.time();
+        }
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / Math.max(1, tc.getArrivalRate());
+        log.info("Starting {} executions per second of {} using {} threads", tc.getArrivalRate(), scenarioClass.getSimpleName(), threads);
+
+        long next = System.nanoTime();
+        IRunType run = tc.getRunType().newInstance();
+        run.start(max);
+        while (!run.isEnd()) {
+            final long intendedStart = next;
+            try {
+                workers.execute(() -> {
+                    long start = System.nanoTime();
+                    ScheduledStart.set(intendedStart);
+                    try {
+                        scenario.get().execute();
+                    } catch (Exception ex) {
+                        log.error("Scenario execution failed", ex);
+                    } finally {
+                        ScheduledStart.clear();
+                    }
+                    long end = System.nanoTime();
+                    serviceTime.update(end - start, TimeUnit.NANOSECONDS);
+                    latency.update(end - intendedStart, TimeUnit.NANOSECONDS);
+                });
+            } catch (RejectedExecutionException e) {
+                dropped.mark();
+            }
+            next += interval;
+            long pause = next - System.nanoTime();
+            if (pause > 0) {
+                TimeUnit.NANOSECONDS.sleep(pause);
+            }
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.MINUTES)) {
+            log.warn("Scenario executions did not finish within 10 minutes");
+            workers.shutdownNow();
+        }
+        if (contextDuration != null) {
+            contextDuration.stop();
+        }
+        if (dropped.getCount() > 0) {
+            log.warn("{} scenario executions were dropped as all threads were busy, increase threads or lower arrivalRate", dropped.getCount());
+        }
+
+        for (IPerfTest test : instances) {
+            test.close();
+        }
+    }
+
+}
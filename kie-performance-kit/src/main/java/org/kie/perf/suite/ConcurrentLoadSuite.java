@@ -140,7 +140,7 @@ public class ConcurrentLoadSuite implements ITestSuite {
         
         @Override
         public void run() {
-            Timer duration = SharedMetricRegistry.getInstance().timer(MetricRegistry.name(scenario.getClass(), "scenario.single.duration"));
+            Timer duration = SharedMetricRegistry.latencyTimer(MetricRegistry.name(scenario.getClass(), "scenario.single.duration"));
             IRunType run = TestConfig.getInstance().getRunType().newInstance();
 
             run.start(max);
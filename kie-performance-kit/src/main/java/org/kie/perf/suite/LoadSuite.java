@@ -90,7 +90,7 @@ public class LoadSuite implements ITestSuite {
             max = limit.value();
         }
 
-        Timer scenarioDuration = metrics.timer(MetricRegistry.name(scenario.getClass(), "scenario.single.duration"));
+        Timer scenarioDuration = SharedMetricRegistry.latencyTimer(MetricRegistry.name(scenario.getClass(), "scenario.single.duration"));
         run.start(max);
         while (!run.isEnd()) {
             Timer.Context context = scenarioDuration.time();
@@ -22,6 +22,7 @@ public class SoakSuite implements ITestSuite {
 
     protected int iterations;
     protected int expectedRate;
+    protected long timeForOneRun;
     protected IRunType run;
 
     public SoakSuite() {
@@ -47,7 +48,7 @@ public class SoakSuite implements ITestSuite {
             cpuusage = CPUUsageHistogramSet.getInstance(SoakSuite.class);
             cpuusage.start();
         }
-        long timeForOneRun = Math.round(60.0 / expectedRate) * 1000; // expected rate is in runs per minute
+        timeForOneRun = Math.round(60.0 / expectedRate) * 1000; // expected rate is in runs per minute
         
         ScheduledReporter reporter = exec.getReporter();
         if (reporter instanceof PerfRepoReporter) {
@@ -77,9 +78,9 @@ public class SoakSuite implements ITestSuite {
     }
     
     private void startScenario(IPerfTest scenario) {
-        MetricRegistry metrics = SharedMetricRegistry.getInstance();
-
-        Timer scenarioDuration = metrics.timer(MetricRegistry.name(scenario.getClass(), "scenario.single.duration"));
+        // runs are expected every timeForOneRun, longer runs delay the following ones
+        Timer scenarioDuration = SharedMetricRegistry.latencyTimer(MetricRegistry.name(scenario.getClass(), "scenario.single.duration"),
+                TimeUnit.MILLISECONDS.toNanos(timeForOneRun));
         scenario.init();
         scenario.initMetrics();
         Timer.Context context = scenarioDuration.time();
@@ -0,0 +1,138 @@
+package org.kie.perf.metrics;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RunComparisonTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testCriticalValueMatchesStudentTable() {
+        // two-sided 95% quantiles of Student's t distribution
+        assertEquals(2.571, RunComparison.criticalValue(5), 0.01);
+        assertEquals(2.228, RunComparison.criticalValue(10), 0.001);
+        assertEquals(2.042, RunComparison.criticalValue(30), 0.001);
+        assertEquals(1.962, RunComparison.criticalValue(1000), 0.001);
+    }
+
+    @Test
+    public void testCriticalValueDecreasesWithDegreesOfFreedom() {
+        double previous = Double.MAX_VALUE;
+        for (int df = 2; df <= 100; df++) {
+            double value = RunComparison.criticalValue(df);
+            assertTrue(value < previous);
+            assertTrue(value > 1.959964);
+            previous = value;
+        }
+    }
+
+    @Test
+    public void testWelchTestDetectsShiftedMeans() {
+        // means 3 and 8, variances 2.5 each: t = 5 with 32 degrees of freedom
+        assertTrue(RunComparison.welchTest(new double[]{1, 2, 3, 4, 5}, new double[]{6, 7, 8, 9, 10}));
+    }
+
+    @Test
+    public void testWelchTestIgnoresNoise() {
+        // means differ by 0.5 while standard error is 1: t = 0.5
+        assertFalse(RunComparison.welchTest(new double[]{1, 2, 3, 4, 5}, new double[]{1.5, 2.5, 3.5, 4.5, 5.5}));
+    }
+
+    @Test
+    public void testWelchTestWithUnequalVariances() {
+        // means 10 and 12, a is tight while b is noisy: t = 1.41 with about 4 degrees of freedom
+        assertFalse(RunComparison.welchTest(new double[]{9.9, 10, 10.1, 10, 10}, new double[]{8, 10, 12, 14, 16}));
+        // same shift with both runs tight is significant
+        assertTrue(RunComparison.welchTest(new double[]{9.9, 10, 10.1, 10, 10}, new double[]{11.9, 12, 12.1, 12, 12}));
+    }
+
+    @Test
+    public void testWelchTestWithoutVariance() {
+        assertFalse(RunComparison.welchTest(new double[]{2, 2, 2}, new double[]{2, 2}));
+        assertTrue(RunComparison.welchTest(new double[]{2, 2, 2}, new double[]{3, 3}));
+    }
+
+    @Test
+    public void testWelchTestNeedsTwoSamples() {
+        assertNull(RunComparison.welchTest(new double[]{1}, new double[]{1, 2, 3}));
+        assertNull(RunComparison.welchTest(new double[]{1, 2, 3}, new double[0]));
+    }
+
+    @Test
+    public void testCompareLogs() throws Exception {
+        File baseline = folder.newFolder("baseline");
+        File candidate = folder.newFolder("candidate");
+        writeLog(new File(baseline, "latency.hlog"), 10, 11, 10, 9);
+        writeLog(new File(candidate, "latency.hlog"), 20, 21, 19, 20);
+        // logs without a counterpart in the candidate run are skipped
+        writeLog(new File(baseline, "other.hlog"), 10, 10);
+
+        List<RunComparison.Delta> deltas = RunComparison.compare(baseline, candidate);
+
+        assertEquals(6, deltas.size());
+        RunComparison.Delta median = deltas.get(0);
+        assertEquals("latency", median.getMetric());
+        assertEquals(50.0, median.getPercentile(), 0.0);
+        assertEquals(10.0, median.getBaseline(), 0.05);
+        assertEquals(20.0, median.getCandidate(), 0.05);
+        assertEquals(100.0, median.getChange(), 1.0);
+        assertTrue(median.getSignificant());
+    }
+
+    @Test
+    public void testCompareSingleIntervalIsNotEvaluated() throws Exception {
+        File baseline = folder.newFile("baseline.hlog");
+        File candidate = folder.newFile("candidate.hlog");
+        writeLog(baseline, 10);
+        writeLog(candidate, 20);
+
+        for (RunComparison.Delta delta : RunComparison.compare(baseline, candidate)) {
+            assertNull(delta.getSignificant());
+        }
+    }
+
+    @Test
+    public void testChangeOfZeroBaseline() {
+        assertEquals(0.0, new RunComparison.Delta("latency", 50.0, 0.0, 1.0, null).getChange(), 0.0);
+        assertEquals(-50.0, new RunComparison.Delta("latency", 50.0, 2.0, 1.0, null).getChange(), 0.0);
+    }
+
+    /**
+     * Writes one interval per given latency (in milliseconds), every interval holding 100 values of it.
+     */
+    private static void writeLog(File log, long... millis) throws Exception {
+        PrintStream out = new PrintStream(new FileOutputStream(log), false, "UTF-8");
+        try {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            long timestamp = 1000;
+            for (long value : millis) {
+                Histogram interval = new Histogram(HdrHistogramReservoir.SIGNIFICANT_DIGITS);
+                interval.setStartTimeStamp(timestamp);
+                interval.setEndTimeStamp(timestamp + 1000);
+                interval.recordValueWithCount(TimeUnit.MILLISECONDS.toNanos(value), 100);
+                writer.outputIntervalHistogram(interval);
+                timestamp += 1000;
+            }
+        } finally {
+            out.close();
+        }
+    }
+}
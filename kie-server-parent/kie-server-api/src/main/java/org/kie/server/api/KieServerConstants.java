@@ -19,17 +19,21 @@ package org.kie.server.api;
 public class KieServerConstants {
 
     public static final String KIE_JBPM_SERVER_CLIENT_FAILED_ENDPOINT_INTERVAL_CHECK = "org.kie.server.client.loadbalancer.failedEndpointIntervalCheck";
+    public static final String KIE_SERVER_CLIENT_ASYNC_THREADS = "org.kie.server.client.async.threads";
+    public static final String KIE_SERVER_CLIENT_ASYNC_MAX_CALLS_PER_TARGET = "org.kie.server.client.async.maxCallsPerTarget";
     public static final String IS_DISPOSE_CONTAINER_PARAM = "jBPMExtensionIsDisposeContainer";
     public static final String LOCATION_HEADER = "Location";
 
     public static final String CLASS_TYPE_HEADER = "X-KIE-ClassType";
     public static final String KIE_CONTENT_TYPE_HEADER = "X-KIE-ContentType";
     public static final String KIE_CONVERSATION_ID_TYPE_HEADER = "X-KIE-ConversationId";
+    public static final String KIE_SESSION_LOOKUP_HEADER = "X-KIE-SessionLookup";
 
     // extensions control parameters
     public static final String KIE_DROOLS_SERVER_EXT_DISABLED = "org.drools.server.ext.disabled";
     public static final String KIE_JBPM_SERVER_EXT_DISABLED = "org.jbpm.server.ext.disabled";
     public static final String KIE_JBPM_UI_SERVER_EXT_DISABLED = "org.jbpm.ui.server.ext.disabled";
+    public static final String KIE_JBPM_UI_FORM_CACHE_DISABLED = "org.jbpm.ui.server.ext.form.cache.disabled";
     public static final String KIE_OPTAPLANNER_SERVER_EXT_DISABLED = "org.optaplanner.server.ext.disabled";
     public static final String KIE_CASE_SERVER_EXT_DISABLED = "org.jbpm.case.server.ext.disabled";
     public static final String KIE_DMN_SERVER_EXT_DISABLED = "org.kie.dmn.server.ext.disabled";
@@ -37,11 +41,18 @@ public class KieServerConstants {
     public static final String KIE_KAFKA_SERVER_EXT_DISABLED = "org.kie.kafka.server.ext.disabled";
     public static final String KIE_PROMETHEUS_SERVER_EXT_DISABLED = "org.kie.prometheus.server.ext.disabled";
     public static final String KIE_SCENARIO_SIMULATION_SERVER_EXT_DISABLED = "org.kie.scenariosimulation.server.ext.disabled";
+    public static final String KIE_SCENARIO_SIMULATION_PARALLELISM = "org.kie.scenariosimulation.server.ext.parallelism";
     public static final String KIE_TASK_ASSIGNING_PLANNING_EXT_DISABLED = "org.kie.server.taskAssigning.planning.ext.disabled";
     public static final String KIE_TASK_ASSIGNING_RUNTIME_EXT_DISABLED = "org.kie.server.taskAssigning.runtime.ext.disabled";
     public static final String KIE_JBPM_CLUSTER_SERVER_EXT_DISABLED = "org.kie.jbpm.cluster.server.ext.disabled";
 
+    public static final String KIE_JBPM_CLUSTER_JOBS_BATCH_INTERVAL = "org.kie.jbpm.cluster.jobs.batch.interval";
+    public static final String KIE_JBPM_CLUSTER_FAILOVER_THREADS = "org.kie.jbpm.cluster.failover.threads";
+
     public static final String KIE_DROOLS_FILTER_REMOTEABLE_CLASSES = "org.drools.server.filter.classes";
+    public static final String KIE_DROOLS_SESSION_POOL_SIZE = "org.drools.server.ext.ksession.pool.size";
+    public static final String KIE_DROOLS_SESSION_POOL_NAMES = "org.drools.server.ext.ksession.pool.names";
+    public static final String KIE_DROOLS_SESSION_POOL_WAIT = "org.drools.server.ext.ksession.pool.wait";
 
     // kie server dedicated parameters
     public static final String KIE_SERVER_ID = "org.kie.server.id";
@@ -55,11 +66,15 @@ public class KieServerConstants {
     public static final String KIE_SERVER_STATE_IMMUTABLE = "org.kie.server.state.immutable";
     public static final String KIE_SERVER_STATE_IMMUTABLE_INIT = "org.kie.server.state.immutable.init";
     public static final String KIE_SERVER_CONTAINER_DEPLOYMENT = "org.kie.server.container.deployment";
+    public static final String KIE_SERVER_CONTAINER_CACHE_DIR = "org.kie.server.container.cache.dir";
+    public static final String KIE_SERVER_EAGER_MARSHALLERS = "org.kie.server.marshallers.eager";
     public static final String KIE_SERVER_CONTAINER_LOCATOR = "org.kie.server.container.locator";
     public static final String KIE_SERVER_PROCESS_INSTANCE_CONTAINER_LOCATOR = "org.kie.server.process.instance.container.locator";
     public static final String KIE_SERVER_ACTIVATE_POLICIES = "org.kie.server.policy.activate";
     public static final String KIE_SERVER_MGMT_API_DISABLED = "org.kie.server.mgmt.api.disabled";
     public static final String KIE_SERVER_STARTUP_STRATEGY = "org.kie.server.startup.strategy";
+    public static final String KIE_SERVER_STARTUP_CONTAINERS_THREADS = "org.kie.server.startup.containers.threads";
+    public static final String KIE_SERVER_STARTUP_CONTAINERS_TIMEOUT = "org.kie.server.startup.containers.timeout";
     public static final String KIE_SERVER_MODE = "org.kie.server.mode";
     public static final String KIE_SERVER_INCLUDE_STACKTRACE = "org.kie.server.stacktrace.included";
     public static final String KIE_SERVER_STRICT_ID_FORMAT = "org.kie.server.strict.id.format";
@@ -115,6 +130,9 @@ public class KieServerConstants {
     public static final String CFG_JBPM_PROCESS_IDENTITY_LISTENER = "org.jbpm.process.identity.enabled";
 
     public static final String CFG_DEFAULT_QUERY_DEFS_LOCATION = "org.jbpm.query.definitions.location";
+    public static final String CFG_QUERY_CACHE_NAMES = "org.kie.server.query.cache.names";
+    public static final String CFG_QUERY_CACHE_TTL = "org.kie.server.query.cache.ttl";
+    public static final String CFG_QUERY_CACHE_SIZE = "org.kie.server.query.cache.size";
 
     public static final String CFG_KIE_MVN_SETTINGS = "kie.maven.settings.custom";
 
@@ -140,6 +158,10 @@ public class KieServerConstants {
     public static final String PCFG_KIE_SESSION = "KSession";
     public static final String PCFG_MERGE_MODE = "MergeMode";
 
+    // rules container configuration item constants
+    public static final String PCFG_KIE_SESSION_POOL_SIZE = "KSessionPoolSize";
+    public static final String PCFG_KIE_SESSION_POOL_NAMES = "KSessionPoolNames";
+
     public static final String CAPABILITY_BRM = "BRM"; // Business Rules Management
     public static final String CAPABILITY_BPM = "BPM"; // Business Process Management
     public static final String CAPABILITY_BPM_UI = "BPM-UI"; // Business Process Management UI
@@ -27,6 +27,7 @@ import javax.xml.bind.annotation.XmlElements;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import org.kie.server.api.commands.optaplanner.AddProblemFactChangeCommand;
@@ -86,6 +87,12 @@ public class CommandScript implements Serializable {
     @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
     protected List<KieServerCommand> commands;
 
+    // optional, echoed back in ServiceResponsesList so asynchronous channels can match replies to requests
+    @XmlElement(name = "correlation-id")
+    @XStreamAlias("correlation-id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    protected String correlationId;
+
     public CommandScript() {
     }
 
@@ -100,6 +107,14 @@ public class CommandScript implements Serializable {
         return this.commands;
     }
 
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
+
     public String toString() {
         return "CommandScriptImpl{ commands=" + commands +
                 '}';
@@ -189,6 +189,14 @@ import org.kie.server.api.model.instance.TaskCommentList;
 import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskEventInstanceList;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.model.instance.ProcessStartRequest;
+import org.kie.server.api.model.instance.ProcessStartRequestList;
+import org.kie.server.api.model.instance.ProcessStartResult;
+import org.kie.server.api.model.instance.ProcessStartResultList;
+import org.kie.server.api.model.instance.TaskOperation;
+import org.kie.server.api.model.instance.TaskOperationList;
+import org.kie.server.api.model.instance.TaskOperationResult;
+import org.kie.server.api.model.instance.TaskOperationResultList;
 import org.kie.server.api.model.instance.TaskInstanceList;
 import org.kie.server.api.model.instance.TaskSummary;
 import org.kie.server.api.model.instance.TaskSummaryList;
@@ -318,6 +326,15 @@ public class JaxbMarshaller implements Marshaller {
                                                  TaskAttachment.class,
                                                  TaskAttachmentList.class,
 
+                                                 TaskOperation.class,
+                                                 TaskOperationList.class,
+                                                 TaskOperationResult.class,
+                                                 TaskOperationResultList.class,
+                                                 ProcessStartRequest.class,
+                                                 ProcessStartRequestList.class,
+                                                 ProcessStartResult.class,
+                                                 ProcessStartResultList.class,
+
                                                  WorkItemImpl.class,
                                                  WorkItemInstance.class,
                                                  WorkItemInstanceList.class,
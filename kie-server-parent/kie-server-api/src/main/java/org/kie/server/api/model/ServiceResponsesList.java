@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamImplicit;
 
@@ -36,6 +37,11 @@ public class ServiceResponsesList {
     @XStreamImplicit(itemFieldName = "response")
     private List<ServiceResponse<? extends Object>> responses;
 
+    @XmlElement(name = "correlation-id")
+    @XStreamAlias("correlation-id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String correlationId;
+
     public ServiceResponsesList() {
         responses = new ArrayList<ServiceResponse<? extends Object>>();
     }
@@ -51,4 +57,12 @@ public class ServiceResponsesList {
     public void setResponses(List<ServiceResponse<? extends Object>> responses) {
         this.responses = responses;
     }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
 }
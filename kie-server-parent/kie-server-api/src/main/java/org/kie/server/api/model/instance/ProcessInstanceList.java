@@ -34,6 +34,10 @@ public class ProcessInstanceList implements ItemList<ProcessInstance> {
     @XmlElement(name = "process-instance")
     private ProcessInstance[] processInstances;
 
+    // set only on pages of keyset pagination that are followed by another page
+    @XmlElement(name = "continuation-token")
+    private String continuationToken;
+
     public ProcessInstanceList() {
     }
 
@@ -53,6 +57,18 @@ public class ProcessInstanceList implements ItemList<ProcessInstance> {
         this.processInstances = processInstances;
     }
 
+    /**
+     * Returns opaque token to be sent back to fetch the next page of keyset pagination,
+     * <code>null</code> when this is the last page.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public void setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
+
     @Override
     public List<ProcessInstance> getItems() {
         if (processInstances == null) {
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.instance;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.kie.server.api.model.ItemList;
+
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "process-start-request-list")
+public class ProcessStartRequestList implements ItemList<ProcessStartRequest> {
+
+    @XmlElement(name = "process-start-request")
+    private ProcessStartRequest[] requests;
+
+    public ProcessStartRequestList() {
+    }
+
+    public ProcessStartRequestList(ProcessStartRequest[] requests) {
+        this.requests = requests;
+    }
+
+    public ProcessStartRequestList(List<ProcessStartRequest> requests) {
+        this.requests = requests.toArray(new ProcessStartRequest[requests.size()]);
+    }
+
+    public ProcessStartRequest[] getRequests() {
+        return requests;
+    }
+
+    public void setRequests(ProcessStartRequest[] requests) {
+        this.requests = requests;
+    }
+
+    @Override
+    public List<ProcessStartRequest> getItems() {
+        if (requests == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(requests);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.instance;
+
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Single operation on a user task executed as part of a batch of task operations.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "task-operation")
+public class TaskOperation {
+
+    public enum Type {
+        ACTIVATE,
+        CLAIM,
+        START,
+        STOP,
+        COMPLETE,
+        RELEASE,
+        DELEGATE,
+        FORWARD,
+        SKIP,
+        SUSPEND,
+        RESUME,
+        EXIT,
+        FAIL
+    }
+
+    @XmlElement(name = "task-id")
+    private Long taskId;
+
+    @XmlElement(name = "container-id")
+    private String containerId;
+
+    @XmlElement(name = "operation")
+    private Type operation;
+
+    @XmlElement(name = "user")
+    private String user;
+
+    @XmlElement(name = "target-user")
+    private String targetUser;
+
+    @XmlElement(name = "data")
+    private Map<String, Object> data;
+
+    public TaskOperation() {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getContainerId() {
+        return containerId;
+    }
+
+    public void setContainerId(String containerId) {
+        this.containerId = containerId;
+    }
+
+    public Type getOperation() {
+        return operation;
+    }
+
+    public void setOperation(Type operation) {
+        this.operation = operation;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public String getTargetUser() {
+        return targetUser;
+    }
+
+    public void setTargetUser(String targetUser) {
+        this.targetUser = targetUser;
+    }
+
+    public Map<String, Object> getData() {
+        return data;
+    }
+
+    public void setData(Map<String, Object> data) {
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskOperation{" +
+                "taskId=" + taskId +
+                ", containerId='" + containerId + '\'' +
+                ", operation=" + operation +
+                ", user='" + user + '\'' +
+                ", targetUser='" + targetUser + '\'' +
+                '}';
+    }
+
+    public static class Builder {
+
+        private TaskOperation operation = new TaskOperation();
+
+        public TaskOperation build() {
+            return operation;
+        }
+
+        public Builder taskId(Long taskId) {
+            operation.setTaskId(taskId);
+            return this;
+        }
+
+        public Builder containerId(String containerId) {
+            operation.setContainerId(containerId);
+            return this;
+        }
+
+        public Builder operation(Type type) {
+            operation.setOperation(type);
+            return this;
+        }
+
+        public Builder user(String user) {
+            operation.setUser(user);
+            return this;
+        }
+
+        public Builder targetUser(String targetUser) {
+            operation.setTargetUser(targetUser);
+            return this;
+        }
+
+        public Builder data(Map<String, Object> data) {
+            operation.setData(data);
+            return this;
+        }
+    }
+}
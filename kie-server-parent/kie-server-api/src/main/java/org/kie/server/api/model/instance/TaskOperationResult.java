@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.api.model.instance;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Outcome of a single operation of a batch of task operations, in the same position as the operation in the batch.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlRootElement(name = "task-operation-result")
+public class TaskOperationResult {
+
+    @XmlElement(name = "task-id")
+    private Long taskId;
+
+    @XmlElement(name = "container-id")
+    private String containerId;
+
+    @XmlElement(name = "operation")
+    private TaskOperation.Type operation;
+
+    @XmlElement(name = "success")
+    private boolean success;
+
+    @XmlElement(name = "message")
+    private String message;
+
+    public TaskOperationResult() {
+    }
+
+    public TaskOperationResult(Long taskId, String containerId, TaskOperation.Type operation, boolean success, String message) {
+        this.taskId = taskId;
+        this.containerId = containerId;
+        this.operation = operation;
+        this.success = success;
+        this.message = message;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getContainerId() {
+        return containerId;
+    }
+
+    public void setContainerId(String containerId) {
+        this.containerId = containerId;
+    }
+
+    public TaskOperation.Type getOperation() {
+        return operation;
+    }
+
+    public void setOperation(TaskOperation.Type operation) {
+        this.operation = operation;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskOperationResult{" +
+                "taskId=" + taskId +
+                ", containerId='" + containerId + '\'' +
+                ", operation=" + operation +
+                ", success=" + success +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -34,6 +34,10 @@ public class TaskSummaryList implements ItemList<TaskSummary> {
     @XmlElement(name = "task-summary")
     private TaskSummary[] tasks;
 
+    // set only on pages of keyset pagination that are followed by another page
+    @XmlElement(name = "continuation-token")
+    private String continuationToken;
+
     public TaskSummaryList() {
     }
 
@@ -53,6 +57,18 @@ public class TaskSummaryList implements ItemList<TaskSummary> {
         this.tasks = tasks;
     }
 
+    /**
+     * Returns opaque token to be sent back to fetch the next page of keyset pagination,
+     * <code>null</code> when this is the last page.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public void setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
+
     @Override
     public List<TaskSummary> getItems() {
         if (tasks == null) {
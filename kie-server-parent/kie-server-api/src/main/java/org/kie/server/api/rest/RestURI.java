@@ -81,6 +81,7 @@ public class RestURI {
     public static final String CASE_URI = "containers/{" + CONTAINER_ID + "}/cases";
     public static final String CASE_QUERY_URI = "queries/cases";
     public static final String STATIC_FILES_URI = "files";
+    public static final String EXPORT_URI = "export";
 
     // admin URIs
     public static final String ADMIN_PROCESS_URI = "admin/containers/{" + CONTAINER_ID + "}/processes";
@@ -94,6 +95,7 @@ public class RestURI {
     public static final String START_PROCESS_FROM_NODES_POST_URI = "{" + PROCESS_ID + "}/instances/fromNodes";
     public static final String START_PROCESS_FROM_NODES_WITH_CORRELATION_KEY_POST_URI = "{" + PROCESS_ID + "}/instances/correlation/{" + CORRELATION_KEY + "}/fromNodes";
     public static final String START_PROCESS_WITH_CORRELATION_KEY_POST_URI = "{" + PROCESS_ID + "}/instances/correlation/{" + CORRELATION_KEY + "}";
+    public static final String START_PROCESSES_BULK_POST_URI = "instances/bulk";
     public static final String ABORT_PROCESS_INST_DEL_URI = "instances/{" + PROCESS_INST_ID + "}";
     public static final String ABORT_PROCESS_INSTANCES_DEL_URI = "instances";
     public static final String SIGNAL_PROCESS_INST_POST_URI = "instances/{" + PROCESS_INST_ID + "}/signal/{" + SIGNAL_NAME + "}";
@@ -147,6 +149,11 @@ public class RestURI {
     public static final String VAR_INSTANCES_BY_INSTANCE_ID_GET_URI = "processes/instances/{" + PROCESS_INST_ID + "}/variables/instances";
     public static final String VAR_INSTANCES_BY_VAR_INSTANCE_ID_GET_URI = "processes/instances/{" + PROCESS_INST_ID + "}/variables/instances/{" + VAR_NAME + "}";
 
+    // bulk export related prefixed by EXPORT_URI
+    public static final String EXPORT_PROCESS_INSTANCES_GET_URI = "processes/instances";
+    public static final String EXPORT_NODE_INSTANCES_GET_URI = "processes/nodes/instances";
+    public static final String EXPORT_VAR_INSTANCES_GET_URI = "processes/variables/instances";
+
     // task search related prefixed by QUERY_URI
     public static final String TASKS_ASSIGN_POT_OWNERS_GET_URI = "tasks/instances/pot-owners";
     public static final String TASKS_ASSIGN_BUSINESS_ADMINS_GET_URI = "tasks/instances/admins";
@@ -162,6 +169,7 @@ public class RestURI {
     public static final String TASK_INSTANCE_ACTIVATE_PUT_URI = "{" + TASK_INSTANCE_ID + "}/states/activated";
     public static final String TASK_INSTANCE_CLAIM_PUT_URI = "{" + TASK_INSTANCE_ID + "}/states/claimed";
     public static final String TASK_INSTANCE_CLAIM_BULK_URI = "states/claimed";
+    public static final String TASK_INSTANCE_OPERATIONS_BULK_URI = "operations";
     public static final String TASK_INSTANCE_START_PUT_URI = "{" + TASK_INSTANCE_ID + "}/states/started";
     public static final String TASK_INSTANCE_STOP_PUT_URI = "{" + TASK_INSTANCE_ID + "}/states/stopped";
     public static final String TASK_INSTANCE_COMPLETE_PUT_URI = "{" + TASK_INSTANCE_ID + "}/states/completed";
@@ -255,6 +263,8 @@ public class RestURI {
     // document related
     public static final String DOCUMENT_INSTANCE_GET_URI = "{" + DOCUMENT_ID + "}";
     public static final String DOCUMENT_INSTANCE_CONTENT_GET_URI = "{" + DOCUMENT_ID + "}/content";
+    public static final String DOCUMENT_CONTENT_POST_URI = "content";
+    public static final String DOCUMENT_INSTANCE_CONTENT_PUT_URI = "{" + DOCUMENT_ID + "}/content";
     public static final String DOCUMENT_INSTANCE_PUT_URI = "{" + DOCUMENT_ID + "}";
     public static final String DOCUMENT_INSTANCE_DELETE_URI = "{" + DOCUMENT_ID + "}";
 
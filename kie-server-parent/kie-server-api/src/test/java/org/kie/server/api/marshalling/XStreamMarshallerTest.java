@@ -30,6 +30,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.Test;
 import org.kie.api.pmml.PMMLRequestData;
 import org.kie.api.pmml.ParameterInfo;
+import org.kie.server.api.commands.CommandScript;
 import org.kie.server.api.commands.ListContainersCommand;
 import org.kie.server.api.marshalling.objects.AnotherMessage;
 import org.kie.server.api.marshalling.objects.DateObject;
@@ -99,6 +100,18 @@ public class XStreamMarshallerTest {
         logger.info(rqst.toString());
     }
 
+    @Test
+    public void testCommandScriptCorrelationIdAlias() {
+        Marshaller marshaller = MarshallerFactory.getMarshaller(MarshallingFormat.XSTREAM, getClass().getClassLoader());
+        CommandScript script = new CommandScript(Collections.singletonList(new ListContainersCommand()));
+        script.setCorrelationId("42");
+
+        String marshalled = marshaller.marshall(script);
+        Assertions.assertThat(marshalled).contains("<correlation-id>42</correlation-id>");
+
+        assertEquals("42", marshaller.unmarshall(marshalled, CommandScript.class).getCorrelationId());
+    }
+
     @Test
     public void testUnmarshallListContainersCommandWithNoFilter() {
         String commandString = "<list-containers/>";
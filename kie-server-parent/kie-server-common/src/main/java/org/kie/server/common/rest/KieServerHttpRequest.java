@@ -169,6 +169,8 @@ public class KieServerHttpRequest {
 
         StringBuilder body;
         MediaType bodyContentType;
+        InputStream bodyStream;
+        long bodyStreamLength = -1;
 
         public URL getRequestUrl() {
             if( requestUrl == null ) {
@@ -234,6 +236,8 @@ public class KieServerHttpRequest {
             RequestInfo clone = new RequestInfo();
             clone.baseUrl = baseUrl;
             clone.body = body;
+            clone.bodyStream = bodyStream;
+            clone.bodyStreamLength = bodyStreamLength;
             clone.bodyContentType = bodyContentType;
             clone.charset = charset;
             clone.form = form;
@@ -885,7 +889,17 @@ public class KieServerHttpRequest {
                    requestInfo.setHeader(CONTENT_TYPE, contentTypeList.get(0));
                 }
             }
-            requestInfo.setHeader(CONTENT_LENGTH, contentLength);
+            if( requestInfo.bodyStream != null ) {
+                // binary body is streamed as is, either with known length or chunked
+                if( requestInfo.bodyStreamLength >= 0 ) {
+                    connection.setFixedLengthStreamingMode(requestInfo.bodyStreamLength);
+                    requestInfo.setHeader(CONTENT_LENGTH, requestInfo.bodyStreamLength);
+                } else {
+                    connection.setChunkedStreamingMode(bufferSize);
+                }
+            } else {
+                requestInfo.setHeader(CONTENT_LENGTH, contentLength);
+            }
             connection.setInstanceFollowRedirects(followRedirects);
 
             // auth
@@ -913,6 +927,14 @@ public class KieServerHttpRequest {
                     throw new KieServerHttpRequestException("Unable to add char sequence to request body", ioe);
                 }
             }
+            if( requestInfo.bodyStream != null ) {
+                try {
+                    openOutput();
+                    copy(requestInfo.bodyStream, output);
+                } catch( IOException ioe ) {
+                    throw new KieServerHttpRequestException("Unable to add input stream to request body", ioe);
+                }
+            }
         }
     }
 
@@ -1151,6 +1173,19 @@ public class KieServerHttpRequest {
         return this;
     }
 
+    /**
+     * Streams given input as the request body without buffering it in memory. The stream is closed once sent.
+     *
+     * @param value binary content of the body
+     * @param length number of bytes of the content or -1 when unknown (chunked transfer is used then)
+     * @return this request
+     */
+    public KieServerHttpRequest body(final InputStream value, final long length ) throws KieServerHttpRequestException {
+        getRequestInfo().bodyStream = value;
+        getRequestInfo().bodyStreamLength = length;
+        return this;
+    }
+
     public OutputStreamWriter writer() throws KieServerHttpRequestException {
         try {
             openOutput();
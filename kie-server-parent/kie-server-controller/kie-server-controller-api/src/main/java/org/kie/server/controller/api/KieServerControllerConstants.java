@@ -33,4 +33,7 @@ public final class KieServerControllerConstants {
     public static final String KIE_CONTROLLER_OPENSHIFT_ENABLED =
             "org.kie.server.controller.openshift.enabled";
 
+    public static final String KIE_CONTROLLER_WEBSOCKET_NOTIFICATION_QUEUE_SIZE =
+            "org.kie.server.controller.websocket.notification.queue.size";
+
 }
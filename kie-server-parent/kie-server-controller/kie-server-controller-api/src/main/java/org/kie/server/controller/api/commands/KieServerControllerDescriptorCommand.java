@@ -26,6 +26,7 @@ import javax.xml.bind.annotation.XmlElements;
 import javax.xml.bind.annotation.XmlRootElement;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.kie.server.api.model.KieServerCommand;
 import org.kie.server.api.model.ReleaseId;
@@ -67,6 +68,11 @@ public class KieServerControllerDescriptorCommand implements KieServerCommand {
     @XmlElement(name = "marshaller-format")
     private String marshallerFormat;
 
+    // optional, echoed back in the response so that many commands can be in flight on the same Web Socket session
+    @XmlElement(name = "correlation-id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String correlationId;
+
     public KieServerControllerDescriptorCommand() {
     }
 
@@ -145,6 +151,14 @@ public class KieServerControllerDescriptorCommand implements KieServerCommand {
         this.marshallerFormat = marshallerFormat;
     }
 
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
+
     @Override
     public String toString() {
         return "KieServerControllerDescriptorCommand{" +
@@ -153,6 +167,7 @@ public class KieServerControllerDescriptorCommand implements KieServerCommand {
                 ", arguments='" + arguments + '\'' +
                 ", marshallerFormat='" + marshallerFormat + '\'' +
                 ", payload=" + payload +
+                ", correlationId='" + correlationId + '\'' +
                 '}';
     }
 }
@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElements;
 import javax.xml.bind.annotation.XmlRootElement;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.kie.server.api.model.KieServiceResponse;
 import org.kie.server.controller.api.model.runtime.ContainerList;
@@ -46,6 +47,10 @@ public class KieServerControllerServiceResponse<T> implements KieServiceResponse
     @XmlAttribute
     private String msg;
 
+    @XmlAttribute(name = "correlation-id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String correlationId;
+
     @XmlElements({
             //Kie Server Controller model
             @XmlElement(name = "server-template-list", type = ServerTemplateList.class),
@@ -94,12 +99,21 @@ public class KieServerControllerServiceResponse<T> implements KieServiceResponse
         return result;
     }
 
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public void setCorrelationId(final String correlationId) {
+        this.correlationId = correlationId;
+    }
+
     @Override
     public String toString() {
         return "KieServerControllerServiceResponse{" +
                 "type=" + type +
                 ", msg='" + msg + '\'' +
                 ", result=" + result +
+                ", correlationId='" + correlationId + '\'' +
                 '}';
     }
 }
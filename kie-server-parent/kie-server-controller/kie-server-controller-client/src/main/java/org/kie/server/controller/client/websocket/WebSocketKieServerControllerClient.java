@@ -17,6 +17,7 @@
 package org.kie.server.controller.client.websocket;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.kie.server.api.model.KieServiceResponse.ResponseType;
 import org.kie.server.api.model.ReleaseId;
@@ -44,6 +45,7 @@ import org.slf4j.LoggerFactory;
 public class WebSocketKieServerControllerClient implements KieServerControllerClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketKieServerControllerClient.class);
+    private static final AtomicLong CORRELATION_IDS = new AtomicLong();
 
     private KieServerMessageHandlerWebSocketClient client;
     private KieServerControllerNotificationWebSocketClient notificationClient;
@@ -101,6 +103,7 @@ public class WebSocketKieServerControllerClient implements KieServerControllerCl
         final KieServerControllerDescriptorCommand command = new KieServerControllerDescriptorCommand(service,
                                                                                                       method,
                                                                                                       arguments);
+        command.setCorrelationId(Long.toString(CORRELATION_IDS.incrementAndGet()));
 
         LOGGER.debug("About to send descriptor command to kie server controller: {}",
                      command);
@@ -110,7 +113,9 @@ public class WebSocketKieServerControllerClient implements KieServerControllerCl
                      content);
         try {
             final WebSocketServiceResponse response = getMessageHandler();
+            response.onTimeout(() -> client.removeInternalHandler(command.getCorrelationId()));
             client.sendTextWithInternalHandler(content,
+                                               command.getCorrelationId(),
                                                response);
             LOGGER.debug("Message successfully sent to kie server controller");
             if (response.getType() == ResponseType.FAILURE) {
@@ -24,6 +24,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.server.api.commands.DescriptorCommand;
+import org.kie.server.controller.api.commands.KieServerControllerDescriptorCommand;
 import org.kie.server.controller.api.model.spec.ContainerSpec;
 import org.kie.server.controller.api.service.RuleCapabilitiesService;
 import org.kie.server.controller.api.service.RuntimeManagementService;
@@ -87,7 +88,9 @@ public class WebSocketKieServerControllerClientTest {
                                      new Object[m.getParameterCount()]);
 
             ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> correlationIdCaptor = ArgumentCaptor.forClass(String.class);
             verify(client).sendTextWithInternalHandler(contentCaptor.capture(),
+                                                       correlationIdCaptor.capture(),
                                                        any(InternalMessageHandler.class));
 
             final DescriptorCommand command = WebSocketUtils.unmarshal(contentCaptor.getValue(),
@@ -97,6 +100,10 @@ public class WebSocketKieServerControllerClientTest {
                          command.getService());
             assertEquals(m.getName(),
                          command.getMethod());
+            assertNotNull(correlationIdCaptor.getValue());
+            assertEquals(correlationIdCaptor.getValue(),
+                         WebSocketUtils.unmarshal(contentCaptor.getValue(),
+                                                  KieServerControllerDescriptorCommand.class).getCorrelationId());
 
             reset(client);
         }
@@ -135,7 +142,7 @@ public class WebSocketKieServerControllerClientTest {
         verify(controllerClient).updateContainerSpec(eq(SERVER_TEMPLATE_ID), eq(CONTAINER_ID), any(ContainerSpec.class), eq(expected));
 
         ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
-        verify(client).sendTextWithInternalHandler(contentCaptor.capture(), any(InternalMessageHandler.class));
+        verify(client).sendTextWithInternalHandler(contentCaptor.capture(), anyString(), any(InternalMessageHandler.class));
 
         final DescriptorCommand command = WebSocketUtils.unmarshal(contentCaptor.getValue(), DescriptorCommand.class);
 
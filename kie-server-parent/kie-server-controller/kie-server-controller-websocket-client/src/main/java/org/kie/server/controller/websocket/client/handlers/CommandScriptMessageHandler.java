@@ -66,6 +66,7 @@ public class CommandScriptMessageHandler implements InternalMessageHandler {
 
         // 4. process request
         ServiceResponsesList response = executor.executeScript(script, MarshallingFormat.JSON, null);
+        response.setCorrelationId(script.getCorrelationId());
         
         String reply = serialize(response);
         return reply;
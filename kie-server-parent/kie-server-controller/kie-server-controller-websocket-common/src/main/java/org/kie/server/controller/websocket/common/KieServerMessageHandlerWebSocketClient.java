@@ -40,6 +40,20 @@ public class KieServerMessageHandlerWebSocketClient extends WebSocketClientImpl<
                                   messageHandler -> messageHandler.addHandler(handler));
     }
 
+    public void sendTextWithInternalHandler(final String content,
+                                            final String correlationId,
+                                            final InternalMessageHandler handler) throws IOException {
+        super.sendTextWithHandler(content,
+                                  messageHandler -> messageHandler.addHandler(correlationId,
+                                                                              handler));
+    }
+
+    public void removeInternalHandler(final String correlationId) {
+        if (this.messageHandler != null) {
+            this.messageHandler.removeHandler(correlationId);
+        }
+    }
+
     @Override
     public void onOpen(final Session session,
                        final EndpointConfig config) {
@@ -149,7 +149,10 @@ public abstract class WebSocketClientImpl<T extends MessageHandler> extends Endp
 
         LOGGER.debug("Sending text message using Web Socket Session with id: {}", session.getId());
 
-        session.getBasicRemote().sendText(content);
+        // basic remote does not support concurrent writes
+        synchronized (session) {
+            session.getBasicRemote().sendText(content);
+        }
     }
 
     @Override
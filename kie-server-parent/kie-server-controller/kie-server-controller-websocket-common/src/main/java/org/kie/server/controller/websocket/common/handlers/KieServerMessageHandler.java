@@ -16,19 +16,35 @@
 package org.kie.server.controller.websocket.common.handlers;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.websocket.MessageHandler;
 import javax.websocket.Session;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Dispatches messages received on a Web Socket session to registered internal handlers. Messages that carry a
+ * <code>correlation-id</code> known to this handler are routed to the handler registered for that id, so any number
+ * of requests can be in flight on the same session and replies may arrive in any order. All other messages
+ * (peers that do not echo correlation ids, or requests received by the kie server) go to the oldest registered handler.
+ */
 public class KieServerMessageHandler implements MessageHandler.Whole<String> {
 
+    public static final String CORRELATION_ID = "correlation-id";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(KieServerMessageHandler.class);
-    private ArrayDeque<InternalMessageHandler> internalHandlers = new ArrayDeque<>();
-    
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // insertion ordered so that uncorrelated messages are handled in the order handlers were registered
+    private final Map<Object, InternalMessageHandler> internalHandlers = new LinkedHashMap<>();
+
     private Session session;    
     
     public KieServerMessageHandler(Session session) {
@@ -39,8 +55,13 @@ public class KieServerMessageHandler implements MessageHandler.Whole<String> {
     public void onMessage(String message) {
         LOGGER.debug("Message received on session id: '{}'", session.getId());
         LOGGER.debug("Message content '{}'", message);
-        InternalMessageHandler handler = internalHandlers.poll();
+        String correlationId = readCorrelationId(message);
+        InternalMessageHandler handler = takeHandler(correlationId);
         LOGGER.debug("About to handle message with handler {}", handler);
+        if (handler == null && correlationId != null) {
+            LOGGER.warn("No message handler waiting for correlation id {}, reply most likely arrived after timeout", correlationId);
+            return;
+        }
         if(handler == null){
             LOGGER.warn("No message handler available to process message");
             throw new RuntimeException("No message handler available to process message");
@@ -51,7 +72,7 @@ public class KieServerMessageHandler implements MessageHandler.Whole<String> {
         addHandler(handler.getNextHandler());                     
         if (response != null) {
             try {
-                session.getBasicRemote().sendText(response);
+                sendText(session, response);
                 LOGGER.debug("Response successfully sent");
                 handler.afterResponseSent();
             } catch (IOException e) {
@@ -64,7 +85,100 @@ public class KieServerMessageHandler implements MessageHandler.Whole<String> {
     public void addHandler(InternalMessageHandler handler) {
         if (handler != null) {
             LOGGER.debug("Adding message handler {} to session {}", handler, session.getId());
-            this.internalHandlers.add(handler);
+            synchronized (internalHandlers) {
+                this.internalHandlers.put(new Object(), handler);
+            }
+        }
+    }
+
+    /**
+     * Registers handler for the reply carrying given correlation id.
+     */
+    public void addHandler(String correlationId, InternalMessageHandler handler) {
+        if (correlationId == null) {
+            addHandler(handler);
+        } else if (handler != null) {
+            LOGGER.debug("Adding message handler {} for correlation id {} to session {}", handler, correlationId, session.getId());
+            synchronized (internalHandlers) {
+                this.internalHandlers.put(correlationId, handler);
+            }
+        }
+    }
+
+    /**
+     * Unregisters handler of given correlation id, e.g. when its reply did not arrive in time.
+     */
+    public InternalMessageHandler removeHandler(String correlationId) {
+        synchronized (internalHandlers) {
+            return this.internalHandlers.remove(correlationId);
+        }
+    }
+
+    /**
+     * Number of replies this session is waiting for.
+     */
+    public int getPendingCount() {
+        synchronized (internalHandlers) {
+            return this.internalHandlers.size();
+        }
+    }
+
+    /**
+     * Handler registered for given correlation id, otherwise the oldest handler - messages with an unknown
+     * correlation id are never given to handlers waiting for another correlation id.
+     */
+    protected InternalMessageHandler takeHandler(String correlationId) {
+        synchronized (internalHandlers) {
+            if (correlationId != null) {
+                InternalMessageHandler handler = internalHandlers.remove(correlationId);
+                if (handler != null) {
+                    return handler;
+                }
+            }
+            Iterator<Map.Entry<Object, InternalMessageHandler>> it = internalHandlers.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Object, InternalMessageHandler> entry = it.next();
+                if (correlationId == null || !(entry.getKey() instanceof String)) {
+                    it.remove();
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Sends text over given session, basic remote endpoints do not allow concurrent writes so all senders
+     * sharing the session must go through here.
+     */
+    public static void sendText(Session session, String content) throws IOException {
+        synchronized (session) {
+            session.getBasicRemote().sendText(content);
+        }
+    }
+
+    /**
+     * Reads top level <code>correlation-id</code> of given JSON message without unmarshalling it.
+     */
+    static String readCorrelationId(String message) {
+        if (message == null || message.indexOf(CORRELATION_ID) < 0) {
+            return null;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (CORRELATION_ID.equals(field)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Unable to read correlation id of message", e);
         }
+        return null;
     }
 }
@@ -15,27 +15,72 @@
 
 package org.kie.server.controller.websocket.common.handlers;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.kie.server.api.model.KieServiceResponse;
 import org.kie.server.api.model.ServiceResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 @SuppressWarnings("rawtypes")
 public class WebSocketServiceResponse extends ServiceResponse implements InternalMessageHandler {
 
+    /**
+     * Time (in milliseconds) to wait for response before giving up, 5 minutes by default.
+     */
+    public static final String RESPONSE_TIMEOUT = "org.kie.server.websocket.response.timeout";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketServiceResponse.class);
+
+    private static final long DEFAULT_TIMEOUT = readTimeout(TimeUnit.MINUTES.toMillis(5));
+
     private CountDownLatch latch;
-    private KieServiceResponse<?> result;
+    private volatile KieServiceResponse<?> result;
     private Function<String, KieServiceResponse<?>> handler;
+    private long timeout;
+    private List<Runnable> timeoutCallbacks = new CopyOnWriteArrayList<>();
     
     public WebSocketServiceResponse(boolean isBlocking, Function<String, KieServiceResponse<?>> handler) {
+        this(isBlocking, DEFAULT_TIMEOUT, handler);
+    }
+
+    public WebSocketServiceResponse(boolean isBlocking, long timeout, Function<String, KieServiceResponse<?>> handler) {
         this.handler = handler;
+        this.timeout = timeout;
         if (isBlocking) {
             this.latch = new CountDownLatch(1);
         }
     }
+
+    static long readTimeout(long defaultTimeout) {
+        String value = System.getProperty(RESPONSE_TIMEOUT);
+        if (value == null) {
+            return defaultTimeout;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        LOGGER.warn("Invalid value '{}' of {}, using default {}", value, RESPONSE_TIMEOUT, defaultTimeout);
+        return defaultTimeout;
+    }
+
+    /**
+     * Registers callback invoked when response was not received in time, usually unregistering this handler
+     * from the session(s) it was sent over.
+     */
+    public void onTimeout(Runnable callback) {
+        this.timeoutCallbacks.add(callback);
+    }
     
     @Override
     public ResponseType getType() {
@@ -65,12 +110,15 @@ public class WebSocketServiceResponse extends ServiceResponse implements Interna
     protected KieServiceResponse<?> getWrapperResult() {
         if (latch != null) {
             try {
-                this.latch.await(5, TimeUnit.MINUTES);
-            } catch (InterruptedException e) {                
+                if (!this.latch.await(timeout, TimeUnit.MILLISECONDS)) {
+                    timeoutCallbacks.forEach(Runnable::run);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
         }
         if(result == null){
-            throw new RuntimeException("Service response not received");
+            throw new RuntimeException("Service response not received within " + timeout + " ms");
         } else {
             return result;
         }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.controller.websocket.common.handlers;
+
+import java.util.Collections;
+import javax.websocket.Session;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.ServiceResponsesList;
+import org.kie.server.controller.websocket.common.WebSocketUtils;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KieServerMessageHandlerTest {
+
+    private KieServerMessageHandler messageHandler;
+
+    @Before
+    public void setup() {
+        Session session = mock(Session.class);
+        when(session.getId()).thenReturn("session");
+        messageHandler = new KieServerMessageHandler(session);
+    }
+
+    @Test
+    public void testRepliesMatchedByCorrelationId() {
+        InternalMessageHandler first = mock(InternalMessageHandler.class);
+        InternalMessageHandler second = mock(InternalMessageHandler.class);
+        messageHandler.addHandler("1", first);
+        messageHandler.addHandler("2", second);
+        assertEquals(2, messageHandler.getPendingCount());
+
+        String secondReply = reply("2");
+        messageHandler.onMessage(secondReply);
+        verify(second).onMessage(secondReply);
+        verify(first, never()).onMessage(secondReply);
+
+        String firstReply = reply("1");
+        messageHandler.onMessage(firstReply);
+        verify(first).onMessage(firstReply);
+        assertEquals(0, messageHandler.getPendingCount());
+    }
+
+    @Test
+    public void testUncorrelatedReplyHandledByOldestHandler() {
+        InternalMessageHandler first = mock(InternalMessageHandler.class);
+        InternalMessageHandler second = mock(InternalMessageHandler.class);
+        messageHandler.addHandler("1", first);
+        messageHandler.addHandler("2", second);
+
+        String reply = reply(null);
+        messageHandler.onMessage(reply);
+        verify(first).onMessage(reply);
+        assertEquals(1, messageHandler.getPendingCount());
+    }
+
+    @Test
+    public void testUnknownCorrelationIdNotGivenToOtherRequest() {
+        InternalMessageHandler pending = mock(InternalMessageHandler.class);
+        messageHandler.addHandler("1", pending);
+        assertNotNull(messageHandler.removeHandler("1"));
+        messageHandler.addHandler("2", pending);
+
+        String lateReply = reply("1");
+        messageHandler.onMessage(lateReply);
+        verify(pending, never()).onMessage(lateReply);
+        assertEquals(1, messageHandler.getPendingCount());
+    }
+
+    @Test
+    public void testRequestWithCorrelationIdHandledByUncorrelatedHandler() {
+        InternalMessageHandler commandHandler = mock(InternalMessageHandler.class);
+        messageHandler.addHandler(commandHandler);
+
+        String request = "{\"commands\":[{\"correlation-id\":\"nested\"}],\"correlation-id\":\"7\"}";
+        messageHandler.onMessage(request);
+        verify(commandHandler).onMessage(request);
+    }
+
+    @Test
+    public void testReadCorrelationId() {
+        assertEquals("7", KieServerMessageHandler.readCorrelationId(reply("7")));
+        assertEquals("7", KieServerMessageHandler.readCorrelationId("{\"nested\":{\"correlation-id\":\"x\"},\"correlation-id\":\"7\"}"));
+        assertNull(KieServerMessageHandler.readCorrelationId(reply(null)));
+        assertNull(KieServerMessageHandler.readCorrelationId("{\"nested\":{\"correlation-id\":\"x\"}}"));
+        assertNull(KieServerMessageHandler.readCorrelationId("not json correlation-id"));
+    }
+
+    private String reply(String correlationId) {
+        ServiceResponsesList responses = new ServiceResponsesList(Collections.singletonList(new ServiceResponse<>(ServiceResponse.ResponseType.SUCCESS, "done")));
+        responses.setCorrelationId(correlationId);
+        return WebSocketUtils.marshal(responses);
+    }
+}
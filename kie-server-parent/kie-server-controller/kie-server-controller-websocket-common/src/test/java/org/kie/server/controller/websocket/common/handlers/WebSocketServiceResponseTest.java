@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.controller.websocket.common.handlers;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class WebSocketServiceResponseTest {
+
+    @After
+    public void cleanup() {
+        System.clearProperty(WebSocketServiceResponse.RESPONSE_TIMEOUT);
+    }
+
+    @Test
+    public void testTimeoutFromProperty() {
+        assertEquals(1000, WebSocketServiceResponse.readTimeout(1000));
+
+        System.setProperty(WebSocketServiceResponse.RESPONSE_TIMEOUT, " 500 ");
+        assertEquals(500, WebSocketServiceResponse.readTimeout(1000));
+    }
+
+    @Test
+    public void testInvalidTimeoutFallsBackToDefault() {
+        System.setProperty(WebSocketServiceResponse.RESPONSE_TIMEOUT, "5m");
+        assertEquals(1000, WebSocketServiceResponse.readTimeout(1000));
+
+        System.setProperty(WebSocketServiceResponse.RESPONSE_TIMEOUT, "0");
+        assertEquals(1000, WebSocketServiceResponse.readTimeout(1000));
+    }
+}
@@ -15,12 +15,12 @@
 
 package org.kie.server.controller.websocket;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.websocket.CloseReason;
 import javax.websocket.CloseReason.CloseCodes;
@@ -39,6 +39,7 @@ public class WebSocketSessionManager {
     private ConcurrentMap<String, List<Session>> availableSessionsByUrl = new ConcurrentHashMap<>();
     private ConcurrentMap<String, KieServerInfo> sessionToUrl = new ConcurrentHashMap<>();
     private ConcurrentMap<String, KieServerMessageHandler> handlersPerSession = new ConcurrentHashMap<>();
+    private AtomicInteger nextSession = new AtomicInteger();
         
     private static WebSocketSessionManager INSTANCE = new WebSocketSessionManager();
 
@@ -57,7 +58,7 @@ public class WebSocketSessionManager {
     }
     
     public void addSession(KieServerInfo serverInfo, Session session) {
-        List<Session> newSessions =  new ArrayList<>();
+        List<Session> newSessions =  new CopyOnWriteArrayList<>();
         List<Session> sessions = this.availableSessionsByUrl.putIfAbsent(serverInfo.getLocation(), newSessions);
         if (sessions == null) {
             sessions = newSessions;
@@ -72,15 +73,7 @@ public class WebSocketSessionManager {
         KieServerInfo serverInfo = sessionToUrl.remove(session.getId());
         
         List<Session> sessions = availableSessionsByUrl.get(serverInfo.getLocation());
-        Iterator<Session> it = sessions.iterator();
-        
-        while (it.hasNext()) {
-            Session s = it.next();
-            if (s.getId().equals(session.getId())) {
-                it.remove();
-                break;
-            }
-        }
+        sessions.removeIf(s -> s.getId().equals(session.getId()));
         
         this.handlersPerSession.remove(session.getId());
         logger.debug("Session '{}' removed to Web Socket manager", session.getId());
@@ -102,6 +95,30 @@ public class WebSocketSessionManager {
         return sessions.stream().filter(s -> s.isOpen()).collect(Collectors.toList());
     }
     
+    /**
+     * Returns open session of given url that waits for the least replies, so commands are spread across all
+     * connections of the kie server; ties are resolved round robin.
+     */
+    public Session getLeastLoadedByUrl(String url) {
+        List<Session> sessions = getByUrl(url);
+        if (sessions.isEmpty()) {
+            throw new IllegalStateException("No open Web Socket session for kie server located at " + url);
+        }
+        int offset = Math.floorMod(nextSession.getAndIncrement(), sessions.size());
+        Session selected = null;
+        int selectedPending = Integer.MAX_VALUE;
+        for (int i = 0; i < sessions.size(); i++) {
+            Session session = sessions.get((offset + i) % sessions.size());
+            KieServerMessageHandler handler = getHandler(session.getId());
+            int pending = handler == null ? 0 : handler.getPendingCount();
+            if (pending < selectedPending) {
+                selected = session;
+                selectedPending = pending;
+            }
+        }
+        return selected;
+    }
+    
     public KieServerInfo getServerInfoByUrl(String url) {
                 
         String sessionId = getByUrl(url).get(0).getId();
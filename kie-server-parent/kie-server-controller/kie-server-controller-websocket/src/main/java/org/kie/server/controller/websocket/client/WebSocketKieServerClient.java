@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.websocket.Session;
 
@@ -70,6 +71,7 @@ import org.kie.server.client.QueryServicesClient;
 import org.kie.server.client.jms.ResponseHandler;
 import org.kie.server.controller.websocket.WebSocketSessionManager;
 import org.kie.server.controller.websocket.common.WebSocketUtils;
+import org.kie.server.controller.websocket.common.handlers.KieServerMessageHandler;
 import org.kie.server.controller.websocket.common.handlers.WebSocketServiceResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +81,8 @@ public class WebSocketKieServerClient implements KieServicesClient {
     
     private static final Logger logger = LoggerFactory.getLogger(WebSocketKieServerClient.class);
     
+    private static final AtomicLong CORRELATION_IDS = new AtomicLong();
+    
     private WebSocketSessionManager manager = WebSocketSessionManager.getInstance();
     private String url;
     private KieServerInfo serverInfo;
@@ -380,23 +384,15 @@ public class WebSocketKieServerClient implements KieServicesClient {
     
     protected ServiceResponsesList sendCommand(CommandScript script, WebSocketServiceResponse response) {
         logger.debug("About to send command {} to kie server located at {}", script, url);
-        List<Session> sessions = manager.getByUrl(url);
-        
-        Session session = sessions.get(0);
+        Session session = manager.getLeastLoadedByUrl(url);
         
         logger.debug("Web Socket session ({}) is open {}", session.getId(), session.isOpen());
+        script.setCorrelationId(nextCorrelationId());
         String content = WebSocketUtils.marshal(script);
         logger.debug("Content to be sent over Web Socket '{}'", content);
-        try {
-            manager.getHandler(session.getId()).addHandler(response);
-            
-            session.getBasicRemote().sendText(content);
-            logger.debug("Message successfully sent to kie server");
-            return new ServiceResponsesList(Arrays.asList(response));
-        } catch (IOException e) {
-           throw new RuntimeException(e);
-        }
-        
+        send(session, script.getCorrelationId(), content, response);
+        logger.debug("Message successfully sent to kie server");
+        return new ServiceResponsesList(Arrays.asList(response));
     }
     
     protected ServiceResponsesList sendCommandToAllSessions(CommandScript script, WebSocketServiceResponse response) {
@@ -404,26 +400,38 @@ public class WebSocketKieServerClient implements KieServicesClient {
         List<Session> sessions = manager.getByUrl(url);
         List<ServiceResponse<?>> responses = new ArrayList<>();
         ServiceResponsesList result = new ServiceResponsesList(responses);
-               
+        
+        // correlation ids only need to be unique per session so the same content goes to all of them
+        script.setCorrelationId(nextCorrelationId());
+        String content = WebSocketUtils.marshal(script);
+        logger.debug("Content to be sent over Web Socket '{}'", content);
         for (Session session : sessions) {
         
             logger.debug("Web Socket session ({}) is open {}", session.getId(), session.isOpen());
-            String content = WebSocketUtils.marshal(script);
-            logger.debug("Content to be sent over Web Socket '{}'", content);
-            try {
-                manager.getHandler(session.getId()).addHandler(response);
-                
-                session.getBasicRemote().sendText(content);
-                logger.debug("Message successfully sent to kie server");
-                responses.add(response);
-            } catch (IOException e) {
-               throw new RuntimeException(e);
-            }
+            send(session, script.getCorrelationId(), content, response);
+            logger.debug("Message successfully sent to kie server");
+            responses.add(response);
         
         }
         return result;
     }
 
+    private void send(Session session, String correlationId, String content, WebSocketServiceResponse response) {
+        KieServerMessageHandler handler = manager.getHandler(session.getId());
+        handler.addHandler(correlationId, response);
+        response.onTimeout(() -> handler.removeHandler(correlationId));
+        try {
+            KieServerMessageHandler.sendText(session, content);
+        } catch (IOException e) {
+            handler.removeHandler(correlationId);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String nextCorrelationId() {
+        return Long.toString(CORRELATION_IDS.incrementAndGet());
+    }
+
     
     @Override
     public ServiceResponse<KieServerInfo> getServerInfo() {
@@ -79,6 +79,7 @@ public class WebSocketKieServerMgmtControllerImpl {
                      session.getId());
 
         final KieServerControllerServiceResponse response = commandService.executeCommand(command);
+        response.setCorrelationId(command.getCorrelationId());
         try {
             session.getBasicRemote().sendObject(response);
         } catch (IOException | EncodeException ex) {
@@ -46,7 +46,38 @@ public class WebSocketNotificationService implements NotificationService {
     private void notifySessions(final KieServerControllerEvent event) {
         final KieServerControllerNotification notification = new KieServerControllerNotification(event);
         LOGGER.debug("Sending notification to all Web Socket sessions");
-        manager.broadcastObject(notification);
+        manager.broadcastObject(notification,
+                                getSupersedeKey(event));
+    }
+
+    /**
+     * Key of the state given event carries, a newer event with the same key makes the older one obsolete for clients
+     * that have not received it yet. Events signalling a transition (connected, disconnected, deleted) are always delivered.
+     */
+    protected String getSupersedeKey(final KieServerControllerEvent event) {
+        if (event instanceof ServerTemplateUpdated) {
+            final ServerTemplateUpdated updated = (ServerTemplateUpdated) event;
+            if (updated.getServerTemplate() == null || updated.getServerTemplate().getId() == null) {
+                return null;
+            }
+            // reset is a one-off instruction that must not be lost by a following plain update
+            return ServerTemplateUpdated.class.getSimpleName() + ":" + updated.getServerTemplate().getId() + ":" + updated.isResetBeforeUpdate();
+        }
+        if (event instanceof ContainerSpecUpdated) {
+            final ContainerSpecUpdated updated = (ContainerSpecUpdated) event;
+            if (updated.getServerTemplate() == null || updated.getContainerSpec() == null) {
+                return null;
+            }
+            return ContainerSpecUpdated.class.getSimpleName() + ":" + updated.getServerTemplate().getId() + ":" + updated.getContainerSpec().getId();
+        }
+        if (event instanceof ServerInstanceUpdated) {
+            final ServerInstanceUpdated updated = (ServerInstanceUpdated) event;
+            if (updated.getServerInstance() == null || updated.getServerInstance().getServerInstanceId() == null) {
+                return null;
+            }
+            return ServerInstanceUpdated.class.getSimpleName() + ":" + updated.getServerInstance().getServerInstanceId();
+        }
+        return null;
     }
 
     @Override
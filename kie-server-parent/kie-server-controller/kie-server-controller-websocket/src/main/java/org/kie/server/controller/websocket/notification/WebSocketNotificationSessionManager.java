@@ -13,77 +13,306 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.kie.server.controller.websocket.notification;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import javax.websocket.EncodeException;
+import java.util.concurrent.RejectedExecutionException;
+import javax.websocket.CloseReason;
 import javax.websocket.Session;
 
+import org.kie.server.controller.api.KieServerControllerConstants;
+import org.kie.server.controller.websocket.common.WebSocketUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Delivers notifications to all connected Web Socket sessions. Every notification is serialized once and the resulting
+ * frame is shared by all sessions, which send it from their own thread so that a slow client does not hold up the
+ * others. Frames waiting for a session are bounded by <code>org.kie.server.controller.websocket.notification.queue.size</code>:
+ * a queued frame superseded by a new one (same key, e.g. next update of the same server template) is discarded and
+ * when the queue is full the oldest frame that can be superseded is dropped. Frames without key (e.g. connect, disconnect
+ * or delete events) are never dropped, when the queue is full of them the session is closed so the client reconnects
+ * and reloads the current state.
+ */
 public class WebSocketNotificationSessionManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketNotificationSessionManager.class);
     private static final int RETRIES = 20;
+    private static final int DEFAULT_QUEUE_SIZE = 100;
+    private static final int QUEUE_SIZE = readQueueSize();
     private static final WebSocketNotificationSessionManager INSTANCE = new WebSocketNotificationSessionManager();
 
-    private final ConcurrentMap<Session, ExecutorService> executorsBySession = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Session, Outbox> outboxesBySession = new ConcurrentHashMap<>();
 
     public static WebSocketNotificationSessionManager getInstance() {
         return INSTANCE;
     }
 
-    protected Map<Session, ExecutorService> getExecutorsBySession() {
-        return executorsBySession;
+    private static int readQueueSize() {
+        final String value = System.getProperty(KieServerControllerConstants.KIE_CONTROLLER_WEBSOCKET_NOTIFICATION_QUEUE_SIZE);
+        if (value == null) {
+            return DEFAULT_QUEUE_SIZE;
+        }
+        try {
+            final int size = Integer.parseInt(value.trim());
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException ex) {
+            // reported below
+        }
+        LOGGER.warn("Invalid value '{}' of {}, using default {}",
+                    value,
+                    KieServerControllerConstants.KIE_CONTROLLER_WEBSOCKET_NOTIFICATION_QUEUE_SIZE,
+                    DEFAULT_QUEUE_SIZE);
+        return DEFAULT_QUEUE_SIZE;
+    }
+
+    protected Map<Session, Outbox> getOutboxesBySession() {
+        return outboxesBySession;
     }
 
     public void addSession(final Session session) {
-        executorsBySession.put(session,
-                               Executors.newSingleThreadExecutor());
+        outboxesBySession.put(session,
+                              new Outbox(session,
+                                         QUEUE_SIZE));
         LOGGER.debug("Session '" + session.getId() + "' added to Web Socket Notification manager");
     }
 
     public void removeSession(final Session session) {
-        final ExecutorService service = executorsBySession.remove(session);
-        service.shutdownNow();
+        final Outbox outbox = outboxesBySession.remove(session);
+        if (outbox != null) {
+            outbox.close();
+        }
         LOGGER.debug("Session '" + session.getId() + "' removed from Web Socket Notification manager");
     }
 
     public void broadcastObject(final Object object) {
-        executorsBySession.forEach((session, executor) -> executor.submit(() -> {
+        broadcastObject(object,
+                        null);
+    }
+
+    /**
+     * Sends given object to all sessions.
+     * @param object notification to be sent
+     * @param supersedeKey identifies what the notification is about, a queued notification with the same key is
+     * replaced by this one as it is no longer relevant; <code>null</code> when the notification must always be delivered
+     */
+    public void broadcastObject(final Object object,
+                                final String supersedeKey) {
+        if (outboxesBySession.isEmpty()) {
+            return;
+        }
+        final Frame frame;
+        try {
+            frame = new Frame(supersedeKey,
+                              WebSocketUtils.marshal(object));
+        } catch (Exception ex) {
+            LOGGER.warn("Failed to send notification, due to encoding error: {}, skipping message",
+                        ex.getMessage(),
+                        ex);
+            return;
+        }
+        outboxesBySession.values().forEach(outbox -> outbox.offer(frame));
+    }
+
+    /**
+     * Notification serialized once and shared by all sessions.
+     */
+    static class Frame {
+
+        private final String key;
+        private final String text;
+
+        Frame(final String key,
+              final String text) {
+            this.key = key;
+            this.text = text;
+        }
+
+        String getText() {
+            return text;
+        }
+    }
+
+    /**
+     * Bounded queue of frames waiting to be sent to one session, drained by single thread.
+     */
+    static class Outbox {
+
+        private final Session session;
+        private final int capacity;
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private boolean draining;
+        private boolean overflown;
+        private long dropped;
+
+        Outbox(final Session session,
+               final int capacity) {
+            this.session = session;
+            this.capacity = Math.max(1, capacity);
+        }
+
+        ExecutorService getExecutor() {
+            return executor;
+        }
+
+        synchronized int size() {
+            return frames.size();
+        }
+
+        synchronized long getDropped() {
+            return dropped;
+        }
+
+        synchronized boolean isOverflown() {
+            return overflown;
+        }
+
+        void offer(final Frame frame) {
+            synchronized (this) {
+                if (overflown) {
+                    return;
+                }
+                supersede(frame);
+                if (frames.size() >= capacity && !dropOldestSupersedable()) {
+                    // every queued notification must be delivered, the client has to resync after reconnecting
+                    overflown = true;
+                    frames.clear();
+                    LOGGER.warn("Notification queue of session {} is full of notifications that cannot be dropped, closing the session",
+                                session.getId());
+                    CompletableFuture.runAsync(this::closeSession);
+                    return;
+                }
+                // appended even when superseding so it is never delivered before notifications queued meanwhile
+                frames.add(frame);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                executor.submit(this::drain);
+            } catch (RejectedExecutionException ex) {
+                LOGGER.debug("Notification not sent, session {} was removed",
+                             session.getId());
+            }
+        }
+
+        private void supersede(final Frame frame) {
+            if (frame.key == null) {
+                return;
+            }
+            final Iterator<Frame> it = frames.iterator();
+            while (it.hasNext()) {
+                if (Objects.equals(frame.key, it.next().key)) {
+                    it.remove();
+                    LOGGER.debug("Queued notification for session {} superseded by newer one with key {}",
+                                 session.getId(),
+                                 frame.key);
+                    break;
+                }
+            }
+        }
+
+        private boolean dropOldestSupersedable() {
+            final Iterator<Frame> it = frames.iterator();
+            while (it.hasNext()) {
+                if (it.next().key != null) {
+                    it.remove();
+                    dropped++;
+                    LOGGER.warn("Notification queue of session {} is full, dropped oldest notification that can be superseded ({} dropped so far)",
+                                session.getId(),
+                                dropped);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void closeSession() {
+            executor.shutdownNow();
+            try {
+                session.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER,
+                                              "Notification queue overflow"));
+            } catch (IOException ex) {
+                LOGGER.debug("Failed to close session {} with full notification queue: {}",
+                             session.getId(),
+                             ex.getMessage());
+            }
+        }
+
+        private Void drain() throws InterruptedException {
+            boolean drained = false;
+            try {
+                while (true) {
+                    final Frame frame;
+                    synchronized (this) {
+                        frame = frames.poll();
+                        if (frame == null) {
+                            draining = false;
+                            drained = true;
+                            return null;
+                        }
+                    }
+                    send(frame);
+                }
+            } finally {
+                if (!drained) {
+                    // e.g. interrupted while retrying, next notification must start draining again
+                    synchronized (this) {
+                        draining = false;
+                    }
+                }
+            }
+        }
+
+        private void send(final Frame frame) throws InterruptedException {
             for (int i = 0; i < RETRIES; i++) {
                 LOGGER.debug("Sending notification to session with id: {}, open: {}",
                              session.getId(),
                              session.isOpen());
                 try {
                     if (session.isOpen()) {
-                        session.getBasicRemote().sendObject(object);
+                        session.getBasicRemote().sendText(frame.getText());
                         LOGGER.debug("Notification sent to session with id: {}",
                                      session.getId());
                     } else {
                         LOGGER.debug("Notification not sent, session is closed.");
                     }
                     break;
-                } catch (EncodeException ex) {
-                    LOGGER.warn("Failed to send notification, due to encoding error: {}, skipping message",
-                                ex.getMessage(),
-                                ex);
-                    break;
                 } catch (IOException ex) {
                     LOGGER.warn("Failed to send notification, error: {}",
                                 ex.getMessage(),
                                 ex);
                     Thread.sleep(i * 500);
+                } catch (RuntimeException ex) {
+                    // e.g. session being closed concurrently, only this notification is lost
+                    LOGGER.warn("Failed to send notification to session {}, error: {}",
+                                session.getId(),
+                                ex.getMessage(),
+                                ex);
+                    break;
                 }
             }
-            return null;
-        }));
+        }
+
+        void close() {
+            executor.shutdownNow();
+            synchronized (this) {
+                frames.clear();
+            }
+        }
     }
 }
@@ -29,6 +29,7 @@ import org.kie.server.controller.api.model.runtime.Container;
 import org.kie.server.controller.api.model.runtime.ServerInstance;
 import org.kie.server.controller.api.model.spec.ContainerSpec;
 import org.kie.server.controller.api.model.spec.ServerTemplate;
+import org.kie.server.controller.websocket.common.WebSocketUtils;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -63,7 +64,7 @@ public class WebSocketNotificationServiceTest {
         notificationService.notify(event);
 
         verify(endpoint,
-               timeout(TIMEOUT)).sendObject(new KieServerControllerNotification(event));
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(new KieServerControllerNotification(event)));
     }
 
     @Test
@@ -72,7 +73,7 @@ public class WebSocketNotificationServiceTest {
         notificationService.notify(event);
 
         verify(endpoint,
-               timeout(TIMEOUT)).sendObject(new KieServerControllerNotification(event));
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(new KieServerControllerNotification(event)));
     }
 
     @Test
@@ -81,7 +82,7 @@ public class WebSocketNotificationServiceTest {
         notificationService.notify(event);
 
         verify(endpoint,
-               timeout(TIMEOUT)).sendObject(new KieServerControllerNotification(event));
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(new KieServerControllerNotification(event)));
     }
 
     @Test
@@ -90,7 +91,7 @@ public class WebSocketNotificationServiceTest {
         notificationService.notify(event);
 
         verify(endpoint,
-               timeout(TIMEOUT)).sendObject(new KieServerControllerNotification(event));
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(new KieServerControllerNotification(event)));
     }
 
     @Test
@@ -99,7 +100,7 @@ public class WebSocketNotificationServiceTest {
         notificationService.notify(event);
 
         verify(endpoint,
-               timeout(TIMEOUT)).sendObject(new KieServerControllerNotification(event));
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(new KieServerControllerNotification(event)));
     }
 
     @Test
@@ -108,7 +109,7 @@ public class WebSocketNotificationServiceTest {
         notificationService.notify(event);
 
         verify(endpoint,
-               timeout(TIMEOUT)).sendObject(new KieServerControllerNotification(event));
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(new KieServerControllerNotification(event)));
     }
 
     @Test
@@ -125,6 +126,6 @@ public class WebSocketNotificationServiceTest {
                                    containers);
 
         verify(endpoint,
-               timeout(TIMEOUT)).sendObject(new KieServerControllerNotification(event));
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(new KieServerControllerNotification(event)));
     }
 }
@@ -17,14 +17,20 @@
 package org.kie.server.controller.websocket.notification;
 
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import javax.websocket.EncodeException;
+import java.util.concurrent.TimeUnit;
+import javax.websocket.CloseReason;
 import javax.websocket.RemoteEndpoint;
 import javax.websocket.Session;
 
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.server.controller.api.model.events.ServerInstanceDeleted;
 import org.kie.server.controller.api.model.notification.KieServerControllerNotification;
+import org.kie.server.controller.websocket.common.WebSocketUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
@@ -39,17 +45,26 @@ public class WebSocketNotificationSessionManagerTest {
     @Mock
     Session session;
 
+    @Mock
+    Session otherSession;
+
     WebSocketNotificationSessionManager manager = WebSocketNotificationSessionManager.getInstance();
 
+    @After
+    public void cleanUp() {
+        manager.removeSession(session);
+        manager.removeSession(otherSession);
+    }
+
     @Test
     public void testSessionCleanUp() {
         manager.addSession(session);
 
-        assertTrue(manager.getExecutorsBySession().containsKey(session));
+        assertTrue(manager.getOutboxesBySession().containsKey(session));
 
         manager.removeSession(session);
 
-        assertFalse(manager.getExecutorsBySession().containsKey(session));
+        assertFalse(manager.getOutboxesBySession().containsKey(session));
     }
 
     @Test
@@ -63,13 +78,36 @@ public class WebSocketNotificationSessionManagerTest {
         manager.broadcastObject(notification);
 
         verify(endpoint,
-               timeout(TIMEOUT)).sendObject(notification);
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(notification));
+    }
+
+    @Test
+    public void testBroadcastEncodesOnce() throws Exception {
+        final RemoteEndpoint.Basic endpoint = mock(RemoteEndpoint.Basic.class);
+        final RemoteEndpoint.Basic otherEndpoint = mock(RemoteEndpoint.Basic.class);
+        when(session.getBasicRemote()).thenReturn(endpoint);
+        when(session.isOpen()).thenReturn(true);
+        when(otherSession.getBasicRemote()).thenReturn(otherEndpoint);
+        when(otherSession.isOpen()).thenReturn(true);
+        manager.addSession(session);
+        manager.addSession(otherSession);
+
+        manager.broadcastObject(new KieServerControllerNotification(new ServerInstanceDeleted("serverId")));
+
+        final ArgumentCaptor<String> frame = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<String> otherFrame = ArgumentCaptor.forClass(String.class);
+        verify(endpoint,
+               timeout(TIMEOUT)).sendText(frame.capture());
+        verify(otherEndpoint,
+               timeout(TIMEOUT)).sendText(otherFrame.capture());
+        assertSame(frame.getValue(),
+                   otherFrame.getValue());
     }
 
     @Test
     public void testRemoveSessionWithMessageInProgress() throws Exception {
         final RemoteEndpoint.Basic endpoint = mock(RemoteEndpoint.Basic.class);
-        doThrow(new IOException()).when(endpoint).sendObject(any());
+        doThrow(new IOException()).when(endpoint).sendText(any());
         when(session.getBasicRemote()).thenReturn(endpoint);
         when(session.isOpen()).thenReturn(true);
         manager.addSession(session);
@@ -77,7 +115,7 @@ public class WebSocketNotificationSessionManagerTest {
         final KieServerControllerNotification notification = new KieServerControllerNotification();
         manager.broadcastObject(notification);
 
-        final ExecutorService executor = manager.getExecutorsBySession().get(session);
+        final ExecutorService executor = manager.getOutboxesBySession().get(session).getExecutor();
 
         manager.removeSession(session);
 
@@ -87,19 +125,129 @@ public class WebSocketNotificationSessionManagerTest {
         assertTrue(executor.isTerminated());
     }
 
+    @Test
+    public void testSendFailureDoesNotStopLaterNotifications() throws Exception {
+        final RemoteEndpoint.Basic endpoint = mock(RemoteEndpoint.Basic.class);
+        doThrow(new IllegalStateException("session closing")).doNothing().when(endpoint).sendText(any());
+        when(session.getBasicRemote()).thenReturn(endpoint);
+        when(session.isOpen()).thenReturn(true);
+        manager.addSession(session);
+
+        manager.broadcastObject(new KieServerControllerNotification(new ServerInstanceDeleted("first")));
+        verify(endpoint,
+               timeout(TIMEOUT)).sendText(any());
+
+        final KieServerControllerNotification notification = new KieServerControllerNotification(new ServerInstanceDeleted("second"));
+        manager.broadcastObject(notification);
+
+        verify(endpoint,
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(notification));
+        verify(endpoint,
+               times(2)).sendText(any());
+    }
+
     @Test
     public void testBroadcastWithEncodeException() throws Exception {
         final RemoteEndpoint.Basic endpoint = mock(RemoteEndpoint.Basic.class);
-        doThrow(new EncodeException(null,
-                                    "encode error")).when(endpoint).sendObject(any());
         when(session.getBasicRemote()).thenReturn(endpoint);
         when(session.isOpen()).thenReturn(true);
         manager.addSession(session);
 
+        manager.broadcastObject(new Unserializable());
         final KieServerControllerNotification notification = new KieServerControllerNotification();
         manager.broadcastObject(notification);
 
         verify(endpoint,
-               timeout(TIMEOUT)).sendObject(notification);
+               timeout(TIMEOUT)).sendText(WebSocketUtils.marshal(notification));
+        verify(endpoint,
+               times(1)).sendText(any());
+    }
+
+    @Test
+    public void testSlowConsumerQueueIsBoundedAndCoalesced() throws Exception {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final RemoteEndpoint.Basic endpoint = mock(RemoteEndpoint.Basic.class);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(endpoint).sendText(any());
+        when(session.getId()).thenReturn("slow");
+        when(session.getBasicRemote()).thenReturn(endpoint);
+        when(session.isOpen()).thenReturn(true);
+
+        final WebSocketNotificationSessionManager.Outbox outbox = new WebSocketNotificationSessionManager.Outbox(session, 2);
+        try {
+            outbox.offer(new WebSocketNotificationSessionManager.Frame(null, "in-flight"));
+            assertTrue(sending.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+            outbox.offer(new WebSocketNotificationSessionManager.Frame("template", "template-v1"));
+            outbox.offer(new WebSocketNotificationSessionManager.Frame(null, "connected"));
+            outbox.offer(new WebSocketNotificationSessionManager.Frame("template", "template-v2"));
+            assertEquals(2, outbox.size());
+            assertEquals(0, outbox.getDropped());
+
+            // the oldest notification that can be superseded is dropped, not the older connect event
+            outbox.offer(new WebSocketNotificationSessionManager.Frame(null, "deleted"));
+            assertEquals(2, outbox.size());
+            assertEquals(1, outbox.getDropped());
+
+            release.countDown();
+            verify(endpoint, timeout(TIMEOUT)).sendText("deleted");
+            verify(endpoint).sendText("in-flight");
+            verify(endpoint).sendText("connected");
+            verify(endpoint, never()).sendText("template-v1");
+            verify(endpoint, never()).sendText("template-v2");
+            assertFalse(outbox.isOverflown());
+        } finally {
+            outbox.close();
+        }
+    }
+
+    @Test
+    public void testSlowConsumerClosedWhenQueueFullOfEvents() throws Exception {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final RemoteEndpoint.Basic endpoint = mock(RemoteEndpoint.Basic.class);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(endpoint).sendText(any());
+        when(session.getId()).thenReturn("slow");
+        when(session.getBasicRemote()).thenReturn(endpoint);
+        when(session.isOpen()).thenReturn(true);
+
+        final WebSocketNotificationSessionManager.Outbox outbox = new WebSocketNotificationSessionManager.Outbox(session, 2);
+        try {
+            outbox.offer(new WebSocketNotificationSessionManager.Frame(null, "in-flight"));
+            assertTrue(sending.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+            outbox.offer(new WebSocketNotificationSessionManager.Frame(null, "connected"));
+            outbox.offer(new WebSocketNotificationSessionManager.Frame(null, "disconnected"));
+            outbox.offer(new WebSocketNotificationSessionManager.Frame(null, "deleted"));
+
+            assertTrue(outbox.isOverflown());
+            assertEquals(0, outbox.size());
+            assertEquals(0, outbox.getDropped());
+            verify(session, timeout(TIMEOUT)).close(any(CloseReason.class));
+
+            // nothing is queued for the closed session any more
+            outbox.offer(new WebSocketNotificationSessionManager.Frame(null, "late"));
+            assertEquals(0, outbox.size());
+            release.countDown();
+            verify(endpoint, never()).sendText("connected");
+            verify(endpoint, never()).sendText("late");
+        } finally {
+            outbox.close();
+        }
+    }
+
+    public static class Unserializable {
+
+        public String getValue() {
+            throw new IllegalStateException("not serializable");
+        }
     }
 }
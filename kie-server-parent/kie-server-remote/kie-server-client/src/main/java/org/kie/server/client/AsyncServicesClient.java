@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.kie.api.command.Command;
+import org.kie.api.runtime.ExecutionResults;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.server.api.model.ServiceResponse;
+
+/**
+ * Asynchronous variant of the services clients, available for REST transport only. Calls are dispatched by
+ * {@link AsyncTransport} configured on {@link KieServicesConfiguration} so the calling thread is not blocked,
+ * with the default transport the remote invocation itself still blocks one of its worker threads.
+ */
+public interface AsyncServicesClient {
+
+    /**
+     * Runs any operation of given services client asynchronously.
+     * @param serviceClient type of services client e.g. <code>ProcessServicesClient.class</code>
+     * @param operation operation to be invoked on the services client
+     * @return stage completed with result of the operation
+     */
+    <T, R> CompletionStage<R> submit(Class<T> serviceClient, Function<T, R> operation);
+
+    CompletionStage<ServiceResponse<ExecutionResults>> executeCommandsWithResults(String containerId, Command<?> command);
+
+    CompletionStage<Long> startProcess(String containerId, String processId, Map<String, Object> variables);
+
+    CompletionStage<Void> signalProcessInstance(String containerId, Long processInstanceId, String signalName, Object event);
+
+    CompletionStage<Void> completeTask(String containerId, Long taskId, String userId, Map<String, Object> params);
+
+    CompletionStage<ServiceResponse<DMNResult>> evaluateAll(String containerId, String namespace, String modelName, DMNContext dmnContext);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.client;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Used to define how calls of {@link AsyncServicesClient} are dispatched so the calling thread is never blocked
+ * by the remote invocation.
+ */
+public interface AsyncTransport {
+
+    /**
+     * Dispatches given call that targets given kie servers.
+     * @param target identifies the kie servers the call can be sent to (server url as configured on the client, possibly
+     * listing several servers picked by load balancer when the call runs), used to limit concurrent calls per target
+     * @param call remote call to be performed
+     * @return stage completed with result of the call or exceptionally with its failure
+     */
+    <T> CompletionStage<T> submit(String target, Callable<T> call);
+
+    /**
+     * Releases all resources, calls not yet dispatched are completed exceptionally.
+     */
+    void dispose();
+}
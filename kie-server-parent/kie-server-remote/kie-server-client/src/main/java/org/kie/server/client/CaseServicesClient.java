@@ -62,6 +62,8 @@ public interface CaseServicesClient {
 
     CaseInstance getCaseInstance(String containerId, String caseId, boolean withData, boolean withRoles, boolean withMilestones, boolean withStages);
 
+    CaseInstance getCaseInstance(String containerId, String caseId, boolean withData, boolean withRoles, boolean withMilestones, boolean withStages, List<String> caseFileItems);
+
     void closeCaseInstance(String containerId, String caseId, String comment);
     
     void cancelCaseInstance(String containerId, String caseId);
@@ -84,6 +86,10 @@ public interface CaseServicesClient {
     
     void putCaseInstanceData(String containerId, String caseId, Map<String, Object> data, List<String> restrictions);
 
+    void patchCaseInstanceData(String containerId, String caseId, Map<String, Object> patch);
+
+    void patchCaseInstanceData(String containerId, String caseId, Map<String, Object> patch, List<String> restrictions);
+
     void putCaseInstanceData(String containerId, String caseId, String name, Object data, List<String> restrictions);
 
     void removeCaseInstanceData(String containerId, String caseId, String... names);
@@ -15,6 +15,7 @@
 
 package org.kie.server.client;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.kie.server.api.model.instance.DocumentInstance;
@@ -28,6 +29,34 @@ public interface DocumentServicesClient {
 
     String createDocument(DocumentInstance documentInstance);
 
+    /**
+     * Uploads a new document streaming its raw content instead of marshalling it. Supported only by REST transport.
+     * @param name name of the document
+     * @param content raw content, closed once sent
+     * @param size size of the content in bytes or -1 if not known (chunked transfer is used then)
+     * @return identifier of the created document
+     */
+    String createDocument(String name, InputStream content, long size);
+
+    /**
+     * Replaces the content of an existing document streaming it as raw content. Supported only by REST transport.
+     */
+    void updateDocumentContent(String identifier, InputStream content, long size);
+
+    /**
+     * Returns stream of the raw content of the document as it is received from the server, caller must close it.
+     * Supported only by REST transport.
+     */
+    InputStream getDocumentContent(String identifier);
+
+    /**
+     * Returns stream of the given byte range of the raw content of the document, caller must close it.
+     * Supported only by REST transport.
+     * @param offset position of the first byte to return
+     * @param length number of bytes to return, the content is truncated to the size of the document
+     */
+    InputStream getDocumentContent(String identifier, long offset, long length);
+
     void updateDocument(DocumentInstance documentInstance);
 
     void deleteDocument(String identifier);
@@ -118,6 +118,14 @@ public interface KieServicesConfiguration {
 
     Map<String, String> getHeaders();
 
+    /**
+     * Sets transport used to dispatch calls of {@link AsyncServicesClient}, when not set the pooled transport
+     * shared by all clients is used.
+     */
+    void setAsyncTransport(AsyncTransport asyncTransport);
+
+    AsyncTransport getAsyncTransport();
+
     /**
      * Deprecated use #getExtraClasses instead
      */
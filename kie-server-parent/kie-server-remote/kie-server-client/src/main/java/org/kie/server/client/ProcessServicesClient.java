@@ -29,6 +29,8 @@ import org.kie.server.api.model.definition.UserTaskDefinitionList;
 import org.kie.server.api.model.definition.VariablesDefinition;
 import org.kie.server.api.model.instance.NodeInstance;
 import org.kie.server.api.model.instance.ProcessInstance;
+import org.kie.server.api.model.instance.ProcessStartRequest;
+import org.kie.server.api.model.instance.ProcessStartResult;
 import org.kie.server.api.model.instance.VariableInstance;
 import org.kie.server.api.model.instance.WorkItemInstance;
 import org.kie.server.client.jms.ResponseHandler;
@@ -67,6 +69,8 @@ public interface ProcessServicesClient {
 
     Long startProcessFromNodeIds(String containerId, String processId, CorrelationKey correlationKey, Map<String, Object> variables, String... nodes);
 
+    List<ProcessStartResult> startProcesses(String containerId, List<ProcessStartRequest> requests, Integer batchSize);
+
     void abortProcessInstance(String containerId, Long processInstanceId);
 
     void abortProcessInstances(String containerId, List<Long> processInstanceIds);
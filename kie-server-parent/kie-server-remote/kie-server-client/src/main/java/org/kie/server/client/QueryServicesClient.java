@@ -15,6 +15,7 @@
 
 package org.kie.server.client;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -27,11 +28,13 @@ import org.kie.server.api.model.definition.SearchQueryFilterSpec;
 import org.kie.server.api.model.definition.TaskQueryFilterSpec;
 import org.kie.server.api.model.instance.NodeInstance;
 import org.kie.server.api.model.instance.ProcessInstance;
+import org.kie.server.api.model.instance.ProcessInstanceList;
 import org.kie.server.api.model.instance.ProcessInstanceCustomVars;
 import org.kie.server.api.model.instance.ProcessInstanceUserTaskWithVariables;
 import org.kie.server.api.model.instance.TaskInstance;
 import org.kie.server.api.model.instance.VariableInstance;
 import org.kie.server.client.jms.ResponseHandler;
+import org.kie.server.client.util.ExportIterator;
 
 public interface QueryServicesClient {
 
@@ -111,8 +114,45 @@ public interface QueryServicesClient {
 
     List<ProcessInstance> findProcessInstancesByVariableAndValue(String variableName, String variableValue, List<Integer> status, Integer page, Integer pageSize, String sort, boolean sortOrder);
 
+    /**
+     * Keyset (cursor based) variant of process instance search - results are sorted by given sort column and process instance id
+     * and the page starts right after the process instance the continuation token was issued for.
+     * @param status optional process instance statuses, defaults to active only
+     * @param initiator optional initiator of the process instances
+     * @param processName optional process name
+     * @param sort optional sort column - ProcessInstanceId (default), ProcessId, ProcessName or StartDate
+     * @param sortOrder true for ascending order
+     * @param continuationToken token returned with the previous page ({@link ProcessInstanceList#getContinuationToken()}) or null for the first page
+     * @param pageSize size of the page
+     * @return process instances found together with the token of the next page, if any
+     */
+    ProcessInstanceList findProcessInstancesAfter(List<Integer> status, String initiator, String processName, String sort, boolean sortOrder, String continuationToken, Integer pageSize);
+
     ProcessInstance findProcessInstanceById(Long processInstanceId);
 
+    /**
+     * Streams all process instances started or completed since given date, ordered by process instance id.
+     * Rows are read from the server as they are iterated - returned iterator must be closed when not fully consumed.
+     * Supported only by REST transport.
+     * @param modifiedSince optional lower bound of start or end date, all process instances are exported when null
+     * @param afterId optional process instance id of the last row already received, to resume an interrupted export
+     * @param columns optional columns of the process instance log to include, all when null
+     * @return iterator over exported rows as column name to value maps
+     */
+    ExportIterator exportProcessInstances(Date modifiedSince, Long afterId, List<String> columns);
+
+    /**
+     * Streams node instance history logged since given date, ordered by log id. See
+     * {@link #exportProcessInstances(Date, Long, List)} for details.
+     */
+    ExportIterator exportNodeInstances(Date modifiedSince, Long afterId, List<String> columns);
+
+    /**
+     * Streams variable history logged since given date, ordered by log id. See
+     * {@link #exportProcessInstances(Date, Long, List)} for details.
+     */
+    ExportIterator exportVariableInstances(Date modifiedSince, Long afterId, List<String> columns);
+
     ProcessInstance findProcessInstanceById(Long processInstanceId, boolean withVars);
 
     ProcessInstance findProcessInstanceByCorrelationKey(CorrelationKey correlationKey);
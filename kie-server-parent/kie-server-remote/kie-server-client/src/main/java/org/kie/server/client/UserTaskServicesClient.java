@@ -23,7 +23,10 @@ import org.kie.server.api.model.instance.TaskAttachment;
 import org.kie.server.api.model.instance.TaskComment;
 import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.model.instance.TaskOperation;
+import org.kie.server.api.model.instance.TaskOperationResult;
 import org.kie.server.api.model.instance.TaskSummary;
+import org.kie.server.api.model.instance.TaskSummaryList;
 import org.kie.server.client.jms.ResponseHandler;
 
 public interface UserTaskServicesClient {
@@ -35,6 +38,8 @@ public interface UserTaskServicesClient {
     
     void claimTasks(String containerId, List<Long> taskIds, String userId);
 
+    List<TaskOperationResult> executeTaskOperations(String containerId, List<TaskOperation> operations, boolean atomic);
+
     void completeTask(String containerId, Long taskId, String userId, Map<String, Object> params);
 
     void completeAutoProgress(String containerId, Long taskId, String userId, Map<String, Object> params);
@@ -134,6 +139,28 @@ public interface UserTaskServicesClient {
 
     List<TaskSummary> findTasksOwned(String userId, List<String> status, Integer page, Integer pageSize);
 
+    /**
+     * Keyset (cursor based) variant of potential owner task search - results are sorted by task id and the page
+     * starts right after the task the continuation token was issued for.
+     * @param userId user to search tasks for (if bypass of authenticated user is enabled)
+     * @param status optional task statuses
+     * @param continuationToken token returned with the previous page ({@link TaskSummaryList#getContinuationToken()}) or null for the first page
+     * @param pageSize size of the page
+     * @return tasks found together with the token of the next page, if any
+     */
+    TaskSummaryList findTasksAssignedAsPotentialOwnerAfter(String userId, List<String> status, String continuationToken, Integer pageSize);
+
+    /**
+     * Keyset (cursor based) variant of owned task search - results are sorted by task id and the page
+     * starts right after the task the continuation token was issued for.
+     * @param userId user to search tasks for (if bypass of authenticated user is enabled)
+     * @param status optional task statuses
+     * @param continuationToken token returned with the previous page ({@link TaskSummaryList#getContinuationToken()}) or null for the first page
+     * @param pageSize size of the page
+     * @return tasks found together with the token of the next page, if any
+     */
+    TaskSummaryList findTasksOwnedAfter(String userId, List<String> status, String continuationToken, Integer pageSize);
+
     List<TaskSummary> findTasksByStatusByProcessInstanceId(Long processInstanceId, List<String> status, Integer page, Integer pageSize);
 
     List<TaskSummary> findTasks(String userId, Integer page, Integer pageSize);
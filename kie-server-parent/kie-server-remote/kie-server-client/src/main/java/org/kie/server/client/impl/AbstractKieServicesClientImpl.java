@@ -16,6 +16,7 @@
 package org.kie.server.client.impl;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
@@ -218,6 +219,53 @@ public abstract class AbstractKieServicesClientImpl {
         }
     }
 
+    protected InputStream makeHttpGetRequestAndCreateStreamResponse(String uri, final String accept) {
+        return makeHttpGetRequestAndCreateStreamResponse(uri, accept, new HashMap<String, String>());
+    }
+
+    protected InputStream makeHttpGetRequestAndCreateStreamResponse(String uri, final String accept, final Map<String, String> headers) {
+
+        KieServerHttpRequest request = invoke(uri, new RemoteHttpOperation() {
+            @Override
+            public KieServerHttpRequest doOperation(String url) {
+                logger.debug("About to send GET request to '{}' accepting {}", url, accept);
+                return newRequest(url).accept(accept).headers(headers).get();
+            }
+        });
+        KieServerHttpResponse response = request.response();
+
+        owner.setConversationId(response.header(KieServerConstants.KIE_CONVERSATION_ID_TYPE_HEADER));
+        if ( response.code() == Response.Status.OK.getStatusCode()
+                || response.code() == Response.Status.PARTIAL_CONTENT.getStatusCode()) {
+            return response.stream();
+        } else {
+            throw createExceptionForUnexpectedResponseCode( request, response );
+        }
+    }
+
+    protected <T> T makeHttpStreamRequestAndCreateCustomResponse(String uri, final String method, final InputStream body, final long length, Class<T> resultType) {
+
+        KieServerHttpRequest request = invoke(uri, new RemoteHttpOperation() {
+            @Override
+            public KieServerHttpRequest doOperation(String url) {
+                logger.debug("About to send {} request to '{}' with binary payload of length {}", method, url, length);
+                KieServerHttpRequest streamRequest = newRequest(url)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .body(body, length);
+                return "PUT".equals(method) ? streamRequest.put() : streamRequest.post();
+            }
+        });
+        KieServerHttpResponse response = request.response();
+
+        owner.setConversationId(response.header(KieServerConstants.KIE_CONVERSATION_ID_TYPE_HEADER));
+        if ( response.code() == Response.Status.OK.getStatusCode()
+                || response.code() == Response.Status.CREATED.getStatusCode()) {
+            return deserialize( response.body(), resultType );
+        } else {
+            throw createExceptionForUnexpectedResponseCode( request, response );
+        }
+    }
+
     protected <T> T makeHttpGetRequestAndCreateCustomResponseWithHandleNotFound(String uri, Class<T> resultType) {
 
         KieServerHttpRequest request = invoke(uri, new RemoteHttpOperation() {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.server.client.impl;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.kie.api.command.Command;
+import org.kie.api.runtime.ExecutionResults;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.client.AsyncServicesClient;
+import org.kie.server.client.AsyncTransport;
+import org.kie.server.client.DMNServicesClient;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.ProcessServicesClient;
+import org.kie.server.client.RuleServicesClient;
+import org.kie.server.client.UserTaskServicesClient;
+
+public class AsyncServicesClientImpl implements AsyncServicesClient {
+
+    private final KieServicesClient client;
+    // server url as configured, load balancer picks one of its servers only when the call runs
+    private final String target;
+    private final AsyncTransport transport;
+
+    public AsyncServicesClientImpl(KieServicesClient client, String target, AsyncTransport transport) {
+        this.client = client;
+        this.target = target;
+        this.transport = transport == null ? PooledAsyncTransport.getDefault() : transport;
+    }
+
+    @Override
+    public <T, R> CompletionStage<R> submit(Class<T> serviceClient, Function<T, R> operation) {
+        try {
+            T servicesClient = client.getServicesClient(serviceClient);
+            return transport.submit(this.target, () -> operation.apply(servicesClient));
+        } catch (RuntimeException e) {
+            CompletableFuture<R> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    @Override
+    public CompletionStage<ServiceResponse<ExecutionResults>> executeCommandsWithResults(String containerId, Command<?> command) {
+        return submit(RuleServicesClient.class, rules -> rules.executeCommandsWithResults(containerId, command));
+    }
+
+    @Override
+    public CompletionStage<Long> startProcess(String containerId, String processId, Map<String, Object> variables) {
+        return submit(ProcessServicesClient.class, processes -> processes.startProcess(containerId, processId, variables));
+    }
+
+    @Override
+    public CompletionStage<Void> signalProcessInstance(String containerId, Long processInstanceId, String signalName, Object event) {
+        return submit(ProcessServicesClient.class, processes -> {
+            processes.signalProcessInstance(containerId, processInstanceId, signalName, event);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> completeTask(String containerId, Long taskId, String userId, Map<String, Object> params) {
+        return submit(UserTaskServicesClient.class, tasks -> {
+            tasks.completeTask(containerId, taskId, userId, params);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<ServiceResponse<DMNResult>> evaluateAll(String containerId, String namespace, String modelName, DMNContext dmnContext) {
+        return submit(DMNServicesClient.class, dmn -> dmn.evaluateAll(containerId, namespace, modelName, dmnContext));
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncServicesClient{transport=" + transport + "}";
+    }
+}
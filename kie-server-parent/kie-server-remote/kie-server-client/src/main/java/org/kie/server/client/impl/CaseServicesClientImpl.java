@@ -166,6 +166,11 @@ public class CaseServicesClientImpl extends AbstractKieServicesClientImpl implem
 
     @Override
     public CaseInstance getCaseInstance(String containerId, String caseId, boolean withData, boolean withRoles, boolean withMilestones, boolean withStages) {
+        return getCaseInstance(containerId, caseId, withData, withRoles, withMilestones, withStages, null);
+    }
+
+    @Override
+    public CaseInstance getCaseInstance(String containerId, String caseId, boolean withData, boolean withRoles, boolean withMilestones, boolean withStages, List<String> caseFileItems) {
         CaseInstance caseInstance = null;
         if( config.isRest() ) {
             Map<String, Object> valuesMap = new HashMap<String, Object>();
@@ -173,12 +178,17 @@ public class CaseServicesClientImpl extends AbstractKieServicesClientImpl implem
             valuesMap.put(CASE_ID, caseId);
 
             String queryString = "?withData=" + withData + "&withRoles=" + withRoles + "&withMilestones=" + withMilestones + "&withStages=" + withStages;
+            queryString = getAdditionalParams(queryString, "caseFileItem", caseFileItems);
 
             caseInstance = makeHttpGetRequestAndCreateCustomResponse(
                     build(loadBalancer.getUrl(), CASE_URI + "/" + CASE_INSTANCE_GET_URI, valuesMap) + queryString, CaseInstance.class);
         } else {
+            // case file items are only sent when given so that servers without projection support keep working
+            Object[] arguments = caseFileItems == null || caseFileItems.isEmpty() ?
+                    new Object[] {containerId, caseId, withData, withRoles, withMilestones, withStages} :
+                    new Object[] {containerId, caseId, withData, withRoles, withMilestones, withStages, caseFileItems};
             CommandScript script = new CommandScript(Collections.singletonList(
-                    (KieServerCommand) new DescriptorCommand("CaseService", "getCaseInstance", marshaller.getFormat().getType(), new Object[] {containerId, caseId, withData, withRoles, withMilestones, withStages})));
+                    (KieServerCommand) new DescriptorCommand("CaseService", "getCaseInstance", marshaller.getFormat().getType(), arguments)));
             ServiceResponse<String> response = (ServiceResponse<String>)
                     executeJmsCommand( script, DescriptorCommand.class.getName(), KieServerConstants.CAPABILITY_CASE ).getResponses().get(0);
 
@@ -366,6 +376,32 @@ public class CaseServicesClientImpl extends AbstractKieServicesClientImpl implem
         }
     }
 
+    @Override
+    public void patchCaseInstanceData(String containerId, String caseId, Map<String, Object> patch) {
+        patchCaseInstanceData(containerId, caseId, patch, null);
+    }
+
+    @Override
+    public void patchCaseInstanceData(String containerId, String caseId, Map<String, Object> patch, List<String> restrictions) {
+        if( config.isRest() ) {
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+            valuesMap.put(CONTAINER_ID, containerId);
+            valuesMap.put(CASE_ID, caseId);
+
+            String queryString = getAdditionalParams("?merge=true", "restrictedTo", restrictions);
+
+            makeHttpPostRequestAndCreateCustomResponse(
+                    build(loadBalancer.getUrl(), CASE_URI + "/" + CASE_FILE_POST_URI, valuesMap) + queryString, patch, null);
+        } else {
+            CommandScript script = new CommandScript( Collections.singletonList(
+                    (KieServerCommand) new DescriptorCommand("CaseService", "patchCaseFileData", serialize(safeMap(patch)), marshaller.getFormat().getType(), new Object[]{containerId, caseId, safeList(restrictions)})) );
+            ServiceResponse<?> response = (ServiceResponse<?>)
+                    executeJmsCommand( script, DescriptorCommand.class.getName(), KieServerConstants.CAPABILITY_CASE ).getResponses().get(0);
+
+            throwExceptionOnFailure(response);
+        }
+    }
+
     @Override
     public void putCaseInstanceData(String containerId, String caseId, String name, Object data, List<String> restrictions) {
         if( config.isRest() ) {
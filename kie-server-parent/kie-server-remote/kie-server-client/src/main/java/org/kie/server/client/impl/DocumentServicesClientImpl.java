@@ -15,6 +15,7 @@
 
 package org.kie.server.client.impl;
 
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -100,6 +101,65 @@ public class DocumentServicesClientImpl extends AbstractKieServicesClientImpl im
         return (String) result;
     }
 
+    @Override
+    public String createDocument(String name, InputStream content, long size) {
+        if( config.isRest() ) {
+
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+
+            Object result = makeHttpStreamRequestAndCreateCustomResponse(
+                    build(loadBalancer.getUrl(), DOCUMENT_URI + "/" + DOCUMENT_CONTENT_POST_URI, valuesMap) + "?name=" + encode(name), "POST", content, size, Object.class);
+            if (result instanceof Wrapped) {
+                return (String) ((Wrapped) result).unwrap();
+            }
+            return (String) result;
+        } else {
+            throw new UnsupportedOperationException("JMS Not supported for this operation");
+        }
+    }
+
+    @Override
+    public void updateDocumentContent(String identifier, InputStream content, long size) {
+        if( config.isRest() ) {
+
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+            valuesMap.put(DOCUMENT_ID, identifier);
+
+            makeHttpStreamRequestAndCreateCustomResponse(
+                    build(loadBalancer.getUrl(), DOCUMENT_URI + "/" + DOCUMENT_INSTANCE_CONTENT_PUT_URI, valuesMap), "PUT", content, size, Object.class);
+        } else {
+            throw new UnsupportedOperationException("JMS Not supported for this operation");
+        }
+    }
+
+    @Override
+    public InputStream getDocumentContent(String identifier) {
+        return getDocumentContent(identifier, new HashMap<String, String>());
+    }
+
+    @Override
+    public InputStream getDocumentContent(String identifier, long offset, long length) {
+        if (offset < 0 || length <= 0) {
+            throw new IllegalArgumentException("Offset must not be negative and length must be positive");
+        }
+        Map<String, String> headers = new HashMap<String, String>();
+        headers.put("Range", "bytes=" + offset + "-" + (offset + length - 1));
+        return getDocumentContent(identifier, headers);
+    }
+
+    protected InputStream getDocumentContent(String identifier, Map<String, String> headers) {
+        if( config.isRest() ) {
+
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+            valuesMap.put(DOCUMENT_ID, identifier);
+
+            return makeHttpGetRequestAndCreateStreamResponse(
+                    build(loadBalancer.getUrl(), DOCUMENT_URI + "/" + DOCUMENT_INSTANCE_CONTENT_GET_URI, valuesMap), "application/octet-stream", headers);
+        } else {
+            throw new UnsupportedOperationException("JMS Not supported for this operation");
+        }
+    }
+
     @Override
     public void updateDocument(DocumentInstance documentInstance) {
         if( config.isRest() ) {
@@ -51,6 +51,7 @@ import org.kie.server.api.model.KieServerStateInfo;
 import org.kie.server.api.model.ReleaseId;
 import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.model.ServiceResponsesList;
+import org.kie.server.client.AsyncServicesClient;
 import org.kie.server.client.KieServicesClient;
 import org.kie.server.client.KieServicesConfiguration;
 import org.kie.server.client.RuleServicesClient;
@@ -122,6 +123,9 @@ public class KieServicesClientImpl extends AbstractKieServicesClientImpl impleme
                     }
                 }
             }
+            if (config.isRest()) {
+                servicesClients.put(AsyncServicesClient.class, new AsyncServicesClientImpl(this, config.getServerUrl(), config.getAsyncTransport()));
+            }
         } catch (Exception e) {
             close();
             throw new RuntimeException(e);
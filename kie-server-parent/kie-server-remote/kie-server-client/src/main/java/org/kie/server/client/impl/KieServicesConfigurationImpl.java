@@ -27,6 +27,7 @@ import javax.naming.NamingException;
 
 import org.kie.server.api.exception.KieServicesException;
 import org.kie.server.api.marshalling.MarshallingFormat;
+import org.kie.server.client.AsyncTransport;
 import org.kie.server.client.CredentialsProvider;
 import org.kie.server.client.KieServicesConfiguration;
 import org.kie.server.client.balancer.LoadBalancer;
@@ -76,6 +77,8 @@ public final class KieServicesConfigurationImpl
 
     private Map<String, String> headers;
 
+    private AsyncTransport asyncTransport;
+
     /*
      * Public constructors and setters
      */
@@ -442,6 +445,16 @@ public final class KieServicesConfigurationImpl
         return this.headers;
     }
 
+    @Override
+    public void setAsyncTransport(AsyncTransport asyncTransport) {
+        this.asyncTransport = asyncTransport;
+    }
+
+    @Override
+    public AsyncTransport getAsyncTransport() {
+        return this.asyncTransport;
+    }
+
 
     // Clone ---
     private KieServicesConfigurationImpl(KieServicesConfigurationImpl config) {
@@ -464,6 +477,7 @@ public final class KieServicesConfigurationImpl
         this.jmsTransactional = config.jmsTransactional;
         this.headers = config.headers;
         this.clientCertificate = config.clientCertificate;
+        this.asyncTransport = config.asyncTransport;
     }
 
     @Override
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.server.client.impl;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.client.AsyncTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs calls on a bounded pool of worker threads and allows at most <code>maxCallsPerTarget</code> calls in flight
+ * per target, i.e. per set of kie servers a client is configured with. Calls exceeding that limit are queued
+ * (without occupying a thread) and dispatched as soon as a call to the same target completes.
+ * <br/>
+ * Calls are performed by the regular blocking http client, so every call in flight occupies a worker thread and
+ * keep alive connections are reused by the JVM. The server a call is sent to is picked by the load balancer when the
+ * call runs, so the limit applies to all servers of a target together; the <code>http.maxConnections</code> system
+ * property should be aligned with it.
+ */
+public class PooledAsyncTransport implements AsyncTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledAsyncTransport.class);
+
+    private static PooledAsyncTransport defaultTransport;
+
+    private final int maxCallsPerTarget;
+    private final ExecutorService executor;
+    private final ConcurrentMap<String, TargetQueue> targets = new ConcurrentHashMap<>();
+
+    public PooledAsyncTransport() {
+        this(Integer.getInteger(KieServerConstants.KIE_SERVER_CLIENT_ASYNC_THREADS, 20),
+             Integer.getInteger(KieServerConstants.KIE_SERVER_CLIENT_ASYNC_MAX_CALLS_PER_TARGET, 10));
+    }
+
+    public PooledAsyncTransport(int threads, int maxCallsPerTarget) {
+        if (threads < 1 || maxCallsPerTarget < 1) {
+            throw new IllegalArgumentException("Number of threads and calls per target must be positive");
+        }
+        this.maxCallsPerTarget = maxCallsPerTarget;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "KieServerClient-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns transport shared by all clients that do not have transport configured, it is created on first use
+     * and is never disposed by the clients.
+     */
+    public static synchronized PooledAsyncTransport getDefault() {
+        if (defaultTransport == null) {
+            defaultTransport = new PooledAsyncTransport();
+        }
+        return defaultTransport;
+    }
+
+    @Override
+    public <T> CompletionStage<T> submit(String target, Callable<T> call) {
+        PendingCall<T> pendingCall = new PendingCall<>(call);
+        targets.computeIfAbsent(target, key -> new TargetQueue()).enqueue(pendingCall);
+        return pendingCall.result;
+    }
+
+    @Override
+    public void dispose() {
+        executor.shutdown();
+        targets.values().forEach(TargetQueue::cancel);
+        targets.clear();
+    }
+
+    public int getMaxCallsPerTarget() {
+        return maxCallsPerTarget;
+    }
+    private static class PendingCall<T> implements Runnable {
+
+        private final Callable<T> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        PendingCall(Callable<T> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result.complete(call.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void fail(Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private class TargetQueue {
+
+        private final Queue<PendingCall<?>> pending = new ArrayDeque<>();
+        private int active;
+
+        synchronized void enqueue(PendingCall<?> call) {
+            pending.add(call);
+            dispatch();
+        }
+
+        synchronized void completed() {
+            active--;
+            dispatch();
+        }
+
+        synchronized void cancel() {
+            RejectedExecutionException e = new RejectedExecutionException("Async transport has been disposed");
+            PendingCall<?> call;
+            while ((call = pending.poll()) != null) {
+                call.fail(e);
+            }
+        }
+
+        private void dispatch() {
+            while (active < maxCallsPerTarget && !pending.isEmpty()) {
+                PendingCall<?> call = pending.poll();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            call.run();
+                        } finally {
+                            completed();
+                        }
+                    });
+                    active++;
+                } catch (RejectedExecutionException e) {
+                    logger.debug("Async call rejected as transport has been disposed");
+                    call.fail(e);
+                }
+            }
+        }
+    }
+}
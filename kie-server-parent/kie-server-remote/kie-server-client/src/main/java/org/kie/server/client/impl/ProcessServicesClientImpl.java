@@ -42,6 +42,10 @@ import org.kie.server.api.model.instance.NodeInstance;
 import org.kie.server.api.model.instance.NodeInstanceList;
 import org.kie.server.api.model.instance.ProcessInstance;
 import org.kie.server.api.model.instance.ProcessInstanceList;
+import org.kie.server.api.model.instance.ProcessStartRequest;
+import org.kie.server.api.model.instance.ProcessStartRequestList;
+import org.kie.server.api.model.instance.ProcessStartResult;
+import org.kie.server.api.model.instance.ProcessStartResultList;
 import org.kie.server.api.model.instance.VariableInstance;
 import org.kie.server.api.model.instance.VariableInstanceList;
 import org.kie.server.api.model.instance.WorkItemInstance;
@@ -90,6 +94,7 @@ import static org.kie.server.api.rest.RestURI.START_PROCESS_FROM_NODES_POST_URI;
 import static org.kie.server.api.rest.RestURI.START_PROCESS_FROM_NODES_WITH_CORRELATION_KEY_POST_URI;
 import static org.kie.server.api.rest.RestURI.START_PROCESS_POST_URI;
 import static org.kie.server.api.rest.RestURI.START_PROCESS_WITH_CORRELATION_KEY_POST_URI;
+import static org.kie.server.api.rest.RestURI.START_PROCESSES_BULK_POST_URI;
 import static org.kie.server.api.rest.RestURI.COMPUTE_PROCESS_OUTCOME_POST_URI;
 import static org.kie.server.api.rest.RestURI.TASK_NAME;
 import static org.kie.server.api.rest.RestURI.VAR_NAME;
@@ -440,6 +445,36 @@ public class ProcessServicesClientImpl extends AbstractKieServicesClientImpl imp
         return startProcess(containerId, processId, correlationKey, null);
     }
 
+    @Override
+    public List<ProcessStartResult> startProcesses(String containerId, List<ProcessStartRequest> requests, Integer batchSize) {
+        ProcessStartResultList resultList = null;
+        ProcessStartRequestList requestList = new ProcessStartRequestList(requests);
+        if (config.isRest()) {
+            String queryString = batchSize != null ? "?batchSize=" + batchSize : "";
+            resultList = makeHttpPostRequestAndCreateCustomResponse(
+                    build(loadBalancer.getUrl(), PROCESS_URI + "/" + START_PROCESSES_BULK_POST_URI, Collections.singletonMap(CONTAINER_ID, containerId)) + queryString,
+                    requestList, ProcessStartResultList.class);
+        } else {
+            // batch size of 0 stands for the server default as null arguments cannot be sent
+            CommandScript script = new CommandScript(singletonList((KieServerCommand) new DescriptorCommand("ProcessService", "startProcesses",
+                                                                                                            serialize(requestList), marshaller.getFormat().getType(),
+                                                                                                            containerId, batchSize != null ? batchSize : 0)));
+            ServiceResponse<String> response = (ServiceResponse<String>) executeJmsCommand(script, DescriptorCommand.class.getName(), "BPM", containerId).getResponses().get(0);
+
+            throwExceptionOnFailure(response);
+            if (shouldReturnWithNullResponse(response)) {
+                return null;
+            }
+            resultList = deserialize(response.getResult(), ProcessStartResultList.class);
+        }
+
+        if (resultList != null) {
+            return resultList.getItems();
+        }
+
+        return Collections.emptyList();
+    }
+
     @Override
     public Long startProcess(String containerId, String processId, CorrelationKey correlationKey, Map<String, Object> variables) {
         Object result = null;
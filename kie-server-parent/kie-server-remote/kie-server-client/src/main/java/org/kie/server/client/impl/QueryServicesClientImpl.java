@@ -18,6 +18,7 @@ package org.kie.server.client.impl;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -59,11 +60,16 @@ import org.kie.server.api.model.instance.VariableInstanceList;
 import org.kie.server.api.rest.RestURI;
 import org.kie.server.client.KieServicesConfiguration;
 import org.kie.server.client.QueryServicesClient;
+import org.kie.server.client.util.ExportIterator;
 
 import static org.kie.server.api.rest.RestURI.CONTAINER_ID;
 import static org.kie.server.api.rest.RestURI.CORRELATION_KEY;
 import static org.kie.server.api.rest.RestURI.CREATE_QUERY_DEF_POST_URI;
 import static org.kie.server.api.rest.RestURI.DROP_QUERY_DEF_DELETE_URI;
+import static org.kie.server.api.rest.RestURI.EXPORT_NODE_INSTANCES_GET_URI;
+import static org.kie.server.api.rest.RestURI.EXPORT_PROCESS_INSTANCES_GET_URI;
+import static org.kie.server.api.rest.RestURI.EXPORT_URI;
+import static org.kie.server.api.rest.RestURI.EXPORT_VAR_INSTANCES_GET_URI;
 import static org.kie.server.api.rest.RestURI.NODE_INSTANCES_BY_INSTANCE_ID_GET_URI;
 import static org.kie.server.api.rest.RestURI.NODE_INSTANCES_BY_WORK_ITEM_ID_GET_URI;
 import static org.kie.server.api.rest.RestURI.PROCESS_DEFINITIONS_BY_CONTAINER_ID_DEF_ID_GET_URI;
@@ -535,6 +541,43 @@ public class QueryServicesClientImpl extends AbstractKieServicesClientImpl imple
         return Collections.emptyList();
     }
 
+    @Override
+    public ProcessInstanceList findProcessInstancesAfter(List<Integer> status, String initiator, String processName, String sort, boolean sortOrder, String continuationToken, Integer pageSize) {
+        ProcessInstanceList result = null;
+        String token = continuationToken == null ? "" : continuationToken;
+        if (config.isRest()) {
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+
+            StringBuilder filters = new StringBuilder("?token=" + RestURI.encode(token) + "&pageSize=" + pageSize + "&sortOrder=" + sortOrder);
+            if (sort != null) {
+                filters.append("&sort=").append(RestURI.encode(sort));
+            }
+            if (initiator != null) {
+                filters.append("&initiator=").append(RestURI.encode(initiator));
+            }
+            if (processName != null) {
+                filters.append("&processName=").append(RestURI.encode(processName));
+            }
+            String queryString = getAdditionalParams(filters.toString(), "status", status);
+
+            result = makeHttpGetRequestAndCreateCustomResponse(build(loadBalancer.getUrl(), QUERY_URI + "/" + PROCESS_INSTANCES_GET_URI, valuesMap) + queryString, ProcessInstanceList.class);
+        } else {
+            CommandScript script = new CommandScript(Collections.singletonList((KieServerCommand) new DescriptorCommand("QueryService", "getProcessInstancesAfter", new Object[]{safeList(status), initiator, processName, sort, sortOrder, token, pageSize})));
+            ServiceResponse<ProcessInstanceList> response = (ServiceResponse<ProcessInstanceList>) executeJmsCommand(script, DescriptorCommand.class.getName(), "BPM").getResponses().get(0);
+
+            throwExceptionOnFailure(response);
+            if (shouldReturnWithNullResponse(response)) {
+                return null;
+            }
+            result = response.getResult();
+        }
+
+        if (result == null) {
+            return new ProcessInstanceList(new ProcessInstance[0]);
+        }
+        return result;
+    }
+
     @Override
     public List<ProcessInstance> findProcessInstancesByInitiator(String initiator, List<Integer> status, Integer page, Integer pageSize, String sort, boolean sortOrder) {
         ProcessInstanceList result = null;
@@ -624,6 +667,38 @@ public class QueryServicesClientImpl extends AbstractKieServicesClientImpl imple
         return Collections.emptyList();
     }
 
+    @Override
+    public ExportIterator exportProcessInstances(Date modifiedSince, Long afterId, List<String> columns) {
+        return export(EXPORT_PROCESS_INSTANCES_GET_URI, modifiedSince, afterId, columns);
+    }
+
+    @Override
+    public ExportIterator exportNodeInstances(Date modifiedSince, Long afterId, List<String> columns) {
+        return export(EXPORT_NODE_INSTANCES_GET_URI, modifiedSince, afterId, columns);
+    }
+
+    @Override
+    public ExportIterator exportVariableInstances(Date modifiedSince, Long afterId, List<String> columns) {
+        return export(EXPORT_VAR_INSTANCES_GET_URI, modifiedSince, afterId, columns);
+    }
+
+    protected ExportIterator export(String uri, Date modifiedSince, Long afterId, List<String> columns) {
+        if (config.isRest()) {
+            StringBuilder filters = new StringBuilder();
+            if (modifiedSince != null) {
+                filters.append("?modifiedSince=").append(RestURI.encode(modifiedSince.toInstant().toString()));
+            }
+            if (afterId != null) {
+                filters.append(filters.length() == 0 ? "?" : "&").append("afterId=").append(afterId);
+            }
+            String queryString = getAdditionalParams(filters.toString(), "column", columns);
+
+            return new ExportIterator(makeHttpGetRequestAndCreateStreamResponse(build(loadBalancer.getUrl(), EXPORT_URI + "/" + uri, Collections.emptyMap()) + queryString, "application/x-ndjson"));
+        } else {
+            throw new UnsupportedOperationException("JMS Not supported for this operation");
+        }
+    }
+
     @Override
     public ProcessInstance findProcessInstanceById(Long processInstanceId) {
         ProcessInstance result = null;
@@ -36,6 +36,10 @@ import org.kie.server.api.model.instance.TaskCommentList;
 import org.kie.server.api.model.instance.TaskEventInstance;
 import org.kie.server.api.model.instance.TaskEventInstanceList;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.model.instance.TaskOperation;
+import org.kie.server.api.model.instance.TaskOperationList;
+import org.kie.server.api.model.instance.TaskOperationResult;
+import org.kie.server.api.model.instance.TaskOperationResultList;
 import org.kie.server.api.model.instance.TaskSummary;
 import org.kie.server.api.model.instance.TaskSummaryList;
 import org.kie.server.api.rest.RestURI;
@@ -83,6 +87,7 @@ import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_ID;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_INPUT_DATA_GET_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_NAME_PUT_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_NOMINATE_PUT_URI;
+import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_OPERATIONS_BULK_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_OUTPUT_DATA_GET_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_OUTPUT_DATA_PUT_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_PRIORITY_PUT_URI;
@@ -149,6 +154,33 @@ public class UserTaskServicesClientImpl extends AbstractKieServicesClientImpl im
         }
     }
 
+    @Override
+    public List<TaskOperationResult> executeTaskOperations(String containerId, List<TaskOperation> operations, boolean atomic) {
+        TaskOperationResultList resultList = null;
+        TaskOperationList operationList = new TaskOperationList(operations);
+        if( config.isRest() ) {
+            resultList = makeHttpPostRequestAndCreateCustomResponse(
+                    build(loadBalancer.getUrl(), TASK_URI + "/" + TASK_INSTANCE_OPERATIONS_BULK_URI, Collections.singletonMap(CONTAINER_ID, containerId)) + "?atomic=" + atomic,
+                    operationList, TaskOperationResultList.class, getHeaders(null));
+        } else {
+            CommandScript script = new CommandScript( Collections.singletonList( (KieServerCommand)
+                    new DescriptorCommand( "UserTaskService", "executeOperations", serialize(operationList), marshaller.getFormat().getType(), new Object[]{containerId, atomic}) ) );
+            ServiceResponse<String> response = (ServiceResponse<String>) executeJmsCommand( script, DescriptorCommand.class.getName(), "BPM", containerId ).getResponses().get(0);
+
+            throwExceptionOnFailure(response);
+            if (shouldReturnWithNullResponse(response)) {
+                return null;
+            }
+            resultList = deserialize(response.getResult(), TaskOperationResultList.class);
+        }
+
+        if (resultList != null) {
+            return resultList.getItems();
+        }
+
+        return Collections.emptyList();
+    }
+
     @Override
     public void completeTask(String containerId, Long taskId, String userId, Map<String, Object> params) {
         if( config.isRest() ) {
@@ -1254,6 +1286,48 @@ public class UserTaskServicesClientImpl extends AbstractKieServicesClientImpl im
         return Collections.emptyList();
     }
 
+    @Override
+    public TaskSummaryList findTasksAssignedAsPotentialOwnerAfter(String userId, List<String> status, String continuationToken, Integer pageSize) {
+        String token = continuationToken == null ? "" : continuationToken;
+        return findTasksAfter(TASKS_ASSIGN_POT_OWNERS_GET_URI, userId, status, token, pageSize,
+                              new DescriptorCommand("QueryService", "getTasksAssignedAsPotentialOwnerAfter", new Object[]{safeList(status), new ArrayList<String>(), userId, "", true, token, pageSize, ""}));
+    }
+
+    @Override
+    public TaskSummaryList findTasksOwnedAfter(String userId, List<String> status, String continuationToken, Integer pageSize) {
+        String token = continuationToken == null ? "" : continuationToken;
+        return findTasksAfter(TASKS_OWNED_GET_URI, userId, status, token, pageSize,
+                              new DescriptorCommand("QueryService", "getTasksOwnedByStatusAfter", new Object[]{safeList(status), userId, "", true, token, pageSize}));
+    }
+
+    protected TaskSummaryList findTasksAfter(String uri, String userId, List<String> status, String token, Integer pageSize, DescriptorCommand command) {
+        TaskSummaryList taskSummaryList = null;
+        if( config.isRest() ) {
+            Map<String, Object> valuesMap = new HashMap<String, Object>();
+
+            String userQuery = getUserQueryStr(userId);
+            String statusQuery = getAdditionalParams(userQuery, "status", status);
+            String queryString = statusQuery + (statusQuery.isEmpty() ? "?" : "&") + "token=" + RestURI.encode(token) + "&pageSize=" + pageSize;
+
+            taskSummaryList = makeHttpGetRequestAndCreateCustomResponse(
+                    build(loadBalancer.getUrl(), QUERY_URI + "/" + uri, valuesMap) + queryString, TaskSummaryList.class);
+
+        } else {
+            CommandScript script = new CommandScript( Collections.singletonList( (KieServerCommand) command ) );
+            ServiceResponse<TaskSummaryList> response = (ServiceResponse<TaskSummaryList>) executeJmsCommand( script, DescriptorCommand.class.getName(), "BPM" ).getResponses().get(0);
+
+            throwExceptionOnFailure(response);
+            if (shouldReturnWithNullResponse(response)) {
+                return null;
+            }
+            taskSummaryList = response.getResult();
+        }
+        if (taskSummaryList == null) {
+            return new TaskSummaryList(new TaskSummary[0]);
+        }
+        return taskSummaryList;
+    }
+
     @Override
     public List<TaskSummary> findTasksByStatusByProcessInstanceId(Long processInstanceId, List<String> status, Integer page, Integer pageSize, String sort, boolean sortOrder) {
         TaskSummaryList taskSummaryList = null;
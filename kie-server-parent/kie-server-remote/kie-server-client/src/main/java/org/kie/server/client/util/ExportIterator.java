@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.client.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.kie.server.api.exception.KieServicesException;
+
+/**
+ * Iterates over rows of a bulk export (newline delimited JSON) as they are received from the server, so only
+ * a single row is kept in memory at a time. The underlying stream is closed once the last row is read; when
+ * iteration is abandoned before that, the iterator must be closed explicitly. When the export fails on the
+ * server after rows were already sent, the failure is received as the last record and reported by throwing
+ * {@link KieServicesException} instead of silently ending the iteration.
+ */
+public class ExportIterator implements Iterator<Map<String, Object>>, Closeable {
+
+    // must be kept in sync with DataExportServiceBase.ERROR_FIELD
+    private static final String ERROR_FIELD = "export-error";
+
+    private static final ObjectReader READER = new ObjectMapper().readerFor(LinkedHashMap.class);
+
+    private final BufferedReader reader;
+    private String nextLine;
+    private boolean closed;
+
+    public ExportIterator(InputStream stream) {
+        this.reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.trim().isEmpty());
+
+            if (line == null) {
+                close();
+                return false;
+            }
+            nextLine = line;
+            return true;
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException("Unable to read exported data", e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        Map<String, Object> row;
+        try {
+            row = READER.readValue(line);
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException("Unable to parse exported row " + line, e);
+        }
+        if (row.size() == 1 && row.containsKey(ERROR_FIELD)) {
+            closeQuietly();
+            throw new KieServicesException(String.valueOf(row.get(ERROR_FIELD)));
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            reader.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            // nothing to do, the original failure is reported instead
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.server.client.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.client.AsyncTransport;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.ProcessServicesClient;
+import org.kie.server.client.UserTaskServicesClient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class AsyncServicesClientImplTest {
+
+    private static final String TARGET = "http://localhost:8080/kie-server/services/rest/server|http://localhost:8180/kie-server/services/rest/server";
+
+    private KieServicesClient client;
+    private ProcessServicesClient processClient;
+    private UserTaskServicesClient taskClient;
+    private StubTransport transport;
+    private AsyncServicesClientImpl asyncClient;
+
+    @Before
+    public void setup() {
+        client = mock(KieServicesClient.class);
+        processClient = mock(ProcessServicesClient.class);
+        taskClient = mock(UserTaskServicesClient.class);
+        when(client.getServicesClient(ProcessServicesClient.class)).thenReturn(processClient);
+        when(client.getServicesClient(UserTaskServicesClient.class)).thenReturn(taskClient);
+        transport = new StubTransport();
+        asyncClient = new AsyncServicesClientImpl(client, TARGET, transport);
+    }
+
+    @Test
+    public void testCallDispatchedToConfiguredTarget() throws Exception {
+        when(processClient.startProcess("container", "process", Collections.emptyMap())).thenReturn(10L);
+
+        CompletionStage<Long> result = asyncClient.startProcess("container", "process", Collections.emptyMap());
+
+        assertEquals(Collections.singletonList(TARGET), transport.targets);
+        // the remote call runs only when the transport dispatches it
+        verifyZeroInteractions(processClient);
+        transport.runAll();
+        assertEquals(Long.valueOf(10L), result.toCompletableFuture().get());
+    }
+
+    @Test
+    public void testVoidCall() throws Exception {
+        CompletionStage<Void> result = asyncClient.completeTask("container", 5L, "john", Collections.emptyMap());
+        transport.runAll();
+
+        result.toCompletableFuture().get();
+        verify(taskClient).completeTask("container", 5L, "john", Collections.emptyMap());
+    }
+
+    @Test
+    public void testFailedCall() throws Exception {
+        when(processClient.startProcess("container", "process", Collections.emptyMap())).thenThrow(new IllegalStateException("server failure"));
+
+        CompletionStage<Long> result = asyncClient.startProcess("container", "process", Collections.emptyMap());
+        transport.runAll();
+
+        try {
+            result.toCompletableFuture().get();
+            fail("Call should complete exceptionally");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testMissingServicesClientCompletesExceptionally() throws Exception {
+        when(client.getServicesClient(ProcessServicesClient.class)).thenThrow(new IllegalArgumentException("BPM capability not available"));
+
+        CompletionStage<Long> result = asyncClient.startProcess("container", "process", Collections.emptyMap());
+
+        assertTrue(transport.targets.isEmpty());
+        try {
+            result.toCompletableFuture().get();
+            fail("Call should complete exceptionally");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Records submitted calls and runs them on demand on the calling thread.
+     */
+    private static class StubTransport implements AsyncTransport {
+
+        private final List<String> targets = new ArrayList<>();
+        private final List<Runnable> calls = new ArrayList<>();
+
+        @Override
+        public <T> CompletionStage<T> submit(String target, Callable<T> call) {
+            targets.add(target);
+            CompletableFuture<T> result = new CompletableFuture<>();
+            calls.add(() -> {
+                try {
+                    result.complete(call.call());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return result;
+        }
+
+        @Override
+        public void dispose() {
+            calls.clear();
+        }
+
+        void runAll() {
+            calls.forEach(Runnable::run);
+            calls.clear();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.server.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PooledAsyncTransportTest {
+
+    private PooledAsyncTransport transport = new PooledAsyncTransport(8, 2);
+
+    @After
+    public void cleanup() {
+        transport.dispose();
+    }
+
+    @Test
+    public void testCallsLimitedPerTarget() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int value = i;
+            results.add(transport.submit("http://localhost:8080/kie-server/services/rest/server", () -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                release.await(5, TimeUnit.SECONDS);
+                inFlight.decrementAndGet();
+                return value;
+            }).toCompletableFuture());
+        }
+        // other target is not affected by calls waiting for the first one
+        assertEquals("other", transport.submit("http://otherhost:8080/kie-server/services/rest/server|http://otherhost:8180/kie-server/services/rest/server", () -> "other")
+                .toCompletableFuture().get(5, TimeUnit.SECONDS));
+
+        release.countDown();
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).get(5, TimeUnit.SECONDS).intValue());
+        }
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    public void testFailedCall() throws Exception {
+        try {
+            transport.submit("http://localhost:8080", () -> {
+                throw new IllegalStateException("failed");
+            }).toCompletableFuture().get(5, TimeUnit.SECONDS);
+            fail("Call should complete exceptionally");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testDefaultTransportShared() throws Exception {
+        assertSame(PooledAsyncTransport.getDefault(), PooledAsyncTransport.getDefault());
+    }
+
+    @Test
+    public void testSubmitAfterDispose() throws Exception {
+        transport.dispose();
+        CompletableFuture<String> result = transport.submit("http://localhost:8080", () -> "value").toCompletableFuture();
+        assertTrue(result.isCompletedExceptionally());
+    }
+}
@@ -198,13 +198,14 @@ public class CaseResource extends AbstractCaseResource {
             @ApiParam(value = "optional flag to load data when loading case instance", required = false) @QueryParam("withData") @DefaultValue("false") boolean withData,
             @ApiParam(value = "optional flag to load roles when loading case instance", required = false) @QueryParam("withRoles") @DefaultValue("false") boolean withRoles,
             @ApiParam(value = "optional flag to load milestones when loading case instance", required = false) @QueryParam("withMilestones") @DefaultValue("false") boolean withMilestones,
-            @ApiParam(value = "optional flag to load stages when loading case instance", required = false) @QueryParam("withStages") @DefaultValue("false") boolean withStages) {
+            @ApiParam(value = "optional flag to load stages when loading case instance", required = false) @QueryParam("withStages") @DefaultValue("false") boolean withStages,
+            @ApiParam(value = "optional name(s) of case file items or dotted paths into them (e.g. claim.vehicle.vin) to limit loaded data to", required = false) @QueryParam("caseFileItem") List<String> caseFileItems) {
 
         return invokeCaseOperation(headers,
                 containerId,
                 caseId,
                 (Variant v, String type, Header... customHeaders) -> {
-                    String response = caseManagementServiceBase.getCaseInstance(containerId, caseId, withData, withRoles, withMilestones, withStages, type);
+                    String response = caseManagementServiceBase.getCaseInstance(containerId, caseId, withData, withRoles, withMilestones, withStages, caseFileItems, type);
                     logger.debug("Returning OK response for get case instance with content '{}'", response);
 
                     return createResponse(response, v, Response.Status.OK, customHeaders);
@@ -330,7 +331,7 @@ public class CaseResource extends AbstractCaseResource {
                 });
     }
 
-    @ApiOperation(value="Adds data as case files in a specified case instance.",
+    @ApiOperation(value="Adds data as case files in a specified case instance. When merge is set the payload is applied as JSON Merge Patch (RFC 7396): null removes a case file item and objects are merged into current value of the item.",
             response=Void.class, code=201)
     @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
             @ApiResponse(code = 404, message = "Case instance not found") })
@@ -342,6 +343,7 @@ public class CaseResource extends AbstractCaseResource {
             @ApiParam(value = "container id that case instance belongs to", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId, 
             @ApiParam(value = "identifier of the case instance", required = true, example = "CASE-00000000001") @PathParam(CASE_ID) String caseId,
             @ApiParam(value = "optional role name(s) that given data should be restricted to", required = false) @QueryParam("restrictedTo") List<String> restrictions,
+            @ApiParam(value = "optional flag to apply payload as JSON merge patch of the case file, supported for JSON only", required = false) @QueryParam("merge") @DefaultValue("false") boolean merge,
             @ApiParam(value = "map of data to be placed in case file as Map", required = true, examples=@Example(value= {
                     @ExampleProperty(mediaType=JSON, value=VAR_MAP_JSON),
                     @ExampleProperty(mediaType=XML, value=VAR_MAP_XML)})) String payload) {
@@ -350,8 +352,13 @@ public class CaseResource extends AbstractCaseResource {
                 containerId,
                 caseId,
                 (Variant v, String type, Header... customHeaders) -> {
-                    logger.debug("About to put case file data of case {}", caseId);
-                    this.caseManagementServiceBase.putCaseFileData(containerId, caseId, restrictions, payload, type);
+                    if (merge) {
+                        logger.debug("About to patch case file data of case {}", caseId);
+                        this.caseManagementServiceBase.patchCaseFileData(containerId, caseId, restrictions, payload, type);
+                    } else {
+                        logger.debug("About to put case file data of case {}", caseId);
+                        this.caseManagementServiceBase.putCaseFileData(containerId, caseId, restrictions, payload, type);
+                    }
 
                     logger.debug("Returning CREATED response");
                     return createResponse("", v, Response.Status.CREATED, customHeaders);
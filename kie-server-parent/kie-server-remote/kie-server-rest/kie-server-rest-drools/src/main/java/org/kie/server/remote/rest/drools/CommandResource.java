@@ -32,6 +32,7 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import org.kie.server.api.KieServerConstants;
 import org.kie.server.api.marshalling.MarshallingFormat;
 import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.rest.RestURI;
@@ -95,7 +96,7 @@ public class CommandResource {
         logger.debug("Received request with content '{}'", cmdPayload);
         Header conversationIdHeader = buildConversationIdHeader(id, registry, headers);
         @SuppressWarnings("squid:S3740")
-        ServiceResponse<?> result = delegate.callContainer(id, cmdPayload, format, classType);
+        ServiceResponse<?> result = delegate.callContainer(id, cmdPayload, format, classType, headers.getHeaderString(KieServerConstants.KIE_SESSION_LOOKUP_HEADER));
         Status status = result.getType() == FAILURE ? INTERNAL_SERVER_ERROR : OK;
         try {
             String response = marshallerHelper.marshal(id, format.getType(), result, ContainerLocatorProvider
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.remote.rest.jbpm;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.Variant;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.kie.server.remote.rest.common.Header;
+import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.jbpm.DataExportServiceBase;
+import org.kie.server.services.jbpm.DataExportServiceBase.ExportType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.server.api.rest.RestURI.EXPORT_NODE_INSTANCES_GET_URI;
+import static org.kie.server.api.rest.RestURI.EXPORT_PROCESS_INSTANCES_GET_URI;
+import static org.kie.server.api.rest.RestURI.EXPORT_URI;
+import static org.kie.server.api.rest.RestURI.EXPORT_VAR_INSTANCES_GET_URI;
+import static org.kie.server.remote.rest.common.util.RestUtils.badRequest;
+import static org.kie.server.remote.rest.common.util.RestUtils.buildConversationIdHeader;
+import static org.kie.server.remote.rest.common.util.RestUtils.getVariant;
+
+@Api(value="Bulk export of process data")
+@Path("server/" + EXPORT_URI)
+public class DataExportResource {
+
+    public static final Logger logger = LoggerFactory.getLogger(DataExportResource.class);
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private DataExportServiceBase dataExportServiceBase;
+    private KieServerRegistry context;
+
+    public DataExportResource() {
+
+    }
+
+    public DataExportResource(DataExportServiceBase dataExportServiceBase, KieServerRegistry context) {
+        this.dataExportServiceBase = dataExportServiceBase;
+        this.context = context;
+    }
+
+    @ApiOperation(value="Streams process instances as newline delimited JSON, ordered by process instance id.")
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+            @ApiResponse(code = 400, message = "Invalid column or date given") })
+    @GET
+    @Path(EXPORT_PROCESS_INSTANCES_GET_URI)
+    @Produces({NDJSON})
+    public Response exportProcessInstances(@Context HttpHeaders headers,
+            @ApiParam(value = "optional ISO-8601 date time, only process instances started or completed since then are exported", required = false, example = "2022-01-01T00:00:00Z") @QueryParam("modifiedSince") String modifiedSince,
+            @ApiParam(value = "optional process instance id of the last row already received, used to resume an interrupted export", required = false) @QueryParam("afterId") Long afterId,
+            @ApiParam(value = "optional columns to export, defaults to all columns", required = false) @QueryParam("column") List<String> columns) {
+        return export(headers, ExportType.PROCESS_INSTANCES, modifiedSince, afterId, columns);
+    }
+
+    @ApiOperation(value="Streams node instance history as newline delimited JSON, ordered by log id.")
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+            @ApiResponse(code = 400, message = "Invalid column or date given") })
+    @GET
+    @Path(EXPORT_NODE_INSTANCES_GET_URI)
+    @Produces({NDJSON})
+    public Response exportNodeInstances(@Context HttpHeaders headers,
+            @ApiParam(value = "optional ISO-8601 date time, only node instance logs written since then are exported", required = false, example = "2022-01-01T00:00:00Z") @QueryParam("modifiedSince") String modifiedSince,
+            @ApiParam(value = "optional log id of the last row already received, used to resume an interrupted export", required = false) @QueryParam("afterId") Long afterId,
+            @ApiParam(value = "optional columns to export, defaults to all columns", required = false) @QueryParam("column") List<String> columns) {
+        return export(headers, ExportType.NODE_INSTANCES, modifiedSince, afterId, columns);
+    }
+
+    @ApiOperation(value="Streams variable history as newline delimited JSON, ordered by log id.")
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+            @ApiResponse(code = 400, message = "Invalid column or date given") })
+    @GET
+    @Path(EXPORT_VAR_INSTANCES_GET_URI)
+    @Produces({NDJSON})
+    public Response exportVariableInstances(@Context HttpHeaders headers,
+            @ApiParam(value = "optional ISO-8601 date time, only variable logs written since then are exported", required = false, example = "2022-01-01T00:00:00Z") @QueryParam("modifiedSince") String modifiedSince,
+            @ApiParam(value = "optional log id of the last row already received, used to resume an interrupted export", required = false) @QueryParam("afterId") Long afterId,
+            @ApiParam(value = "optional columns to export, defaults to all columns", required = false) @QueryParam("column") List<String> columns) {
+        return export(headers, ExportType.VARIABLES, modifiedSince, afterId, columns);
+    }
+
+    protected Response export(HttpHeaders headers, ExportType type, String modifiedSince, Long afterId, List<String> columns) {
+        Variant v = getVariant(headers);
+        // no container id available so only used to transfer conversation id if given by client
+        Header conversationIdHeader = buildConversationIdHeader("", context, headers);
+
+        Date since;
+        try {
+            since = modifiedSince == null || modifiedSince.isEmpty() ? null : Date.from(OffsetDateTime.parse(modifiedSince).toInstant());
+            dataExportServiceBase.validateColumns(type, columns);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return badRequest(e.getMessage(), v, conversationIdHeader);
+        }
+
+        StreamingOutput entity = output -> dataExportServiceBase.export(type, since, afterId, columns, output);
+        Response.ResponseBuilder builder = Response.ok(entity, NDJSON);
+        if (conversationIdHeader != null) {
+            builder.header(conversationIdHeader.getName(), conversationIdHeader.getValue());
+        }
+        logger.debug("Streaming export of {} modified since {}", type, since);
+        return builder.build();
+    }
+}
@@ -16,6 +16,7 @@
 package org.kie.server.remote.rest.jbpm;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 
 import javax.mail.internet.MimeUtility;
@@ -48,18 +49,27 @@ import org.kie.server.api.model.instance.DocumentInstance;
 import org.kie.server.api.model.instance.DocumentInstanceList;
 import org.kie.server.remote.rest.common.Header;
 import org.kie.server.services.api.KieServerRegistry;
-import org.kie.server.services.api.KieServerRuntimeException;
+import org.kie.server.services.jbpm.DocumentNotFoundException;
 import org.kie.server.services.jbpm.DocumentServiceBase;
+import org.kie.server.services.jbpm.DocumentServiceBase.DocumentContent;
+import org.kie.server.services.jbpm.DocumentTooLargeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static javax.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+import static javax.ws.rs.core.Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
+import static javax.ws.rs.core.Response.Status.REQUEST_ENTITY_TOO_LARGE;
+import static org.kie.server.api.rest.RestURI.DOCUMENT_CONTENT_POST_URI;
 import static org.kie.server.api.rest.RestURI.DOCUMENT_INSTANCE_CONTENT_GET_URI;
+import static org.kie.server.api.rest.RestURI.DOCUMENT_INSTANCE_CONTENT_PUT_URI;
 import static org.kie.server.api.rest.RestURI.DOCUMENT_INSTANCE_DELETE_URI;
 import static org.kie.server.api.rest.RestURI.DOCUMENT_INSTANCE_GET_URI;
 import static org.kie.server.api.rest.RestURI.DOCUMENT_INSTANCE_PUT_URI;
 import static org.kie.server.api.rest.RestURI.DOCUMENT_URI;
+import static org.kie.server.remote.rest.common.util.RestUtils.badRequest;
 import static org.kie.server.remote.rest.common.util.RestUtils.buildConversationIdHeader;
 import static org.kie.server.remote.rest.common.util.RestUtils.createCorrectVariant;
+import static org.kie.server.remote.rest.common.util.RestUtils.createResponse;
 import static org.kie.server.remote.rest.common.util.RestUtils.errorMessage;
 import static org.kie.server.remote.rest.common.util.RestUtils.getContentType;
 import static org.kie.server.remote.rest.common.util.RestUtils.getVariant;
@@ -92,10 +102,12 @@ public class DocumentResource {
         this.context = context;
     }
 
-    @ApiOperation(value="Retrieves document's content identified by given documentId",
+    @ApiOperation(value="Retrieves document's content identified by given documentId, supports single byte range requests",
             response=byte[].class, code=200, responseHeaders={@ResponseHeader(name="Content-Disposition", description="provides file name of the document")})
     @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
-            @ApiResponse(code = 404, message = "Document with given id not found") })
+            @ApiResponse(code = 206, message = "Requested range of the content"),
+            @ApiResponse(code = 404, message = "Document with given id not found"),
+            @ApiResponse(code = 416, message = "Requested range not satisfiable") })
     @GET
     @Path(DOCUMENT_INSTANCE_CONTENT_GET_URI)
     @Produces({MediaType.APPLICATION_OCTET_STREAM})
@@ -106,32 +118,145 @@ public class DocumentResource {
         Header conversationIdHeader = buildConversationIdHeader("", context, headers);
         try {
 
-            final DocumentInstance document = documentServiceBase.getDocument(documentId);
+            final DocumentContent content = documentServiceBase.getDocumentContent(documentId);
 
-            if (document == null) {
-                return notFound("Document with id " + documentId + " not found", v, conversationIdHeader);
+            String fileName = MimeUtility.encodeWord(content.getName(), "utf-8", "Q");
+            final long size = content.getSize();
+            final long[] range = parseRange(headers.getHeaderString("Range"), size);
+            if (range != null && range.length == 0) {
+                Response.ResponseBuilder builder = Response.status(REQUESTED_RANGE_NOT_SATISFIABLE).header("Content-Range", "bytes */" + size);
+                if (conversationIdHeader != null) {
+                    builder.header(conversationIdHeader.getName(), conversationIdHeader.getValue());
+                }
+                return builder.build();
             }
-            String fileName = MimeUtility.encodeWord(document.getName(), "utf-8", "Q");
+            final long offset = range == null ? 0 : range[0];
+            final long length = range == null ? size : range[1] - range[0] + 1;
             StreamingOutput entity = new StreamingOutput() {
 
                 @Override
                 public void write(OutputStream output) throws IOException, WebApplicationException {
-                    output.write(document.getContent());
+                    content.write(output, offset, length);
                 }
             };
+            Response.ResponseBuilder builder = range == null ? Response.ok() : Response.status(PARTIAL_CONTENT).header("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + size);
+            builder.entity(entity)
+                    .header("Accept-Ranges", "bytes")
+                    .header(HttpHeaders.CONTENT_LENGTH, length)
+                    .header("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
             if (conversationIdHeader != null) {
-                return Response.ok().entity(entity)
-                        .header(conversationIdHeader.getName(), conversationIdHeader.getValue())
-                        .header("Content-Disposition", "attachment; filename=\"" + fileName + "\"").build();
+                builder.header(conversationIdHeader.getName(), conversationIdHeader.getValue());
             }
 
-            return Response.ok().entity(entity).header("Content-Disposition", "attachment; filename=\"" + fileName + "\"").build();
-        }  catch (Exception e) {
+            return builder.build();
+        } catch (DocumentNotFoundException e){
+            return notFound("Document with id " + documentId + " not found", v, conversationIdHeader);
+        } catch (Exception e) {
+            logger.error("Unexpected error during processing {}", e.getMessage(), e);
+            return internalServerError(errorMessage(e), v, conversationIdHeader);
+        }
+    }
+
+    @ApiOperation(value="Uploads a new document to KIE Server as raw content of the request body.")
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"), 
+            @ApiResponse(code = 413, message = "Document content exceeds maximum allowed size"),
+            @ApiResponse(code = 201, response = String.class, message = "Successful response", examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=CREATE_DOC_RESPONSE_JSON)}))})
+    @POST
+    @Path(DOCUMENT_CONTENT_POST_URI)
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Consumes({MediaType.APPLICATION_OCTET_STREAM})
+    public Response createDocumentContent(@javax.ws.rs.core.Context HttpHeaders headers, 
+            @ApiParam(value = "name of the document", required = true, example = "invoice.pdf") @QueryParam("name") String name,
+            @ApiParam(value = "raw content of the document", required = true) InputStream content) {
+        Variant v = getVariant(headers);
+        // no container id available so only used to transfer conversation id if given by client
+        Header conversationIdHeader = buildConversationIdHeader("", context, headers);
+        if (name == null || name.isEmpty()) {
+            return badRequest("Document name is required", v, conversationIdHeader);
+        }
+        try {
+
+            String identifier = documentServiceBase.storeDocumentContent(name, headers.getLength(), content);
+
+            return createCorrectVariant(identifier, headers, Response.Status.CREATED, conversationIdHeader);
+        } catch (DocumentTooLargeException e) {
+            return createResponse(e.getMessage(), v, REQUEST_ENTITY_TOO_LARGE, conversationIdHeader);
+        } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
             return internalServerError(errorMessage(e), v, conversationIdHeader);
         }
     }
 
+    @ApiOperation(value="Replaces content of a specified document with raw content of the request body.",
+            response=Void.class, code=201)
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+            @ApiResponse(code = 404, message = "Document with given id not found"),
+            @ApiResponse(code = 413, message = "Document content exceeds maximum allowed size")})
+    @PUT
+    @Path(DOCUMENT_INSTANCE_CONTENT_PUT_URI)
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Consumes({MediaType.APPLICATION_OCTET_STREAM})
+    public Response updateDocumentContent(@javax.ws.rs.core.Context HttpHeaders headers, 
+            @ApiParam(value = "document id of a document that should be updated", required = true, example = "xxx-yyy-zzz") @PathParam("documentId") String documentId, 
+            @ApiParam(value = "raw content of the document", required = true) InputStream content) {
+        Variant v = getVariant(headers);
+        // no container id available so only used to transfer conversation id if given by client
+        Header conversationIdHeader = buildConversationIdHeader("", context, headers);
+        try {
+
+            documentServiceBase.updateDocumentContent(documentId, headers.getLength(), content);
+
+            return createCorrectVariant("", headers, Response.Status.CREATED, conversationIdHeader);
+        } catch (DocumentNotFoundException e){
+            return notFound("Document with id " + documentId + " not found", v, conversationIdHeader);
+        } catch (DocumentTooLargeException e) {
+            return createResponse(e.getMessage(), v, REQUEST_ENTITY_TOO_LARGE, conversationIdHeader);
+        } catch (Exception e) {
+            logger.error("Unexpected error during processing {}", e.getMessage(), e);
+            return internalServerError(errorMessage(e), v, conversationIdHeader);
+        }
+    }
+
+    /**
+     * Parses single byte range of the Range header.
+     * @return null when the whole content should be returned, empty array when range is not satisfiable,
+     * otherwise first and last (inclusive) byte positions
+     */
+    protected static long[] parseRange(String rangeHeader, long size) {
+        if (rangeHeader == null || !rangeHeader.startsWith("bytes=") || rangeHeader.indexOf(',') != -1) {
+            // multiple ranges are not supported, whole content is returned instead as allowed by RFC 7233
+            return null;
+        }
+        String range = rangeHeader.substring("bytes=".length()).trim();
+        int separator = range.indexOf('-');
+        if (separator == -1) {
+            return null;
+        }
+        try {
+            long first;
+            long last;
+            if (separator == 0) {
+                // suffix range - last n bytes
+                long suffix = Long.parseLong(range.substring(1));
+                if (suffix <= 0 || size == 0) {
+                    return new long[0];
+                }
+                first = Math.max(0, size - suffix);
+                last = size - 1;
+            } else {
+                first = Long.parseLong(range.substring(0, separator));
+                last = separator == range.length() - 1 ? size - 1 : Math.min(Long.parseLong(range.substring(separator + 1)), size - 1);
+            }
+            if (first >= size || first > last) {
+                return new long[0];
+            }
+            return new long[]{first, last};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     @ApiOperation(value="Returns information about a specified document.")
     @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
             @ApiResponse(code = 404, message = "Document with given id not found"), 
@@ -150,7 +275,7 @@ public class DocumentResource {
             DocumentInstance document = documentServiceBase.getDocument(documentId);
 
             return createCorrectVariant(document, headers, Response.Status.OK, conversationIdHeader);
-        } catch (KieServerRuntimeException e){
+        } catch (DocumentNotFoundException e){
             return notFound("Document with id " + documentId + " not found", v, conversationIdHeader);
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
@@ -229,7 +354,7 @@ public class DocumentResource {
             documentServiceBase.updateDocument(documentId, payload, type);
 
             return createCorrectVariant("", headers, Response.Status.CREATED, conversationIdHeader);
-        } catch (KieServerRuntimeException e){
+        } catch (DocumentNotFoundException e){
             return notFound("Document with id " + documentId + " not found", v, conversationIdHeader);
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
@@ -255,7 +380,7 @@ public class DocumentResource {
 
             // produce 204 NO_CONTENT response code
             return noContent(v, conversationIdHeader);
-        } catch (KieServerRuntimeException e){
+        } catch (DocumentNotFoundException e){
             return notFound("Document with id " + documentId + " not found", v, conversationIdHeader);
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
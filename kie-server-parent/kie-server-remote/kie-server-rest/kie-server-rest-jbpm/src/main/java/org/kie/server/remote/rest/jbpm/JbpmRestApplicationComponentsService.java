@@ -35,6 +35,7 @@ import org.kie.server.remote.rest.jbpm.admin.UserTaskAdminResource;
 import org.kie.server.services.api.KieServerApplicationComponentsService;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.api.SupportedTransports;
+import org.kie.server.services.jbpm.DataExportServiceBase;
 import org.kie.server.services.jbpm.DefinitionServiceBase;
 import org.kie.server.services.jbpm.DocumentServiceBase;
 import org.kie.server.services.jbpm.ExecutorServiceBase;
@@ -114,12 +115,13 @@ public class JbpmRestApplicationComponentsService implements KieServerApplicatio
         DefinitionServiceBase definitionServiceBase = new DefinitionServiceBase(definitionService, context);
         ProcessServiceBase processServiceBase = new ProcessServiceBase(processService, definitionService, runtimeDataService, context);
         UserTaskServiceBase userTaskServiceBase = new UserTaskServiceBase(userTaskService, context);
-        RuntimeDataServiceBase runtimeDataServiceBase = new RuntimeDataServiceBase(runtimeDataService, advanceRuntimeDataService, context);
+        RuntimeDataServiceBase runtimeDataServiceBase = new RuntimeDataServiceBase(runtimeDataService, advanceRuntimeDataService, queryService, context);
         ExecutorServiceBase executorServiceBase = new ExecutorServiceBase(executorService, context);
         QueryDataServiceBase queryDataServiceBase = new QueryDataServiceBase(queryService, context);
         DocumentServiceBase documentServiceBase = new DocumentServiceBase(context);
         ProcessAdminServiceBase processAdminServiceBase = new ProcessAdminServiceBase(processInstanceMigrationService, processInstanceAdminService, runtimeDataService, context);
         UserTaskAdminServiceBase userTaskAdminServiceBase = new UserTaskAdminServiceBase(userTaskAdminService, context);
+        DataExportServiceBase dataExportServiceBase = new DataExportServiceBase(context);
 
         components.add(new ProcessResource(processServiceBase, runtimeDataServiceBase, context));
         components.add(new RuntimeDataResource(runtimeDataServiceBase, context));
@@ -130,6 +132,7 @@ public class JbpmRestApplicationComponentsService implements KieServerApplicatio
         components.add(new DocumentResource(documentServiceBase, context));
         components.add(new ProcessAdminResource(processAdminServiceBase, context));
         components.add(new UserTaskAdminResource(userTaskAdminServiceBase, context));
+        components.add(new DataExportResource(dataExportServiceBase, context));
 
         return components;
     }
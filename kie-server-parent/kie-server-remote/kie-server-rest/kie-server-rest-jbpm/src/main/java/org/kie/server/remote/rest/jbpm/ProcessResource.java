@@ -15,6 +15,7 @@
 
 package org.kie.server.remote.rest.jbpm;
 
+import java.io.InputStream;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.Variant;
 
 import io.swagger.annotations.Api;
@@ -48,15 +50,18 @@ import org.jbpm.services.api.DeploymentNotFoundException;
 import org.jbpm.services.api.ProcessDefinitionNotFoundException;
 import org.jbpm.services.api.ProcessInstanceNotFoundException;
 import org.jbpm.services.api.WorkItemNotFoundException;
+import org.kie.server.api.marshalling.MarshallingException;
 import org.kie.server.api.model.definition.ProcessDefinitionList;
 import org.kie.server.api.model.instance.NodeInstanceList;
 import org.kie.server.api.model.instance.ProcessInstance;
 import org.kie.server.api.model.instance.ProcessInstanceList;
+import org.kie.server.api.model.instance.ProcessStartResultList;
 import org.kie.server.api.model.instance.VariableInstanceList;
 import org.kie.server.api.model.instance.WorkItemInstance;
 import org.kie.server.api.model.instance.WorkItemInstanceList;
 import org.kie.server.remote.rest.common.Header;
 import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.locator.ContainerLocatorProvider;
 import org.kie.server.services.jbpm.ProcessServiceBase;
 import org.kie.server.services.jbpm.RuntimeDataServiceBase;
 import org.slf4j.Logger;
@@ -93,6 +98,7 @@ import static org.kie.server.api.rest.RestURI.START_PROCESS_FROM_NODES_POST_URI;
 import static org.kie.server.api.rest.RestURI.START_PROCESS_FROM_NODES_WITH_CORRELATION_KEY_POST_URI;
 import static org.kie.server.api.rest.RestURI.START_PROCESS_POST_URI;
 import static org.kie.server.api.rest.RestURI.START_PROCESS_WITH_CORRELATION_KEY_POST_URI;
+import static org.kie.server.api.rest.RestURI.START_PROCESSES_BULK_POST_URI;
 import static org.kie.server.api.rest.RestURI.COMPUTE_PROCESS_OUTCOME_POST_URI;
 import static org.kie.server.remote.rest.common.util.RestUtils.badRequest;
 import static org.kie.server.remote.rest.common.util.RestUtils.buildConversationIdHeader;
@@ -107,6 +113,7 @@ import static org.kie.server.remote.rest.common.util.RestUtils.isCorrelationKeyA
 import static org.kie.server.remote.rest.common.util.RestUtils.internalServerError;
 import static org.kie.server.remote.rest.common.util.RestUtils.noContent;
 import static org.kie.server.remote.rest.common.util.RestUtils.notFound;
+import static org.kie.server.remote.rest.jbpm.DataExportResource.NDJSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.GET_PROCESS_DEFS_RESPONSE_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.GET_PROCESS_INSTANCES_RESPONSE_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.GET_PROCESS_INSTANCE_NODES_RESPONSE_JSON;
@@ -120,6 +127,8 @@ import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.GET_PROCESS_
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.LONG_RESPONSE_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.LONG_RESPONSE_XML;
+import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.START_PROCESSES_JSON;
+import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.START_PROCESSES_XML;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_MAP_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_MAP_XML;
@@ -389,6 +398,69 @@ public class ProcessResource  {
         }
     }
 
+    @ApiOperation(value="Starts multiple process instances in transaction batches and returns process instance id or error of every request in the order of the requests.",
+            response = ProcessStartResultList.class, code = 200)
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+            @ApiResponse(code = 404, message = "Container Id not found"),
+            @ApiResponse(code = 400, message = "Process start requests could not be read from the payload") })
+    @POST
+    @Path(START_PROCESSES_BULK_POST_URI)
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Response startProcesses(@javax.ws.rs.core.Context HttpHeaders headers,
+            @ApiParam(value = "container id where the process definitions reside", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId,
+            @ApiParam(value = "optional number of process instances started in a single transaction", required = false) @QueryParam("batchSize") Integer batchSize,
+            @ApiParam(value = "list of process start requests", required = true, examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=START_PROCESSES_JSON),
+                    @ExampleProperty(mediaType=XML, value=START_PROCESSES_XML)})) String payload) {
+        Variant v = getVariant(headers);
+        String type = getContentType(headers);
+        Header conversationIdHeader = buildConversationIdHeader(containerId, context, headers);
+
+        if (context.getContainer(containerId, ContainerLocatorProvider.get().getLocator()) == null) {
+            return notFound(MessageFormat.format(CONTAINER_NOT_FOUND, containerId), v, conversationIdHeader);
+        }
+        try {
+            String response = processServiceBase.startProcesses(containerId, batchSize, payload, type);
+
+            logger.debug("Returning OK response with content '{}'", response);
+            return createResponse(response, v, Response.Status.OK, conversationIdHeader);
+        } catch (MarshallingException | IllegalArgumentException e) {
+            return badRequest(e.getMessage(), v, conversationIdHeader);
+        } catch (Exception e) {
+            logger.error("Unexpected error during processing {}", e.getMessage(), e);
+            return internalServerError(errorMessage(e), v, conversationIdHeader);
+        }
+    }
+
+    @ApiOperation(value="Starts process instances read from newline delimited JSON (one process start request per line) in transaction batches and streams back process instance id or error of every request as newline delimited JSON.")
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+            @ApiResponse(code = 404, message = "Container Id not found") })
+    @POST
+    @Path(START_PROCESSES_BULK_POST_URI)
+    @Consumes({NDJSON})
+    @Produces({NDJSON})
+    public Response startProcessesStream(@javax.ws.rs.core.Context HttpHeaders headers,
+            @ApiParam(value = "container id where the process definitions reside", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId,
+            @ApiParam(value = "optional number of process instances started in a single transaction", required = false) @QueryParam("batchSize") Integer batchSize,
+            @ApiParam(value = "process start requests, one JSON object per line", required = true) InputStream payload) {
+        Variant v = getVariant(headers);
+        Header conversationIdHeader = buildConversationIdHeader(containerId, context, headers);
+
+        // once streaming starts the status can no longer change, so an unknown container is reported upfront
+        if (context.getContainer(containerId, ContainerLocatorProvider.get().getLocator()) == null) {
+            return notFound(MessageFormat.format(CONTAINER_NOT_FOUND, containerId), v, conversationIdHeader);
+        }
+
+        StreamingOutput entity = output -> processServiceBase.startProcesses(containerId, batchSize, payload, output);
+        Response.ResponseBuilder builder = Response.ok(entity, NDJSON);
+        if (conversationIdHeader != null) {
+            builder.header(conversationIdHeader.getName(), conversationIdHeader.getValue());
+        }
+        logger.debug("Streaming bulk start of process instances on container {}", containerId);
+        return builder.build();
+    }
+
     @ApiOperation(value = "Aborts a specified process instance in a specified KIE container.", response = Void.class, code = 204)
     @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
                             @ApiResponse(code = 404, message = "Process instance or Container Id not found"),
@@ -95,6 +95,7 @@ import static org.kie.server.api.rest.RestURI.TASK_GET_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_ID;
 import static org.kie.server.api.rest.RestURI.VAR_INSTANCES_BY_INSTANCE_ID_GET_URI;
 import static org.kie.server.api.rest.RestURI.VAR_INSTANCES_BY_VAR_INSTANCE_ID_GET_URI;
+import static org.kie.server.remote.rest.common.util.RestUtils.badRequest;
 import static org.kie.server.remote.rest.common.util.RestUtils.buildConversationIdHeader;
 import static org.kie.server.remote.rest.common.util.RestUtils.createCorrectVariant;
 import static org.kie.server.remote.rest.common.util.RestUtils.errorMessage;
@@ -154,10 +155,20 @@ public class RuntimeDataResource {
             @ApiParam(value = "optional pagination - at which page to start, defaults to 0 (meaning first)", required = false) @QueryParam("page") @DefaultValue("0") Integer page, 
             @ApiParam(value = "optional pagination - size of the result, defaults to 10", required = false) @QueryParam("pageSize") @DefaultValue("10") Integer pageSize,
             @ApiParam(value = "optional sort column, no default", required = false) @QueryParam("sort") String sort, 
-            @ApiParam(value = "optional sort direction (asc, desc) - defaults to asc", required = false) @QueryParam("sortOrder") @DefaultValue("true") boolean sortOrder) {
+            @ApiParam(value = "optional sort direction (asc, desc) - defaults to asc", required = false) @QueryParam("sortOrder") @DefaultValue("true") boolean sortOrder,
+            @ApiParam(value = "optional continuation token returned with the previous page - switches to keyset pagination sorted by the sort column (ProcessInstanceId, ProcessId, ProcessName or StartDate) and process instance id, page is then ignored; use empty value for the first page", required = false) @QueryParam("token") String token) {
         // no container id available so only used to transfer conversation id if given by client
         Header conversationIdHeader = buildConversationIdHeader("", context, headers);
-        ProcessInstanceList processInstanceList = runtimeDataServiceBase.getProcessInstances(status, initiator, processName, page, pageSize, sort, sortOrder);
+        ProcessInstanceList processInstanceList;
+        if (token != null) {
+            try {
+                processInstanceList = runtimeDataServiceBase.getProcessInstancesAfter(status, initiator, processName, sort, sortOrder, token, pageSize);
+            } catch (IllegalArgumentException e) {
+                return badRequest(e.getMessage(), getVariant(headers), conversationIdHeader);
+            }
+        } else {
+            processInstanceList = runtimeDataServiceBase.getProcessInstances(status, initiator, processName, page, pageSize, sort, sortOrder);
+        }
         logger.debug("Returning result of process instance search: {}", processInstanceList);
         return createCorrectVariant(processInstanceList, headers, Response.Status.OK, conversationIdHeader);
     }
@@ -607,7 +618,8 @@ public class RuntimeDataResource {
             @ApiParam(value = "optional pagination - size of the result, defaults to 10", required = false) @QueryParam("pageSize") @DefaultValue("10") Integer pageSize,
             @ApiParam(value = "optional sort column, no default", required = false) @QueryParam("sort") String sort, 
             @ApiParam(value = "optional sort direction (asc, desc) - defaults to asc", required = false) @QueryParam("sortOrder") @DefaultValue("true") boolean sortOrder,
-            @ApiParam(value = "optional custom filter for task data", required = false) @QueryParam("filter") String filter) {
+            @ApiParam(value = "optional custom filter for task data", required = false) @QueryParam("filter") String filter,
+            @ApiParam(value = "optional continuation token returned with the previous page - switches to keyset pagination sorted by task id, page is then ignored; use empty value for the first page", required = false) @QueryParam("token") String token) {
 
         Variant v = getVariant(headers);
         // no container id available so only used to transfer conversation id if given by client
@@ -615,10 +627,17 @@ public class RuntimeDataResource {
 
         try {
 
-            TaskSummaryList result = runtimeDataServiceBase.getTasksAssignedAsPotentialOwner(status, groupIds, userId, page, pageSize, sort, sortOrder, filter);
+            TaskSummaryList result;
+            if (token != null) {
+                result = runtimeDataServiceBase.getTasksAssignedAsPotentialOwnerAfter(status, groupIds, userId, sort, sortOrder, token, pageSize, filter);
+            } else {
+                result = runtimeDataServiceBase.getTasksAssignedAsPotentialOwner(status, groupIds, userId, page, pageSize, sort, sortOrder, filter);
+            }
 
             return createCorrectVariant(result, headers, Response.Status.OK, conversationIdHeader);
 
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage(), v, conversationIdHeader);
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
             return internalServerError(errorMessage(e), v, conversationIdHeader);
@@ -639,17 +658,25 @@ public class RuntimeDataResource {
             @ApiParam(value = "optional pagination - at which page to start, defaults to 0 (meaning first)", required = false) @QueryParam("page") @DefaultValue("0") Integer page, 
             @ApiParam(value = "optional pagination - size of the result, defaults to 10", required = false) @QueryParam("pageSize") @DefaultValue("10") Integer pageSize,
             @ApiParam(value = "optional sort column, no default", required = false) @QueryParam("sort") String sort, 
-            @ApiParam(value = "optional sort direction (asc, desc) - defaults to asc", required = false) @QueryParam("sortOrder") @DefaultValue("true") boolean sortOrder) {
+            @ApiParam(value = "optional sort direction (asc, desc) - defaults to asc", required = false) @QueryParam("sortOrder") @DefaultValue("true") boolean sortOrder,
+            @ApiParam(value = "optional continuation token returned with the previous page - switches to keyset pagination sorted by task id, page is then ignored; use empty value for the first page", required = false) @QueryParam("token") String token) {
         Variant v = getVariant(headers);
         // no container id available so only used to transfer conversation id if given by client
         Header conversationIdHeader = buildConversationIdHeader("", context, headers);
 
         try {
 
-            TaskSummaryList result = runtimeDataServiceBase.getTasksOwnedByStatus(status, userId, page, pageSize, sort, sortOrder);
+            TaskSummaryList result;
+            if (token != null) {
+                result = runtimeDataServiceBase.getTasksOwnedByStatusAfter(status, userId, sort, sortOrder, token, pageSize);
+            } else {
+                result = runtimeDataServiceBase.getTasksOwnedByStatus(status, userId, page, pageSize, sort, sortOrder);
+            }
 
             return createCorrectVariant(result, headers, Response.Status.OK, conversationIdHeader);
 
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage(), v, conversationIdHeader);
         } catch (Exception e) {
             logger.error("Unexpected error during processing {}", e.getMessage(), e);
             return internalServerError(errorMessage(e), v, conversationIdHeader);
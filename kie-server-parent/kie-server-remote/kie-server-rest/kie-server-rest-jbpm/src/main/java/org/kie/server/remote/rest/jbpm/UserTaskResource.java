@@ -44,12 +44,14 @@ import io.swagger.annotations.Example;
 import io.swagger.annotations.ExampleProperty;
 import org.jbpm.services.api.TaskNotFoundException;
 import org.jbpm.services.task.exception.PermissionDeniedException;
+import org.kie.server.api.marshalling.MarshallingException;
 import org.kie.server.api.model.instance.TaskAttachment;
 import org.kie.server.api.model.instance.TaskAttachmentList;
 import org.kie.server.api.model.instance.TaskComment;
 import org.kie.server.api.model.instance.TaskCommentList;
 import org.kie.server.api.model.instance.TaskEventInstanceList;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.model.instance.TaskOperationResultList;
 import org.kie.server.remote.rest.common.Header;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.jbpm.RuntimeDataServiceBase;
@@ -84,6 +86,7 @@ import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_ID;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_INPUT_DATA_GET_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_NAME_PUT_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_NOMINATE_PUT_URI;
+import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_OPERATIONS_BULK_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_OUTPUT_DATA_GET_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_OUTPUT_DATA_PUT_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_PRIORITY_PUT_URI;
@@ -96,6 +99,7 @@ import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_START_PUT_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_STOP_PUT_URI;
 import static org.kie.server.api.rest.RestURI.TASK_INSTANCE_SUSPEND_PUT_URI;
 import static org.kie.server.api.rest.RestURI.TASK_URI;
+import static org.kie.server.remote.rest.common.util.RestUtils.badRequest;
 import static org.kie.server.remote.rest.common.util.RestUtils.buildConversationIdHeader;
 import static org.kie.server.remote.rest.common.util.RestUtils.createCorrectVariant;
 import static org.kie.server.remote.rest.common.util.RestUtils.createResponse;
@@ -125,6 +129,8 @@ import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_ATTACHM
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_COMMENT_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_COMMENT_XML;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_JSON;
+import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_OPERATIONS_JSON;
+import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_OPERATIONS_XML;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.TASK_XML;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_JSON;
 import static org.kie.server.remote.rest.jbpm.docs.ParameterSamples.VAR_MAP_JSON;
@@ -231,6 +237,33 @@ public class UserTaskResource {
         }
     }
 
+    @ApiOperation(value = "Executes multiple operations on task instances, either all in a single transaction (atomic) or each on its own, and returns outcome of every operation", response = TaskOperationResultList.class, code = 200)
+    @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"),
+                            @ApiResponse(code = 400, message = "Task operations could not be read from the payload")})
+    @POST
+    @Path(TASK_INSTANCE_OPERATIONS_BULK_URI)
+    @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public Response executeOperations(@Context HttpHeaders headers,
+            @ApiParam(value = "container id that task instances belong to unless given by an operation", required = true, example = "evaluation_1.0.0-SNAPSHOT") @PathParam(CONTAINER_ID) String containerId,
+            @ApiParam(value = "optional flag to roll back all operations when any of them fails, defaults to false", required = false) @QueryParam("atomic") @DefaultValue("false") boolean atomic,
+            @ApiParam(value = "list of task operations", required = true, examples=@Example(value= {
+                    @ExampleProperty(mediaType=JSON, value=TASK_OPERATIONS_JSON),
+                    @ExampleProperty(mediaType=XML, value=TASK_OPERATIONS_XML)})) String payload) {
+        Variant v = getVariant(headers);
+        String type = getContentType(headers);
+        Header conversationIdHeader = buildConversationIdHeader(containerId, context, headers);
+        try {
+            String response = userTaskServiceBase.executeOperations(containerId, atomic, payload, type);
+            return createResponse(response, v, Response.Status.OK, conversationIdHeader);
+        } catch (MarshallingException | IllegalArgumentException e) {
+            return badRequest(e.getMessage(), v, conversationIdHeader);
+        } catch (Exception e) {
+            logger.error("Unexpected error during processing {}", e.getMessage(), e);
+            return internalServerError(errorMessage(e), v, conversationIdHeader);
+        }
+    }
+
     @ApiOperation(value = "Completes a specified task instance.", response = Void.class, code = 201)
     @ApiResponses(value = { @ApiResponse(code = 500, message = "Unexpected error"), 
                             @ApiResponse(code = 404, message = "Task with given id not found"), 
@@ -129,6 +129,36 @@ public class ParameterSamples {
             "  }\n" + 
             "}";
     public static final String TASK_ATTACHMENT_JSON = VAR_JSON;
+    public static final String TASK_OPERATIONS_JSON = "{\n" + 
+            "  \"task-operation\" : [ {\n" + 
+            "    \"task-id\" : 1,\n" + 
+            "    \"operation\" : \"CLAIM\"\n" + 
+            "  }, {\n" + 
+            "    \"task-id\" : 2,\n" + 
+            "    \"operation\" : \"COMPLETE\",\n" + 
+            "    \"data\" : {\n" + 
+            "      \"approved\" : true\n" + 
+            "    }\n" + 
+            "  }, {\n" + 
+            "    \"task-id\" : 3,\n" + 
+            "    \"operation\" : \"DELEGATE\",\n" + 
+            "    \"target-user\" : \"john\"\n" + 
+            "  } ]\n" + 
+            "}";
+    public static final String START_PROCESSES_JSON = "{\n" + 
+            "  \"process-start-request\" : [ {\n" + 
+            "    \"process-id\" : \"evaluation\",\n" + 
+            "    \"process-variables\" : {\n" + 
+            "      \"employee\" : \"john\"\n" + 
+            "    }\n" + 
+            "  }, {\n" + 
+            "    \"process-id\" : \"evaluation\",\n" + 
+            "    \"correlation-key\" : \"invoice:2022-1\",\n" + 
+            "    \"process-variables\" : {\n" + 
+            "      \"employee\" : \"mary\"\n" + 
+            "    }\n" + 
+            "  } ]\n" + 
+            "}";
     public static final String TASK_JSON = "{\n" + 
             "  \"task-id\" : null,\n" + 
             "  \"task-priority\" : 10,\n" + 
@@ -1232,6 +1262,31 @@ public class ParameterSamples {
             "    <comment-added-at>2018-10-19T10:51:34.405+02:00</comment-added-at>\n" + 
             "</task-comment>";
     public static final String TASK_ATTACHMENT_XML = VAR_XML;
+    public static final String TASK_OPERATIONS_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" + 
+            "<task-operation-list>\n" + 
+            "    <task-operation>\n" + 
+            "        <task-id>1</task-id>\n" + 
+            "        <operation>CLAIM</operation>\n" + 
+            "    </task-operation>\n" + 
+            "    <task-operation>\n" + 
+            "        <task-id>3</task-id>\n" + 
+            "        <operation>DELEGATE</operation>\n" + 
+            "        <target-user>john</target-user>\n" + 
+            "    </task-operation>\n" + 
+            "</task-operation-list>";
+    public static final String START_PROCESSES_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" + 
+            "<process-start-request-list>\n" + 
+            "    <process-start-request>\n" + 
+            "        <process-id>evaluation</process-id>\n" + 
+            "        <correlation-key>invoice:2022-1</correlation-key>\n" + 
+            "        <process-variables>\n" + 
+            "            <entry>\n" + 
+            "                <key>employee</key>\n" + 
+            "                <value xsi:type=\"xs:string\" xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">john</value>\n" + 
+            "            </entry>\n" + 
+            "        </process-variables>\n" + 
+            "    </process-start-request>\n" + 
+            "</process-start-request-list>";
     public static final String TASK_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" + 
             "<task-instance>\n" + 
             "    <task-priority>10</task-priority>\n" + 
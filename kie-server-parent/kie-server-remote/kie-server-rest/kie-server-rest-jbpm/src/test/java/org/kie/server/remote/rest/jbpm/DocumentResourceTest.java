@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.remote.rest.jbpm;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DocumentResourceTest {
+
+    @Test
+    public void testParseRange() {
+        assertArrayEquals(new long[]{0, 99}, DocumentResource.parseRange("bytes=0-99", 1000));
+        assertArrayEquals(new long[]{500, 999}, DocumentResource.parseRange("bytes=500-", 1000));
+        assertArrayEquals(new long[]{900, 999}, DocumentResource.parseRange("bytes=-100", 1000));
+        assertArrayEquals(new long[]{0, 999}, DocumentResource.parseRange("bytes=-5000", 1000));
+        assertArrayEquals(new long[]{990, 999}, DocumentResource.parseRange("bytes=990-5000", 1000));
+    }
+
+    @Test
+    public void testParseRangeWholeContent() {
+        assertNull(DocumentResource.parseRange(null, 1000));
+        assertNull(DocumentResource.parseRange("items=0-10", 1000));
+        assertNull(DocumentResource.parseRange("bytes=0-10,20-30", 1000));
+        assertNull(DocumentResource.parseRange("bytes=abc-", 1000));
+    }
+
+    @Test
+    public void testParseRangeNotSatisfiable() {
+        assertEquals(0, DocumentResource.parseRange("bytes=1000-", 1000).length);
+        assertEquals(0, DocumentResource.parseRange("bytes=20-10", 1000).length);
+        assertEquals(0, DocumentResource.parseRange("bytes=-0", 1000).length);
+    }
+}
@@ -64,7 +64,7 @@ public class JbpmApplicationComponentsServiceTest {
                     SupportedTransports.REST, services));
         }
 
-        int numComponents = 9;
+        int numComponents = 10;
         assertEquals("Unexpected num application components!", numComponents, appComponentsList.size());
         for( Object appComponent : appComponentsList ) {
             assertTrue("Unexpected app component type: " + Object.class.getSimpleName(),
@@ -77,6 +77,7 @@ public class JbpmApplicationComponentsServiceTest {
                     || appComponent instanceof DocumentResource
                     || appComponent instanceof ProcessAdminResource
                     || appComponent instanceof UserTaskAdminResource
+                    || appComponent instanceof DataExportResource
                     );
         }
     }
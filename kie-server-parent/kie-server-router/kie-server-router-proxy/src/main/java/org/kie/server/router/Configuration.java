@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.jboss.logging.Logger;
@@ -35,9 +36,10 @@ public class Configuration {
 
     private static final Logger log = Logger.getLogger(Configuration.class);
 
-    private Map<String, List<String>> hostsPerServer = new ConcurrentHashMap<>();
-    private Map<String, List<String>> hostsPerContainer = new ConcurrentHashMap<>();
-    private Map<String, List<ContainerInfo>> containerInfosPerContainer = new ConcurrentHashMap<>();
+    // read without locking on every proxied request, hence volatile maps of copy on write lists
+    private volatile Map<String, List<String>> hostsPerServer = new ConcurrentHashMap<>();
+    private volatile Map<String, List<String>> hostsPerContainer = new ConcurrentHashMap<>();
+    private volatile Map<String, List<ContainerInfo>> containerInfosPerContainer = new ConcurrentHashMap<>();
 
     private Set<ConfigurationListener> listeners = new CopyOnWriteArraySet<>();
 
@@ -64,7 +66,7 @@ public class Configuration {
     public void addContainerHost(String containerId, String serverUrl) {
         List<String> hosts = hostsPerContainer.get(containerId);
         if (hosts == null) {
-            hosts = new ArrayList<>();
+            hosts = new CopyOnWriteArrayList<>();
             hostsPerContainer.put(containerId, hosts);
         }
         hosts.add(serverUrl);
@@ -75,7 +77,7 @@ public class Configuration {
     public void addServerHost(String serverId, String serverUrl) {
         List<String> hosts = hostsPerServer.get(serverId);
         if (hosts == null) {
-            hosts = new ArrayList<>();
+            hosts = new CopyOnWriteArrayList<>();
             hostsPerServer.put(serverId, hosts);
         }
         hosts.add(serverUrl);
@@ -88,13 +90,13 @@ public class Configuration {
         List<ContainerInfo> containersById = containerInfosPerContainer.get(containerInfo.getContainerId());
 
         if (containersByAlias == null) {
-            containersByAlias = new ArrayList<>();
+            containersByAlias = new CopyOnWriteArrayList<>();
             containerInfosPerContainer.put(containerInfo.getAlias(), containersByAlias);
         }
         containersByAlias.add(containerInfo);
 
         if (containersById == null) {
-            containersById = new ArrayList<>();
+            containersById = new CopyOnWriteArrayList<>();
             containerInfosPerContainer.put(containerInfo.getContainerId(), containersById);
         }
         containersById.add(containerInfo);
@@ -206,7 +208,7 @@ public class Configuration {
     public void addEmptyContainerHost(String containerId) {
         List<String> hosts = hostsPerContainer.get(containerId);
         if (hosts == null) {
-            hosts = new ArrayList<>();
+            hosts = new CopyOnWriteArrayList<>();
             hostsPerContainer.put(containerId, hosts);
         }
     }
@@ -214,7 +216,7 @@ public class Configuration {
     public void addEmptyServerHost(String serverId) {
         List<String> hosts = hostsPerServer.get(serverId);
         if (hosts == null) {
-            hosts = new ArrayList<>();
+            hosts = new CopyOnWriteArrayList<>();
             hostsPerServer.put(serverId, hosts);
         }
     }
@@ -21,9 +21,11 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.jboss.logging.Logger;
 import org.kie.server.router.repository.ConfigFileWatcher;
@@ -34,7 +36,11 @@ import org.kie.server.router.utils.HttpUtils;
 
 /**
  * this class centralizes and makes atomics the operations against configuration and persistence avoid race conditions between read/write
- *
+ * <p>
+ * Changes are applied in memory right away and persisted by a background write the persist delay after the first of them,
+ * so a burst of registrations results in a single write. As the repository may be shared by several routers, pending
+ * changes are kept and replayed on top of the repository contents when persisting or syncing, so changes made by other
+ * routers meanwhile are not overwritten. Reading the configuration does not lock.
  */
 public class ConfigurationManager {
 
@@ -42,9 +48,14 @@ public class ConfigurationManager {
 
     private KieServerRouterEnvironment environment;
     private ConfigRepository repository;
-    private Configuration configuration;
+    private final Configuration configuration;
     private ConfigurationMarshaller marshaller;
     private ScheduledExecutorService executorService;
+    private final long persistDelay;
+    // guarded by this, set while there are changes not persisted yet
+    private ScheduledFuture<?> pendingPersist;
+    // guarded by this, changes applied in memory since last persist
+    private final List<Consumer<Configuration>> pendingChanges = new ArrayList<>();
 
     private ScheduledFuture<?> addToControllerAttempts;
     private ScheduledFuture<?> removeFromControllerAttempts;
@@ -63,6 +74,7 @@ public class ConfigurationManager {
         this.executorService = executorService;
         this.configuration = repository.load();
         this.controllerContainers = new CopyOnWriteArrayList<>();
+        this.persistDelay = environment.getConfigPersistDelay();
     }
 
     public void startWatcher () {
@@ -85,35 +97,44 @@ public class ConfigurationManager {
     }
 
     public synchronized void persist() {
+        if (pendingPersist != null) {
+            pendingPersist.cancel(false);
+            pendingPersist = null;
+        }
+        pendingChanges.clear();
         repository.persist(this.configuration);
     }
 
     public synchronized void syncPersistent() {
         Configuration conf = repository.load();
+        // changes not persisted yet are not in the repository, apply them again on top of it
+        pendingChanges.forEach(change -> change.accept(conf));
         this.configuration.syncFromRepository(conf);
     }
 
     public synchronized void add(String containerId, String alias, String serverId, String serverUrl, String releaseId) {
-        configuration.reloadFromRepository(repository.load());
-        configuration.addContainerHost(containerId, serverUrl);
-        configuration.addContainerHost(alias, serverUrl);
-        configuration.addServerHost(serverId, serverUrl);
-        configuration.addContainerInfo(new ContainerInfo(containerId, alias, releaseId));
-        repository.persist(configuration);
+        reloadFromRepository();
+        applyChange(conf -> {
+            conf.addContainerHost(containerId, serverUrl);
+            conf.addContainerHost(alias, serverUrl);
+            conf.addServerHost(serverId, serverUrl);
+            conf.addContainerInfo(new ContainerInfo(containerId, alias, releaseId));
+        });
         updateControllerOnAdd(containerId, releaseId, alias, new ContainerInfo(containerId, alias, releaseId));
     }
 
     public synchronized void remove(String containerId, String alias, String serverId, String serverUrl, String releaseId) {
-        configuration.reloadFromRepository(repository.load());
-        configuration.removeContainerHost(containerId, serverUrl);
-        configuration.removeContainerHost(alias, serverUrl);
-        configuration.removeServerHost(serverId, serverUrl);
-        configuration.removeContainerInfo(new ContainerInfo(containerId, alias, releaseId));
-        repository.persist(configuration);
+        reloadFromRepository();
+        applyChange(conf -> {
+            conf.removeContainerHost(containerId, serverUrl);
+            conf.removeContainerHost(alias, serverUrl);
+            conf.removeServerHost(serverId, serverUrl);
+            conf.removeContainerInfo(new ContainerInfo(containerId, alias, releaseId));
+        });
         updateControllerOnRemove(containerId);
     }
 
-    public synchronized Configuration getConfiguration() {
+    public Configuration getConfiguration() {
         return configuration;
     }
 
@@ -128,21 +149,67 @@ public class ConfigurationManager {
     public  synchronized FailedHostInfo disconnectFailedHost(String url) {
         log.info("Server at " + url+ " is now offline");
         FailedHostInfo failedHost = configuration.removeUnavailableServer(url);
+        recordChange(conf -> conf.removeUnavailableServer(url));
         log.debug("Scheduling host checks..."+ failedHost);
         long attemptInterval = environment().getKieControllerAttemptInterval();
         ScheduledFuture<?> failedHostsReconnects = executorService.scheduleAtFixedRate(() -> pingFailedHost(failedHost), attemptInterval, attemptInterval, TimeUnit.SECONDS);
         pollingMap.put(failedHost, failedHostsReconnects);
-        repository.persist(configuration);
         return failedHost;
     }
 
     public synchronized void reconnectFailedHost(FailedHostInfo failedHostInfo) {
         log.info("Server at " + failedHostInfo.getServerUrl() + " is back online");
-        configuration.reloadFromRepository(repository.load());
-        for (String containerId : failedHostInfo.getContainers()) {
-            configuration.addContainerHost(containerId, failedHostInfo.getServerUrl());
+        reloadFromRepository();
+        applyChange(conf -> {
+            for (String containerId : failedHostInfo.getContainers()) {
+                conf.addContainerHost(containerId, failedHostInfo.getServerUrl());
+            }
+            conf.addServerHost(failedHostInfo.getServerId(), failedHostInfo.getServerUrl());
+        });
+    }
+
+    private void reloadFromRepository() {
+        // while changes are pending they are merged with the repository contents when flushed, so a burst of
+        // changes does not read the repository for each of them
+        if (pendingPersist == null) {
+            configuration.reloadFromRepository(repository.load());
+        }
+    }
+
+    private void applyChange(Consumer<Configuration> change) {
+        change.accept(configuration);
+        recordChange(change);
+    }
+
+    private void recordChange(Consumer<Configuration> change) {
+        if (persistDelay <= 0) {
+            repository.persist(configuration);
+            return;
+        }
+        pendingChanges.add(change);
+        if (pendingPersist == null) {
+            try {
+                pendingPersist = executorService.schedule(this::flush, persistDelay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // shutting down
+                flush();
+            }
+        }
+    }
+
+    private synchronized void flush() {
+        if (pendingChanges.isEmpty()) {
+            // already persisted meanwhile
+            pendingPersist = null;
+            return;
         }
-        configuration.addServerHost(failedHostInfo.getServerId(), failedHostInfo.getServerUrl());
+        pendingPersist = null;
+        // other routers sharing the repository may have changed it since it was read, so pending changes are applied
+        // on top of its current contents rather than overwriting it with the in memory state
+        Configuration merged = repository.load();
+        pendingChanges.forEach(change -> change.accept(merged));
+        pendingChanges.clear();
+        configuration.reloadFromRepository(merged);
         repository.persist(configuration);
     }
 
@@ -287,6 +354,7 @@ public class ConfigurationManager {
         if (this.watcher != null) {
             this.watcher.stop();
         }
+        flush();
     }
 
 }
@@ -45,6 +45,7 @@ public class KieServerRouterEnvironment {
 
     private Boolean configFileWatcherEnabled;
     private Long configFileWatcherInterval;
+    private Long configPersistDelay;
 
     private Long kieControllerAttemptInterval;
     private Integer kieControllerRecoveryAttemptLimit;
@@ -82,6 +83,7 @@ public class KieServerRouterEnvironment {
 
         configFileWatcherEnabled = Boolean.getBoolean(KieServerRouterConstants.CONFIG_FILE_WATCHER_ENABLED);
         configFileWatcherInterval = Long.getLong(KieServerRouterConstants.CONFIG_FILE_WATCHER_INTERVAL, 30000L);
+        configPersistDelay = Long.getLong(KieServerRouterConstants.CONFIG_PERSIST_DELAY, 500L);
 
         kieControllerAttemptInterval = Long.getLong(KieServerRouterConstants.KIE_SERVER_CONTROLLER_ATTEMPT_INTERVAL, 10L);
         kieControllerRecoveryAttemptLimit = Integer.getInteger(KieServerRouterConstants.KIE_SERVER_RECOVERY_ATTEMPT_LIMIT, -1);
@@ -116,6 +118,7 @@ public class KieServerRouterEnvironment {
 
             configFileWatcherEnabled =  props.containsKey(KieServerRouterConstants.CONFIG_FILE_WATCHER_ENABLED) ? Boolean.parseBoolean((String) props.get(KieServerRouterConstants.CONFIG_FILE_WATCHER_ENABLED)) : configFileWatcherEnabled;
             configFileWatcherInterval =  props.containsKey(KieServerRouterConstants.CONFIG_FILE_WATCHER_INTERVAL) ? Long.parseLong((String) props.get(KieServerRouterConstants.CONFIG_FILE_WATCHER_INTERVAL)) : configFileWatcherInterval;
+            configPersistDelay =  props.containsKey(KieServerRouterConstants.CONFIG_PERSIST_DELAY) ? Long.parseLong((String) props.get(KieServerRouterConstants.CONFIG_PERSIST_DELAY)) : configPersistDelay;
 
             kieControllerAttemptInterval =  props.containsKey(KieServerRouterConstants.KIE_SERVER_CONTROLLER_ATTEMPT_INTERVAL) ? Long.parseLong((String) props.get(KieServerRouterConstants.KIE_SERVER_CONTROLLER_ATTEMPT_INTERVAL)) : kieControllerAttemptInterval;
             kieControllerRecoveryAttemptLimit =  props.containsKey(KieServerRouterConstants.KIE_SERVER_RECOVERY_ATTEMPT_LIMIT) ? Integer.parseInt((String) props.get(KieServerRouterConstants.KIE_SERVER_RECOVERY_ATTEMPT_LIMIT)) : kieControllerRecoveryAttemptLimit;
@@ -233,6 +236,14 @@ public class KieServerRouterEnvironment {
         return configFileWatcherInterval;
     }
 
+    /**
+     * Time in milliseconds configuration changes are collected before being persisted together, 0 persists every change
+     * right away.
+     */
+    public long getConfigPersistDelay() {
+        return configPersistDelay;
+    }
+
     public long getKieControllerAttemptInterval() {
         return kieControllerAttemptInterval;
     }
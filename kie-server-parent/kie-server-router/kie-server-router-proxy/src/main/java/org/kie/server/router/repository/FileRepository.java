@@ -16,9 +16,12 @@
 package org.kie.server.router.repository;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import org.jboss.logging.Logger;
 import org.kie.server.router.Configuration;
@@ -41,18 +44,25 @@ public class FileRepository implements ConfigRepository {
     public void persist(Configuration configuration) {
 
         File configFile = new File(repositoryDir, "kie-server-router.json");
-        try (FileOutputStream fos = new FileOutputStream(configFile)) {
-            
+        // written aside and renamed so that readers (including other routers sharing the file) never see it half written
+        Path tmpFile = null;
+        try {
             String config = marshaller.marshall(configuration);
-
-            try (PrintWriter writer = new PrintWriter(fos)) {
-                writer.write(config);
+            tmpFile = Files.createTempFile(repositoryDir.toPath(), "kie-server-router", ".json.tmp");
+            Files.write(tmpFile, config.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tmpFile, configFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, configFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
             }
 
             configFile.setLastModified(System.currentTimeMillis());
 
         } catch (Exception ex) {
             log.error("Could not persist configuration {0}", configFile, ex);
+            if (tmpFile != null) {
+                tmpFile.toFile().delete();
+            }
         }
     }
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.router;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.router.repository.FileRepository;
+import org.kie.server.router.spi.ConfigRepository;
+
+public class ConfigurationManagerTest {
+
+    private static final String SERVER_URL = "http://localhost:8080/server";
+
+    private ScheduledExecutorService executorService;
+    private CountingRepository repository;
+
+    @Before
+    public void init() {
+        executorService = Executors.newScheduledThreadPool(1);
+        repository = new CountingRepository();
+    }
+
+    @After
+    public void cleanup() {
+        System.clearProperty(KieServerRouterConstants.CONFIG_PERSIST_DELAY);
+        System.clearProperty(KieServerRouterConstants.ROUTER_REPOSITORY_DIR);
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testChangesArePersistedTogether() throws Exception {
+        System.setProperty(KieServerRouterConstants.CONFIG_PERSIST_DELAY, "1000");
+        ConfigurationManager manager = new ConfigurationManager(new KieServerRouterEnvironment(), repository, executorService);
+
+        for (int i = 0; i < 30; i++) {
+            manager.add("container" + i, "alias" + i, "server1", SERVER_URL, "org.kie:test:1.0." + i);
+        }
+        // visible right away, before being persisted
+        assertEquals(60, manager.getConfiguration().getHostsPerContainer().size());
+        assertEquals(30, manager.getConfiguration().getHostsPerServer().get("server1").size());
+        assertEquals(0, repository.persisted.get());
+
+        assertTrue(repository.latch.await(10, TimeUnit.SECONDS));
+        assertEquals(1, repository.persisted.get());
+
+        manager.close();
+        assertEquals(1, repository.persisted.get());
+    }
+
+    @Test
+    public void testPendingChangesArePersistedOnClose() {
+        System.setProperty(KieServerRouterConstants.CONFIG_PERSIST_DELAY, "60000");
+        ConfigurationManager manager = new ConfigurationManager(new KieServerRouterEnvironment(), repository, executorService);
+
+        manager.add("container1", "alias1", "server1", SERVER_URL, "org.kie:test:1.0");
+        manager.remove("container1", "alias1", "server1", SERVER_URL, "org.kie:test:1.0");
+        assertEquals(0, repository.persisted.get());
+
+        manager.close();
+        assertEquals(1, repository.persisted.get());
+    }
+
+    @Test
+    public void testEveryChangePersistedWithoutDelay() {
+        System.setProperty(KieServerRouterConstants.CONFIG_PERSIST_DELAY, "0");
+        ConfigurationManager manager = new ConfigurationManager(new KieServerRouterEnvironment(), repository, executorService);
+
+        manager.add("container1", "alias1", "server1", SERVER_URL, "org.kie:test:1.0");
+        manager.add("container2", "alias2", "server1", SERVER_URL, "org.kie:test:1.0");
+        assertEquals(2, repository.persisted.get());
+
+        manager.close();
+        assertEquals(2, repository.persisted.get());
+    }
+
+    @Test
+    public void testRoutersSharingRepositoryDoNotOverwriteEachOther() {
+        File repositoryDirectory = new File("target" + File.separator + UUID.randomUUID().toString());
+        repositoryDirectory.mkdirs();
+        System.setProperty(KieServerRouterConstants.ROUTER_REPOSITORY_DIR, repositoryDirectory.getPath());
+        System.setProperty(KieServerRouterConstants.CONFIG_PERSIST_DELAY, "60000");
+        KieServerRouterEnvironment environment = new KieServerRouterEnvironment();
+        FileRepository sharedRepository = new FileRepository(environment);
+
+        ConfigurationManager router1 = new ConfigurationManager(environment, sharedRepository, executorService);
+        ConfigurationManager router2 = new ConfigurationManager(environment, sharedRepository, executorService);
+
+        router1.add("container1", "alias1", "server1", SERVER_URL, "org.kie:test:1.0");
+        router2.add("container2", "alias2", "server2", "http://localhost:8180/server", "org.kie:test:1.0");
+        router1.close();
+
+        // pending changes of router2 survive syncing with what router1 persisted
+        router2.syncPersistent();
+        assertTrue(router2.getConfiguration().getHostsPerContainer().containsKey("container1"));
+        assertTrue(router2.getConfiguration().getHostsPerContainer().containsKey("container2"));
+
+        router2.close();
+
+        Configuration persisted = sharedRepository.load();
+        assertEquals(1, persisted.getHostsPerContainer().get("container1").size());
+        assertEquals(1, persisted.getHostsPerContainer().get("container2").size());
+        assertEquals(1, persisted.getHostsPerServer().get("server1").size());
+        assertEquals(1, persisted.getHostsPerServer().get("server2").size());
+    }
+
+    private static class CountingRepository implements ConfigRepository {
+
+        private final AtomicInteger persisted = new AtomicInteger();
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        public void persist(Configuration configuration) {
+            persisted.incrementAndGet();
+            latch.countDown();
+        }
+
+        @Override
+        public Configuration load() {
+            return new Configuration();
+        }
+
+        @Override
+        public void clean() {
+        }
+    }
+}
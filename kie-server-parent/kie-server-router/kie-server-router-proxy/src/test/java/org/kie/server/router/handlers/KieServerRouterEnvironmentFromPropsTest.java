@@ -66,6 +66,7 @@ public class KieServerRouterEnvironmentFromPropsTest {
         
         assertTrue(env.isConfigFileWatcherEnabled());
         assertEquals(9000, env.getConfigFileWatcherInterval());
+        assertEquals(900, env.getConfigPersistDelay());
         
         assertEquals(9900, env.getKieControllerAttemptInterval());
         assertEquals(9, env.getKieControllerRecoveryAttemptLimit());
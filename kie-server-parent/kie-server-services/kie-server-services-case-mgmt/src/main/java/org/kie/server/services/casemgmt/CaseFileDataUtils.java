@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.casemgmt;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Helpers to read and update parts of a case file instead of transferring complete case file items.
+ */
+public final class CaseFileDataUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaseFileDataUtils.class);
+
+    private static final String PATH_SEPARATOR = ".";
+
+    private CaseFileDataUtils() {
+    }
+
+    /**
+     * Selects given case file items out of case file data. Every entry is either name of the case file item or
+     * a dotted path into it, e.g. <code>claim.vehicle.vin</code>, that navigates maps by key, lists and arrays by
+     * index and other objects by their bean properties. Selected values are returned under the entry itself,
+     * entries that cannot be resolved are left out.
+     * @param caseFileData complete case file data
+     * @param items names of case file items or paths into them, when null or empty all data is returned
+     * @return projected case file data
+     */
+    public static Map<String, Object> project(Map<String, Object> caseFileData, List<String> items) {
+        if (items == null || items.isEmpty() || caseFileData == null) {
+            return caseFileData;
+        }
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (String item : items) {
+            if (caseFileData.containsKey(item)) {
+                projected.put(item, caseFileData.get(item));
+                continue;
+            }
+            // case file item names may contain dots, so the longest leading part that names an item wins
+            int index = item.lastIndexOf(PATH_SEPARATOR);
+            while (index > 0) {
+                String name = item.substring(0, index);
+                if (caseFileData.containsKey(name)) {
+                    Object value = resolve(caseFileData.get(name), item.substring(index + 1));
+                    if (value != null) {
+                        projected.put(item, value);
+                    }
+                    break;
+                }
+                index = item.lastIndexOf(PATH_SEPARATOR, index - 1);
+            }
+        }
+        return projected;
+    }
+
+    /**
+     * Applies JSON Merge Patch (RFC 7396) to given target, null values in the patch remove members of the target.
+     * @param target document to be patched, might be null
+     * @param patch merge patch
+     * @return patched document, target is modified in place when it is an object and patch is an object as well
+     */
+    public static JsonNode mergePatch(JsonNode target, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject() ? (ObjectNode) target : JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), mergePatch(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+
+    private static Object resolve(Object value, String path) {
+        for (String segment : path.split("\\.")) {
+            if (value == null) {
+                return null;
+            }
+            value = property(value, segment);
+        }
+        return value;
+    }
+
+    private static Object property(Object value, String name) {
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).get(name);
+        }
+        if (value instanceof List || value.getClass().isArray()) {
+            int index;
+            try {
+                index = Integer.parseInt(name);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                return index >= 0 && index < list.size() ? list.get(index) : null;
+            }
+            return index >= 0 && index < Array.getLength(value) ? Array.get(value, index) : null;
+        }
+        try {
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(value.getClass()).getPropertyDescriptors()) {
+                if (descriptor.getName().equals(name) && descriptor.getReadMethod() != null) {
+                    return descriptor.getReadMethod().invoke(value);
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Unable to read property '{}' of {}", name, value.getClass().getName(), e);
+        }
+        return null;
+    }
+}
@@ -22,13 +22,20 @@ import static org.kie.server.api.KieServerConstants.CASE_DYNAMIC_GROUPS_PROP;
 import static org.kie.server.api.KieServerConstants.CASE_DYNAMIC_NAME_PROP;
 import static org.kie.server.api.KieServerConstants.CASE_DYNAMIC_NODE_TYPE_PROP;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.drools.persistence.api.TransactionManager;
+import org.drools.persistence.api.TransactionManagerFactory;
 import org.jbpm.casemgmt.api.CaseDefinitionNotFoundException;
 import org.jbpm.casemgmt.api.CaseNotFoundException;
 import org.jbpm.casemgmt.api.CaseRuntimeDataService;
@@ -47,11 +54,13 @@ import org.kie.internal.identity.IdentityProvider;
 import org.kie.internal.task.api.TaskModelFactory;
 import org.kie.internal.task.api.TaskModelProvider;
 import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.marshalling.MarshallingFormat;
 import org.kie.server.api.model.cases.CaseComment;
 import org.kie.server.api.model.cases.CaseCommentList;
 import org.kie.server.api.model.cases.CaseFile;
 import org.kie.server.api.model.cases.CaseRoleAssignment;
 import org.kie.server.api.model.cases.CaseRoleAssignmentList;
+import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.casemgmt.locator.ByCaseIdContainerLocator;
 import org.kie.server.services.impl.KieContainerInstanceImpl;
@@ -64,6 +73,8 @@ public class CaseManagementServiceBase {
 
     private static final Logger logger = LoggerFactory.getLogger(CaseManagementServiceBase.class);
 
+    private static final ObjectMapper MERGE_PATCH_MAPPER = new ObjectMapper();
+
     private IdentityProvider identityProvider;
 
     private CaseService caseService;
@@ -148,13 +159,21 @@ public class CaseManagementServiceBase {
     }
 
     public String getCaseInstance(String containerId, String caseId, boolean withData, boolean withRoles, boolean withMilestones, boolean withStages, String marshallingType) {
+        return getCaseInstance(containerId, caseId, withData, withRoles, withMilestones, withStages, null, marshallingType);
+    }
+
+    /**
+     * Returns case instance with case file data limited to given case file items, see {@link CaseFileDataUtils#project(Map, List)}
+     * for supported expressions. Case file items are only taken into account when <code>withData</code> is set.
+     */
+    public String getCaseInstance(String containerId, String caseId, boolean withData, boolean withRoles, boolean withMilestones, boolean withStages, List<String> caseFileItems, String marshallingType) {
     	verifyContainerId(containerId, caseId);
         CaseInstance actualCaseInstance = caseService.getCaseInstance(caseId, withData, withRoles, withMilestones, withStages);
 
         org.kie.server.api.model.cases.CaseInstance caseInstance = ConvertUtils.transformCaseInstance(actualCaseInstance);
         if (actualCaseInstance.getStatus().equals(ProcessInstance.STATE_ACTIVE)) {
             if (withData) {
-                caseInstance.setCaseFile(CaseFile.builder().data(actualCaseInstance.getCaseFile().getData()).build());
+                caseInstance.setCaseFile(CaseFile.builder().data(CaseFileDataUtils.project(actualCaseInstance.getCaseFile().getData(), caseFileItems)).build());
             }
     
             if (withMilestones) {
@@ -219,15 +238,7 @@ public class CaseManagementServiceBase {
         
         if (names != null && !names.isEmpty()) {
             logger.debug("Filtering case file data to return only items with following names {}", names);
-            Map<String, Object> filtered = new HashMap<>();
-            
-            for (String name : names) {
-                if (caseFileData.containsKey(name)) {
-                    filtered.put(name, caseFileData.get(name));
-                }
-            }
-            
-            caseFileData = filtered;
+            caseFileData = CaseFileDataUtils.project(caseFileData, names);
         }
         logger.debug("About to marshal case file data for case with id '{}' {}", caseId, caseFileData);
         return marshallerHelper.marshal(containerId, marshallingType, caseFileData, new ByCaseIdContainerLocator(caseId));
@@ -260,6 +271,71 @@ public class CaseManagementServiceBase {
         caseService.addDataToCaseFile(caseId, name, caseFileData, restrictions.toArray(new String[restrictions.size()]));
     }
 
+    /**
+     * Updates case file according to JSON Merge Patch (RFC 7396) given as payload - top level members name case file items,
+     * <code>null</code> removes the item and objects are merged into current value of the item, anything else replaces it.
+     * Only items present in the patch are stored.
+     */
+    public void patchCaseFileData(String containerId, String caseId, List<String> restrictions, String payload, String marshallingType) {
+        verifyContainerId(containerId, caseId);
+        if (!MarshallingFormat.JSON.equals(MarshallingFormat.fromType(marshallingType))) {
+            throw new IllegalArgumentException("Case file merge patch is only supported for JSON content");
+        }
+        logger.debug("About to parse case file merge patch from payload: '{}'", payload);
+        JsonNode patch = readJson(payload);
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Case file merge patch must be a JSON object");
+        }
+        ContainerLocator locator = new ByCaseIdContainerLocator(caseId);
+        // read and both updates form one unit of work, so concurrent changes of the case file are not overwritten
+        // by a patch computed from stale data and the patch is never applied only partially
+        TransactionManager transactionManager = getTransactionManager();
+        boolean transactionOwner = transactionManager.begin();
+        try {
+            applyMergePatch(containerId, caseId, restrictions, patch, marshallingType, locator);
+            transactionManager.commit(transactionOwner);
+        } catch (RuntimeException e) {
+            transactionManager.rollback(transactionOwner);
+            throw e;
+        }
+    }
+
+    private void applyMergePatch(String containerId, String caseId, List<String> restrictions, JsonNode patch, String marshallingType, ContainerLocator locator) {
+        Map<String, Object> caseFileData = caseService.getCaseFileInstance(caseId).getData();
+
+        Map<String, Object> changed = new HashMap<>();
+        List<String> removed = new ArrayList<>();
+        Iterator<Entry<String, JsonNode>> items = patch.fields();
+        while (items.hasNext()) {
+            Entry<String, JsonNode> item = items.next();
+            if (item.getValue().isNull()) {
+                if (caseFileData.containsKey(item.getKey())) {
+                    removed.add(item.getKey());
+                }
+                continue;
+            }
+            Object current = caseFileData.get(item.getKey());
+            JsonNode target = null;
+            Class<?> type = Object.class;
+            if (item.getValue().isObject() && current != null) {
+                // merge into current value, round tripped through container's marshaller to keep its type
+                target = readJson(marshallerHelper.marshal(containerId, marshallingType, current, locator));
+                if (target != null && target.isObject()) {
+                    type = current.getClass();
+                }
+            }
+            String merged = CaseFileDataUtils.mergePatch(target, item.getValue()).toString();
+            changed.put(item.getKey(), marshallerHelper.unmarshal(containerId, merged, marshallingType, type, locator));
+        }
+        logger.debug("Merge patch of case with id '{}' updates {} and removes {} with restrictions {}", caseId, changed.keySet(), removed, restrictions);
+        if (!changed.isEmpty()) {
+            caseService.addDataToCaseFile(caseId, changed, restrictions.toArray(new String[restrictions.size()]));
+        }
+        if (!removed.isEmpty()) {
+            caseService.removeDataFromCaseFile(caseId, removed);
+        }
+    }
+
     public void removeCaseFileDataByName(String containerId, String caseId, List<String> names) {
     	verifyContainerId(containerId, caseId);
         logger.debug("Removing {} variables from case with id '{}'", names, caseId);
@@ -426,7 +502,19 @@ public class CaseManagementServiceBase {
         return CommentSortBy.Date;
     }
     
-    private void verifyContainerId(String containerId, String caseId) {
+    private JsonNode readJson(String json) {
+        try {
+            return MERGE_PATCH_MAPPER.readTree(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to parse case file merge patch due to " + e.getMessage(), e);
+        }
+    }
+
+    protected TransactionManager getTransactionManager() {
+        return TransactionManagerFactory.get().newTransactionManager();
+    }
+
+    protected void verifyContainerId(String containerId, String caseId) {
         String caseContainerId;
         try {
         	caseContainerId = (new ByCaseIdContainerLocator(caseId)).locateContainer(containerId, null);
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.casemgmt;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CaseFileDataUtilsTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testProjectWithoutItemsReturnsAllData() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("claim", "value");
+
+        assertSame(data, CaseFileDataUtils.project(data, null));
+        assertSame(data, CaseFileDataUtils.project(data, emptyList()));
+    }
+
+    @Test
+    public void testProjectItemsAndPaths() {
+        Map<String, Object> vehicle = new HashMap<>();
+        vehicle.put("vin", "VIN123");
+        Map<String, Object> claim = new HashMap<>();
+        claim.put("vehicle", vehicle);
+        claim.put("owner", new Owner("john"));
+        Map<String, Object> data = new HashMap<>();
+        data.put("claim", claim);
+        data.put("status", "open");
+
+        Map<String, Object> projected = CaseFileDataUtils.project(data, Arrays.asList("status", "claim.vehicle.vin", "claim.owner.name", "claim.missing.vin", "unknown"));
+
+        assertEquals(3, projected.size());
+        assertEquals("open", projected.get("status"));
+        assertEquals("VIN123", projected.get("claim.vehicle.vin"));
+        assertEquals("john", projected.get("claim.owner.name"));
+    }
+
+    @Test
+    public void testProjectPathIntoItemNameWithDots() {
+        Map<String, Object> current = new HashMap<>();
+        current.put("vin", "VIN-V2");
+        Map<String, Object> versioned = new HashMap<>();
+        versioned.put("vehicle", current);
+        Map<String, Object> data = new HashMap<>();
+        // the longest leading part naming an item wins over shorter "claim"
+        data.put("claim", new HashMap<>());
+        data.put("claim.v2", versioned);
+        data.put("claim.v2.vehicle", "whole item");
+
+        Map<String, Object> projected = CaseFileDataUtils.project(data, Arrays.asList("claim.v2.vehicle.vin", "claim.v2.vehicle"));
+
+        // "claim.v2.vehicle" is the item, the path into it does not resolve
+        assertEquals(1, projected.size());
+        assertFalse(projected.containsKey("claim.v2.vehicle.vin"));
+        assertEquals("whole item", projected.get("claim.v2.vehicle"));
+
+        data.remove("claim.v2.vehicle");
+        projected = CaseFileDataUtils.project(data, singletonList("claim.v2.vehicle.vin"));
+        assertEquals("VIN-V2", projected.get("claim.v2.vehicle.vin"));
+    }
+
+    @Test
+    public void testProjectListAndArrayIndexes() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("drivers", Arrays.asList(new Owner("john"), new Owner("mary")));
+        data.put("codes", new String[]{"A", "B"});
+
+        Map<String, Object> projected = CaseFileDataUtils.project(data, Arrays.asList("drivers.1.name", "codes.0", "drivers.2.name", "drivers.first.name", "codes.-1"));
+
+        assertEquals(2, projected.size());
+        assertEquals("mary", projected.get("drivers.1.name"));
+        assertEquals("A", projected.get("codes.0"));
+    }
+
+    @Test
+    public void testMergePatchRemovesNullMembers() throws Exception {
+        JsonNode result = CaseFileDataUtils.mergePatch(json("{\"a\":1,\"b\":2}"), json("{\"b\":null,\"c\":null}"));
+
+        assertEquals(json("{\"a\":1}"), result);
+    }
+
+    @Test
+    public void testMergePatchMergesNestedObjects() throws Exception {
+        JsonNode target = json("{\"vehicle\":{\"vin\":\"VIN123\",\"color\":\"red\",\"owner\":{\"name\":\"john\",\"age\":40}},\"tags\":[1,2]}");
+        JsonNode patch = json("{\"vehicle\":{\"color\":\"blue\",\"owner\":{\"age\":null,\"city\":\"Brno\"}},\"tags\":[3]}");
+
+        JsonNode result = CaseFileDataUtils.mergePatch(target, patch);
+
+        // arrays are replaced, not merged
+        assertEquals(json("{\"vehicle\":{\"vin\":\"VIN123\",\"color\":\"blue\",\"owner\":{\"name\":\"john\",\"city\":\"Brno\"}},\"tags\":[3]}"), result);
+    }
+
+    @Test
+    public void testMergePatchReplacesNonObjects() throws Exception {
+        assertEquals(json("\"text\""), CaseFileDataUtils.mergePatch(json("{\"a\":1}"), json("\"text\"")));
+        assertEquals(json("{\"a\":1}"), CaseFileDataUtils.mergePatch(json("[1,2]"), json("{\"a\":1}")));
+        assertEquals(json("{\"a\":{\"b\":1}}"), CaseFileDataUtils.mergePatch(null, json("{\"a\":{\"b\":1},\"c\":null}")));
+        assertTrue(CaseFileDataUtils.mergePatch(json("{\"a\":1}"), json("{}")).has("a"));
+    }
+
+    private JsonNode json(String value) throws Exception {
+        return mapper.readTree(value);
+    }
+
+    public static class Owner {
+
+        private final String name;
+
+        public Owner(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.casemgmt;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.drools.persistence.api.TransactionManager;
+import org.jbpm.casemgmt.api.CaseRuntimeDataService;
+import org.jbpm.casemgmt.api.CaseService;
+import org.jbpm.casemgmt.api.model.instance.CaseFileInstance;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.api.marshalling.Marshaller;
+import org.kie.server.api.marshalling.MarshallingFormat;
+import org.kie.server.api.model.KieServerConfig;
+import org.kie.server.services.api.KieContainerInstance;
+import org.kie.server.services.api.KieServerRegistry;
+import org.mockito.ArgumentCaptor;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class CaseManagementServiceBaseTest {
+
+    private static final String CONTAINER_ID = "container";
+    private static final String CASE_ID = "CASE-0000000001";
+    private static final String JSON = MarshallingFormat.JSON.getType();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private CaseService caseService;
+    private TransactionManager transactionManager;
+    private CaseManagementServiceBase service;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        caseService = mock(CaseService.class);
+        transactionManager = mock(TransactionManager.class);
+        when(transactionManager.begin()).thenReturn(true);
+
+        // container marshaller backed by plain jackson
+        Marshaller marshaller = mock(Marshaller.class);
+        when(marshaller.marshall(any(), anyMap())).thenAnswer(invocation -> mapper.writeValueAsString(invocation.getArgument(0)));
+        when(marshaller.unmarshall(anyString(), any(Class.class), anyMap())).thenAnswer(invocation -> mapper.readValue((String) invocation.getArgument(0), (Class<?>) invocation.getArgument(1)));
+        KieContainerInstance container = mock(KieContainerInstance.class);
+        when(container.getMarshaller(MarshallingFormat.JSON)).thenReturn(marshaller);
+
+        KieServerRegistry context = mock(KieServerRegistry.class);
+        when(context.getConfig()).thenReturn(new KieServerConfig());
+        when(context.getContainer(eq(CONTAINER_ID), any())).thenReturn(container);
+
+        service = new CaseManagementServiceBase(caseService, mock(CaseRuntimeDataService.class), context) {
+
+            @Override
+            protected TransactionManager getTransactionManager() {
+                return transactionManager;
+            }
+
+            @Override
+            protected void verifyContainerId(String containerId, String caseId) {
+                // case is always in the container
+            }
+        };
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPatchCaseFileData() {
+        Map<String, Object> claim = new HashMap<>();
+        claim.put("amount", 10);
+        claim.put("note", "first estimate");
+        claim.put("owner", "john");
+        mockCaseFileData("claim", claim, "obsolete", "value");
+
+        service.patchCaseFileData(CONTAINER_ID, CASE_ID, singletonList("insured"),
+                "{\"claim\":{\"amount\":20,\"note\":null},\"status\":\"open\",\"obsolete\":null,\"unknown\":null}", JSON);
+
+        ArgumentCaptor<Map<String, Object>> changed = ArgumentCaptor.forClass(Map.class);
+        verify(caseService).addDataToCaseFile(eq(CASE_ID), changed.capture(), eq("insured"));
+        Map<String, Object> expectedClaim = new HashMap<>();
+        expectedClaim.put("amount", 20);
+        expectedClaim.put("owner", "john");
+        assertEquals(2, changed.getValue().size());
+        assertEquals(expectedClaim, changed.getValue().get("claim"));
+        assertEquals("open", changed.getValue().get("status"));
+        // only items present in the case file are removed
+        verify(caseService).removeDataFromCaseFile(CASE_ID, singletonList("obsolete"));
+
+        verify(transactionManager).begin();
+        verify(transactionManager).commit(true);
+        verify(transactionManager, never()).rollback(true);
+    }
+
+    @Test
+    public void testPatchCaseFileDataRolledBackOnFailure() {
+        mockCaseFileData("obsolete", "value");
+        doThrow(new IllegalStateException("failed")).when(caseService).removeDataFromCaseFile(CASE_ID, singletonList("obsolete"));
+
+        try {
+            service.patchCaseFileData(CONTAINER_ID, CASE_ID, singletonList("insured"), "{\"status\":\"open\",\"obsolete\":null}", JSON);
+            fail("Failure of the update should be propagated");
+        } catch (IllegalStateException e) {
+            assertEquals("failed", e.getMessage());
+        }
+
+        verify(caseService).addDataToCaseFile(eq(CASE_ID), anyMap(), eq("insured"));
+        verify(transactionManager).rollback(true);
+        verify(transactionManager, never()).commit(true);
+    }
+
+    @Test
+    public void testPatchCaseFileDataRequiresJsonObject() {
+        try {
+            service.patchCaseFileData(CONTAINER_ID, CASE_ID, singletonList("insured"), "[]", JSON);
+            fail("Patch that is not an object should be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            service.patchCaseFileData(CONTAINER_ID, CASE_ID, singletonList("insured"), "<patch/>", MarshallingFormat.JAXB.getType());
+            fail("Patch that is not JSON should be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        verifyZeroInteractions(caseService, transactionManager);
+    }
+
+    private void mockCaseFileData(Object... keyValues) {
+        Map<String, Object> data = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            data.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        CaseFileInstance caseFile = mock(CaseFileInstance.class);
+        when(caseFile.getData()).thenReturn(data);
+        when(caseService.getCaseFileInstance(CASE_ID)).thenReturn(caseFile);
+    }
+}
@@ -23,6 +23,14 @@ import org.kie.server.api.model.ServiceResponsesList;
 public interface KieContainerCommandService<V> {
 
     ServiceResponse<V> callContainer(String containerId, String payload, MarshallingFormat marshallingFormat, String classType);
+
+    /**
+     * Same as {@link #callContainer(String, String, MarshallingFormat, String)} with session lookup given by the transport
+     * (e.g. header) which takes precedence over the lookup found in the payload. Services without sessions ignore it.
+     */
+    default ServiceResponse<V> callContainer(String containerId, String payload, MarshallingFormat marshallingFormat, String classType, String lookup) {
+        return callContainer(containerId, payload, marshallingFormat, classType);
+    }
     
     ServiceResponsesList executeScript(CommandScript commands, MarshallingFormat marshallingFormat, String classType);
 }
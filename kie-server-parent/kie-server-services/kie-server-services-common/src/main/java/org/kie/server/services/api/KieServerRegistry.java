@@ -42,6 +42,13 @@ public interface KieServerRegistry {
 
     List<KieContainerInstanceImpl> getContainersForAlias(String alias);
 
+    /**
+     * Notifies the registry that status or release id of given container has changed so alias resolution
+     * reflects it. Does nothing by default, for registries that resolve aliases on every lookup.
+     */
+    default void refreshContainerAlias(KieContainerInstanceImpl kieContainerInstance) {
+    }
+
     void registerIdentityProvider(IdentityProvider identityProvider);
 
     IdentityProvider unregisterIdentityProvider();
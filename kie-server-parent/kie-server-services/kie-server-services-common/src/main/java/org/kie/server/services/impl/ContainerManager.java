@@ -15,8 +15,18 @@
 
 package org.kie.server.services.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.kie.server.api.KieServerConstants;
 import org.kie.server.api.KieServerEnvironment;
 import org.kie.server.api.model.KieContainerResource;
 import org.kie.server.api.model.KieContainerStatus;
@@ -31,6 +41,10 @@ public class ContainerManager {
 
     private static final Logger logger = LoggerFactory.getLogger(ContainerManager.class);
 
+    private static final long DEFAULT_TIMEOUT = 3600;
+
+    private final Map<String, Long> installDurations = Collections.synchronizedMap(new LinkedHashMap<>());
+
     public void installContainers(KieServerImpl kieServer, Set<KieContainerResource> containers, KieServerState currentState, KieServerSetup kieServerSetup) {
         installContainersSync(kieServer, containers, currentState, kieServerSetup);
     }
@@ -44,20 +58,122 @@ public class ContainerManager {
         String str = containers.stream().map(KieContainerResource::toString).collect(joining("\n\t"));
         logger.info("About to install containers on kie server \n\t{}:\n\t{}", kieServer, str);
 
-        for (KieContainerResource containerResource : containers) {
+        long start = System.currentTimeMillis();
+        int poolSize = Math.min(getPoolSize(), containers.size());
+        if (poolSize > 1) {
+            installContainersParallel(kieServer, containers, poolSize);
+        } else {
+            for (KieContainerResource containerResource : containers) {
+                installContainer(kieServer, containerResource);
+            }
+        }
+        logger.info("Installed {} containers on kie server {} in {} ms", containers.size(), kieServer, System.currentTimeMillis() - start);
+
+        currentState.setContainers(containers);
+        if (kieServerSetup.getServerConfig() != null) {
+            currentState.setConfiguration(kieServerSetup.getServerConfig());
+        }
+        kieServer.getServerRegistry().getStateRepository().store(KieServerEnvironment.getServerId(), currentState);
+        kieServer.markAsReady();
+    }
+
+    /**
+     * Returns time (in milliseconds) it took to install each container during last startup, in order of completion.
+     * @return map of container id to install duration
+     */
+    public Map<String, Long> getInstallDurations() {
+        synchronized (installDurations) {
+            return new LinkedHashMap<>(installDurations);
+        }
+    }
+
+    protected void installContainersParallel(KieServerImpl kieServer, Set<KieContainerResource> containers, int poolSize) {
+        logger.info("Installing containers using {} threads", poolSize);
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new ContainerInstallThreadFactory());
+        Map<KieContainerResource, Future<?>> installs = new LinkedHashMap<>();
+        try {
+            for (KieContainerResource containerResource : containers) {
+                installs.put(containerResource, executor.submit(() -> installContainer(kieServer, containerResource)));
+            }
+            executor.shutdown();
+
+            long timeout = getTimeout();
+            if (!executor.awaitTermination(timeout, TimeUnit.SECONDS)) {
+                logger.warn("Containers were not installed within {} seconds, remaining installations are cancelled", timeout);
+                installs.values().forEach(install -> install.cancel(true));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for containers to be installed");
+        } finally {
+            executor.shutdownNow();
+            // containers whose installation did not complete must not be stored as installed
+            installs.forEach((containerResource, install) -> {
+                if (!install.isDone() || install.isCancelled()) {
+                    logger.error("Installation of container {} did not complete", containerResource.getContainerId());
+                    containerResource.setStatus(KieContainerStatus.FAILED);
+                }
+            });
+        }
+    }
+
+    protected void installContainer(KieServerImpl kieServer, KieContainerResource containerResource) {
+        long start = System.currentTimeMillis();
+        try {
             if (KieContainerStatus.STARTED.equals(containerResource.getStatus())) {
                 kieServer.createContainer(containerResource.getContainerId(), containerResource);
             } else if (KieContainerStatus.DEACTIVATED.equals(containerResource.getStatus())) {
                 kieServer.createContainer(containerResource.getContainerId(), containerResource);
                 kieServer.deactivateContainer(containerResource.getContainerId());
                 containerResource.setStatus(KieContainerStatus.DEACTIVATED);
+            } else {
+                return;
             }
+        } catch (Exception e) {
+            // make sure single container does not prevent others from being installed
+            logger.error("Unexpected error when installing container {}", containerResource.getContainerId(), e);
+            containerResource.setStatus(KieContainerStatus.FAILED);
         }
-        currentState.setContainers(containers);
-        if (kieServerSetup.getServerConfig() != null) {
-            currentState.setConfiguration(kieServerSetup.getServerConfig());
+        long duration = System.currentTimeMillis() - start;
+        installDurations.put(containerResource.getContainerId(), duration);
+        logger.info("Container {} installed in {} ms", containerResource.getContainerId(), duration);
+    }
+
+    protected int getPoolSize() {
+        try {
+            return Integer.parseInt(System.getProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_THREADS, "1"));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value of {}, containers will be installed sequentially", KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_THREADS);
+            return 1;
+        }
+    }
+
+    protected long getTimeout() {
+        String value = System.getProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_TIMEOUT);
+        if (value == null) {
+            return DEFAULT_TIMEOUT;
+        }
+        try {
+            long timeout = Long.parseLong(value.trim());
+            if (timeout > 0) {
+                return timeout;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn("Invalid value '{}' of {}, using default {}", value, KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_TIMEOUT, DEFAULT_TIMEOUT);
+        return DEFAULT_TIMEOUT;
+    }
+
+    private static class ContainerInstallThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "kie-server-container-install-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
-        kieServer.getServerRegistry().getStateRepository().store(KieServerEnvironment.getServerId(), currentState);
-        kieServer.markAsReady();
     }
 }
@@ -18,8 +18,6 @@ package org.kie.server.services.impl;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.drools.core.command.runtime.BatchExecutionCommandImpl;
 import org.kie.api.command.Command;
@@ -54,7 +52,6 @@ import org.slf4j.LoggerFactory;
 
 public class KieContainerCommandServiceImpl implements KieContainerCommandService<ExecutionResults> {
 
-    protected static final Pattern LOOKUP            = Pattern.compile("[\"']?lookup[\"']?\\s*[:=]\\s*[\"']([^\"']+)[\"']");
     private static final Logger logger             = LoggerFactory.getLogger(KieContainerCommandServiceImpl.class);
 
     protected KieServerImpl kieServer;
@@ -66,10 +63,19 @@ public class KieContainerCommandServiceImpl implements KieContainerCommandServic
     }
 
     public ServiceResponse<ExecutionResults> callContainer(String containerId, String payload, MarshallingFormat marshallingFormat, String classType) {
-        return callContainer(containerId, payload, marshallingFormat, classType, false);
+        return callContainer(containerId, payload, marshallingFormat, classType, null, false);
+    }
+
+    @Override
+    public ServiceResponse<ExecutionResults> callContainer(String containerId, String payload, MarshallingFormat marshallingFormat, String classType, String lookup) {
+        return callContainer(containerId, payload, marshallingFormat, classType, lookup, false);
     }
 
     protected ServiceResponse<ExecutionResults> callContainer(String containerId, String payload, MarshallingFormat marshallingFormat, String classType, boolean marshallResponse) {
+        return callContainer(containerId, payload, marshallingFormat, classType, null, marshallResponse);
+    }
+
+    protected ServiceResponse<ExecutionResults> callContainer(String containerId, String payload, MarshallingFormat marshallingFormat, String classType, String lookup, boolean marshallResponse) {
         if( payload == null ) {
             return new ServiceResponse<ExecutionResults>(ServiceResponse.ResponseType.FAILURE, "Error calling container " + containerId + ". Empty payload. ");
         }
@@ -79,13 +85,22 @@ public class KieContainerCommandServiceImpl implements KieContainerCommandServic
             // would likely not be worth it. At this point a decision was made to fail the execution if a concurrent
             // call do dispose() is executed.
             if (kci != null && kci.getKieContainer() != null) {
-                String sessionId = null;
-                // this is a weak way of finding the lookup, but it is the same used in kie-camel. Will keep it for now.
-                Matcher m = LOOKUP.matcher(payload);
-                if (m.find()) {
-                    sessionId = m.group(1);
+                Class<? extends Command> type =  BatchExecutionCommandImpl.class;
+                if (classType != null && !classType.isEmpty()) {
+                    type = (Class<? extends Command>) kci.getKieContainer().getClassLoader().loadClass(classType);
                 }
 
+                // payload is unmarshalled once and the session lookup is taken from the command itself
+                Command<?> cmd = kci.getMarshaller( marshallingFormat ).unmarshall(payload, type);
+
+                if (cmd == null) {
+                    return new ServiceResponse<ExecutionResults>(ServiceResponse.ResponseType.FAILURE, "Body of in message not of the expected type '" + Command.class.getName() + "'");
+                }
+                if (!(cmd instanceof BatchExecutionCommandImpl)) {
+                    cmd = new BatchExecutionCommandImpl(Arrays.asList(new ExecutableCommand<?>[]{(ExecutableCommand<?>) cmd} ));
+                }
+                String sessionId = lookup != null && !lookup.isEmpty() ? lookup : ((BatchExecutionCommandImpl) cmd).getLookup();
+
                 // find the session
                 CommandExecutor ks = null;
                 if( sessionId != null ) {
@@ -97,20 +112,6 @@ public class KieContainerCommandServiceImpl implements KieContainerCommandServic
                 context.getKieSessionLookupManager().postLookup(sessionId, kci, ks, context);
 
                 if (ks != null) {
-                    Class<? extends Command> type =  BatchExecutionCommandImpl.class;
-                    if (classType != null && !classType.isEmpty()) {
-                        type = (Class<? extends Command>) kci.getKieContainer().getClassLoader().loadClass(classType);
-                    }
-
-                    Command<?> cmd = kci.getMarshaller( marshallingFormat ).unmarshall(payload, type);
-
-                    if (cmd == null) {
-                        return new ServiceResponse<ExecutionResults>(ServiceResponse.ResponseType.FAILURE, "Body of in message not of the expected type '" + Command.class.getName() + "'");
-                    }
-                    if (!(cmd instanceof BatchExecutionCommandImpl)) {
-                        cmd = new BatchExecutionCommandImpl(Arrays.asList(new ExecutableCommand<?>[]{(ExecutableCommand<?>) cmd} ));
-                    }
-
                     ExecutionResults results = ks.execute((BatchExecutionCommandImpl) cmd);
                     if (marshallResponse) {
                         Marshaller marshaller = kci.getMarshaller(marshallingFormat);
@@ -15,6 +15,8 @@
 
 package org.kie.server.services.impl;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -36,13 +38,19 @@ import org.kie.server.api.model.KieScannerResource;
 import org.kie.server.api.model.KieScannerStatus;
 import org.kie.server.api.model.ReleaseId;
 import org.kie.server.services.api.KieContainerInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class KieContainerInstanceImpl implements KieContainerInstance {
 
+    private static final Logger logger = LoggerFactory.getLogger(KieContainerInstanceImpl.class);
+
     private KieContainerResource               resource;
     private InternalKieContainer               kieContainer;
     private InternalKieScanner                 scanner;
-    private transient Map<MarshallingFormat, Marshaller> marshallers;
+    // immutable snapshot replaced on every change so lookups need no locking
+    private transient volatile Map<MarshallingFormat, Marshaller> marshallers = Collections.emptyMap();
+    private final transient Object marshallersLock = new Object();
 
     private transient Map<String, Object> serviceContainer;
 
@@ -65,7 +73,6 @@ public class KieContainerInstanceImpl implements KieContainerInstance {
         // set the default scanner state to DISPOSED (which is the actual default state)
         // this way we don't need to do null checks all around for the scanner resource
         this.resource.setScanner(new KieScannerResource(KieScannerStatus.DISPOSED));
-        this.marshallers = new ConcurrentHashMap<MarshallingFormat, Marshaller>();
         this.serviceContainer = new ConcurrentHashMap<String, Object>();
         updateReleaseId();
         this.scannerListener = new KieServerScannerEventListener(kieServer, this);
@@ -178,22 +185,48 @@ public class KieContainerInstanceImpl implements KieContainerInstance {
     }
 
     public Marshaller getMarshaller(MarshallingFormat format) {
-        synchronized ( marshallers ) {
-            Marshaller marshaller = marshallers.get( format );
+        Marshaller marshaller = marshallers.get( format );
+        if ( marshaller != null ) {
+            return marshaller;
+        }
+        synchronized ( marshallersLock ) {
+            marshaller = marshallers.get( format );
             if ( marshaller == null ) {
                 marshaller = MarshallerFactory.getMarshaller( getExtraClasses(), format, this.kieContainer.getClassLoader() );
-                this.marshallers.put( format, marshaller );
+                Map<MarshallingFormat, Marshaller> updated = new EnumMap<MarshallingFormat, Marshaller>( MarshallingFormat.class );
+                updated.putAll( marshallers );
+                updated.put( format, marshaller );
+                this.marshallers = Collections.unmodifiableMap( updated );
             }
             return marshaller;
         }
     }
 
-    public void disposeMarshallers() {
-        synchronized ( marshallers ) {
-            for ( Marshaller marshaller : this.marshallers.values() ) {
-                marshaller.dispose();
+    /**
+     * Builds marshallers for all formats upfront so the first requests do not pay for it. Should be called once
+     * all extensions registered their extra classes.
+     */
+    public void initMarshallers() {
+        if ( this.kieContainer == null ) {
+            return;
+        }
+        for ( MarshallingFormat format : MarshallingFormat.values() ) {
+            try {
+                getMarshaller( format );
+            } catch ( Exception e ) {
+                logger.warn( "Unable to build {} marshaller for container {} upfront, it will be built on first use: {}", format, getContainerId(), e.getMessage() );
             }
-            this.marshallers.clear();
+        }
+    }
+
+    public void disposeMarshallers() {
+        Map<MarshallingFormat, Marshaller> disposed;
+        synchronized ( marshallersLock ) {
+            disposed = this.marshallers;
+            this.marshallers = Collections.emptyMap();
+        }
+        for ( Marshaller marshaller : disposed.values() ) {
+            marshaller.dispose();
         }
     }
 
@@ -210,7 +243,12 @@ public class KieContainerInstanceImpl implements KieContainerInstance {
 
     @Override
     public boolean addExtraClasses(Set<Class<?>> extraJaxbClassList) {
-        return this.extraClasses.addAll( extraJaxbClassList );
+        boolean added = this.extraClasses.addAll( extraJaxbClassList );
+        if ( added && !marshallers.isEmpty() ) {
+            // marshallers built so far do not know the new classes
+            disposeMarshallers();
+        }
+        return added;
     }
 
     @Override
@@ -70,6 +70,7 @@ import org.kie.server.services.api.KieServerExtension;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.api.KieServerRegistryAware;
 import org.kie.server.services.api.StartupStrategy;
+import org.kie.server.services.impl.cache.CompiledKieModuleCache;
 import org.kie.server.services.impl.controller.DefaultRestControllerImpl;
 import org.kie.server.services.impl.locator.ContainerLocatorProvider;
 import org.kie.server.services.impl.policy.PolicyManager;
@@ -105,6 +106,9 @@ public class KieServerImpl implements KieServer {
     private List<Message> serverMessages = new ArrayList<Message>();
     private Map<String, List<Message>> containerMessages = new ConcurrentHashMap<String, List<Message>>();
 
+    private CompiledKieModuleCache compiledKieModuleCache = CompiledKieModuleCache.fromSystemProperties();
+    private boolean eagerMarshallers = Boolean.parseBoolean(System.getProperty(KieServerConstants.KIE_SERVER_EAGER_MARSHALLERS, "false"));
+
     private KieServerEventSupport eventSupport = new KieServerEventSupport();
 
     protected KieServices ks;
@@ -360,6 +364,14 @@ public class KieServerImpl implements KieServer {
 
                                 ci.getResource().setStatus(KieContainerStatus.STARTED);
                                 logger.info("Container {} (for release id {}) successfully started", containerId, releaseId);
+                                context.refreshContainerAlias(ci);
+
+                                if (compiledKieModuleCache != null) {
+                                    compiledKieModuleCache.store(kieContainer);
+                                }
+                                if (eagerMarshallers) {
+                                    ci.initMarshallers();
+                                }
 
                                 // store the current state of the server
                                 storeServerState(currentState -> {
@@ -415,6 +427,9 @@ public class KieServerImpl implements KieServer {
     }
 
     protected InternalKieContainer createInternalKieContainer(String containerId, ReleaseId releaseId, KieModuleMetaData metadata) {
+        if (compiledKieModuleCache != null) {
+            compiledKieModuleCache.restore(ks, releaseId);
+        }
         return (InternalKieContainer) ks.newKieContainer(containerId, releaseId);
     }
 
@@ -466,6 +481,7 @@ public class KieServerImpl implements KieServer {
                     }
                     
                     kci.setStatus(KieContainerStatus.STARTED);
+                    context.refreshContainerAlias(kci);
 
                     // store the current state of the server
                     storeServerState(currentState -> {
@@ -515,6 +531,7 @@ public class KieServerImpl implements KieServer {
                     }
                     
                     kci.setStatus(KieContainerStatus.DEACTIVATED);
+                    context.refreshContainerAlias(kci);
                     
                     // store the current state of the server
                     storeServerState(currentState -> {
@@ -777,7 +794,7 @@ public class KieServerImpl implements KieServer {
      * Persists updated KieServer state.
      * @param kieServerStateConsumer
      */
-    private void storeServerState(Consumer<KieServerState> kieServerStateConsumer) {
+    private synchronized void storeServerState(Consumer<KieServerState> kieServerStateConsumer) {
         KieServerState currentState = repository.load(KieServerEnvironment.getServerId());
         kieServerStateConsumer.accept(currentState);
         repository.store(KieServerEnvironment.getServerId(), currentState);
@@ -1035,6 +1052,7 @@ public class KieServerImpl implements KieServer {
             logger.error("Error updating releaseId for container " + containerId + " to version " + releaseId + "\nMessages: " + results.getMessages());
         } else {
             kci.updateReleaseId();
+            context.refreshContainerAlias(kci);
             response = new Message(Severity.INFO, "Kie container updated successfully to version " + releaseId);
         }
 
@@ -1061,6 +1079,9 @@ public class KieServerImpl implements KieServer {
             extension.updateContainer(containerId, kci, parameters);
             logger.debug("Container {} (for release id {}) on {} updated successfully", containerId, releaseId, extension);
         }
+        if (eagerMarshallers) {
+            kci.initMarshallers();
+        }
     }
 
     public ServiceResponse<KieServerStateInfo> getServerState() {
@@ -34,13 +34,17 @@ import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieContainerInstance;
 import org.kie.server.services.api.KieServerExtension;
 import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.locator.LatestContainerLocator;
 import org.kie.server.services.impl.storage.KieServerState;
 import org.kie.server.services.impl.storage.KieServerStateRepository;
 
 public class KieServerRegistryImpl implements KieServerRegistry {
 
     private final ConcurrentMap<String, KieContainerInstanceImpl> containers = new ConcurrentHashMap<String, KieContainerInstanceImpl>();
+    // lists are immutable and replaced on every change so lookups can iterate them without locking
     private final ConcurrentMap<String, List<KieContainerInstanceImpl>> containersByAlias = new ConcurrentHashMap<String, List<KieContainerInstanceImpl>>();
+    // latest started container per alias, recomputed on container lifecycle changes
+    private final ConcurrentMap<String, String> latestContainerByAlias = new ConcurrentHashMap<String, String>();
     private IdentityProvider identityProvider;
     private ConcurrentMap<String, KieServerExtension> serverExtensions = new ConcurrentHashMap<String, KieServerExtension>();
 
@@ -86,7 +90,14 @@ public class KieServerRegistryImpl implements KieServerRegistry {
         KieContainerInstanceImpl containerInstance = getContainer(alias);
 
         if (containerInstance == null) {
-            List<KieContainerInstanceImpl> aliasedContainers = containersByAlias.getOrDefault(alias, new ArrayList<KieContainerInstanceImpl>());
+            if (locator instanceof LatestContainerLocator) {
+                String latestContainerId = latestContainerByAlias.get(alias);
+                KieContainerInstanceImpl latest = latestContainerId == null ? null : getContainer(latestContainerId);
+                if (latest != null && KieContainerStatus.STARTED.equals(latest.getStatus())) {
+                    return latest;
+                }
+            }
+            List<KieContainerInstanceImpl> aliasedContainers = containersByAlias.getOrDefault(alias, Collections.<KieContainerInstanceImpl>emptyList());
             if (aliasedContainers.isEmpty()) {
                 // since there are no containers for given alias reject it
                 throw new IllegalArgumentException("Container '" + alias + "' is not instantiated or cannot find container for alias '" + alias + "'");
@@ -212,12 +223,11 @@ public class KieServerRegistryImpl implements KieServerRegistry {
         KieContainerResource containerResource = kieContainerInstance.getResource();
         String alias = getContainerAlias(containerResource);
 
-        List<KieContainerInstanceImpl> byAlias = containersByAlias.get(alias);
-        if (byAlias == null) {
-            byAlias = new ArrayList<>();
-            containersByAlias.put(alias, byAlias);
-        }
-        byAlias.add(kieContainerInstance);
+        containersByAlias.compute(alias, (key, byAlias) -> {
+            List<KieContainerInstanceImpl> updated = byAlias == null ? new ArrayList<>() : new ArrayList<>(byAlias);
+            updated.add(kieContainerInstance);
+            return indexLatest(alias, Collections.unmodifiableList(updated));
+        });
     }
 
     protected void removeFromAlias(KieContainerInstanceImpl kieContainerInstance) {
@@ -227,10 +237,28 @@ public class KieServerRegistryImpl implements KieServerRegistry {
         KieContainerResource containerResource = kieContainerInstance.getResource();
         String alias = getContainerAlias(containerResource);
 
-        List<KieContainerInstanceImpl> byAlias = containersByAlias.get(alias);
-        if (byAlias != null) {
-            byAlias.remove(kieContainerInstance);
+        containersByAlias.computeIfPresent(alias, (key, byAlias) -> {
+            List<KieContainerInstanceImpl> updated = new ArrayList<>(byAlias);
+            updated.remove(kieContainerInstance);
+            return indexLatest(alias, Collections.unmodifiableList(updated));
+        });
+    }
+
+    @Override
+    public void refreshContainerAlias(KieContainerInstanceImpl kieContainerInstance) {
+        String alias = getContainerAlias(kieContainerInstance.getResource());
+        containersByAlias.computeIfPresent(alias, this::indexLatest);
+    }
+
+    // always invoked within compute of the alias entry so updates of the same alias are serialized
+    private List<KieContainerInstanceImpl> indexLatest(String alias, List<KieContainerInstanceImpl> byAlias) {
+        String latestContainerId = LatestContainerLocator.get().locateStartedContainer(alias, byAlias);
+        if (latestContainerId == null) {
+            latestContainerByAlias.remove(alias);
+        } else {
+            latestContainerByAlias.put(alias, latestContainerId);
         }
+        return byAlias;
     }
 
     protected String getContainerAlias(KieContainerResource containerResource) {
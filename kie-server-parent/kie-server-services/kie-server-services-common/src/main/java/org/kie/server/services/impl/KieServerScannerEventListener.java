@@ -69,6 +69,7 @@ public class KieServerScannerEventListener implements KieScannerEventListener {
             if (!disposedMarshallers) {
                 kieContainerInstance.disposeMarshallers();
             }
+            kieServer.getServerRegistry().refreshContainerAlias(kieContainerInstance);
             
 
             // once the upgrade was successful, notify all extensions so they can be upgraded (if needed)
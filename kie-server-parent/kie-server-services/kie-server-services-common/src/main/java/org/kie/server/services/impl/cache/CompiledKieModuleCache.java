@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.impl.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.drools.compiler.kie.builder.impl.CompilationCacheProvider;
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.drools.core.impl.InternalKieContainer;
+import org.kie.api.KieServices;
+import org.kie.api.builder.ReleaseId;
+import org.kie.memorycompiler.resources.ResourceStore;
+import org.kie.scanner.KieMavenRepository;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.KieServerEnvironment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local disk cache of kjars enriched with their compilation cache (<code>kbase.cache</code> and <code>kmodule.info</code>)
+ * so KieBases of unchanged kjars do not need to be compiled again on server restart.
+ *
+ * Entries are stored under the directory given by <code>org.kie.server.container.cache.dir</code> system property and are
+ * keyed by GAV, SHA-256 of the original kjar and the version of the server. When no matching entry is found
+ * (e.g. kjar was redeployed with the same version or server was upgraded) container is built as usual and
+ * the cache entry is replaced.
+ */
+public class CompiledKieModuleCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledKieModuleCache.class);
+
+    private final File cacheDir;
+
+    public CompiledKieModuleCache(File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    public static CompiledKieModuleCache fromSystemProperties() {
+        String location = System.getProperty(KieServerConstants.KIE_SERVER_CONTAINER_CACHE_DIR);
+        if (location == null || location.trim().isEmpty()) {
+            return null;
+        }
+        logger.info("Compiled kie module cache enabled at {}", location);
+        return new CompiledKieModuleCache(new File(location));
+    }
+
+    /**
+     * Registers cached kjar (if there is a valid one) for given release id in the kie repository so it is used
+     * when container is created instead of the one from maven repository.
+     * @param ks kie services
+     * @param releaseId release id of the container
+     * @return true if cached kjar was registered, false otherwise
+     */
+    public boolean restore(KieServices ks, ReleaseId releaseId) {
+        try {
+            File entry = getEntry(releaseId, resolveArtifact(releaseId));
+            if (!entry.exists()) {
+                logger.debug("No compiled kie module cache entry found for {}", releaseId);
+                return false;
+            }
+            ks.getRepository().addKieModule(ks.getResources().newFileSystemResource(entry));
+            logger.info("Restored compiled kie module {} from cache entry {}", releaseId, entry);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Unable to restore compiled kie module {} from cache, it will be built", releaseId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Stores kjar of given container together with its compilation cache unless valid entry already exists.
+     * @param kieContainer successfully created container
+     */
+    public void store(InternalKieContainer kieContainer) {
+        ReleaseId releaseId = kieContainer.getContainerReleaseId();
+        try {
+            File artifact = resolveArtifact(releaseId);
+            File entry = getEntry(releaseId, artifact);
+            if (entry.exists()) {
+                return;
+            }
+            // make sure all kie bases are compiled before compilation cache is collected
+            kieContainer.getKieBaseNames().forEach(kieContainer::getKieBase);
+
+            InternalKieModule kieModule = (InternalKieModule) kieContainer.getMainKieModule();
+            CachedResourceStore resourceStore = new CachedResourceStore();
+            CompilationCacheProvider cacheProvider = CompilationCacheProvider.get();
+            if (cacheProvider != null) {
+                cacheProvider.writeKieModuleMetaInfo(kieModule, resourceStore);
+            }
+            if (resourceStore.resources.isEmpty()) {
+                logger.debug("Kie module {} does not produce compilation cache, skipping", releaseId);
+                return;
+            }
+
+            File parent = entry.getParentFile();
+            removeStaleEntries(parent);
+            Files.createDirectories(parent.toPath());
+            Path tmp = Files.createTempFile(parent.toPath(), entry.getName(), ".tmp");
+            writeEntry(artifact, resourceStore.resources, tmp);
+            Files.move(tmp, entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Stored compiled kie module {} in cache entry {}", releaseId, entry);
+        } catch (Exception e) {
+            logger.warn("Unable to store compiled kie module {} in cache", releaseId, e);
+        }
+    }
+
+    protected File resolveArtifact(ReleaseId releaseId) {
+        return KieMavenRepository.getKieMavenRepository().resolveArtifact(releaseId).getFile();
+    }
+
+    protected File getEntry(ReleaseId releaseId, File artifact) throws Exception {
+        String engineVersion = String.valueOf(KieServerEnvironment.getVersion());
+        File dir = new File(cacheDir, releaseId.getGroupId() + File.separator + releaseId.getArtifactId() + File.separator + releaseId.getVersion());
+        return new File(dir, checksum(artifact) + "-" + engineVersion + ".jar");
+    }
+
+    protected String checksum(File artifact) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream in = Files.newInputStream(artifact.toPath())) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+
+    private void removeStaleEntries(File dir) {
+        File[] stale = dir.listFiles();
+        if (stale != null) {
+            for (File file : stale) {
+                if (!file.delete()) {
+                    logger.debug("Unable to remove stale cache entry {}", file);
+                }
+            }
+        }
+    }
+
+    private void writeEntry(File artifact, Map<String, byte[]> compiled, Path target) throws IOException {
+        try (ZipFile original = new ZipFile(artifact);
+             OutputStream out = Files.newOutputStream(target);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+
+            Enumeration<? extends ZipEntry> entries = original.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (compiled.containsKey(entry.getName())) {
+                    continue;
+                }
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                try (InputStream in = original.getInputStream(entry)) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        zip.write(buffer, 0, read);
+                    }
+                }
+                zip.closeEntry();
+            }
+            for (Map.Entry<String, byte[]> entry : compiled.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private static class CachedResourceStore implements ResourceStore {
+
+        private final Map<String, byte[]> resources = new LinkedHashMap<>();
+
+        @Override
+        public void write(String resourceName, byte[] resourceData) {
+            resources.put(resourceName, resourceData);
+        }
+
+        @Override
+        public void write(String resourceName, byte[] resourceData, boolean createFolder) {
+            resources.put(resourceName, resourceData);
+        }
+
+        @Override
+        public byte[] read(String resourceName) {
+            return resources.get(resourceName);
+        }
+
+        @Override
+        public void remove(String resourceName) {
+            resources.remove(resourceName);
+        }
+    }
+}
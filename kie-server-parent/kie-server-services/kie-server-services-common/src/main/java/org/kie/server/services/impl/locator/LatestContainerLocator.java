@@ -53,8 +53,9 @@ public class LatestContainerLocator implements ContainerLocator {
         containerInstances.forEach(c ->
                 {
                     if (c.getStatus().equals(KieContainerStatus.STARTED)) {
-                        comparableVersions.add(new ComparableVersion(c.getKieContainer().getReleaseId().getVersion()));
-                        versionToIdentifier.put(c.getKieContainer().getReleaseId().getVersion(), c.getContainerId());
+                        String version = getVersion(c);
+                        comparableVersions.add(new ComparableVersion(version));
+                        versionToIdentifier.put(version, c.getContainerId());
                     }
                 }
         );
@@ -63,4 +64,23 @@ public class LatestContainerLocator implements ContainerLocator {
         return versionToIdentifier.get(latest.toString());
     }
 
+    /**
+     * Same as {@link #locateContainer(String, List)} but returns null instead of failing when none of the
+     * containers is started. Used to maintain the alias index of the registry.
+     */
+    public String locateStartedContainer(String alias, List<? extends KieContainerInstance> containerInstances) {
+        if (containerInstances.stream().noneMatch(c -> KieContainerStatus.STARTED.equals(c.getStatus()))) {
+            return null;
+        }
+        return locateContainer(alias, containerInstances);
+    }
+
+    protected String getVersion(KieContainerInstance containerInstance) {
+        if (containerInstance.getKieContainer() != null) {
+            return containerInstance.getKieContainer().getReleaseId().getVersion();
+        }
+        // container not fully initialized yet, rely on its resource
+        return containerInstance.getResource().getReleaseId().getVersion();
+    }
+
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.impl;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.controller.api.model.KieServerSetup;
+import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.storage.KieServerState;
+import org.kie.server.services.impl.storage.KieServerStateRepository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ContainerManagerTest {
+
+    private KieServerImpl kieServer;
+    private KieServerStateRepository repository;
+
+    @Before
+    public void setup() {
+        kieServer = mock(KieServerImpl.class);
+        repository = mock(KieServerStateRepository.class);
+        KieServerRegistry registry = mock(KieServerRegistry.class);
+        when(registry.getStateRepository()).thenReturn(repository);
+        when(kieServer.getServerRegistry()).thenReturn(registry);
+    }
+
+    @After
+    public void cleanUp() {
+        System.clearProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_THREADS);
+        System.clearProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_TIMEOUT);
+    }
+
+    @Test
+    public void testInstallContainersSequentially() {
+        Set<KieContainerResource> containers = createContainers(3);
+
+        ContainerManager containerManager = new ContainerManager();
+        containerManager.installContainersSync(kieServer, containers, new KieServerState(), new KieServerSetup());
+
+        verify(kieServer, times(3)).createContainer(any(String.class), any(KieContainerResource.class));
+        verify(kieServer).markAsReady();
+        assertEquals(3, containerManager.getInstallDurations().size());
+    }
+
+    @Test
+    public void testInstallContainersInParallel() {
+        System.setProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_THREADS, "4");
+        Set<KieContainerResource> containers = createContainers(10);
+        when(kieServer.createContainer(eq("container-5"), any(KieContainerResource.class))).thenThrow(new RuntimeException("failed to build"));
+
+        ContainerManager containerManager = new ContainerManager();
+        containerManager.installContainersSync(kieServer, containers, new KieServerState(), new KieServerSetup());
+
+        verify(kieServer, times(10)).createContainer(any(String.class), any(KieContainerResource.class));
+        verify(kieServer).markAsReady();
+        // failure of single container does not affect the others
+        assertEquals(10, containerManager.getInstallDurations().size());
+        assertTrue(containerManager.getInstallDurations().containsKey("container-9"));
+        for (KieContainerResource container : containers) {
+            assertEquals("container-5".equals(container.getContainerId()) ? KieContainerStatus.FAILED : KieContainerStatus.STARTED, container.getStatus());
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void testContainersNotInstalledWithinTimeoutAreStoredAsFailed() {
+        System.setProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_THREADS, "2");
+        System.setProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_TIMEOUT, "1");
+        Set<KieContainerResource> containers = createContainers(3);
+        CountDownLatch never = new CountDownLatch(1);
+        when(kieServer.createContainer(eq("container-1"), any(KieContainerResource.class))).thenAnswer(invocation -> {
+            never.await();
+            return null;
+        });
+        KieServerState state = new KieServerState();
+
+        ContainerManager containerManager = new ContainerManager();
+        containerManager.installContainersSync(kieServer, containers, state, new KieServerSetup());
+
+        verify(kieServer).markAsReady();
+        verify(repository).store(any(), eq(state));
+        for (KieContainerResource container : state.getContainers()) {
+            assertEquals("container-1".equals(container.getContainerId()) ? KieContainerStatus.FAILED : KieContainerStatus.STARTED, container.getStatus());
+        }
+    }
+
+    @Test
+    public void testInvalidTimeoutFallsBackToDefault() {
+        ContainerManager containerManager = new ContainerManager();
+        assertEquals(3600, containerManager.getTimeout());
+
+        System.setProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_TIMEOUT, "one hour");
+        assertEquals(3600, containerManager.getTimeout());
+
+        System.setProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_TIMEOUT, "0");
+        assertEquals(3600, containerManager.getTimeout());
+
+        System.setProperty(KieServerConstants.KIE_SERVER_STARTUP_CONTAINERS_TIMEOUT, " 60 ");
+        assertEquals(60, containerManager.getTimeout());
+    }
+
+    private Set<KieContainerResource> createContainers(int count) {
+        Set<KieContainerResource> containers = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            containers.add(new KieContainerResource("container-" + i, new ReleaseId("org.kie", "test-" + i, "1.0"), KieContainerStatus.STARTED));
+        }
+        return containers;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.impl;
+
+import java.util.ArrayList;
+
+import org.drools.core.command.runtime.BatchExecutionCommandImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.runtime.CommandExecutor;
+import org.kie.api.runtime.ExecutionResults;
+import org.kie.api.runtime.KieContainer;
+import org.kie.server.api.marshalling.Marshaller;
+import org.kie.server.api.marshalling.MarshallingFormat;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.services.api.KieServerRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KieContainerCommandServiceImplTest {
+
+    private static final String CONTAINER_ID = "container";
+    private static final String PAYLOAD = "{\"lookup\" : \"payloadSession\", \"commands\" : []}";
+
+    private KieServerRegistry context;
+    private KieContainerInstanceImpl container;
+    private Marshaller marshaller;
+    private KieSessionLookupManager lookupManager;
+    private CommandExecutor session;
+    private ExecutionResults results;
+
+    private KieContainerCommandServiceImpl service;
+
+    @Before
+    public void setup() {
+        marshaller = mock(Marshaller.class);
+        when(marshaller.unmarshall(PAYLOAD, BatchExecutionCommandImpl.class)).thenReturn(new BatchExecutionCommandImpl(new ArrayList<>(), "payloadSession"));
+
+        container = mock(KieContainerInstanceImpl.class);
+        when(container.getKieContainer()).thenReturn(mock(KieContainer.class));
+        when(container.getMarshaller(MarshallingFormat.JSON)).thenReturn(marshaller);
+
+        results = mock(ExecutionResults.class);
+        session = mock(CommandExecutor.class);
+        when(session.execute(any(BatchExecutionCommandImpl.class))).thenReturn(results);
+
+        lookupManager = mock(KieSessionLookupManager.class);
+        context = mock(KieServerRegistry.class);
+        when(context.getContainer(eq(CONTAINER_ID), any())).thenReturn(container);
+        when(context.getKieSessionLookupManager()).thenReturn(lookupManager);
+
+        service = new KieContainerCommandServiceImpl(null, context);
+    }
+
+    @Test
+    public void testLookupTakenFromUnmarshalledCommand() {
+        when(lookupManager.lookup("payloadSession", container, context)).thenReturn(session);
+
+        ServiceResponse<ExecutionResults> response = service.callContainer(CONTAINER_ID, PAYLOAD, MarshallingFormat.JSON, null);
+
+        assertEquals(ServiceResponse.ResponseType.SUCCESS, response.getType());
+        assertSame(results, response.getResult());
+        // payload is unmarshalled only once, the lookup is not searched for in the raw payload
+        verify(marshaller, times(1)).unmarshall(anyString(), any());
+        verify(lookupManager).postLookup("payloadSession", container, session, context);
+    }
+
+    @Test
+    public void testLookupFromHeaderTakesPrecedence() {
+        when(lookupManager.lookup("headerSession", container, context)).thenReturn(session);
+
+        ServiceResponse<ExecutionResults> response = service.callContainer(CONTAINER_ID, PAYLOAD, MarshallingFormat.JSON, null, "headerSession");
+
+        assertEquals(ServiceResponse.ResponseType.SUCCESS, response.getType());
+        verify(lookupManager, never()).lookup(eq("payloadSession"), any(), any());
+        verify(marshaller, times(1)).unmarshall(anyString(), any());
+        verify(session).execute(any(BatchExecutionCommandImpl.class));
+    }
+
+    @Test
+    public void testEmptyHeaderFallsBackToPayloadLookup() {
+        when(lookupManager.lookup("payloadSession", container, context)).thenReturn(session);
+
+        ServiceResponse<ExecutionResults> response = service.callContainer(CONTAINER_ID, PAYLOAD, MarshallingFormat.JSON, null, "");
+
+        assertEquals(ServiceResponse.ResponseType.SUCCESS, response.getType());
+        verify(lookupManager).lookup("payloadSession", container, context);
+    }
+
+    @Test
+    public void testSessionNotFound() {
+        ServiceResponse<ExecutionResults> response = service.callContainer(CONTAINER_ID, PAYLOAD, MarshallingFormat.JSON, null, "unknownSession");
+
+        assertEquals(ServiceResponse.ResponseType.FAILURE, response.getType());
+        assertTrue(response.getMsg().contains("unknownSession"));
+        verify(session, never()).execute(any(BatchExecutionCommandImpl.class));
+    }
+}
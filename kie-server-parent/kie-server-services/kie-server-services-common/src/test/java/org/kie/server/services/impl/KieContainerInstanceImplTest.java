@@ -15,6 +15,15 @@
 
 package org.kie.server.services.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.assertj.core.api.Assertions;
 import org.drools.core.impl.InternalKieContainer;
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
@@ -75,6 +84,61 @@ public class KieContainerInstanceImplTest {
         Assertions.assertThat(updatedMarshaller).isNotEqualTo(marshaller);
     }
 
+    @Test
+    public void testConcurrentMarshallerLookup() throws Exception {
+        createEmptyKjar(GROUP_ID, ARTIFACT_ID, VERSION_100);
+
+        KieServices ks = KieServices.Factory.get();
+        InternalKieContainer kieContainer = (InternalKieContainer) ks.newKieContainer(CONTAINER_ID + "-concurrent", RELEASE_ID_100);
+        KieContainerInstanceImpl containerInstance = new KieContainerInstanceImpl(CONTAINER_ID + "-concurrent", KieContainerStatus.STARTED, kieContainer);
+        containerInstance.initMarshallers();
+        Marshaller jaxb = containerInstance.getMarshaller(MarshallingFormat.JAXB);
+        Marshaller json = containerInstance.getMarshaller(MarshallingFormat.JSON);
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                boolean same = true;
+                for (int j = 0; j < 10000; j++) {
+                    same &= containerInstance.getMarshaller(MarshallingFormat.JAXB) == jaxb;
+                    same &= containerInstance.getMarshaller(MarshallingFormat.JSON) == json;
+                }
+                return same;
+            }));
+        }
+        start.countDown();
+        for (Future<Boolean> result : results) {
+            Assertions.assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdownNow();
+
+        // disposed marshallers are rebuilt on next use
+        containerInstance.disposeMarshallers();
+        Assertions.assertThat(containerInstance.getMarshaller(MarshallingFormat.JAXB)).isNotSameAs(jaxb);
+    }
+
+    @Test
+    public void testMarshallersRebuiltOnNewExtraClasses() {
+        createEmptyKjar(GROUP_ID, ARTIFACT_ID, VERSION_100);
+
+        KieServices ks = KieServices.Factory.get();
+        InternalKieContainer kieContainer = (InternalKieContainer) ks.newKieContainer(CONTAINER_ID + "-extra", RELEASE_ID_100);
+        KieContainerInstanceImpl containerInstance = new KieContainerInstanceImpl(CONTAINER_ID + "-extra", KieContainerStatus.STARTED, kieContainer);
+        Marshaller marshaller = containerInstance.getMarshaller(MarshallingFormat.JAXB);
+
+        containerInstance.addExtraClasses(Collections.singleton(ReleaseId.class));
+        Marshaller rebuilt = containerInstance.getMarshaller(MarshallingFormat.JAXB);
+        Assertions.assertThat(rebuilt).isNotSameAs(marshaller);
+
+        // no new classes, marshaller is kept
+        containerInstance.addExtraClasses(Collections.singleton(ReleaseId.class));
+        Assertions.assertThat(containerInstance.getMarshaller(MarshallingFormat.JAXB)).isSameAs(rebuilt);
+    }
+
     private void verifyReleaseId(ReleaseId actualReleaseId, ReleaseId expectedReleaseId) {
         Assertions.assertThat(actualReleaseId).isNotNull();
         Assertions.assertThat(actualReleaseId.getGroupId()).isEqualTo(expectedReleaseId.getGroupId());
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.services.api.ContainerLocator;
+import org.kie.server.services.api.KieContainerInstance;
+import org.kie.server.services.impl.locator.LatestContainerLocator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KieServerRegistryImplTest {
+
+    private static final String ALIAS = "my-app";
+
+    @Test
+    public void testConcurrentAliasLookupWhileRegistering() throws Exception {
+        KieServerRegistryImpl registry = new KieServerRegistryImpl();
+        registry.registerContainer("stable", newContainer("stable", "1.0.0"));
+
+        // iterates whole list as real locators do, which used to fail while the list was modified
+        ContainerLocator locator = (alias, containers) -> {
+            String found = null;
+            for (KieContainerInstance container : containers) {
+                if (container.getContainerId().equals("stable")) {
+                    found = container.getContainerId();
+                }
+            }
+            return found;
+        };
+
+        int readers = 8;
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        List<Future<Integer>> lookups = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            lookups.add(executor.submit(() -> {
+                start.await();
+                int found = 0;
+                while (running.get()) {
+                    assertThat(registry.getContainer(ALIAS, locator).getContainerId()).isEqualTo("stable");
+                    found++;
+                }
+                return found;
+            }));
+        }
+        Future<?> writer = executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < 5000; i++) {
+                String containerId = "churn-" + i;
+                registry.registerContainer(containerId, newContainer(containerId, "2.0." + i));
+                registry.unregisterContainer(containerId);
+            }
+            return null;
+        });
+
+        start.countDown();
+        writer.get(60, TimeUnit.SECONDS);
+        running.set(false);
+        for (Future<Integer> lookup : lookups) {
+            assertThat(lookup.get(10, TimeUnit.SECONDS)).isPositive();
+        }
+        executor.shutdownNow();
+
+        assertThat(registry.getContainersForAlias(ALIAS)).extracting(KieContainerInstanceImpl::getContainerId).containsExactly("stable");
+    }
+
+    @Test
+    public void testLatestContainerIndexFollowsLifecycle() {
+        KieServerRegistryImpl registry = new KieServerRegistryImpl();
+        KieContainerInstanceImpl first = newContainer("first", "1.0.0");
+        KieContainerInstanceImpl second = newContainer("second", "1.1.0");
+        KieContainerInstanceImpl third = new KieContainerInstanceImpl("third", KieContainerStatus.CREATING, null, new ReleaseId("org.kie.server.test", ALIAS, "1.2.0"), null);
+        registry.registerContainer("first", first);
+        registry.registerContainer("second", second);
+        registry.registerContainer("third", third);
+
+        assertThat(registry.getContainer(ALIAS, LatestContainerLocator.get())).isSameAs(second);
+
+        third.setStatus(KieContainerStatus.STARTED);
+        registry.refreshContainerAlias(third);
+        assertThat(registry.getContainer(ALIAS, LatestContainerLocator.get())).isSameAs(third);
+
+        third.setStatus(KieContainerStatus.DEACTIVATED);
+        registry.refreshContainerAlias(third);
+        assertThat(registry.getContainer(ALIAS, LatestContainerLocator.get())).isSameAs(second);
+
+        registry.unregisterContainer("second");
+        assertThat(registry.getContainer(ALIAS, LatestContainerLocator.get())).isSameAs(first);
+        // direct container id still takes precedence over alias
+        assertThat(registry.getContainer("third", LatestContainerLocator.get())).isSameAs(third);
+    }
+
+    private KieContainerInstanceImpl newContainer(String containerId, String version) {
+        ReleaseId releaseId = new ReleaseId("org.kie.server.test", ALIAS, version);
+        return new KieContainerInstanceImpl(containerId, KieContainerStatus.STARTED, null, releaseId, null);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.impl.cache;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.drools.core.impl.InternalKieContainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.kie.server.api.KieServerConstants;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledKieModuleCacheTest {
+
+    private static final File CACHE_DIR = new File("target/kie-module-cache");
+    private static final String KBASE_NAME = "cachedKBase";
+    private static final String DRL_PATH = "src/main/resources/org/kie/server/test/cache/greet.drl";
+
+    private File artifact;
+    private CompiledKieModuleCache cache;
+
+    @Before
+    public void setup() throws Exception {
+        FileUtils.deleteDirectory(CACHE_DIR);
+        artifact = File.createTempFile("kjar", ".jar");
+        Files.write(artifact.toPath(), "first".getBytes(StandardCharsets.UTF_8));
+
+        cache = new CompiledKieModuleCache(CACHE_DIR) {
+            @Override
+            protected File resolveArtifact(ReleaseId releaseId) {
+                return artifact;
+            }
+        };
+    }
+
+    @After
+    public void cleanup() {
+        artifact.delete();
+        System.clearProperty(KieServerConstants.KIE_SERVER_CONTAINER_CACHE_DIR);
+    }
+
+    @Test
+    public void testCacheDisabledByDefault() {
+        assertNull(CompiledKieModuleCache.fromSystemProperties());
+    }
+
+    @Test
+    public void testEntryChangesWithContent() throws Exception {
+        ReleaseId releaseId = KieServices.Factory.get().newReleaseId("org.kie", "cached", "1.0");
+
+        File first = cache.getEntry(releaseId, artifact);
+        assertEquals(first, cache.getEntry(releaseId, artifact));
+
+        Files.write(artifact.toPath(), "second".getBytes(StandardCharsets.UTF_8));
+        assertNotEquals(first, cache.getEntry(releaseId, artifact));
+    }
+
+    @Test
+    public void testRestoreWithoutEntry() {
+        ReleaseId releaseId = KieServices.Factory.get().newReleaseId("org.kie", "cached", "1.0");
+
+        assertFalse(cache.restore(KieServices.Factory.get(), releaseId));
+    }
+
+    @Test
+    public void testStoreAndRestore() throws Exception {
+        KieServices ks = KieServices.Factory.get();
+        ReleaseId releaseId = ks.newReleaseId("org.kie.server.test", "cached-rules", "1.0");
+        InternalKieModule kieModule = buildKjar(ks, releaseId);
+        Files.write(artifact.toPath(), kieModule.getBytes());
+
+        KieContainer kieContainer = ks.newKieContainer(releaseId);
+        cache.store((InternalKieContainer) kieContainer);
+        kieContainer.dispose();
+
+        File entry = cache.getEntry(releaseId, artifact);
+        assertTrue(entry.isFile());
+        try (ZipFile zip = new ZipFile(entry)) {
+            assertNotNull(zip.getEntry("META-INF/" + KBASE_NAME + "/kbase.cache"));
+            assertNotNull(zip.getEntry(DRL_PATH));
+        }
+
+        // restart - the module is no longer known and is restored from the cache entry instead of being built
+        ks.getRepository().removeKieModule(releaseId);
+        assertTrue(cache.restore(ks, releaseId));
+        InternalKieModule restored = (InternalKieModule) ks.getRepository().getKieModule(releaseId);
+        assertEquals(entry, restored.getFile());
+
+        KieContainer restoredContainer = ks.newKieContainer(releaseId);
+        try {
+            KieSession session = restoredContainer.newKieSession();
+            List<String> results = new ArrayList<>();
+            session.setGlobal("results", results);
+            session.insert("cache");
+            session.fireAllRules();
+            session.dispose();
+            assertEquals(Collections.singletonList("Hello cache"), results);
+        } finally {
+            restoredContainer.dispose();
+            ks.getRepository().removeKieModule(releaseId);
+        }
+    }
+
+    private static InternalKieModule buildKjar(KieServices ks, ReleaseId releaseId) {
+        KieFileSystem kfs = ks.newKieFileSystem();
+        kfs.generateAndWritePomXML(releaseId);
+        kfs.writeKModuleXML("<kmodule xmlns=\"http://www.drools.org/xsd/kmodule\">\n" +
+                "  <kbase name=\"" + KBASE_NAME + "\" packages=\"org.kie.server.test.cache\" default=\"true\">\n" +
+                "    <ksession name=\"cachedKSession\" default=\"true\"/>\n" +
+                "  </kbase>\n" +
+                "</kmodule>");
+        kfs.write(DRL_PATH, "package org.kie.server.test.cache\n" +
+                "global java.util.List results\n" +
+                "rule \"greet\"\n" +
+                "when\n" +
+                "    $name : String()\n" +
+                "then\n" +
+                "    results.add(\"Hello \" + $name);\n" +
+                "end\n");
+        KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll();
+        assertTrue(kieBuilder.getResults().getMessages().toString(), kieBuilder.getResults().getMessages(Message.Level.ERROR).isEmpty());
+        return (InternalKieModule) kieBuilder.getKieModule();
+    }
+}
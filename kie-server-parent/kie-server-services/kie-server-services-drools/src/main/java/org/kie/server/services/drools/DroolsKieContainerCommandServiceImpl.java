@@ -44,6 +44,11 @@ public class DroolsKieContainerCommandServiceImpl extends KieContainerCommandSer
 
     @Override
     public ServiceResponse<ExecutionResults> callContainer(String containerId, String payload, MarshallingFormat marshallingFormat, String classType) {
+        return callContainer(containerId, payload, marshallingFormat, classType, null);
+    }
+
+    @Override
+    public ServiceResponse<ExecutionResults> callContainer(String containerId, String payload, MarshallingFormat marshallingFormat, String classType, String lookup) {
         if( payload == null ) {
             return new ServiceResponse<ExecutionResults>(ServiceResponse.ResponseType.FAILURE, "Error calling container " + containerId + ". Empty payload. ");
         }
@@ -67,6 +72,10 @@ public class DroolsKieContainerCommandServiceImpl extends KieContainerCommandSer
                     return new ServiceResponse<ExecutionResults>(ServiceResponse.ResponseType.FAILURE, "Bad request, no commands to be executed - either wrong format or no data");
                 }
 
+                if (lookup != null && !lookup.isEmpty()) {
+                    ((BatchExecutionCommandImpl) cmd).setLookup(lookup);
+                }
+
                 ExecutionResults results = rulesExecutionService.call(kci, (BatchExecutionCommandImpl) cmd);
                 return new ServiceResponse<ExecutionResults>(ServiceResponse.ResponseType.SUCCESS, "Container " + containerId + " successfully called.", results);
             } else {
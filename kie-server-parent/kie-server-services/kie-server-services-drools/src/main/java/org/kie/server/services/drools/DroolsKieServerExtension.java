@@ -56,6 +56,7 @@ public class DroolsKieServerExtension implements KieServerExtension {
     protected KieServerRegistry registry;
 
     private List<Object> services = new ArrayList<Object>();
+    private DroolsKieSessionLookupHandler sessionLookupHandler = new DroolsKieSessionLookupHandler();
     private boolean initialized = false;
 
     @Override
@@ -74,7 +75,7 @@ public class DroolsKieServerExtension implements KieServerExtension {
         this.batchCommandService = new DroolsKieContainerCommandServiceImpl(kieServer, registry, this.rulesExecutionService);
         this.registry = registry;
         if (registry.getKieSessionLookupManager() != null) {
-            registry.getKieSessionLookupManager().addHandler(new DroolsKieSessionLookupHandler());
+            registry.getKieSessionLookupManager().addHandler(sessionLookupHandler);
         }
         services.add(batchCommandService);
         services.add(rulesExecutionService);
@@ -145,7 +146,7 @@ public class DroolsKieServerExtension implements KieServerExtension {
 
     @Override
     public void disposeContainer(String id, KieContainerInstance kieContainerInstance, Map<String, Object> parameters) {
-
+        sessionLookupHandler.disposePools(id);
     }
 
     @Override
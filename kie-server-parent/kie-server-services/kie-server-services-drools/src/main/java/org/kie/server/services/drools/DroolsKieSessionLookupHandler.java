@@ -15,23 +15,46 @@
 
 package org.kie.server.services.drools;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.drools.compiler.kie.builder.impl.KieContainerImpl;
 import org.kie.api.builder.model.KieSessionModel;
 import org.kie.api.event.rule.AgendaEventListener;
 import org.kie.api.event.rule.RuleRuntimeEventManager;
 import org.kie.api.runtime.CommandExecutor;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.model.KieServerConfig;
 import org.kie.server.services.api.KieContainerInstance;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.api.KieSessionLookupHandler;
 import org.kie.server.services.prometheus.PrometheusKieServerExtension;
 import org.kie.server.services.prometheus.PrometheusMetricsDroolsListener;
+import org.kie.server.services.prometheus.PrometheusMetricsKieSessionPoolListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DroolsKieSessionLookupHandler implements KieSessionLookupHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(DroolsKieSessionLookupHandler.class);
+
     private static final String DEFAULT_KIE_SESSION_ID = "default";
 
+    private static final long DEFAULT_POOL_MAX_WAIT = 5000;
+
+    private final long poolMaxWait = readPoolMaxWait();
+
+    // container id -> session name -> pool (empty when the session is not pooled)
+    private final ConcurrentMap<String, ConcurrentMap<String, Optional<PooledKieSessionExecutor>>> pools = new ConcurrentHashMap<>();
+
+    // sessions that already have metrics listeners registered, weak so disposed containers' sessions can be collected
+    private final Set<CommandExecutor> instrumentedSessions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
     @Override
     public CommandExecutor lookupKieSession(String kieSessionId, KieContainerInstance containerInstance, KieServerRegistry registry) {
         CommandExecutor ks = null;
@@ -40,7 +63,10 @@ public class DroolsKieSessionLookupHandler implements KieSessionLookupHandler {
             if( ksm != null ) {
                 switch (ksm.getType() ) {
                     case STATEFUL:
-                        ks = ((KieContainerImpl)containerInstance.getKieContainer()).getKieSession(kieSessionId);
+                        ks = getPooledSession(kieSessionId, containerInstance, registry);
+                        if (ks == null) {
+                            ks = ((KieContainerImpl)containerInstance.getKieContainer()).getKieSession(kieSessionId);
+                        }
                         break;
                     case STATELESS:
                         ks = ((KieContainerImpl)containerInstance.getKieContainer()).getStatelessKieSession(kieSessionId);
@@ -55,7 +81,18 @@ public class DroolsKieSessionLookupHandler implements KieSessionLookupHandler {
     @Override
     public void postLookupKieSession(String kieSessionId, KieContainerInstance containerInstance, CommandExecutor ks, KieServerRegistry registry) {
         PrometheusKieServerExtension extension = (PrometheusKieServerExtension)registry.getServerExtension(PrometheusKieServerExtension.EXTENSION_NAME);
-        if (extension != null && ks instanceof RuleRuntimeEventManager) {
+        if (extension == null || ks == null || !instrumentedSessions.add(ks)) {
+            return;
+        }
+        if (ks instanceof PooledKieSessionExecutor) {
+            PooledKieSessionExecutor pooled = (PooledKieSessionExecutor) ks;
+
+            if (pooled.getAgendaEventListeners().stream().noneMatch(PrometheusMetricsDroolsListener.class::isInstance)) {
+                pooled.addEventListener(new PrometheusMetricsDroolsListener(PrometheusKieServerExtension.getMetrics(),
+                                                                            kieSessionId, containerInstance));
+            }
+            extension.getDroolsListeners(kieSessionId, containerInstance).forEach(pooled::addEventListener);
+        } else if (ks instanceof RuleRuntimeEventManager) {
             RuleRuntimeEventManager eventManager = (RuleRuntimeEventManager) ks;
 
             if (kieSessionId == null || kieSessionId.isEmpty()) {
@@ -78,4 +115,82 @@ public class DroolsKieSessionLookupHandler implements KieSessionLookupHandler {
             });
         }
     }
+
+    public void disposePools(String containerId) {
+        ConcurrentMap<String, Optional<PooledKieSessionExecutor>> containerPools = pools.remove(containerId);
+        if (containerPools != null) {
+            containerPools.values().forEach(pool -> pool.ifPresent(PooledKieSessionExecutor::dispose));
+        }
+    }
+
+    protected CommandExecutor getPooledSession(String kieSessionId, KieContainerInstance containerInstance, KieServerRegistry registry) {
+        return pools.computeIfAbsent(containerInstance.getContainerId(), id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(kieSessionId, id -> createPool(kieSessionId, containerInstance, registry))
+                .orElse(null);
+    }
+
+    protected Optional<PooledKieSessionExecutor> createPool(String kieSessionId, KieContainerInstance containerInstance, KieServerRegistry registry) {
+        int size = getPoolSize(kieSessionId, containerInstance);
+        if (size < 1) {
+            return Optional.empty();
+        }
+        logger.info("Session '{}' of container {} served from pool of {} sessions", kieSessionId, containerInstance.getContainerId(), size);
+        PooledKieSessionExecutor pool = new PooledKieSessionExecutor(containerInstance.getKieContainer(), kieSessionId, size, poolMaxWait);
+        if (registry.getServerExtension(PrometheusKieServerExtension.EXTENSION_NAME) != null) {
+            pool.setMetricsListener(new PrometheusMetricsKieSessionPoolListener(PrometheusKieServerExtension.getMetrics(),
+                                                                                containerInstance.getContainerId(), kieSessionId));
+        }
+        return Optional.of(pool);
+    }
+
+    /**
+     * Size of the pool for given session, container configuration items take precedence over system properties.
+     * Sessions are pooled only when the size is positive and, if names are given, the session is listed.
+     */
+    protected int getPoolSize(String kieSessionId, KieContainerInstance containerInstance) {
+        KieServerConfig config = new KieServerConfig(containerInstance.getResource().getConfigItems());
+        int size = parsePoolSize(config.getConfigItemValue(KieServerConstants.PCFG_KIE_SESSION_POOL_SIZE,
+                                                           System.getProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_SIZE)));
+        String names = config.getConfigItemValue(KieServerConstants.PCFG_KIE_SESSION_POOL_NAMES,
+                                                 System.getProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_NAMES));
+        if (size < 1 || names == null || names.trim().isEmpty()) {
+            return size;
+        }
+        for (String name : names.split(",")) {
+            if (name.trim().equals(kieSessionId)) {
+                return size;
+            }
+        }
+        return 0;
+    }
+
+    private static int parsePoolSize(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid session pool size '{}' ({} or {}), sessions are not pooled", value,
+                        KieServerConstants.PCFG_KIE_SESSION_POOL_SIZE, KieServerConstants.KIE_DROOLS_SESSION_POOL_SIZE);
+            return 0;
+        }
+    }
+
+    private static long readPoolMaxWait() {
+        String value = System.getProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_WAIT);
+        if (value == null) {
+            return DEFAULT_POOL_MAX_WAIT;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn("Invalid value '{}' of {}, using default {}", value, KieServerConstants.KIE_DROOLS_SESSION_POOL_WAIT, DEFAULT_POOL_MAX_WAIT);
+        return DEFAULT_POOL_MAX_WAIT;
+    }
 }
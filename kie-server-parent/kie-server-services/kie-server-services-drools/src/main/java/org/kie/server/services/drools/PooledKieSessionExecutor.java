@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.drools;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.kie.api.command.Command;
+import org.kie.api.event.rule.AgendaEventListener;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
+import org.kie.api.runtime.CommandExecutor;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieContainerSessionsPool;
+import org.kie.api.runtime.KieSession;
+import org.kie.server.services.prometheus.PrometheusMetricsKieSessionPoolListener;
+
+/**
+ * Executes every command on a stateful session borrowed from a bounded pool. Once the command is executed
+ * the session is reset (so no facts leak to the next request) and returned to the pool, which allows
+ * concurrent requests against the same session name to run in parallel instead of being serialized on a
+ * single shared session.
+ */
+public class PooledKieSessionExecutor implements CommandExecutor {
+
+    private final String kieSessionId;
+    private final int size;
+    private final long maxWaitMillis;
+    private final KieContainerSessionsPool pool;
+    private final Semaphore permits;
+    private final AtomicInteger inUse = new AtomicInteger();
+
+    private final Set<AgendaEventListener> agendaEventListeners = new CopyOnWriteArraySet<>();
+    private final Set<RuleRuntimeEventListener> ruleRuntimeEventListeners = new CopyOnWriteArraySet<>();
+    // removed listeners that pooled sessions might still have registered from before
+    private final Set<AgendaEventListener> removedAgendaEventListeners = new CopyOnWriteArraySet<>();
+    private final Set<RuleRuntimeEventListener> removedRuleRuntimeEventListeners = new CopyOnWriteArraySet<>();
+    private volatile PrometheusMetricsKieSessionPoolListener metricsListener;
+
+    public PooledKieSessionExecutor(KieContainer kieContainer, String kieSessionId, int size, long maxWaitMillis) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size of session pool must be positive but was " + size);
+        }
+        this.kieSessionId = kieSessionId;
+        this.size = size;
+        this.maxWaitMillis = maxWaitMillis;
+        this.pool = kieContainer.newKieSessionsPool(size);
+        this.permits = new Semaphore(size, true);
+    }
+
+    @Override
+    public <T> T execute(Command<T> command) {
+        long start = System.nanoTime();
+        acquire();
+        try {
+            KieSession session = pool.newKieSession(kieSessionId);
+            int borrowed = inUse.incrementAndGet();
+            if (metricsListener != null) {
+                metricsListener.sessionBorrowed(System.nanoTime() - start, borrowed);
+            }
+            try {
+                registerListeners(session);
+                return session.execute(command);
+            } finally {
+                long resetStart = System.nanoTime();
+                // pooled session is reset and returned to the pool instead of being disposed
+                session.dispose();
+                borrowed = inUse.decrementAndGet();
+                if (metricsListener != null) {
+                    metricsListener.sessionReturned(System.nanoTime() - resetStart, borrowed);
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    protected void acquire() {
+        try {
+            if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("No session '" + kieSessionId + "' available in pool of " + size + " within " + maxWaitMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for pooled session '" + kieSessionId + "'", e);
+        }
+    }
+
+    protected void registerListeners(KieSession session) {
+        // listeners survive the reset so they are only added to sessions that have not seen them yet
+        for (AgendaEventListener listener : removedAgendaEventListeners) {
+            session.removeEventListener(listener);
+        }
+        for (RuleRuntimeEventListener listener : removedRuleRuntimeEventListeners) {
+            session.removeEventListener(listener);
+        }
+        for (AgendaEventListener listener : agendaEventListeners) {
+            if (!session.getAgendaEventListeners().contains(listener)) {
+                session.addEventListener(listener);
+            }
+        }
+        for (RuleRuntimeEventListener listener : ruleRuntimeEventListeners) {
+            if (!session.getRuleRuntimeEventListeners().contains(listener)) {
+                session.addEventListener(listener);
+            }
+        }
+    }
+
+    public void addEventListener(AgendaEventListener listener) {
+        removedAgendaEventListeners.remove(listener);
+        agendaEventListeners.add(listener);
+    }
+
+    public void addEventListener(RuleRuntimeEventListener listener) {
+        removedRuleRuntimeEventListeners.remove(listener);
+        ruleRuntimeEventListeners.add(listener);
+    }
+
+    public void removeEventListener(AgendaEventListener listener) {
+        if (agendaEventListeners.remove(listener)) {
+            removedAgendaEventListeners.add(listener);
+        }
+    }
+
+    public void removeEventListener(RuleRuntimeEventListener listener) {
+        if (ruleRuntimeEventListeners.remove(listener)) {
+            removedRuleRuntimeEventListeners.add(listener);
+        }
+    }
+
+    public Set<AgendaEventListener> getAgendaEventListeners() {
+        return agendaEventListeners;
+    }
+
+    public Set<RuleRuntimeEventListener> getRuleRuntimeEventListeners() {
+        return ruleRuntimeEventListeners;
+    }
+
+    public void setMetricsListener(PrometheusMetricsKieSessionPoolListener metricsListener) {
+        this.metricsListener = metricsListener;
+        if (metricsListener != null) {
+            metricsListener.poolCreated(size);
+        }
+    }
+
+    public String getKieSessionId() {
+        return kieSessionId;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getInUse() {
+        return inUse.get();
+    }
+
+    public void dispose() {
+        pool.shutdown();
+        if (metricsListener != null) {
+            metricsListener.poolDisposed();
+        }
+    }
+}
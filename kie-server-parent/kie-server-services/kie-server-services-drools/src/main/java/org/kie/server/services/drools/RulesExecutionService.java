@@ -15,7 +15,11 @@
 
 package org.kie.server.services.drools;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.drools.core.command.runtime.BatchExecutionCommandImpl;
 import org.kie.api.command.BatchExecutionCommand;
@@ -38,6 +42,10 @@ public class RulesExecutionService {
     
     private List<AgendaEventListener> agendaEventListeners;
     private List<RuleRuntimeEventListener> ruleRuntimeEventListeners;
+    // snapshot of all configured listeners, replaced whenever any of the lists is set
+    private volatile Listeners listeners = Listeners.NONE;
+    // listeners registered on each session, weak so disposed containers' sessions can be collected
+    private final Map<CommandExecutor, Listeners> sessionListeners = Collections.synchronizedMap(new WeakHashMap<>());
 
     public RulesExecutionService(KieServerRegistry context) {
         this.context = context;
@@ -72,13 +80,74 @@ public class RulesExecutionService {
     }
     
     protected void applyListeners(CommandExecutor ks) {
-        
-        if (ruleRuntimeEventListeners != null) {
-            ruleRuntimeEventListeners.forEach( listener ->((KieRuntimeEventManager) ks).addEventListener(listener));
+        Listeners current = listeners;
+        Listeners applied = sessionListeners.get(ks);
+        if (applied == current || (applied == null && current.isEmpty())) {
+            return;
         }
-        
-        if (agendaEventListeners != null) {
-            agendaEventListeners.forEach( listener ->((KieRuntimeEventManager) ks).addEventListener(listener));
+        synchronized (sessionListeners) {
+            applied = sessionListeners.get(ks);
+            if (applied == current) {
+                return;
+            }
+            if (applied == null) {
+                applied = Listeners.NONE;
+            }
+            // listeners were replaced since the session was seen last, so the ones no longer configured are removed;
+            // agenda and rule runtime listeners are handled separately as one object may implement both
+            for (RuleRuntimeEventListener listener : applied.ruleRuntime) {
+                if (!current.ruleRuntime.contains(listener)) {
+                    removeListener(ks, listener);
+                }
+            }
+            for (AgendaEventListener listener : applied.agenda) {
+                if (!current.agenda.contains(listener)) {
+                    removeListener(ks, listener);
+                }
+            }
+            for (RuleRuntimeEventListener listener : current.ruleRuntime) {
+                if (!applied.ruleRuntime.contains(listener)) {
+                    addListener(ks, listener);
+                }
+            }
+            for (AgendaEventListener listener : current.agenda) {
+                if (!applied.agenda.contains(listener)) {
+                    addListener(ks, listener);
+                }
+            }
+            sessionListeners.put(ks, current);
+        }
+    }
+
+    private void addListener(CommandExecutor ks, RuleRuntimeEventListener listener) {
+        if (ks instanceof PooledKieSessionExecutor) {
+            ((PooledKieSessionExecutor) ks).addEventListener(listener);
+        } else {
+            ((KieRuntimeEventManager) ks).addEventListener(listener);
+        }
+    }
+
+    private void addListener(CommandExecutor ks, AgendaEventListener listener) {
+        if (ks instanceof PooledKieSessionExecutor) {
+            ((PooledKieSessionExecutor) ks).addEventListener(listener);
+        } else {
+            ((KieRuntimeEventManager) ks).addEventListener(listener);
+        }
+    }
+
+    private void removeListener(CommandExecutor ks, RuleRuntimeEventListener listener) {
+        if (ks instanceof PooledKieSessionExecutor) {
+            ((PooledKieSessionExecutor) ks).removeEventListener(listener);
+        } else {
+            ((KieRuntimeEventManager) ks).removeEventListener(listener);
+        }
+    }
+
+    private void removeListener(CommandExecutor ks, AgendaEventListener listener) {
+        if (ks instanceof PooledKieSessionExecutor) {
+            ((PooledKieSessionExecutor) ks).removeEventListener(listener);
+        } else {
+            ((KieRuntimeEventManager) ks).removeEventListener(listener);
         }
     }
 
@@ -88,6 +157,7 @@ public class RulesExecutionService {
 
     public void setAgendaEventListeners(List<AgendaEventListener> agendaEventListeners) {
         this.agendaEventListeners = agendaEventListeners;
+        updateListeners();
     }
 
     public List<RuleRuntimeEventListener> getRuleRuntimeEventListeners() {
@@ -96,5 +166,30 @@ public class RulesExecutionService {
 
     public void setRuleRuntimeEventListeners(List<RuleRuntimeEventListener> ruleRuntimeEventListeners) {
         this.ruleRuntimeEventListeners = ruleRuntimeEventListeners;
+        updateListeners();
+    }
+
+    private synchronized void updateListeners() {
+        this.listeners = new Listeners(agendaEventListeners, ruleRuntimeEventListeners);
+    }
+
+    /**
+     * Immutable snapshot of configured listeners, identity of the snapshot tells whether a session is up to date.
+     */
+    private static class Listeners {
+
+        private static final Listeners NONE = new Listeners(null, null);
+
+        private final List<AgendaEventListener> agenda;
+        private final List<RuleRuntimeEventListener> ruleRuntime;
+
+        private Listeners(List<AgendaEventListener> agenda, List<RuleRuntimeEventListener> ruleRuntime) {
+            this.agenda = agenda == null ? Collections.emptyList() : new ArrayList<>(agenda);
+            this.ruleRuntime = ruleRuntime == null ? Collections.emptyList() : new ArrayList<>(ruleRuntime);
+        }
+
+        private boolean isEmpty() {
+            return agenda.isEmpty() && ruleRuntime.isEmpty();
+        }
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.drools;
+
+import org.junit.After;
+import org.junit.Test;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieServerConfigItem;
+import org.kie.server.services.api.KieContainerInstance;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DroolsKieSessionLookupHandlerTest {
+
+    private final DroolsKieSessionLookupHandler handler = new DroolsKieSessionLookupHandler();
+
+    @After
+    public void cleanup() {
+        System.clearProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_SIZE);
+        System.clearProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_NAMES);
+    }
+
+    @Test
+    public void testPoolSizeFromSystemProperty() {
+        System.setProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_SIZE, "4");
+
+        assertEquals(4, handler.getPoolSize("ksession", container()));
+    }
+
+    @Test
+    public void testPoolSizeFromContainerConfigTakesPrecedence() {
+        System.setProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_SIZE, "4");
+
+        assertEquals(8, handler.getPoolSize("ksession", container(KieServerConstants.PCFG_KIE_SESSION_POOL_SIZE, "8")));
+    }
+
+    @Test
+    public void testPoolSizeLimitedToNamedSessions() {
+        System.setProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_SIZE, "4");
+        System.setProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_NAMES, "other, ksession");
+
+        assertEquals(4, handler.getPoolSize("ksession", container()));
+        assertEquals(0, handler.getPoolSize("unlisted", container()));
+    }
+
+    @Test
+    public void testInvalidPoolSizeDisablesPooling() {
+        System.setProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_SIZE, "four");
+        assertEquals(0, handler.getPoolSize("ksession", container()));
+
+        System.clearProperty(KieServerConstants.KIE_DROOLS_SESSION_POOL_SIZE);
+        assertEquals(0, handler.getPoolSize("ksession", container()));
+        assertEquals(0, handler.getPoolSize("ksession", container(KieServerConstants.PCFG_KIE_SESSION_POOL_SIZE, " ")));
+    }
+
+    private KieContainerInstance container(String... config) {
+        KieContainerResource resource = new KieContainerResource();
+        for (int i = 0; i < config.length; i += 2) {
+            resource.addConfigItem(new KieServerConfigItem(config[i], config[i + 1], String.class.getName()));
+        }
+        KieContainerInstance containerInstance = mock(KieContainerInstance.class);
+        when(containerInstance.getResource()).thenReturn(resource);
+        return containerInstance;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.drools;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.command.Command;
+import org.kie.api.event.rule.AgendaEventListener;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieContainerSessionsPool;
+import org.kie.api.runtime.KieSession;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PooledKieSessionExecutorTest {
+
+    private static final String SESSION_ID = "ksession";
+
+    private KieContainer kieContainer;
+    private KieContainerSessionsPool sessionsPool;
+    private KieSession session;
+    private Command<String> command;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        session = mock(KieSession.class);
+        sessionsPool = mock(KieContainerSessionsPool.class);
+        when(sessionsPool.newKieSession(SESSION_ID)).thenReturn(session);
+        kieContainer = mock(KieContainer.class);
+        when(kieContainer.newKieSessionsPool(2)).thenReturn(sessionsPool);
+        when(kieContainer.newKieSessionsPool(1)).thenReturn(sessionsPool);
+        command = mock(Command.class);
+    }
+
+    @Test
+    public void testSessionBorrowedAndReturned() {
+        when(session.execute(command)).thenReturn("result");
+        PooledKieSessionExecutor executor = new PooledKieSessionExecutor(kieContainer, SESSION_ID, 2, 1000);
+
+        assertEquals("result", executor.execute(command));
+        assertEquals("result", executor.execute(command));
+
+        verify(sessionsPool, times(2)).newKieSession(SESSION_ID);
+        // returning the session to the pool resets it
+        verify(session, times(2)).dispose();
+        assertEquals(0, executor.getInUse());
+    }
+
+    @Test
+    public void testSessionReturnedOnFailure() {
+        when(session.execute(command)).thenThrow(new IllegalStateException("failed"));
+        PooledKieSessionExecutor executor = new PooledKieSessionExecutor(kieContainer, SESSION_ID, 1, 1000);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                executor.execute(command);
+                fail("Failure of the command should be propagated");
+            } catch (IllegalStateException e) {
+                assertEquals("failed", e.getMessage());
+            }
+        }
+        // the only permit was released after the first failure
+        verify(session, times(2)).dispose();
+        assertEquals(0, executor.getInUse());
+    }
+
+    @Test
+    public void testBorrowWaitsForFreeSession() throws Exception {
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(session.execute(command)).thenAnswer(invocation -> {
+            executing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "result";
+        });
+        PooledKieSessionExecutor executor = new PooledKieSessionExecutor(kieContainer, SESSION_ID, 1, 100);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> executor.execute(command));
+        assertTrue(executing.await(5, TimeUnit.SECONDS));
+        assertEquals(1, executor.getInUse());
+        try {
+            executor.execute(command);
+            fail("No session should be available while the only one is borrowed");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains(SESSION_ID));
+        }
+
+        release.countDown();
+        assertEquals("result", first.get(5, TimeUnit.SECONDS));
+        verify(sessionsPool, times(1)).newKieSession(SESSION_ID);
+    }
+
+    @Test
+    public void testListenersRegisteredOnBorrowedSession() {
+        AgendaEventListener listener = mock(AgendaEventListener.class);
+        when(session.getAgendaEventListeners()).thenReturn(Collections.emptyList(), Collections.singletonList(listener));
+        PooledKieSessionExecutor executor = new PooledKieSessionExecutor(kieContainer, SESSION_ID, 1, 1000);
+        executor.addEventListener(listener);
+
+        executor.execute(command);
+        executor.execute(command);
+        verify(session, times(1)).addEventListener(listener);
+
+        executor.removeEventListener(listener);
+        executor.execute(command);
+        verify(session).removeEventListener(listener);
+        verify(session, never()).addEventListener(any(RuleRuntimeEventListener.class));
+    }
+}
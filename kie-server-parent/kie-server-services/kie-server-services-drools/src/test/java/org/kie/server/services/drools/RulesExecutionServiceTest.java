@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.drools;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.event.rule.AgendaEventListener;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
+import org.kie.api.runtime.KieSession;
+import org.kie.server.services.api.KieServerRegistry;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.withSettings;
+
+public class RulesExecutionServiceTest {
+
+    private RulesExecutionService service;
+    private AgendaEventListener agendaListener;
+    private RuleRuntimeEventListener ruleRuntimeListener;
+
+    @Before
+    public void setup() {
+        service = new RulesExecutionService(mock(KieServerRegistry.class));
+        agendaListener = mock(AgendaEventListener.class);
+        ruleRuntimeListener = mock(RuleRuntimeEventListener.class);
+    }
+
+    @Test
+    public void testListenersAppliedOncePerSession() {
+        KieSession session = mock(KieSession.class);
+        service.setAgendaEventListeners(singletonList(agendaListener));
+        service.setRuleRuntimeEventListeners(singletonList(ruleRuntimeListener));
+
+        service.applyListeners(session);
+        service.applyListeners(session);
+
+        verify(session, times(1)).addEventListener(agendaListener);
+        verify(session, times(1)).addEventListener(ruleRuntimeListener);
+    }
+
+    @Test
+    public void testReplacedListenersRemovedFromSession() {
+        KieSession session = mock(KieSession.class);
+        service.setAgendaEventListeners(singletonList(agendaListener));
+        service.setRuleRuntimeEventListeners(singletonList(ruleRuntimeListener));
+        service.applyListeners(session);
+
+        AgendaEventListener replacement = mock(AgendaEventListener.class);
+        service.setAgendaEventListeners(singletonList(replacement));
+        service.applyListeners(session);
+
+        verify(session).removeEventListener(agendaListener);
+        verify(session).addEventListener(replacement);
+        // kept listener is neither removed nor added again
+        verify(session, never()).removeEventListener(ruleRuntimeListener);
+        verify(session, times(1)).addEventListener(ruleRuntimeListener);
+    }
+
+    @Test
+    public void testReplacedListenersRemovedFromPooledSession() {
+        PooledKieSessionExecutor pooled = mock(PooledKieSessionExecutor.class);
+        service.setRuleRuntimeEventListeners(singletonList(ruleRuntimeListener));
+        service.applyListeners(pooled);
+
+        service.setRuleRuntimeEventListeners(null);
+        service.applyListeners(pooled);
+        service.applyListeners(pooled);
+
+        verify(pooled, times(1)).addEventListener(ruleRuntimeListener);
+        verify(pooled, times(1)).removeEventListener(ruleRuntimeListener);
+    }
+
+    @Test
+    public void testListenerImplementingBothInterfaces() {
+        KieSession session = mock(KieSession.class);
+        AgendaEventListener listener = mock(AgendaEventListener.class, withSettings().extraInterfaces(RuleRuntimeEventListener.class));
+        service.setAgendaEventListeners(singletonList(listener));
+        service.setRuleRuntimeEventListeners(singletonList((RuleRuntimeEventListener) listener));
+
+        service.applyListeners(session);
+
+        verify(session).addEventListener(listener);
+        verify(session).addEventListener((RuleRuntimeEventListener) listener);
+
+        // configured as agenda listener only from now on
+        service.setRuleRuntimeEventListeners(null);
+        service.applyListeners(session);
+
+        verify(session).removeEventListener((RuleRuntimeEventListener) listener);
+        verify(session, never()).removeEventListener(listener);
+    }
+
+    @Test
+    public void testAgendaListenerImplementingRuleRuntimeListenerOnlyRegisteredForAgenda() {
+        KieSession session = mock(KieSession.class);
+        AgendaEventListener listener = mock(AgendaEventListener.class, withSettings().extraInterfaces(RuleRuntimeEventListener.class));
+        service.setAgendaEventListeners(singletonList(listener));
+
+        service.applyListeners(session);
+
+        verify(session).addEventListener(listener);
+        verify(session, never()).addEventListener((RuleRuntimeEventListener) listener);
+    }
+
+    @Test
+    public void testNoListenersConfigured() {
+        KieSession session = mock(KieSession.class);
+
+        service.applyListeners(session);
+
+        verifyZeroInteractions(session);
+    }
+}
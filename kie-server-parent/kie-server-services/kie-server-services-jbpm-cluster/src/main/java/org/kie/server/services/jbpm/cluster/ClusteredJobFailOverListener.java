@@ -16,8 +16,10 @@
 
 package org.kie.server.services.jbpm.cluster;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.jbpm.executor.AsynchronousJobEvent;
 import org.jbpm.executor.AsynchronousJobListener;
@@ -25,6 +27,7 @@ import org.jbpm.executor.RequeueAware;
 import org.kie.api.cluster.ClusterAwareService;
 import org.kie.api.cluster.ClusterListener;
 import org.kie.api.cluster.ClusterNode;
+import org.kie.server.api.KieServerConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,9 +36,12 @@ public class ClusteredJobFailOverListener implements ClusterListener, Asynchrono
 
     private static final Logger logger = LoggerFactory.getLogger(ClusteredJobFailOverListener.class);
 
+    private static final int DEFAULT_FAILOVER_THREADS = 4;
+
     private ClusterAwareService clusterService;
     private RequeueAware executorService;
-    
+    private int failOverThreads = readFailOverThreads();
+
     public ClusteredJobFailOverListener(ClusterAwareService clusterService, RequeueAware executorService) {
         this.clusterService = clusterService;
         this.executorService = executorService;
@@ -54,14 +60,48 @@ public class ClusteredJobFailOverListener implements ClusterListener, Asynchrono
             return;
         }
 
-        logger.info("Node left cluster {}, failing over and requeuing {}", node, Arrays.toString(jobs.toArray()));
-        jobs.forEach(jobId -> {
-            try {
-                executorService.requeueById(jobId);
-            } catch ( IllegalArgumentException e) {
-                logger.warn("Job was already completed or cancelled {}. Cannot be rescheduled", jobId);
+        logger.info("Node left cluster {}, failing over and requeuing {} jobs", node, jobs.size());
+        logger.debug("Jobs requeued from node {} are {}", node, jobs);
+        int threads = Math.min(failOverThreads, jobs.size());
+        if (threads <= 1) {
+            jobs.forEach(jobId -> requeue(node, jobId));
+            return;
+        }
+        ExecutorService requeueExecutor = Executors.newFixedThreadPool(threads);
+        try {
+            CompletableFuture.allOf(jobs.stream()
+                    .map(jobId -> CompletableFuture.runAsync(() -> requeue(node, jobId), requeueExecutor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            requeueExecutor.shutdown();
+        }
+    }
+
+    private void requeue(ClusterNode node, Long jobId) {
+        try {
+            executorService.requeueById(jobId);
+        } catch ( IllegalArgumentException e) {
+            logger.warn("Job was already completed or cancelled {}. Cannot be rescheduled", jobId);
+        }
+        // the node is gone so it is no longer responsible for the job
+        clusterService.removeData(ClusterAwareService.CLUSTER_JOBS_KEY, node.toKey(), jobId);
+    }
+
+    private static int readFailOverThreads() {
+        String value = System.getProperty(KieServerConstants.KIE_JBPM_CLUSTER_FAILOVER_THREADS);
+        if (value == null) {
+            return DEFAULT_FAILOVER_THREADS;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed >= 1) {
+                return parsed;
             }
-        });
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn("Invalid value '{}' of {}, using default {}", value, KieServerConstants.KIE_JBPM_CLUSTER_FAILOVER_THREADS, DEFAULT_FAILOVER_THREADS);
+        return DEFAULT_FAILOVER_THREADS;
     }
 
     @Override
@@ -16,9 +16,8 @@
 
 package org.kie.server.services.jbpm.cluster;
 
-import java.util.List;
-
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 import javax.ejb.Singleton;
 import javax.ejb.Startup;
@@ -49,7 +48,7 @@ public class EJBCacheInitializer {
     private Cache<Address, ClusterNode> nodesCache;
 
     @Resource(lookup = CACHE_JOBS_NAME_LOOKUP)
-    private Cache<String, List<Long>> jobsCache;
+    private Cache<String, Object> jobsCache;
 
     @PostConstruct
     public void init() {
@@ -57,4 +56,11 @@ public class EJBCacheInitializer {
         ((InfinispanClusterAwareService) clusterService).init(cacheManager);
     }
 
+    @PreDestroy
+    public void destroy() {
+        // caches are still available here so pending updates can be written
+        ClusterAwareService clusterService = ServiceRegistry.getService(ClusterAwareService.class);
+        ((InfinispanClusterAwareService) clusterService).close();
+    }
+
 }
@@ -18,12 +18,21 @@ package org.kie.server.services.jbpm.cluster;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
-import org.infinispan.CacheCollection;
 import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
+import org.infinispan.context.Flag;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.infinispan.notifications.Listener;
 import org.infinispan.notifications.Listener.Observation;
@@ -43,7 +52,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
 
 @Listener(observation = Observation.POST)
 public class InfinispanClusterAwareService implements ClusterAwareService {
@@ -57,6 +65,16 @@ public class InfinispanClusterAwareService implements ClusterAwareService {
 
     private EmbeddedCacheManager cacheManager;
 
+    // one cache entry per value keyed by partition and value, so updates do not rewrite whole partitions.
+    // nodes of previous versions keep a list of values keyed by partition in the same cache, those lists are
+    // read as well and migrated to entries per value once their partition is taken over
+    private static final String PARTITION_SEPARATOR = "|";
+    private static final Object REMOVED = new Object();
+
+    private final long batchInterval = readBatchInterval();
+    private final Map<String, Map<String, Object>> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flushExecutor;
+
     public InfinispanClusterAwareService(String kieServerId, String kieServerLocation) {
         this.kieServerId = kieServerId;
         this.kieServerLocation = kieServerLocation;
@@ -83,6 +101,61 @@ public class InfinispanClusterAwareService implements ClusterAwareService {
         logger.info("This node is about to join the jBPM cluster {}-{}", kieServerId, kieServerLocation);
         nodes.put(cacheManager.getAddress(), getThisNode());
 
+        // this node might have been running a previous version before restart
+        if (cacheManager.cacheExists(CLUSTER_JOBS_KEY)) {
+            migratePartition(CLUSTER_JOBS_KEY, getThisNode().toKey());
+        }
+
+        if (batchInterval > 0) {
+            startFlushing();
+        }
+    }
+
+    private synchronized void startFlushing() {
+        if (flushExecutor == null) {
+            logger.info("Cluster data updates are batched every {} ms", batchInterval);
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jbpm-cluster-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flushExecutor.scheduleWithFixedDelay(() -> {
+                try {
+                    flush();
+                } catch (Exception e) {
+                    logger.warn("Unable to flush cluster data updates due to {}", e.getMessage(), e);
+                }
+            }, batchInterval, batchInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops periodic flushing and writes all updates still pending so they are not lost when this node stops.
+     */
+    public void close() {
+        ScheduledExecutorService executor;
+        synchronized (this) {
+            executor = flushExecutor;
+            flushExecutor = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(batchInterval + 5000, TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (cacheManager != null) {
+            try {
+                flush();
+            } catch (Exception e) {
+                logger.warn("Unable to flush cluster data updates on close due to {}", e.getMessage(), e);
+            }
+        }
     }
 
     @CacheEntryCreated
@@ -145,15 +218,22 @@ public class InfinispanClusterAwareService implements ClusterAwareService {
         if (!cacheManager.cacheExists(key)) {
             return;
         }
-        Cache<String, List<T>> cache = cacheManager.<String, List<T>> getCache(key);
-
-        synchronized (this) {
-            List<T> values = cache.get(partition);
-            values = (values == null) ? new ArrayList<>() : new ArrayList<>(values);
-            values.remove(value);
-            cache.put(partition, values);
+        String entryKey = toEntryKey(partition, value);
+        if (batchInterval > 0) {
+            // removal of a value that was not flushed yet cancels the pending addition
+            pending.compute(key, (k, updates) -> {
+                Map<String, Object> cacheUpdates = updates == null ? new HashMap<>() : updates;
+                Object previous = cacheUpdates.get(entryKey);
+                if (previous != null && previous != REMOVED) {
+                    cacheUpdates.remove(entryKey);
+                } else {
+                    cacheUpdates.put(entryKey, REMOVED);
+                }
+                return cacheUpdates;
+            });
+            return;
         }
-
+        writeCache(key).remove(entryKey);
     }
 
     @Override
@@ -161,16 +241,16 @@ public class InfinispanClusterAwareService implements ClusterAwareService {
         if (!cacheManager.cacheExists(key)) {
             return;
         }
-
-        Cache<String, List<T>> cache = cacheManager.<String, List<T>> getCache(key);
-
-        synchronized (this) {
-            List<T> values = cache.get(partition);
-            values = (values == null) ? new ArrayList<>() : new ArrayList<>(values);
-            values.add(value);
-            cache.put(partition, values);
+        String entryKey = toEntryKey(partition, value);
+        if (batchInterval > 0) {
+            pending.compute(key, (k, updates) -> {
+                Map<String, Object> cacheUpdates = updates == null ? new HashMap<>() : updates;
+                cacheUpdates.put(entryKey, value);
+                return cacheUpdates;
+            });
+            return;
         }
-
+        writeCache(key).put(entryKey, value);
     }
 
     @Override
@@ -178,10 +258,10 @@ public class InfinispanClusterAwareService implements ClusterAwareService {
         if (!cacheManager.cacheExists(key)) {
             return emptyList();
         }
-        synchronized (this) {
-            CacheCollection<List<T>> values = cacheManager.<String, List<T>> getCache(key).values();
-            return values.stream().flatMap(Collection::stream).collect(toList());
-        }
+        Cache<String, Object> cache = cacheManager.<String, Object> getCache(key);
+        List<T> values = new ArrayList<>();
+        cache.values().forEach(value -> addValues(values, value));
+        return values;
     }
 
     @Override
@@ -189,10 +269,103 @@ public class InfinispanClusterAwareService implements ClusterAwareService {
         if (!cacheManager.cacheExists(key)) {
             return emptyList();
         }
-        synchronized (this) {
-            List<T> values = cacheManager.<String, List<T>> getCache(key).get(partition);
-            return values == null ? emptyList() : values;
+        // partitions are read when taken over, so the owner is gone and its list can be migrated safely
+        migratePartition(key, partition);
+        String prefix = partition + PARTITION_SEPARATOR;
+        Cache<String, Object> cache = cacheManager.<String, Object> getCache(key);
+        List<T> values = new ArrayList<>();
+        // the key filter is evaluated on the owner nodes so only entries of the partition are transferred
+        try (CacheStream<Map.Entry<String, Object>> entries = cache.entrySet().stream()) {
+            entries.filter(entry -> entry.getKey().startsWith(prefix))
+                    .iterator()
+                    .forEachRemaining(entry -> addValues(values, entry.getValue()));
+        }
+        return values;
+    }
+
+    /**
+     * Replaces the list of values kept for given partition by nodes of previous versions with one entry per value.
+     */
+    private void migratePartition(String key, String partition) {
+        Object legacy = cacheManager.<String, Object> getCache(key).get(partition);
+        if (!(legacy instanceof Collection)) {
+            return;
+        }
+        Map<String, Object> entries = new HashMap<>();
+        for (Object value : (Collection<?>) legacy) {
+            entries.put(toEntryKey(partition, value), value);
         }
+        AdvancedCache<String, Object> cache = writeCache(key);
+        cache.putAll(entries);
+        cache.remove(partition);
+        logger.info("Migrated {} values of partition {} in cluster cache {} to entries per value", entries.size(), partition, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void addValues(List<T> values, Object value) {
+        // lists are written by nodes of previous versions that are still running
+        if (value instanceof Collection) {
+            values.addAll((Collection<T>) value);
+        } else {
+            values.add((T) value);
+        }
+    }
+
+    /**
+     * Writes all pending additions and removals collected since last flush, additions in a single
+     * <code>putAll</code> and removals concurrently. Does nothing when batching is disabled.
+     */
+    public void flush() {
+        for (String cacheName : new ArrayList<>(pending.keySet())) {
+            // takes over all updates of the cache at once, updates made meanwhile are collected for next flush
+            Map<String, Object> updates = pending.remove(cacheName);
+            if (updates == null || updates.isEmpty()) {
+                continue;
+            }
+            Map<String, Object> additions = new HashMap<>();
+            List<String> removals = new ArrayList<>();
+            updates.forEach((entryKey, value) -> {
+                if (value == REMOVED) {
+                    removals.add(entryKey);
+                } else {
+                    additions.put(entryKey, value);
+                }
+            });
+            AdvancedCache<String, Object> cache = writeCache(cacheName);
+            List<CompletableFuture<?>> operations = new ArrayList<>();
+            if (!additions.isEmpty()) {
+                operations.add(cache.putAllAsync(additions));
+            }
+            removals.forEach(entryKey -> operations.add(cache.removeAsync(entryKey)));
+            CompletableFuture.allOf(operations.toArray(new CompletableFuture[operations.size()])).join();
+            logger.debug("Flushed {} additions and {} removals to cluster cache {}", additions.size(), removals.size(), cacheName);
+        }
+    }
+
+    private <T> AdvancedCache<String, T> writeCache(String cacheName) {
+        // previous values are never used so avoid fetching them from the owner nodes
+        return cacheManager.<String, T> getCache(cacheName).getAdvancedCache().withFlags(Flag.IGNORE_RETURN_VALUES);
+    }
+
+    private static long readBatchInterval() {
+        String value = System.getProperty(KieServerConstants.KIE_JBPM_CLUSTER_JOBS_BATCH_INTERVAL);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn("Invalid value '{}' of {}, using default {}", value, KieServerConstants.KIE_JBPM_CLUSTER_JOBS_BATCH_INTERVAL, 0);
+        return 0;
+    }
+
+    private static String toEntryKey(String partition, Object value) {
+        return partition + PARTITION_SEPARATOR + value;
     }
 
     @Override
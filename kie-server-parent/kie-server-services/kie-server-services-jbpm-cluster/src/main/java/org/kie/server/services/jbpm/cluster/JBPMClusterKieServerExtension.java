@@ -105,7 +105,9 @@ public class JBPMClusterKieServerExtension implements KieServerExtension {
     
     @Override
     public void destroy(KieServerImpl kieServer, KieServerRegistry registry) {
-        // do nothing
+        if (clusterService instanceof InfinispanClusterAwareService) {
+            ((InfinispanClusterAwareService) clusterService).close();
+        }
     }
 
     @Override
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.jbpm.cluster;
+
+import java.util.Arrays;
+
+import org.jbpm.executor.RequeueAware;
+import org.junit.After;
+import org.junit.Test;
+import org.kie.api.cluster.ClusterAwareService;
+import org.kie.api.cluster.ClusterNode;
+import org.kie.server.api.KieServerConstants;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClusteredJobFailOverListenerTest {
+
+    private final ClusterNode node = new ClusterNode("server", "http://localhost:8080/kie-server/services/rest/server");
+
+    @After
+    public void cleanup() {
+        System.clearProperty(KieServerConstants.KIE_JBPM_CLUSTER_FAILOVER_THREADS);
+    }
+
+    @Test
+    public void testJobsOfLeftNodeRequeued() {
+        verifyJobsRequeued();
+    }
+
+    @Test
+    public void testInvalidFailOverThreadsFallsBackToDefault() {
+        System.setProperty(KieServerConstants.KIE_JBPM_CLUSTER_FAILOVER_THREADS, "0");
+        verifyJobsRequeued();
+
+        System.setProperty(KieServerConstants.KIE_JBPM_CLUSTER_FAILOVER_THREADS, "many");
+        verifyJobsRequeued();
+    }
+
+    private void verifyJobsRequeued() {
+        ClusterAwareService clusterService = mock(ClusterAwareService.class);
+        when(clusterService.getDataFromPartition(ClusterAwareService.CLUSTER_JOBS_KEY, node.toKey())).thenReturn(Arrays.asList(1L, 2L, 3L));
+        RequeueAware executorService = mock(RequeueAware.class);
+        // already completed job is still released from the partition
+        doThrow(new IllegalArgumentException("completed")).when(executorService).requeueById(2L);
+
+        new ClusteredJobFailOverListener(clusterService, executorService).nodeLeft(node);
+
+        for (Long jobId : Arrays.asList(1L, 2L, 3L)) {
+            verify(executorService).requeueById(jobId);
+            verify(clusterService).removeData(ClusterAwareService.CLUSTER_JOBS_KEY, node.toKey(), jobId);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.jbpm.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.cluster.ClusterAwareService;
+import org.kie.api.cluster.ClusterNode;
+import org.kie.server.api.KieServerConstants;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class InfinispanClusterAwareServiceTest {
+
+    private static final String JOBS_CACHE = ClusterAwareService.CLUSTER_JOBS_KEY;
+
+    private DefaultCacheManager localCacheManager;
+    private Cache<String, Object> jobs;
+    private EmbeddedCacheManager cacheManager;
+
+    @Before
+    public void setup() {
+        localCacheManager = new DefaultCacheManager();
+        localCacheManager.defineConfiguration(JOBS_CACHE, new ConfigurationBuilder().build());
+        jobs = localCacheManager.getCache(JOBS_CACHE);
+
+        // membership is not under test, only the data caches are real ones
+        cacheManager = mock(EmbeddedCacheManager.class);
+        doReturn(mock(Cache.class)).when(cacheManager).getCache(ClusterAwareService.CLUSTER_NODES_KEY);
+        doReturn(jobs).when(cacheManager).getCache(JOBS_CACHE);
+        when(cacheManager.cacheExists(anyString())).thenReturn(false);
+        when(cacheManager.cacheExists(JOBS_CACHE)).thenReturn(true);
+    }
+
+    @After
+    public void cleanup() {
+        System.clearProperty(KieServerConstants.KIE_JBPM_CLUSTER_JOBS_BATCH_INTERVAL);
+        localCacheManager.stop();
+    }
+
+    @Test
+    public void testDataStoredPerPartition() {
+        InfinispanClusterAwareService service = createService();
+
+        service.addData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 1L);
+        service.addData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 2L);
+        service.addData(ClusterAwareService.CLUSTER_JOBS_KEY, "node10", 3L);
+
+        List<Long> node1 = service.getDataFromPartition(ClusterAwareService.CLUSTER_JOBS_KEY, "node1");
+        assertEquals(2, node1.size());
+        assertTrue(node1.contains(1L));
+        assertTrue(node1.contains(2L));
+        assertEquals(3, service.getData(ClusterAwareService.CLUSTER_JOBS_KEY).size());
+
+        service.removeData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 1L);
+        assertEquals(singletonList(2L), service.getDataFromPartition(ClusterAwareService.CLUSTER_JOBS_KEY, "node1"));
+        assertEquals(singletonList(3L), service.getDataFromPartition(ClusterAwareService.CLUSTER_JOBS_KEY, "node10"));
+    }
+
+    @Test
+    public void testEntryPerValueStored() {
+        InfinispanClusterAwareService service = createService();
+
+        service.addData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 1L);
+
+        assertEquals(1, jobs.size());
+        assertEquals(Long.valueOf(1L), jobs.get("node1|1"));
+    }
+
+    @Test
+    public void testPreviousVersionListsReadAndMigrated() {
+        // lists per partition as written by nodes of previous versions
+        jobs.put("node1", new ArrayList<>(Arrays.asList(1L, 2L)));
+        jobs.put("node2", new ArrayList<>(singletonList(3L)));
+        InfinispanClusterAwareService service = createService();
+        service.addData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 4L);
+
+        assertEquals(4, service.getData(ClusterAwareService.CLUSTER_JOBS_KEY).size());
+
+        List<Long> node1 = service.getDataFromPartition(ClusterAwareService.CLUSTER_JOBS_KEY, "node1");
+        assertEquals(3, node1.size());
+        assertTrue(node1.containsAll(Arrays.asList(1L, 2L, 4L)));
+        assertFalse(jobs.containsKey("node1"));
+        assertEquals(Long.valueOf(2L), jobs.get("node1|2"));
+
+        // migrated values are released like any other
+        service.removeData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 2L);
+        assertEquals(2, service.getDataFromPartition(ClusterAwareService.CLUSTER_JOBS_KEY, "node1").size());
+
+        // list of a partition that was not taken over is left to its owner
+        assertEquals(singletonList(3L), jobs.get("node2"));
+    }
+
+    @Test
+    public void testPreviousVersionListOfThisNodeMigratedOnInit() {
+        String thisNode = new ClusterNode("server", "http://localhost:8080/kie-server/services/rest/server").toKey();
+        jobs.put(thisNode, new ArrayList<>(singletonList(1L)));
+
+        InfinispanClusterAwareService service = createService();
+
+        assertFalse(jobs.containsKey(thisNode));
+        service.removeData(ClusterAwareService.CLUSTER_JOBS_KEY, thisNode, 1L);
+        assertTrue(jobs.isEmpty());
+    }
+
+    @Test
+    public void testMissingCacheIgnored() {
+        InfinispanClusterAwareService service = createService();
+
+        service.addData("other", "node1", 1L);
+        service.removeData("other", "node1", 1L);
+
+        assertTrue(service.getData("other").isEmpty());
+        assertTrue(service.getDataFromPartition("other", "node1").isEmpty());
+    }
+
+    @Test
+    public void testBatchedUpdatesFlushedOnClose() {
+        System.setProperty(KieServerConstants.KIE_JBPM_CLUSTER_JOBS_BATCH_INTERVAL, "60000");
+        InfinispanClusterAwareService service = createService();
+
+        service.addData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 1L);
+        service.addData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 2L);
+        // cancels pending addition
+        service.removeData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 2L);
+        assertTrue(jobs.isEmpty());
+
+        service.close();
+
+        assertEquals(singletonList(1L), service.getDataFromPartition(ClusterAwareService.CLUSTER_JOBS_KEY, "node1"));
+
+        // removal of flushed value is batched as well
+        service.removeData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 1L);
+        assertEquals(1, jobs.size());
+        service.flush();
+        assertTrue(jobs.isEmpty());
+    }
+
+    @Test
+    public void testInvalidBatchIntervalDisablesBatching() {
+        System.setProperty(KieServerConstants.KIE_JBPM_CLUSTER_JOBS_BATCH_INTERVAL, "soon");
+        InfinispanClusterAwareService service = createService();
+
+        service.addData(ClusterAwareService.CLUSTER_JOBS_KEY, "node1", 1L);
+
+        assertEquals(1, jobs.size());
+        service.close();
+    }
+
+    private InfinispanClusterAwareService createService() {
+        InfinispanClusterAwareService service = new InfinispanClusterAwareService("server", "http://localhost:8080/kie-server/services/rest/server");
+        service.init(cacheManager);
+        return service;
+    }
+}
@@ -40,6 +40,7 @@ import org.jbpm.services.api.model.ProcessDefinition;
 import org.jbpm.services.task.commands.GetUserTaskCommand;
 import org.kie.api.task.model.Task;
 import org.kie.internal.task.api.model.InternalTask;
+import org.kie.server.api.KieServerConstants;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.impl.locator.ContainerLocatorProvider;
 import org.kie.server.services.jbpm.locator.ByTaskIdContainerLocator;
@@ -60,6 +61,8 @@ public class FormRendererBase {
     
     private static final ServiceLoader<FormRenderer> formRenderers = ServiceLoader.load(FormRenderer.class);
 
+    private static final boolean CACHE_DISABLED = Boolean.parseBoolean(System.getProperty(KieServerConstants.KIE_JBPM_UI_FORM_CACHE_DISABLED, "false"));
+
     private DefinitionService definitionService;
     private FormManagerService formManagerService;
     private UserTaskService userTaskService;
@@ -71,6 +74,8 @@ public class FormRendererBase {
     private FormReader formReader = new FormReader();
     
     private Map<String, Map<String, String>> indexedForms = new ConcurrentHashMap<>();
+    // process and case forms carry no instance data so rendered output is kept per container until it is disposed
+    private Map<String, Map<String, String>> renderedForms = new ConcurrentHashMap<>();
             
     
     public FormRendererBase(DefinitionService definitionService, UserTaskService userTaskService, FormManagerService formManagerService, CaseRuntimeDataService caseRuntimeDataService, KieServerRegistry registry) {
@@ -112,10 +117,17 @@ public class FormRendererBase {
     
     public void dropDeploymentForms(String containerId) {
         indexedForms.remove(containerId);
+        renderedForms.remove(containerId);
     }
 
     public String getProcessRenderedForm(String renderer, String containerId, String processId) {
         String resolvedContainerId = registry.getContainerId(containerId, ContainerLocatorProvider.get().getLocator());
+        String cacheKey = renderer + "|process|" + processId;
+        Map<String, String> containerForms = getRenderedForms(resolvedContainerId);
+        String cached = containerForms.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
 
         ProcessDefinition processDesc = definitionService.getProcessDefinition(resolvedContainerId, processId);
         if (processDesc == null) {
@@ -142,7 +154,8 @@ public class FormRendererBase {
             throw new IllegalArgumentException("Form renderer with name " + renderer + " not found");
         }
         String output = formRenderer.renderProcess(resolvedContainerId, processDesc, form);
-        
+        containerForms.put(cacheKey, output);
+
         return output;
     }
     
@@ -187,6 +200,12 @@ public class FormRendererBase {
             throw new RuntimeException("Case capability in jBPM UI are not enabled");
         }
         String resolvedContainerId = registry.getContainerId(containerId, ContainerLocatorProvider.get().getLocator());
+        String cacheKey = renderer + "|case|" + caseDefinitionId;
+        Map<String, String> containerForms = getRenderedForms(resolvedContainerId);
+        String cached = containerForms.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
 
         CaseDefinition caseDefinition = caseRuntimeDataService.getCase(resolvedContainerId, caseDefinitionId);
         if (caseDefinition == null) {
@@ -209,10 +228,21 @@ public class FormRendererBase {
             throw new IllegalArgumentException("Form renderer with name " + renderer + " not found");
         }
         String output = formRenderer.renderCase(resolvedContainerId, caseDefinition, form);
-        
+        containerForms.put(cacheKey, output);
+
         return output;
     }
     
+    /*
+     * map is taken before rendering so a form rendered while its container is being disposed is not kept
+     */
+    protected Map<String, String> getRenderedForms(String containerId) {
+        if (CACHE_DISABLED || containerId == null) {
+            return new HashMap<>();
+        }
+        return renderedForms.computeIfAbsent(containerId, id -> new ConcurrentHashMap<>());
+    }
+
     public InputStream readResources(String resourcePath) {
         return this.getClass().getResourceAsStream("/form-templates-providers" + resourcePath);
     }
@@ -19,9 +19,10 @@ package org.kie.server.services.jbpm.ui.form.render;
 import static java.util.stream.Collectors.toList;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.time.LocalDate;
@@ -38,6 +39,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.jbpm.casemgmt.api.model.CaseDefinition;
@@ -74,6 +76,8 @@ public abstract class AbstractFormRenderer implements FormRenderer {
     public static final String TASK_LAYOUT_TEMPLATE = "task-layout";
     public static final String TABLE_LAYOUT_TEMPLATE = "table";
 
+    private static final int MAX_FIELD_LEVEL_TEMPLATES = 1000;
+
     public static final Map<String,String> FUNCTION_MAPPING = new HashMap<>();
 
     static {
@@ -92,6 +96,8 @@ public abstract class AbstractFormRenderer implements FormRenderer {
     private StringTemplateLoader fieldLevelStringLoader = new StringTemplateLoader();
     private Configuration fieldLevelCfg;
     
+    private Map<String, Template> fieldLevelTemplates = new ConcurrentHashMap<>();
+
     private FormReader reader = new FormReader();
     
     private String serverPath;
@@ -369,15 +375,10 @@ public abstract class AbstractFormRenderer implements FormRenderer {
                     if (item.getValue() != null) {
                         String output = (String) item.getValue();
                         if (output.contains("${")) {
-                            String uuid = UUID.randomUUID().toString();;
-                            loadTemplate(fieldLevelStringLoader, uuid, new ByteArrayInputStream(output.getBytes(Charset.forName("UTF-8"))));
                             Map<String, Object> parameters = new HashMap<>();
                             parameters.putAll(inputs);
                             parameters.putAll(outputs);                        
-                            output = renderTemplate(fieldLevelCfg, uuid, parameters);
-                            
-                            
-                            fieldLevelStringLoader.removeTemplate(uuid);
+                            output = renderTemplate(getFieldLevelTemplate(output), parameters);
                         }
                         content.append(output);
                         
@@ -726,16 +727,44 @@ public abstract class AbstractFormRenderer implements FormRenderer {
     }
     
     protected String renderTemplate(Configuration cfg, String templateName, Map<String, Object> parameters) {
+        try {
+            return renderTemplate(cfg.getTemplate(templateName), parameters);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Template " + templateName + " not found", e);
+        }
+    }
+
+    protected String renderTemplate(Template template, Map<String, Object> parameters) {
         StringWriter out = new StringWriter();
         try {
-            Template template = cfg.getTemplate(templateName);
-            
             template.process(parameters, out);
         } catch (Exception e) {
-            throw new IllegalArgumentException("Template " + templateName + " not found", e);
+            throw new IllegalArgumentException("Template " + template.getName() + " not found", e);
         }
         return out.toString();
     }
+
+    /*
+     * field level templates come from form definitions and are the same for every instance rendered with the form
+     * so they are parsed once and kept by their content
+     */
+    protected Template getFieldLevelTemplate(String content) {
+        Template template = fieldLevelTemplates.get(content);
+        if (template == null) {
+            if (fieldLevelTemplates.size() >= MAX_FIELD_LEVEL_TEMPLATES) {
+                fieldLevelTemplates.clear();
+            }
+            try {
+                template = new Template(UUID.randomUUID().toString(), new StringReader(content), fieldLevelCfg);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Unable to parse field template " + content, e);
+            }
+            fieldLevelTemplates.put(content, template);
+        }
+        return template;
+    }
     
     /*
      * json processing utilities     
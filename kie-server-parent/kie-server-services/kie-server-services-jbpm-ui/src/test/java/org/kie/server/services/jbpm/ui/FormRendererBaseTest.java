@@ -132,4 +132,34 @@ public class FormRendererBaseTest {
         // it has start process button
         assertThat(result).contains("<button type=\"button\" class=\"btn btn-primary\" onclick=\"startProcess(this);\">Submit</button>");
     }
+
+    @Test
+    public void testProcessFormCachedUntilContainerDisposed() {
+        DefinitionService definitionService = mock(DefinitionService.class);
+        UserTaskService userTaskService = mock(UserTaskService.class);
+        FormManagerService formManagerService = mock(FormManagerService.class);
+        CaseRuntimeDataService caseRuntimeDataService = mock(CaseRuntimeDataService.class);
+        KieServerRegistry registry = mock(KieServerRegistry.class);
+
+        ProcessDefinition processDefinition = mock(ProcessDefinition.class);
+        when(processDefinition.getId()).thenReturn("testprocess");
+        when(processDefinition.getName()).thenReturn("Test Process");
+
+        FormRendererBase rendererBase = new FormRendererBase(definitionService, userTaskService, formManagerService, caseRuntimeDataService, registry);
+
+        when(registry.getContainerId(any(), any())).thenReturn("test");
+        when(definitionService.getProcessDefinition(eq("test"), eq("test-process"))).thenReturn(processDefinition);
+
+        String result = rendererBase.getProcessRenderedForm("patternfly", "test", "test-process");
+        assertThat(rendererBase.getProcessRenderedForm("patternfly", "test", "test-process")).isSameAs(result);
+        verify(definitionService, times(1)).getProcessDefinition("test", "test-process");
+
+        // other renderer is cached separately
+        assertThat(rendererBase.getProcessRenderedForm("bootstrap", "test", "test-process")).isNotEqualTo(result);
+        verify(definitionService, times(2)).getProcessDefinition("test", "test-process");
+
+        rendererBase.dropDeploymentForms("test");
+        assertThat(rendererBase.getProcessRenderedForm("patternfly", "test", "test-process")).isNotSameAs(result);
+        verify(definitionService, times(3)).getProcessDefinition("test", "test-process");
+    }
 }
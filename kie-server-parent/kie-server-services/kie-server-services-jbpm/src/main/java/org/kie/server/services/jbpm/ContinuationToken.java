@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.jbpm;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position of keyset (cursor based) pagination - the sort key and direction of the query together with the sort value
+ * and id of the last item of the previous page. It is issued by the server only and handed to clients as an opaque
+ * string, <code>null</code> or empty token denotes the first page.
+ */
+final class ContinuationToken {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = ";";
+
+    private final String sortKey;
+    private final boolean ascending;
+    private final long lastId;
+    private final Object lastValue;
+
+    ContinuationToken(String sortKey, boolean ascending, long lastId, Object lastValue) {
+        this.sortKey = sortKey;
+        this.ascending = ascending;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    String getSortKey() {
+        return sortKey;
+    }
+
+    boolean isAscending() {
+        return ascending;
+    }
+
+    long getLastId() {
+        return lastId;
+    }
+
+    /**
+     * Sort value of the last item, either {@link String} or {@link Date}, <code>null</code> when sorted by id only.
+     */
+    Object getLastValue() {
+        return lastValue;
+    }
+
+    String encode() {
+        StringBuilder token = new StringBuilder(VERSION).append(SEPARATOR)
+                .append(sortKey).append(SEPARATOR)
+                .append(ascending ? "asc" : "desc").append(SEPARATOR)
+                .append(lastId).append(SEPARATOR);
+        if (lastValue instanceof Date) {
+            token.append('d').append(((Date) lastValue).getTime());
+        } else if (lastValue != null) {
+            token.append('s').append(lastValue);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes given token and verifies it was issued for a query with the same sort.
+     * @return decoded token or <code>null</code> for the first page
+     * @throws IllegalArgumentException when token is malformed or was issued for a different sort
+     */
+    static ContinuationToken decode(String token, String sortKey, boolean ascending) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        ContinuationToken decoded;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid continuation token '" + token + "'");
+            }
+            Object lastValue = null;
+            if (parts[4].startsWith("d")) {
+                lastValue = new Date(Long.parseLong(parts[4].substring(1)));
+            } else if (parts[4].startsWith("s")) {
+                lastValue = parts[4].substring(1);
+            }
+            decoded = new ContinuationToken(parts[1], "asc".equals(parts[2]), Long.parseLong(parts[3]), lastValue);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token '" + token + "'", e);
+        }
+        if (!decoded.sortKey.equals(sortKey) || decoded.ascending != ascending) {
+            throw new IllegalArgumentException("Continuation token '" + token + "' was issued for a different sort than " + sortKey + (ascending ? " asc" : " desc"));
+        }
+        return decoded;
+    }
+}
@@ -300,6 +300,27 @@ public class ConvertUtils {
         return queryFilter;
     }
 
+    public static QueryFilter buildKeysetTaskQueryFilter(Long lastTaskId, boolean ascending, Integer pageSize, String filter) {
+        QueryFilter queryFilter = new QueryFilter(0, pageSize, "t.id", ascending);
+
+        Map<String, Object> params = new HashMap<String, Object>();
+        List<String> filterParams = new ArrayList<String>();
+        if (lastTaskId != null) {
+            params.put("lastTaskId", lastTaskId);
+            filterParams.add(ascending ? "t.id > :lastTaskId" : "t.id < :lastTaskId");
+        }
+        if (filter != null && !filter.isEmpty()) {
+            params.put("taskName", filter);
+            filterParams.add("t.name like :taskName");
+        }
+        if (!filterParams.isEmpty()) {
+            queryFilter.setFilterParams(String.join(" and ", filterParams));
+            queryFilter.setParams(params);
+        }
+
+        return queryFilter;
+    }
+
     public static List<Status> buildTaskStatuses(List<String> status) {
         if (status == null || status.isEmpty()) {
             return null;
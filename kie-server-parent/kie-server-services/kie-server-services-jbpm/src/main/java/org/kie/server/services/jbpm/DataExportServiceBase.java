@@ -0,0 +1,330 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.server.services.jbpm;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.services.api.KieServerRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streams audit data (process instances, node instances and variables) directly from a JDBC cursor
+ * as newline delimited JSON - one object per row. Rows are never materialized as a list so memory
+ * stays bounded regardless of the number of rows exported.
+ */
+public class DataExportServiceBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataExportServiceBase.class);
+
+    public static final String EXPORT_FETCH_SIZE = "org.kie.server.export.fetch.size";
+
+    /**
+     * Name of the only field of the record written as the last line when an export fails after it started streaming.
+     */
+    public static final String ERROR_FIELD = "export-error";
+
+    private static final int DEFAULT_FETCH_SIZE = 500;
+
+    // rows are separated by new lines written explicitly instead of the default space separator
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().setRootValueSeparator(null);
+
+    public enum ExportType {
+
+        PROCESS_INSTANCES("ProcessInstanceLog",
+                          "processInstanceId",
+                          "(start_date >= ? or end_date >= ?)",
+                          2,
+                          "processInstanceId", "processId", "processName", "processVersion", "processType",
+                          "processInstanceDescription", "correlationKey", "externalId", "parentProcessInstanceId",
+                          "status", "user_identity", "outcome", "duration", "start_date", "end_date",
+                          "sla_due_date", "slaCompliance"),
+
+        NODE_INSTANCES("NodeInstanceLog",
+                       "id",
+                       "log_date >= ?",
+                       1,
+                       "id", "processInstanceId", "processId", "externalId", "nodeInstanceId", "nodeId", "nodeName",
+                       "nodeType", "type", "connection", "workItemId", "referenceId", "nodeContainerId",
+                       "log_date", "sla_due_date", "slaCompliance"),
+
+        VARIABLES("VariableInstanceLog",
+                  "id",
+                  "log_date >= ?",
+                  1,
+                  "id", "processInstanceId", "processId", "externalId", "variableInstanceId", "variableId",
+                  "value", "oldValue", "log_date");
+
+        private final String table;
+        private final String keyColumn;
+        private final String modifiedSinceClause;
+        private final int modifiedSinceParams;
+        private final List<String> columns;
+
+        ExportType(String table, String keyColumn, String modifiedSinceClause, int modifiedSinceParams, String... columns) {
+            this.table = table;
+            this.keyColumn = keyColumn;
+            this.modifiedSinceClause = modifiedSinceClause;
+            this.modifiedSinceParams = modifiedSinceParams;
+            this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+        }
+
+        public List<String> getColumns() {
+            return columns;
+        }
+    }
+
+    private KieServerRegistry context;
+    private DataSource dataSource;
+    private int fetchSize = readFetchSize();
+
+    public DataExportServiceBase(KieServerRegistry context) {
+        this.context = context;
+    }
+
+    public DataExportServiceBase(DataSource dataSource, KieServerRegistry context) {
+        this.dataSource = dataSource;
+        this.context = context;
+    }
+
+    /**
+     * Writes all rows of given type modified at or after <code>modifiedSince</code> (all rows when null) and with
+     * key greater than <code>afterId</code> (when given) to the output stream, ordered by the key column so an
+     * interrupted export can be resumed from the last key received.
+     * @param type type of data to export
+     * @param modifiedSince optional lower bound of the modification date
+     * @param afterId optional key of the last row already received
+     * @param columns optional projection, all columns of given type are exported when null or empty
+     * @param output stream to write NDJSON to, it is flushed but not closed
+     */
+    public void export(ExportType type, Date modifiedSince, Long afterId, List<String> columns, OutputStream output) throws IOException {
+        List<String> projection = validateColumns(type, columns);
+        String sql = buildQuery(type, projection, modifiedSince != null, afterId != null);
+        logger.debug("About to export {} with query {}", type, sql);
+
+        long rows = 0;
+        try (Connection connection = getDataSource().getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                prepareCursor(connection, statement);
+                int index = 1;
+                if (modifiedSince != null) {
+                    Timestamp since = new Timestamp(modifiedSince.getTime());
+                    for (int i = 0; i < type.modifiedSinceParams; i++) {
+                        statement.setTimestamp(index++, since);
+                    }
+                }
+                if (afterId != null) {
+                    statement.setLong(index, afterId);
+                }
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    rows = writeRows(resultSet, projection, output);
+                }
+            } finally {
+                if (autoCommit && !connection.getAutoCommit()) {
+                    // nothing was modified, the transaction only kept the cursor open
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            // status of the response is already sent so the failure is reported as the last record
+            logger.warn("Export of {} failed due to {}", type, e.getMessage());
+            writeError(output, "Unable to export " + type + " due to " + e.getMessage());
+            throw new IOException("Unable to export " + type + " due to " + e.getMessage(), e);
+        }
+        logger.debug("Exported {} rows of {}", rows, type);
+    }
+
+    /*
+     * most drivers only stream rows with the fetch size when the cursor lives in a transaction (e.g. PostgreSQL),
+     * MySQL streams rows one by one only when the fetch size is Integer.MIN_VALUE
+     */
+    protected void prepareCursor(Connection connection, PreparedStatement statement) throws SQLException {
+        String database = connection.getMetaData().getDatabaseProductName();
+        if (database != null && database.toLowerCase().contains("mysql")) {
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return;
+        }
+        if (connection.getAutoCommit()) {
+            try {
+                connection.setAutoCommit(false);
+            } catch (SQLException e) {
+                // e.g. managed connection enlisted in a global transaction, the cursor is then already in a transaction
+                logger.debug("Unable to switch off auto commit for export cursor due to {}", e.getMessage());
+            }
+        }
+        statement.setFetchSize(fetchSize);
+    }
+
+    protected long writeRows(ResultSet resultSet, List<String> projection, OutputStream output) throws SQLException, IOException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        long rows = 0;
+        // every row is written to the buffer first so a failure while reading a row never leaves a partial record
+        ByteArrayOutputStream row = new ByteArrayOutputStream(512);
+        JsonGenerator generator = JSON_FACTORY.createGenerator(row, JsonEncoding.UTF8);
+        try {
+            while (resultSet.next()) {
+                generator.writeStartObject();
+                for (int i = 0; i < projection.size(); i++) {
+                    String name = projection.get(i);
+                    int column = i + 1;
+                    switch (metaData.getColumnType(column)) {
+                        case Types.TIMESTAMP:
+                        case Types.DATE:
+                            Timestamp timestamp = resultSet.getTimestamp(column);
+                            if (timestamp == null) {
+                                generator.writeNullField(name);
+                            } else {
+                                generator.writeStringField(name, dateFormat.format(timestamp));
+                            }
+                            break;
+                        case Types.TINYINT:
+                        case Types.SMALLINT:
+                        case Types.INTEGER:
+                        case Types.BIGINT:
+                            long number = resultSet.getLong(column);
+                            if (resultSet.wasNull()) {
+                                generator.writeNullField(name);
+                            } else {
+                                generator.writeNumberField(name, number);
+                            }
+                            break;
+                        default:
+                            String value = resultSet.getString(column);
+                            if (value == null) {
+                                generator.writeNullField(name);
+                            } else {
+                                generator.writeStringField(name, value);
+                            }
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                generator.flush();
+                row.writeTo(output);
+                row.reset();
+                rows++;
+                if (rows % fetchSize == 0) {
+                    output.flush();
+                }
+            }
+        } finally {
+            output.flush();
+        }
+        return rows;
+    }
+
+    protected void writeError(OutputStream output, String message) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartObject();
+        generator.writeStringField(ERROR_FIELD, message);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    public List<String> validateColumns(ExportType type, List<String> columns) {
+        if (columns == null || columns.isEmpty()) {
+            return type.getColumns();
+        }
+        Set<String> projection = new LinkedHashSet<>();
+        for (String column : columns) {
+            if (!type.getColumns().contains(column)) {
+                throw new IllegalArgumentException("Unknown column '" + column + "' for " + type + ", supported columns are " + type.getColumns());
+            }
+            projection.add(column);
+        }
+        return new ArrayList<>(projection);
+    }
+
+    protected String buildQuery(ExportType type, List<String> projection, boolean modifiedSince, boolean afterId) {
+        StringBuilder sql = new StringBuilder("select ");
+        sql.append(String.join(", ", projection));
+        sql.append(" from ").append(type.table);
+        if (modifiedSince || afterId) {
+            sql.append(" where ");
+            if (modifiedSince) {
+                sql.append(type.modifiedSinceClause);
+            }
+            if (afterId) {
+                sql.append(modifiedSince ? " and " : "").append(type.keyColumn).append(" > ?");
+            }
+        }
+        sql.append(" order by ").append(type.keyColumn);
+        return sql.toString();
+    }
+
+    private static int readFetchSize() {
+        String value = System.getProperty(EXPORT_FETCH_SIZE);
+        if (value == null) {
+            return DEFAULT_FETCH_SIZE;
+        }
+        try {
+            int fetchSize = Integer.parseInt(value.trim());
+            if (fetchSize > 0) {
+                return fetchSize;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn("Invalid value '{}' of {}, using default fetch size {}", value, EXPORT_FETCH_SIZE, DEFAULT_FETCH_SIZE);
+        return DEFAULT_FETCH_SIZE;
+    }
+
+    protected synchronized DataSource getDataSource() throws IOException {
+        if (dataSource == null) {
+            String dataSourceName = context.getConfig().getConfigItemValue(KieServerConstants.CFG_PERSISTANCE_DS, "java:jboss/datasources/ExampleDS");
+            try {
+                dataSource = InitialContext.doLookup(dataSourceName);
+            } catch (NamingException e) {
+                throw new IOException("Unable to look up data source " + dataSourceName, e);
+            }
+        }
+        return dataSource;
+    }
+}
@@ -15,19 +15,29 @@
 
 package org.kie.server.services.jbpm;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 
 import org.jbpm.document.Document;
 import org.jbpm.document.service.DocumentStorageService;
 import org.jbpm.document.service.DocumentStorageServiceProvider;
+import org.jbpm.document.service.impl.DocumentStorageServiceImpl;
 import org.kie.server.api.model.instance.DocumentInstance;
 import org.kie.server.api.model.instance.DocumentInstance.Builder;
 import org.kie.server.api.model.instance.DocumentInstanceList;
 import org.kie.server.services.api.KieServerRegistry;
-import org.kie.server.services.api.KieServerRuntimeException;
 import org.kie.server.services.impl.marshal.MarshallerHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +46,15 @@ public class DocumentServiceBase {
 
     private static final Logger logger = LoggerFactory.getLogger(DocumentServiceBase.class);
 
+    // storage folder of the default file system document storage
+    public static final String DOCUMENT_STORAGE = "org.jbpm.document.storage";
+    // maximum size in bytes of raw document content accepted on upload, not limited when negative
+    public static final String DOCUMENT_MAX_SIZE = "org.kie.server.document.max.size";
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    private final long maxContentSize = readMaxContentSize();
     private DocumentStorageService documentStorageService = DocumentStorageServiceProvider.get().getStorageService();
     private MarshallerHelper marshallerHelper;
 
@@ -53,7 +72,7 @@ public class DocumentServiceBase {
         final Document document = documentStorageService.getDocument(documentId);
         logger.debug("Document loaded from repository {}", document);
         if (document == null) {
-            throw new KieServerRuntimeException("No document found with id " + documentId);
+            throw new DocumentNotFoundException(documentId);
         }
         return convertDocument(document, true);
     }
@@ -80,19 +99,158 @@ public class DocumentServiceBase {
         Document document = documentStorageService.getDocument(documentId);
         logger.debug("Document found {}", documentInstance != null);
         if (document == null) {
-            throw new KieServerRuntimeException("No document found with id " + documentId);
+            throw new DocumentNotFoundException(documentId);
         }
 
         documentStorageService.saveDocument(document, documentInstance.getContent());
         logger.debug("Document {} updated successfully", document);
     }
 
+    /**
+     * Returns handle to the content of given document that can be written (fully or partially) to an output stream
+     * without marshalling it. When the storage keeps the content in a file it is transferred directly from the file,
+     * for the default file system storage the file is located by document id so the content is never loaded into memory.
+     */
+    public DocumentContent getDocumentContent(String documentId) {
+        logger.debug("About to load document content with id {}", documentId);
+        File file = findContentFile(documentId);
+        if (file != null) {
+            logger.debug("Document {} content available as file {}", documentId, file);
+            return new DocumentContent(file.getName(), null, file);
+        }
+        // other storages only expose the content through a fully loaded document
+        Document document = documentStorageService.getDocument(documentId);
+        if (document == null) {
+            throw new DocumentNotFoundException(documentId);
+        }
+        file = documentStorageService.getDocumentContent(document);
+        if (file != null && !file.isFile()) {
+            file = null;
+        }
+        logger.debug("Document {} content available as file {}", document, file);
+        return new DocumentContent(document.getName(), document, file);
+    }
+
+    /**
+     * Locates content file of given document in the folder of the default file system storage
+     * (<code>&lt;storage&gt;/&lt;document id&gt;/&lt;document name&gt;</code>).
+     * @return content file or null when the storage is not the default one or the document is not there
+     */
+    protected File findContentFile(String documentId) {
+        File root = getStorageRoot();
+        if (root == null || documentId == null || documentId.isEmpty()) {
+            return null;
+        }
+        try {
+            File folder = new File(root, documentId).getCanonicalFile();
+            // document id must name a folder directly within the storage
+            if (!root.getCanonicalFile().equals(folder.getParentFile()) || !folder.isDirectory()) {
+                return null;
+            }
+            File[] files = folder.listFiles(File::isFile);
+            return files != null && files.length == 1 ? files[0] : null;
+        } catch (IOException e) {
+            logger.debug("Unable to locate content of document {} in {}", documentId, root, e);
+            return null;
+        }
+    }
+
+    protected File getStorageRoot() {
+        if (!(documentStorageService instanceof DocumentStorageServiceImpl)) {
+            return null;
+        }
+        return new File(System.getProperty(DOCUMENT_STORAGE, ".docs"));
+    }
+
+    /**
+     * Stores a new document with given name and raw content read from the stream.
+     * @param name name of the document
+     * @param size size of the content or -1 if not known upfront
+     * @param content raw content of the document
+     * @return identifier of the stored document
+     */
+    public String storeDocumentContent(String name, long size, InputStream content) throws IOException {
+        logger.debug("About to store document {} with content of size {}", name, size);
+        byte[] bytes = readContent(content, size);
+        Document document = documentStorageService.buildDocument(name, bytes.length, new Date(), new HashMap<String, String>());
+        documentStorageService.saveDocument(document, bytes);
+        logger.debug("Document {} stored successfully", document);
+
+        return document.getIdentifier();
+    }
+
+    public void updateDocumentContent(String documentId, long size, InputStream content) throws IOException {
+        logger.debug("About to update content of document with id {}", documentId);
+        Document document = documentStorageService.getDocument(documentId);
+        if (document == null) {
+            throw new DocumentNotFoundException(documentId);
+        }
+        byte[] bytes = readContent(content, size);
+        document.setSize(bytes.length);
+        document.setLastModified(new Date());
+        documentStorageService.saveDocument(document, bytes);
+        logger.debug("Document {} content updated successfully", document);
+    }
+
+    protected byte[] readContent(InputStream content, long size) throws IOException {
+        if (maxContentSize >= 0 && size > maxContentSize) {
+            throw new DocumentTooLargeException(maxContentSize);
+        }
+        // storage service accepts only complete byte arrays, the size given by the client is only a hint so memory
+        // is allocated as the content arrives and no copy is needed when the size was correct
+        byte[] buffer = new byte[(int) (size >= 0 ? Math.min(size, INITIAL_BUFFER_SIZE) : INITIAL_BUFFER_SIZE)];
+        int count = 0;
+        while (true) {
+            if (count == buffer.length) {
+                int next = content.read();
+                if (next == -1) {
+                    return buffer;
+                }
+                buffer = Arrays.copyOf(buffer, nextBufferSize(buffer.length, size));
+                buffer[count++] = (byte) next;
+            } else {
+                int read = content.read(buffer, count, buffer.length - count);
+                if (read == -1) {
+                    return Arrays.copyOf(buffer, count);
+                }
+                count += read;
+            }
+            if (maxContentSize >= 0 && count > maxContentSize) {
+                throw new DocumentTooLargeException(maxContentSize);
+            }
+        }
+    }
+
+    private static int nextBufferSize(int current, long size) {
+        if (current >= MAX_BUFFER_SIZE) {
+            throw new DocumentTooLargeException(MAX_BUFFER_SIZE);
+        }
+        long next = Math.max(current * 2L, INITIAL_BUFFER_SIZE);
+        if (size > current) {
+            next = Math.min(next, size);
+        }
+        return (int) Math.min(next, MAX_BUFFER_SIZE);
+    }
+
+    private static long readMaxContentSize() {
+        String value = System.getProperty(DOCUMENT_MAX_SIZE);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' of {}, using default {}", value, DOCUMENT_MAX_SIZE, -1);
+            return -1;
+        }
+    }
+
     public void deleteDocument(String documentId) {
         logger.debug("About to delete document with id {}", documentId);
         Document document = documentStorageService.getDocument(documentId);
         logger.debug("Document found {}", document != null);
         if (document == null) {
-            throw new KieServerRuntimeException("No document found with id " + documentId);
+            throw new DocumentNotFoundException(documentId);
         }
 
         documentStorageService.deleteDocument(document);
@@ -141,4 +299,52 @@ public class DocumentServiceBase {
         DocumentInstance documentInstance = documentBuilder.build();
         return documentInstance;
     }
+
+    public static class DocumentContent {
+
+        private final String name;
+        private final Document document;
+        private final File file;
+
+        DocumentContent(String name, Document document, File file) {
+            this.name = name;
+            this.document = document;
+            this.file = file;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSize() {
+            if (file != null) {
+                return file.length();
+            }
+            byte[] content = document != null ? document.getContent() : null;
+            return content == null ? 0 : content.length;
+        }
+
+        /**
+         * Writes <code>length</code> bytes of the content starting at <code>offset</code> to given output.
+         */
+        public void write(OutputStream output, long offset, long length) throws IOException {
+            if (file != null) {
+                try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                    WritableByteChannel target = Channels.newChannel(output);
+                    long position = offset;
+                    long remaining = length;
+                    while (remaining > 0) {
+                        long transferred = channel.transferTo(position, remaining, target);
+                        if (transferred <= 0) {
+                            break;
+                        }
+                        position += transferred;
+                        remaining -= transferred;
+                    }
+                }
+            } else if (document != null && document.getContent() != null) {
+                output.write(document.getContent(), (int) offset, (int) length);
+            }
+        }
+    }
 }
@@ -344,7 +344,7 @@ public class JbpmKieServerExtension implements KieServerExtension {
                                                                                  new DefinitionServiceBase(definitionService, context),
                                                                                  new ProcessServiceBase(processService, definitionService, runtimeDataService, context),
                                                                                  new UserTaskServiceBase(userTaskService, context),
-                                                                                 new RuntimeDataServiceBase(runtimeDataService, advanceRuntimeDataService, context),
+                                                                                 new RuntimeDataServiceBase(runtimeDataService, advanceRuntimeDataService, queryService, context),
                                                                                  new ExecutorServiceBase(executorService, context),
                                                                                  new QueryDataServiceBase(queryService, context),
                                                                                  new DocumentServiceBase(context),
@@ -355,6 +355,7 @@ public class JbpmKieServerExtension implements KieServerExtension {
     @Override
     public void destroy(KieServerImpl kieServer, KieServerRegistry registry) {
         ((AbstractDeploymentService) deploymentService).shutdown();
+        ProcessServiceBase.shutdownBulkStartExecutor();
 
         if (executorService != null) {
             executorService.destroy();
@@ -15,13 +15,38 @@
 
 package org.kie.server.services.jbpm;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.drools.persistence.api.TransactionManager;
+import org.drools.persistence.api.TransactionManagerFactory;
 import org.jbpm.services.api.DefinitionService;
 import org.jbpm.services.api.DeploymentNotFoundException;
 import org.jbpm.services.api.ProcessService;
@@ -32,8 +57,13 @@ import org.kie.api.runtime.process.WorkItem;
 import org.kie.internal.KieInternalServices;
 import org.kie.internal.process.CorrelationKey;
 import org.kie.internal.process.CorrelationKeyFactory;
+import org.kie.server.api.marshalling.MarshallingFormat;
 import org.kie.server.api.model.definition.ProcessStartSpec;
 import org.kie.server.api.model.instance.ProcessInstanceList;
+import org.kie.server.api.model.instance.ProcessStartRequest;
+import org.kie.server.api.model.instance.ProcessStartRequestList;
+import org.kie.server.api.model.instance.ProcessStartResult;
+import org.kie.server.api.model.instance.ProcessStartResultList;
 import org.kie.server.api.model.instance.WorkItemInstance;
 import org.kie.server.api.model.instance.WorkItemInstanceList;
 import org.kie.server.services.api.ContainerLocator;
@@ -54,6 +84,19 @@ public class ProcessServiceBase {
 
     public static final Logger logger = LoggerFactory.getLogger(ProcessServiceBase.class);
 
+    public static final String BULK_START_BATCH_SIZE = "org.kie.server.process.bulk.start.batch.size";
+    public static final String BULK_START_MAX_BATCH_SIZE = "org.kie.server.process.bulk.start.batch.size.max";
+    public static final String BULK_START_THREADS = "org.kie.server.process.bulk.start.threads";
+
+    private static final int DEFAULT_BULK_START_BATCH_SIZE = 100;
+    private static final int DEFAULT_BULK_START_MAX_BATCH_SIZE = 1000;
+
+    // shared by all instances, created on first use and shut down when the jBPM extension is destroyed
+    private static ExecutorService bulkStartExecutor;
+
+    // results are separated by new lines written explicitly instead of the default space separator
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().setRootValueSeparator(null);
+
     private ProcessService processService;
     private DefinitionService definitionService;
     private RuntimeDataService runtimeDataService;
@@ -62,6 +105,11 @@ public class ProcessServiceBase {
 
     private CorrelationKeyFactory correlationKeyFactory = KieInternalServices.Factory.get().newCorrelationKeyFactory();
 
+    // worker threads do not carry the security context of the caller, so batches run on the calling thread by default
+    private int bulkStartThreads = readIntProperty(BULK_START_THREADS, 0, 0);
+    private int bulkStartBatchSize = readIntProperty(BULK_START_BATCH_SIZE, DEFAULT_BULK_START_BATCH_SIZE, 1);
+    private int bulkStartMaxBatchSize = readIntProperty(BULK_START_MAX_BATCH_SIZE, DEFAULT_BULK_START_MAX_BATCH_SIZE, 1);
+
     public ProcessServiceBase(ProcessService processService, DefinitionService definitionService, RuntimeDataService runtimeDataService, KieServerRegistry context) {
         this.processService = processService;
         this.definitionService = definitionService;
@@ -444,4 +492,255 @@ public class ProcessServiceBase {
 
         return processInstanceList;
     }
+
+    /**
+     * Starts process instances given as {@link ProcessStartRequestList} in batches, see
+     * {@link #startProcesses(String, Iterator, Function, Integer, BatchResultConsumer)}, and returns the outcome of every
+     * request as {@link ProcessStartResultList} in the order of the requests.
+     */
+    public String startProcesses(String containerId, Integer batchSize, String payload, String marshallingType) throws IOException {
+        containerId = context.getContainerId(containerId, ContainerLocatorProvider.get().getLocator());
+        logger.debug("About to unmarshal process start requests from payload: '{}'", payload);
+        ProcessStartRequestList requestList = marshallerHelper.unmarshal(containerId, payload, marshallingType, ProcessStartRequestList.class);
+        List<ProcessStartRequest> requests = requestList == null ? Collections.emptyList() : requestList.getItems();
+
+        List<ProcessStartResult> results = new ArrayList<>(requests.size());
+        startProcesses(containerId, requests.iterator(), Function.identity(), batchSize, results::addAll);
+        return marshallerHelper.marshal(containerId, marshallingType, new ProcessStartResultList(results));
+    }
+
+    /**
+     * Starts process instances read from newline delimited JSON - one {@link ProcessStartRequest} per line - and writes
+     * the outcome of every request to given output as newline delimited JSON as soon as its batch completes. Neither the
+     * requests nor the results are kept in memory beyond the batches that are in flight.
+     * @param input stream of requests, it is read until its end but not closed
+     * @param output stream to write results to, it is flushed after every batch but not closed
+     */
+    public void startProcesses(String containerId, Integer batchSize, InputStream input, OutputStream output) throws IOException {
+        String actualContainerId = context.getContainerId(containerId, ContainerLocatorProvider.get().getLocator());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Iterator<String> lines = reader.lines().filter(line -> !line.trim().isEmpty()).iterator();
+
+        JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8);
+        startProcesses(actualContainerId,
+                       lines,
+                       line -> marshallerHelper.unmarshal(actualContainerId, line, MarshallingFormat.JSON.getType(), ProcessStartRequest.class),
+                       batchSize,
+                       results -> {
+                           for (ProcessStartResult result : results) {
+                               writeResult(generator, result);
+                           }
+                           generator.flush();
+                       });
+    }
+
+    /**
+     * Starts process instances in batches of given size. Every batch is started within a single transaction. By default
+     * batches run on the calling thread; when <code>org.kie.server.process.bulk.start.threads</code> is set they run on
+     * the shared bulk start worker pool while next batches are being read. When any request of a batch fails, the batch
+     * is rolled back and its requests are started one by one so that only the failing requests report an error.
+     * <p>
+     * Note that process instances started on worker threads do not see the security context of the caller, which is
+     * why the worker pool has to be enabled explicitly.
+     * @param requests requests in any form accepted by parser, they are consumed lazily
+     * @param parser converts request to {@link ProcessStartRequest}, invoked on the worker thread so failures are reported per request
+     * @param batchSize number of process instances started in one transaction, defaults to <code>org.kie.server.process.bulk.start.batch.size</code>
+     * and is limited by <code>org.kie.server.process.bulk.start.batch.size.max</code>
+     * @param consumer receives results of every batch in the order of the requests
+     */
+    protected <T> void startProcesses(String containerId, Iterator<T> requests, Function<T, ProcessStartRequest> parser, Integer batchSize, BatchResultConsumer consumer) throws IOException {
+        int size = Math.min(batchSize != null && batchSize > 0 ? batchSize : bulkStartBatchSize, bulkStartMaxBatchSize);
+        Executor executor = getBulkStartExecutor();
+        // keeps every worker busy while bounding the number of batches held in memory
+        int maxInFlight = 2 * Math.max(1, bulkStartThreads);
+        Set<String> verifiedProcessIds = ConcurrentHashMap.newKeySet();
+
+        Deque<CompletableFuture<List<ProcessStartResult>>> inFlight = new ArrayDeque<>();
+        int index = 0;
+        try {
+            while (requests.hasNext()) {
+                List<T> batch = new ArrayList<>(size);
+                while (batch.size() < size && requests.hasNext()) {
+                    batch.add(requests.next());
+                }
+                int offset = index;
+                index += batch.size();
+                inFlight.add(CompletableFuture.supplyAsync(() -> startBatch(containerId, offset, batch, parser, verifiedProcessIds), executor));
+                if (inFlight.size() >= maxInFlight) {
+                    consumer.accept(inFlight.poll().join());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                consumer.accept(inFlight.poll().join());
+            }
+            logger.debug("Processed {} process start requests on container {} in batches of {}", index, containerId, size);
+        } finally {
+            // batches not yet picked up by a worker are dropped when results can no longer be delivered
+            inFlight.forEach(future -> future.cancel(false));
+        }
+    }
+
+    protected <T> List<ProcessStartResult> startBatch(String containerId, int offset, List<T> batch, Function<T, ProcessStartRequest> parser, Set<String> verifiedProcessIds) {
+        ProcessStartRequest[] requests = new ProcessStartRequest[batch.size()];
+        ProcessStartResult[] results = new ProcessStartResult[batch.size()];
+        for (int i = 0; i < requests.length; i++) {
+            try {
+                requests[i] = parser.apply(batch.get(i));
+                verifyStartRequest(containerId, requests[i], verifiedProcessIds);
+            } catch (RuntimeException e) {
+                results[i] = startFailed(offset + i, requests[i], e);
+            }
+        }
+
+        TransactionManager transactionManager = getTransactionManager();
+        boolean transactionOwner = transactionManager.begin();
+        try {
+            for (int i = 0; i < requests.length; i++) {
+                if (results[i] == null) {
+                    results[i] = start(containerId, offset + i, requests[i]);
+                }
+            }
+            transactionManager.commit(transactionOwner);
+            return Arrays.asList(results);
+        } catch (RuntimeException e) {
+            logger.debug("Batch of process start requests from {} rolled back due to {}, starting them one by one", offset, e.getMessage());
+            if (transactionManager.getStatus() != TransactionManager.STATUS_NO_TRANSACTION) {
+                transactionManager.rollback(transactionOwner);
+            }
+        }
+
+        // instances started before the failure were rolled back as well
+        for (int i = 0; i < requests.length; i++) {
+            if (results[i] == null || results[i].getError() == null) {
+                try {
+                    results[i] = start(containerId, offset + i, requests[i]);
+                } catch (RuntimeException e) {
+                    results[i] = startFailed(offset + i, requests[i], e);
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    protected TransactionManager getTransactionManager() {
+        return TransactionManagerFactory.get().newTransactionManager();
+    }
+
+    protected Executor getBulkStartExecutor() {
+        if (bulkStartThreads <= 0) {
+            return Runnable::run;
+        }
+        synchronized (ProcessServiceBase.class) {
+            if (bulkStartExecutor == null) {
+                AtomicInteger threadCount = new AtomicInteger();
+                bulkStartExecutor = Executors.newFixedThreadPool(bulkStartThreads, runnable -> {
+                    Thread thread = new Thread(runnable, "kie-server-bulk-start-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return bulkStartExecutor;
+        }
+    }
+
+    /**
+     * Shuts down the bulk start worker pool, if it was created, waiting for the batches in flight to complete.
+     */
+    public static void shutdownBulkStartExecutor() {
+        ExecutorService executor;
+        synchronized (ProcessServiceBase.class) {
+            executor = bulkStartExecutor;
+            bulkStartExecutor = null;
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Bulk process start batches did not complete within 30 seconds, interrupting them");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int readIntProperty(String name, int defaultValue, int minValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed >= minValue) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn("Invalid value '{}' of {}, using default {}", value, name, defaultValue);
+        return defaultValue;
+    }
+
+    private void verifyStartRequest(String containerId, ProcessStartRequest request, Set<String> verifiedProcessIds) {
+        if (request == null || request.getProcessId() == null || request.getProcessId().isEmpty()) {
+            throw new IllegalArgumentException("Process id is required, got " + request);
+        }
+        if (!verifiedProcessIds.contains(request.getProcessId())) {
+            // check validity of deployment and process id once per process
+            definitionService.getProcessDefinition(containerId, request.getProcessId());
+            verifiedProcessIds.add(request.getProcessId());
+        }
+    }
+
+    private ProcessStartResult start(String containerId, int index, ProcessStartRequest request) {
+        Map<String, Object> parameters = request.getVariables() != null ? request.getVariables() : new HashMap<>();
+        Long processInstanceId;
+        if (request.getCorrelationKey() != null && !request.getCorrelationKey().isEmpty()) {
+            CorrelationKey correlationKey = correlationKeyFactory.newCorrelationKey(Arrays.asList(request.getCorrelationKey().split(":")));
+            processInstanceId = processService.startProcess(containerId, request.getProcessId(), correlationKey, parameters);
+        } else {
+            processInstanceId = processService.startProcess(containerId, request.getProcessId(), parameters);
+        }
+        return new ProcessStartResult(index, request.getProcessId(), request.getCorrelationKey(), processInstanceId, null);
+    }
+
+    private ProcessStartResult startFailed(int index, ProcessStartRequest request, RuntimeException e) {
+        logger.debug("Process start request {} failed due to {}", index, e.getMessage());
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+        if (request == null) {
+            return new ProcessStartResult(index, null, null, null, message);
+        }
+        return new ProcessStartResult(index, request.getProcessId(), request.getCorrelationKey(), null, message);
+    }
+
+    private void writeResult(JsonGenerator generator, ProcessStartResult result) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("index", result.getIndex());
+        if (result.getProcessId() != null) {
+            generator.writeStringField("process-id", result.getProcessId());
+        }
+        if (result.getCorrelationKey() != null) {
+            generator.writeStringField("correlation-key", result.getCorrelationKey());
+        }
+        if (result.getProcessInstanceId() != null) {
+            generator.writeNumberField("process-instance-id", result.getProcessInstanceId());
+        }
+        if (result.getError() != null) {
+            generator.writeStringField("error", result.getError());
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Receives results of a completed batch of process start requests.
+     */
+    @FunctionalInterface
+    protected interface BatchResultConsumer {
+
+        void accept(List<ProcessStartResult> results) throws IOException;
+    }
 }
@@ -16,10 +16,13 @@
 package org.kie.server.services.jbpm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.jbpm.kie.services.impl.query.SqlQueryDefinition;
 import org.jbpm.services.api.model.ProcessInstanceCustomDesc;
@@ -38,6 +41,7 @@ import org.jbpm.services.api.query.model.QueryParam;
 import org.kie.api.runtime.query.AdvancedQueryContext;
 import org.kie.api.runtime.query.QueryContext;
 import org.kie.api.task.model.TaskSummary;
+import org.kie.internal.identity.IdentityProvider;
 import org.kie.internal.runtime.error.ExecutionError;
 import org.kie.server.api.KieServerConstants;
 import org.kie.server.api.model.definition.QueryDefinition;
@@ -64,9 +68,15 @@ public class QueryDataServiceBase {
 
     public static final Logger logger = LoggerFactory.getLogger(QueryDataServiceBase.class);
 
+    /**
+     * Prefix of queries kie server registers for its own use, such queries are neither listed nor accessible by name.
+     */
+    public static final String INTERNAL_QUERY_PREFIX = "kie-server-internal-";
+
     private QueryService queryService;
     private MarshallerHelper marshallerHelper;
     private KieServerRegistry context;
+    private QueryResultCache resultCache = QueryResultCache.get();
 
     public QueryDataServiceBase(QueryService queryService, KieServerRegistry context) {
         this.queryService = queryService;
@@ -78,6 +88,7 @@ public class QueryDataServiceBase {
         logger.debug("About to unmarshal queryDefinition from payload: '{}'", payload);
         QueryDefinition queryDefinition = marshallerHelper.unmarshal(payload, marshallingType, QueryDefinition.class);
         queryDefinition.setName(queryName);
+        checkNotReserved(queryName);
 
         SqlQueryDefinition actualDefinition = build(context, queryDefinition);
         logger.debug("Built sql query definition for {} with content {}", queryName, actualDefinition);
@@ -91,33 +102,57 @@ public class QueryDataServiceBase {
         logger.debug("About to unmarshal queryDefinition from payload: '{}'", payload);
         QueryDefinition queryDefinition = marshallerHelper.unmarshal(payload, marshallingType, QueryDefinition.class);
         queryDefinition.setName(queryName);
+        checkNotReserved(queryName);
 
         SqlQueryDefinition actualDefinition = build(context, queryDefinition);
         logger.debug("Built sql query definition for {} with content {}", queryName, actualDefinition);
 
         queryService.replaceQuery(actualDefinition);
-        
+        resultCache.invalidate(queryName);
+
         return convertQueryDefinition(actualDefinition);
     }
 
     public void unregisterQuery(String uniqueQueryName) throws QueryNotFoundException {
+        checkNotInternal(uniqueQueryName);
 
         queryService.unregisterQuery(uniqueQueryName);
+        resultCache.invalidate(uniqueQueryName);
     }
 
     public QueryDefinition getQuery(String uniqueQueryName) throws QueryNotFoundException {
+        checkNotInternal(uniqueQueryName);
         org.jbpm.services.api.query.model.QueryDefinition query = queryService.getQuery(uniqueQueryName);
 
         return convertQueryDefinition(query);
     }
 
     public QueryDefinitionList getQueries(Integer page, Integer pageSize) throws QueryNotFoundException {
-        List<org.jbpm.services.api.query.model.QueryDefinition> queries = queryService.getQueries(buildQueryContext(page, pageSize));
+        List<org.jbpm.services.api.query.model.QueryDefinition> queries = new ArrayList<>(queryService.getQueries(buildQueryContext(page, pageSize)));
+        // internal queries are hidden, so a page that includes them holds less queries than requested
+        queries.removeIf(query -> isInternal(query.getName()));
 
         return convertToQueryDefinitionList(queries);
     }
 
+    protected boolean isInternal(String queryName) {
+        return queryName != null && queryName.startsWith(INTERNAL_QUERY_PREFIX);
+    }
+
+    private void checkNotInternal(String queryName) {
+        if (isInternal(queryName)) {
+            throw new QueryNotFoundException("Query " + queryName + " not found");
+        }
+    }
+
+    private void checkNotReserved(String queryName) {
+        if (isInternal(queryName)) {
+            throw new IllegalArgumentException("Query names starting with " + INTERNAL_QUERY_PREFIX + " are reserved");
+        }
+    }
+
     public Object query(String queryName, String mapper, String orderBy, Integer page, Integer pageSize) {
+        checkNotInternal(queryName);
 
         QueryResultMapper<?> resultMapper = QueryMapperRegistry.get().mapperFor(mapper, null);
         QueryContext queryContext = buildQueryContext(page, pageSize);
@@ -135,11 +170,14 @@ public class QueryDataServiceBase {
             }
         }
 
-        logger.debug("About to perform query '{}' with sorting criteria '{}' and page {} and page size {}", queryName, orderBy, page, pageSize);
-        Object result = queryService.query(queryName, resultMapper, queryContext);
-        logger.debug("Result returned from the query {} mapped with {}", result, resultMapper);
+        QueryContext actualContext = queryContext;
+        return resultCache.get(queryName, cacheKey(queryName, mapper, orderBy, page, pageSize), () -> {
+            logger.debug("About to perform query '{}' with sorting criteria '{}' and page {} and page size {}", queryName, orderBy, page, pageSize);
+            Object result = queryService.query(queryName, resultMapper, actualContext);
+            logger.debug("Result returned from the query {} mapped with {}", result, resultMapper);
 
-        return transform(result, resultMapper);
+            return transform(result, resultMapper);
+        });
     }
 
     public Object queryFiltered(String queryName, String mapper, Integer page, Integer pageSize, String payload, String marshallingType) {
@@ -147,6 +185,7 @@ public class QueryDataServiceBase {
     }
 
     public Object queryFiltered(String containerId, String queryName, String mapper, Integer page, Integer pageSize, String payload, String marshallingType) {
+        checkNotInternal(queryName);
         QueryParam[] params = new QueryParam[0];
         Map<String, String> columnMapping = null;
 
@@ -184,11 +223,15 @@ public class QueryDataServiceBase {
             queryContext.setAscending(filterSpec.isAscending());
         }
 
-        logger.debug("About to perform query '{}' with page {} and page size {}", queryName, page, pageSize);
-        Object result = queryService.query(queryName, resultMapper, queryContext, params);
-        logger.debug("Result returned from the query {} mapped with {}", result, resultMapper);
+        QueryContext actualContext = queryContext;
+        QueryParam[] actualParams = params;
+        return resultCache.get(queryName, cacheKey(queryName, containerId, mapper, page, pageSize, normalize(filterSpec)), () -> {
+            logger.debug("About to perform query '{}' with page {} and page size {}", queryName, page, pageSize);
+            Object result = queryService.query(queryName, resultMapper, actualContext, actualParams);
+            logger.debug("Result returned from the query {} mapped with {}", result, resultMapper);
 
-        return transform(result, resultMapper);
+            return transform(result, resultMapper);
+        });
     }
 
     private List<Object> toJbpmQueryParam(List<?> parameters) {
@@ -214,6 +257,7 @@ public class QueryDataServiceBase {
 
     @SuppressWarnings("unchecked")
     public Object queryFilteredWithBuilder(String containerId, String queryName, String mapper, String builder, Integer page, Integer pageSize, String payload, String marshallingType) {
+        checkNotInternal(queryName);
         Map<String, String> columnMapping = null;
         QueryContext queryContext = buildQueryContext(page, pageSize);
         Map<String, Object> queryParameters = new HashMap<String, Object>();
@@ -251,17 +295,56 @@ public class QueryDataServiceBase {
             }
         }
 
-        logger.debug("About to perform query '{}' with page {} and page size {}", queryName, page, pageSize);
-        Object result = queryService.query(queryName, resultMapper, queryContext, paramBuilderFactory.newInstance(queryParameters));
-        logger.debug("Result returned from the query {} mapped with {}", result, resultMapper);
+        QueryContext actualContext = queryContext;
+        Map<String, Object> actualParameters = queryParameters;
+        Object[] key = cacheKey(queryName, containerId, mapper, builder, page, pageSize, orderBy, ascending, orderByClause, sorted(columnMapping), sorted(queryParameters).toString());
+        return resultCache.get(queryName, key, () -> {
+            logger.debug("About to perform query '{}' with page {} and page size {}", queryName, page, pageSize);
+            Object result = queryService.query(queryName, resultMapper, actualContext, paramBuilderFactory.newInstance(actualParameters));
+            logger.debug("Result returned from the query {} mapped with {}", result, resultMapper);
 
-        return transform(result, resultMapper);
+            return transform(result, resultMapper);
+        });
     }
 
     /*
      * helper methods
      */
 
+    void setResultCache(QueryResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /*
+     * builds cache key of the filter so equal filters sent with different formatting or column mapping order match
+     */
+    protected static String normalize(QueryFilterSpec filterSpec) {
+        return filterSpec.getOrderBy() + "|" + filterSpec.isAscending() + "|" + filterSpec.getOrderByClause() + "|" +
+               Arrays.toString(filterSpec.getParameters()) + "|" + sorted(filterSpec.getColumnMapping());
+    }
+
+    /*
+     * results of targets such as PO_TASK, FILTERED_PROCESS or FILTERED_PO_TASK depend on the caller, so the user and
+     * its roles are part of every key to never serve results of one user to another
+     */
+    protected Object[] cacheKey(String queryName, Object... parts) {
+        if (!resultCache.isCached(queryName)) {
+            return parts;
+        }
+        Object[] key = Arrays.copyOf(parts, parts.length + 2);
+        IdentityProvider identityProvider = context.getIdentityProvider();
+        if (identityProvider != null) {
+            key[parts.length] = identityProvider.getName();
+            List<String> roles = identityProvider.getRoles();
+            key[parts.length + 1] = roles == null ? null : new TreeSet<>(roles).toString();
+        }
+        return key;
+    }
+
+    private static <V> Map<String, V> sorted(Map<String, V> map) {
+        return map == null ? null : new TreeMap<>(map);
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     protected Object transform(Object result, QueryResultMapper resultMapper) {
         Object actualResult = null;
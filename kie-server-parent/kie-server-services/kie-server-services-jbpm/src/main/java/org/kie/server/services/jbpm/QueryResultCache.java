@@ -0,0 +1,261 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.jbpm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.kie.server.api.KieServerConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded, time limited cache of transformed query results. Only queries listed in
+ * <code>org.kie.server.query.cache.names</code> (or all of them when set to <code>*</code>) are cached, so
+ * caching is disabled unless explicitly configured. Entries of a query are dropped as soon as the query
+ * is replaced or unregistered, otherwise they live for <code>org.kie.server.query.cache.ttl</code> milliseconds.
+ */
+public class QueryResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryResultCache.class);
+
+    private static final String ALL_QUERIES = "*";
+    private static final long DEFAULT_TTL = 10000;
+    private static final int DEFAULT_SIZE = 500;
+
+    private static final QueryResultCache INSTANCE = new QueryResultCache(System.getProperty(KieServerConstants.CFG_QUERY_CACHE_NAMES, ""),
+                                                                          readLong(KieServerConstants.CFG_QUERY_CACHE_TTL, DEFAULT_TTL),
+                                                                          (int) readLong(KieServerConstants.CFG_QUERY_CACHE_SIZE, DEFAULT_SIZE),
+                                                                          System::currentTimeMillis);
+
+    private final Set<String> queryNames;
+    private final boolean allQueries;
+    private final long ttl;
+    private final int maxSize;
+    private final LongSupplier clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // bumped on every invalidation so results of queries that were running meanwhile are not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Map<Key, Entry> entries;
+
+    public static QueryResultCache get() {
+        return INSTANCE;
+    }
+
+    QueryResultCache(String queryNames, long ttl, int maxSize, LongSupplier clock) {
+        Set<String> names = new HashSet<>();
+        for (String name : queryNames.split(",")) {
+            if (!name.trim().isEmpty()) {
+                names.add(name.trim());
+            }
+        }
+        this.queryNames = Collections.unmodifiableSet(names);
+        this.allQueries = names.contains(ALL_QUERIES);
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        // access ordered so the least recently used entry is evicted first
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > QueryResultCache.this.maxSize;
+            }
+        };
+        if (isEnabled()) {
+            logger.info("Query result cache enabled for {} with ttl {} ms and max size {}", allQueries ? "all queries" : this.queryNames, ttl, maxSize);
+        }
+    }
+
+    static long readLong(String property, long defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed >= 0 && parsed <= Integer.MAX_VALUE) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn("Invalid value '{}' of {}, using default {}", value, property, defaultValue);
+        return defaultValue;
+    }
+
+    public boolean isEnabled() {
+        return !queryNames.isEmpty() && ttl > 0 && maxSize > 0;
+    }
+
+    public boolean isCached(String queryName) {
+        return isEnabled() && (allQueries || queryNames.contains(queryName));
+    }
+
+    /**
+     * Returns cached result of given query invocation or computes and caches it when there is none or it expired.
+     * @param queryName name of the registered query, used for invalidation
+     * @param key parts that identify the invocation - mapper, paging, sorting and filter
+     * @param query performs the actual query when result is not cached
+     */
+    public Object get(String queryName, Object[] key, Supplier<Object> query) {
+        if (!isCached(queryName)) {
+            return query.get();
+        }
+        Key cacheKey = new Key(queryName, key);
+        long now = clock.getAsLong();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(cacheKey);
+        }
+        if (entry != null && entry.expiresAt > now) {
+            hits.incrementAndGet();
+            listeners.forEach(l -> l.onHit(queryName));
+            logger.debug("Returning cached result of query '{}'", queryName);
+            return entry.result;
+        }
+        misses.incrementAndGet();
+        listeners.forEach(l -> l.onMiss(queryName));
+
+        long currentGeneration = generation.get();
+        Object result = query.get();
+        synchronized (entries) {
+            if (currentGeneration == generation.get()) {
+                entries.put(cacheKey, new Entry(result, now + ttl));
+            }
+        }
+        return result;
+    }
+
+    public void invalidate(String queryName) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (entries) {
+            generation.incrementAndGet();
+            Iterator<Key> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().queryName.equals(queryName)) {
+                    keys.remove();
+                }
+            }
+        }
+        listeners.forEach(l -> l.onInvalidate(queryName));
+        logger.debug("Invalidated cached results of query '{}'", queryName);
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notified about cache lookups, e.g. to expose hit ratio of every cached query as metrics.
+     */
+    public interface Listener {
+
+        void onHit(String queryName);
+
+        void onMiss(String queryName);
+
+        default void onInvalidate(String queryName) {
+        }
+    }
+
+    private static class Key {
+
+        private final String queryName;
+        private final Object[] parts;
+        private final int hash;
+
+        Key(String queryName, Object[] parts) {
+            this.queryName = queryName;
+            this.parts = parts;
+            this.hash = 31 * queryName.hashCode() + Arrays.deepHashCode(parts);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && Objects.equals(queryName, other.queryName) && Arrays.deepEquals(parts, other.parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class Entry {
+
+        private final Object result;
+        private final long expiresAt;
+
+        Entry(Object result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
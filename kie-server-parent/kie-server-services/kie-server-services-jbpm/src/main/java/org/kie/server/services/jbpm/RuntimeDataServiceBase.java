@@ -21,6 +21,7 @@ import static org.jbpm.services.api.AdvanceRuntimeDataService.TASK_ATTR_NAME;
 import static org.jbpm.services.api.AdvanceRuntimeDataService.TASK_ATTR_OWNER;
 import static org.jbpm.services.api.AdvanceRuntimeDataService.TASK_ATTR_STATUS;
 import static org.jbpm.services.api.query.model.QueryParam.all;
+import static org.kie.server.services.jbpm.ConvertUtils.buildKeysetTaskQueryFilter;
 import static org.kie.server.services.jbpm.ConvertUtils.buildQueryContext;
 import static org.kie.server.services.jbpm.ConvertUtils.buildQueryFilter;
 import static org.kie.server.services.jbpm.ConvertUtils.buildTaskByNameQueryFilter;
@@ -46,6 +47,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.jbpm.kie.services.impl.query.SqlQueryDefinition;
 import org.jbpm.services.api.AdvanceRuntimeDataService;
 import org.jbpm.services.api.DeploymentNotFoundException;
 import org.jbpm.services.api.ProcessInstanceNotFoundException;
@@ -57,8 +59,11 @@ import org.jbpm.services.api.model.ProcessDefinition;
 import org.jbpm.services.api.model.ProcessInstanceDesc;
 import org.jbpm.services.api.model.UserTaskInstanceDesc;
 import org.jbpm.services.api.model.VariableDesc;
+import org.jbpm.services.api.query.QueryMapperRegistry;
+import org.jbpm.services.api.query.QueryService;
 import org.jbpm.services.api.query.model.QueryParam;
 import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.api.runtime.query.AdvancedQueryContext;
 import org.kie.api.runtime.query.QueryContext;
 import org.kie.api.task.model.Status;
 import org.kie.api.task.model.TaskSummary;
@@ -93,8 +98,16 @@ public class RuntimeDataServiceBase {
 
     public static final Logger logger = LoggerFactory.getLogger(RuntimeDataServiceBase.class);
 
+    static final String PROCESS_INSTANCES_KEYSET_QUERY = QueryDataServiceBase.INTERNAL_QUERY_PREFIX + "processInstancesKeyset";
+    private static final String PROCESS_INSTANCES_KEYSET_EXPRESSION = "select log.processInstanceId, log.processId, log.start_date, log.end_date, log.status, " +
+            "log.parentProcessInstanceId, log.outcome, log.duration, log.user_identity, log.processVersion, log.processName, log.correlationKey, " +
+            "log.externalId, log.processInstanceDescription from ProcessInstanceLog log";
+    private static final String TASK_KEYSET_SORT = "TaskId";
+
     private AdvanceRuntimeDataService advanceRuntimeDataService;
     private RuntimeDataService runtimeDataService;
+    private QueryService queryService;
+    private volatile boolean keysetQueryRegistered = false;
     private IdentityProvider identityProvider;
     private KieServerRegistry context;
 
@@ -113,6 +126,11 @@ public class RuntimeDataServiceBase {
         this.bypassAuthUser = Boolean.parseBoolean(context.getConfig().getConfigItemValue(KieServerConstants.CFG_BYPASS_AUTH_USER, "false"));
     }
 
+    public RuntimeDataServiceBase(RuntimeDataService delegate, AdvanceRuntimeDataService advanceRuntimeDataService, QueryService queryService, KieServerRegistry context) {
+        this(delegate, advanceRuntimeDataService, context);
+        this.queryService = queryService;
+    }
+
     protected String getUser(String queryParamUser) {
         if (bypassAuthUser) {
             if (queryParamUser == null || queryParamUser.isEmpty()) {
@@ -151,6 +169,139 @@ public class RuntimeDataServiceBase {
         return processInstanceList;
     }
 
+    /**
+     * Keyset variant of {@link #getProcessInstances(List, String, String, Integer, Integer, String, boolean)} - instead of an offset
+     * the page starts right after the process instance the continuation token was issued for. Results are sorted by given sort key
+     * (see {@link KeysetSort}) and process instance id, the returned list carries the token of the next page when the page is full.
+     */
+    public ProcessInstanceList getProcessInstancesAfter(List<Integer> status, String initiator, String processName, String sort, boolean sortOrder, String continuationToken, Integer pageSize) {
+        if (queryService == null) {
+            throw new IllegalStateException("Keyset pagination of process instances is not available");
+        }
+        if (status == null || status.isEmpty()) {
+            status = new ArrayList<Integer>();
+            status.add(ProcessInstance.STATE_ACTIVE);
+        }
+        KeysetSort keysetSort = KeysetSort.of(sort);
+        ContinuationToken token = ContinuationToken.decode(continuationToken, keysetSort.key, sortOrder);
+        registerKeysetQuery();
+
+        List<QueryParam> filters = new ArrayList<>();
+        filters.add(new QueryParam("status", "IN", new ArrayList<>(status)));
+        if (nullEmpty(initiator) != null) {
+            filters.add(new QueryParam("user_identity", "EQUALS_TO", Arrays.asList(initiator)));
+        }
+        if (nullEmpty(processName) != null) {
+            filters.add(new QueryParam("processName", "EQUALS_TO", Arrays.asList(processName)));
+        }
+        logger.debug("About to search for process instances sorted by {} after {} with page size {}", keysetSort.key, continuationToken, pageSize);
+
+        String after = sortOrder ? "GREATER_THAN" : "LOWER_THAN";
+        List<ProcessInstanceDesc> instances = new ArrayList<>();
+        if (token == null) {
+            instances.addAll(queryKeyset(filters, keysetSort, sortOrder, pageSize));
+        } else if (keysetSort.column == null) {
+            instances.addAll(queryKeyset(with(filters, new QueryParam("processInstanceId", after, Arrays.asList(token.getLastId()))), keysetSort, sortOrder, pageSize));
+        } else {
+            // (sort value, id) after (last value, last id) is split into two range queries as query params are always joined with and
+            instances.addAll(queryKeyset(with(filters,
+                                              new QueryParam(keysetSort.column, "EQUALS_TO", Arrays.asList(token.getLastValue())),
+                                              new QueryParam("processInstanceId", after, Arrays.asList(token.getLastId()))),
+                                         KeysetSort.PROCESS_INSTANCE_ID, sortOrder, pageSize));
+            if (instances.size() < pageSize) {
+                instances.addAll(queryKeyset(with(filters, new QueryParam(keysetSort.column, after, Arrays.asList(token.getLastValue()))),
+                                             keysetSort, sortOrder, pageSize - instances.size()));
+            }
+        }
+        logger.debug("Found {} process instances after {}, statuses '{}'", instances.size(), continuationToken, status);
+
+        ProcessInstanceList result = convertToProcessInstanceList(instances);
+        if (!instances.isEmpty() && instances.size() >= pageSize) {
+            org.kie.server.api.model.instance.ProcessInstance last = result.getProcessInstances()[instances.size() - 1];
+            result.setContinuationToken(new ContinuationToken(keysetSort.key, sortOrder, last.getId(), keysetSort.valueOf(last)).encode());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Collection<ProcessInstanceDesc> queryKeyset(List<QueryParam> params, KeysetSort sort, boolean ascending, int count) {
+        QueryContext queryContext = new QueryContext(0, count, "processInstanceId", ascending);
+        if (sort.column != null) {
+            String direction = ascending ? " ASC" : " DESC";
+            queryContext = new AdvancedQueryContext(queryContext, sort.column + direction + ", processInstanceId" + direction);
+        }
+        return (Collection<ProcessInstanceDesc>) queryService.query(PROCESS_INSTANCES_KEYSET_QUERY,
+                                                                    QueryMapperRegistry.get().mapperFor("ProcessInstances", null),
+                                                                    queryContext,
+                                                                    params.toArray(new QueryParam[params.size()]));
+    }
+
+    private static List<QueryParam> with(List<QueryParam> filters, QueryParam... params) {
+        List<QueryParam> all = new ArrayList<>(filters);
+        all.addAll(Arrays.asList(params));
+        return all;
+    }
+
+    protected void registerKeysetQuery() {
+        if (keysetQueryRegistered) {
+            return;
+        }
+        synchronized (this) {
+            if (!keysetQueryRegistered) {
+                SqlQueryDefinition definition = new SqlQueryDefinition(PROCESS_INSTANCES_KEYSET_QUERY,
+                                                                       context.getConfig().getConfigItemValue(KieServerConstants.CFG_PERSISTANCE_DS, "java:jboss/datasources/ExampleDS"));
+                definition.setExpression(PROCESS_INSTANCES_KEYSET_EXPRESSION);
+                definition.setTarget(org.jbpm.services.api.query.model.QueryDefinition.Target.FILTERED_PROCESS);
+                queryService.replaceQuery(definition);
+                keysetQueryRegistered = true;
+            }
+        }
+    }
+
+    /**
+     * Sort keys supported by keyset pagination of process instances, only columns that are never null qualify.
+     */
+    protected enum KeysetSort {
+
+        PROCESS_INSTANCE_ID("ProcessInstanceId", null),
+        PROCESS_ID("ProcessId", "processId"),
+        PROCESS_NAME("ProcessName", "processName"),
+        START_DATE("StartDate", "start_date");
+
+        private final String key;
+        private final String column;
+
+        KeysetSort(String key, String column) {
+            this.key = key;
+            this.column = column;
+        }
+
+        static KeysetSort of(String sort) {
+            if (sort == null || sort.isEmpty()) {
+                return PROCESS_INSTANCE_ID;
+            }
+            for (KeysetSort keysetSort : values()) {
+                if (keysetSort.key.equalsIgnoreCase(sort)) {
+                    return keysetSort;
+                }
+            }
+            throw new IllegalArgumentException("Keyset pagination of process instances can be sorted by ProcessInstanceId, ProcessId, ProcessName or StartDate only, got " + sort);
+        }
+
+        Object valueOf(org.kie.server.api.model.instance.ProcessInstance processInstance) {
+            switch (this) {
+                case PROCESS_ID:
+                    return processInstance.getProcessId();
+                case PROCESS_NAME:
+                    return processInstance.getProcessName();
+                case START_DATE:
+                    return processInstance.getDate();
+                default:
+                    return null;
+            }
+        }
+    }
+
     public ProcessInstanceList getProcessInstancesByProcessId(String processId, List<Integer> status, String initiator, Integer page, Integer pageSize, String sort, boolean sortOrder) {
         if (sort == null || sort.isEmpty()) {
             sort = "ProcessInstanceId";
@@ -502,6 +653,37 @@ public class RuntimeDataServiceBase {
 
     }
 
+    /**
+     * Keyset variant of {@link #getTasksAssignedAsPotentialOwner(List, List, String, Integer, Integer, String, boolean, String)} - the page
+     * starts right after the task the continuation token was issued for. Results can be sorted by task id only, the returned list carries
+     * the token of the next page when the page is full.
+     */
+    public TaskSummaryList getTasksAssignedAsPotentialOwnerAfter(List<String> status, List<String> groupIds, String userId, String sort, boolean sortOrder, String continuationToken, Integer pageSize, String filter) {
+
+        List<Status> taskStatuses = buildTaskStatuses(status);
+
+        userId = getUser(userId);
+        logger.debug("About to search for task assigned as potential owner for user '{}' after token {}", userId, continuationToken);
+        List<TaskSummary> tasks;
+        QueryFilter queryFilter = buildKeysetTaskQueryFilter(decodeTaskToken(sort, sortOrder, continuationToken), sortOrder, pageSize, filter);
+        if (groupIds != null && !groupIds.isEmpty()) {
+
+            if (taskStatuses == null) {
+                tasks = runtimeDataService.getTasksAssignedAsPotentialOwner(userId, groupIds, queryFilter);
+            } else {
+                tasks = runtimeDataService.getTasksAssignedAsPotentialOwner(userId, groupIds, taskStatuses, queryFilter);
+            }
+        } else if (taskStatuses != null) {
+            tasks = runtimeDataService.getTasksAssignedAsPotentialOwnerByStatus(userId, taskStatuses, queryFilter);
+        } else {
+
+            tasks = runtimeDataService.getTasksAssignedAsPotentialOwner(userId, queryFilter);
+        }
+
+        logger.debug("Found {} tasks for user '{}' assigned as potential owner", tasks.size(), userId);
+        return convertToTaskSummaryPage(tasks, sortOrder, pageSize);
+    }
+
     public TaskSummaryList getTasksOwnedByStatus(List<String> status, String userId, Integer page, Integer pageSize, String sort, boolean sortOrder) {
 
         List<Status> taskStatuses = buildTaskStatuses(status);
@@ -523,6 +705,44 @@ public class RuntimeDataServiceBase {
         return result;
     }
 
+    /**
+     * Keyset variant of {@link #getTasksOwnedByStatus(List, String, Integer, Integer, String, boolean)}, see
+     * {@link #getTasksAssignedAsPotentialOwnerAfter(List, List, String, String, boolean, String, Integer, String)}.
+     */
+    public TaskSummaryList getTasksOwnedByStatusAfter(List<String> status, String userId, String sort, boolean sortOrder, String continuationToken, Integer pageSize) {
+
+        List<Status> taskStatuses = buildTaskStatuses(status);
+
+        userId = getUser(userId);
+        logger.debug("About to search for task owned user '{}' after token {}", userId, continuationToken);
+        List<TaskSummary> tasks;
+        QueryFilter queryFilter = buildKeysetTaskQueryFilter(decodeTaskToken(sort, sortOrder, continuationToken), sortOrder, pageSize, null);
+        if (taskStatuses != null) {
+            tasks = runtimeDataService.getTasksOwnedByStatus(userId, taskStatuses, queryFilter);
+        } else {
+            tasks = runtimeDataService.getTasksOwned(userId, queryFilter);
+        }
+
+        logger.debug("Found {} tasks owned by user '{}'", tasks.size(), userId);
+        return convertToTaskSummaryPage(tasks, sortOrder, pageSize);
+    }
+
+    private static Long decodeTaskToken(String sort, boolean sortOrder, String continuationToken) {
+        if (sort != null && !sort.isEmpty() && !TASK_KEYSET_SORT.equalsIgnoreCase(sort) && !"Id".equalsIgnoreCase(sort)) {
+            throw new IllegalArgumentException("Keyset pagination of tasks can be sorted by TaskId only, got " + sort);
+        }
+        ContinuationToken token = ContinuationToken.decode(continuationToken, TASK_KEYSET_SORT, sortOrder);
+        return token == null ? null : token.getLastId();
+    }
+
+    private static TaskSummaryList convertToTaskSummaryPage(List<TaskSummary> tasks, boolean sortOrder, Integer pageSize) {
+        TaskSummaryList result = convertToTaskSummaryList(tasks);
+        if (!tasks.isEmpty() && tasks.size() >= pageSize) {
+            result.setContinuationToken(new ContinuationToken(TASK_KEYSET_SORT, sortOrder, tasks.get(tasks.size() - 1).getId(), null).encode());
+        }
+        return result;
+    }
+
     public TaskSummaryList getTasksByStatusByProcessInstanceId(Number processInstanceId, List<String> status, Integer page, Integer pageSize, String sort, boolean sortOrder) {
 
         List<Status> taskStatuses = buildTaskStatuses(status);
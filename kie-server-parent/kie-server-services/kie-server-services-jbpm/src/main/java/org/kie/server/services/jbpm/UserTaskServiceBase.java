@@ -16,12 +16,16 @@
 package org.kie.server.services.jbpm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.drools.persistence.api.TransactionManager;
+import org.drools.persistence.api.TransactionManagerFactory;
 import org.jbpm.kie.services.impl.model.UserTaskInstanceDesc;
 import org.jbpm.services.api.TaskNotFoundException;
 import org.jbpm.services.api.UserTaskService;
@@ -39,6 +43,10 @@ import org.kie.server.api.model.instance.TaskAttachmentList;
 import org.kie.server.api.model.instance.TaskComment;
 import org.kie.server.api.model.instance.TaskCommentList;
 import org.kie.server.api.model.instance.TaskInstance;
+import org.kie.server.api.model.instance.TaskOperation;
+import org.kie.server.api.model.instance.TaskOperationList;
+import org.kie.server.api.model.instance.TaskOperationResult;
+import org.kie.server.api.model.instance.TaskOperationResultList;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.impl.marshal.MarshallerHelper;
 import org.kie.server.services.jbpm.locator.ByTaskIdContainerLocator;
@@ -531,6 +539,152 @@ public class UserTaskServiceBase {
 
     }
     
+    /**
+     * Executes a batch of task operations given as {@link TaskOperationList}, operations without container id are executed
+     * in given container. Container ids of all the tasks are looked up at once and the outcome of every operation is returned
+     * as {@link TaskOperationResultList} in the order of the operations.
+     * @param atomic when true all operations run in a single transaction that is rolled back on the first failure,
+     * otherwise every operation runs in its own transaction and failures do not affect other operations
+     */
+    public String executeOperations(String containerId, boolean atomic, String payload, String marshallingType) {
+        logger.debug("About to unmarshal task operations from payload: '{}'", payload);
+        TaskOperationList operationList = marshallerHelper.unmarshal(containerId, payload, marshallingType, TaskOperationList.class);
+        List<TaskOperation> operations = operationList == null ? Collections.emptyList() : operationList.getItems();
+
+        List<TaskOperationResult> results = executeOperations(containerId, operations, atomic);
+        return marshallerHelper.marshal(containerId, marshallingType, new TaskOperationResultList(results));
+    }
+
+    protected List<TaskOperationResult> executeOperations(String containerId, List<TaskOperation> operations, boolean atomic) {
+        List<Long> taskIds = new ArrayList<>();
+        for (TaskOperation operation : operations) {
+            if (operation.getTaskId() != null) {
+                taskIds.add(operation.getTaskId());
+            }
+        }
+        Map<Long, ByTaskIdContainerLocator> locators = locateContainers(taskIds);
+        TaskOperationResult[] results = new TaskOperationResult[operations.size()];
+        logger.debug("About to execute {} task operations {}", operations.size(), atomic ? "atomically" : "one by one");
+        if (!atomic) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = execute(containerId, operations.get(i), locators);
+            }
+            return Arrays.asList(results);
+        }
+
+        TransactionManager transactionManager = getTransactionManager();
+        boolean transactionOwner = transactionManager.begin();
+        int failed = -1;
+        String message;
+        try {
+            for (int i = 0; i < results.length && failed < 0; i++) {
+                results[i] = execute(containerId, operations.get(i), locators);
+                if (!results[i].isSuccess()) {
+                    failed = i;
+                }
+            }
+            if (failed < 0) {
+                transactionManager.commit(transactionOwner);
+                return Arrays.asList(results);
+            }
+            message = "Rolled back due to failure of " + results[failed].getOperation() + " operation on task " + results[failed].getTaskId();
+            transactionManager.rollback(transactionOwner);
+        } catch (RuntimeException e) {
+            logger.warn("Task operations failed to complete as a whole due to {}", e.getMessage(), e);
+            message = "Rolled back due to " + e.getMessage();
+            failed = -1;
+            if (transactionManager.getStatus() == TransactionManager.STATUS_ACTIVE) {
+                transactionManager.rollback(transactionOwner);
+            }
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            if (i != failed) {
+                TaskOperation operation = operations.get(i);
+                String executedIn = results[i] != null ? results[i].getContainerId() : null;
+                results[i] = new TaskOperationResult(operation.getTaskId(), executedIn, operation.getOperation(), false, message);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    protected Map<Long, ByTaskIdContainerLocator> locateContainers(List<Long> taskIds) {
+        return ByTaskIdContainerLocator.forTasks(taskIds);
+    }
+
+    protected TransactionManager getTransactionManager() {
+        return TransactionManagerFactory.get().newTransactionManager();
+    }
+
+    private TaskOperationResult execute(String containerId, TaskOperation operation, Map<Long, ByTaskIdContainerLocator> locators) {
+        Long taskId = operation.getTaskId();
+        String targetContainerId = operation.getContainerId() != null ? operation.getContainerId() : containerId;
+        try {
+            if (taskId == null || operation.getOperation() == null) {
+                throw new IllegalArgumentException("Task id and operation are required, got " + operation);
+            }
+            targetContainerId = context.getContainerId(targetContainerId, locators.get(taskId));
+            String userId = getUser(operation.getUser());
+            Map<String, Object> data = operation.getData() != null ? new HashMap<>(operation.getData()) : new HashMap<>();
+
+            logger.debug("About to {} task with id '{}' as user '{}'", operation.getOperation(), taskId, userId);
+            switch (operation.getOperation()) {
+                case ACTIVATE:
+                    userTaskService.activate(targetContainerId, taskId, userId);
+                    break;
+                case CLAIM:
+                    userTaskService.claim(targetContainerId, taskId, userId);
+                    break;
+                case START:
+                    userTaskService.start(targetContainerId, taskId, userId);
+                    break;
+                case STOP:
+                    userTaskService.stop(targetContainerId, taskId, userId);
+                    break;
+                case COMPLETE:
+                    userTaskService.complete(targetContainerId, taskId, userId, data);
+                    break;
+                case RELEASE:
+                    userTaskService.release(targetContainerId, taskId, userId);
+                    break;
+                case DELEGATE:
+                    userTaskService.delegate(targetContainerId, taskId, userId, getTargetUser(operation));
+                    break;
+                case FORWARD:
+                    userTaskService.forward(targetContainerId, taskId, userId, getTargetUser(operation));
+                    break;
+                case SKIP:
+                    userTaskService.skip(targetContainerId, taskId, userId);
+                    break;
+                case SUSPEND:
+                    userTaskService.suspend(targetContainerId, taskId, userId, data);
+                    break;
+                case RESUME:
+                    userTaskService.resume(targetContainerId, taskId, userId);
+                    break;
+                case EXIT:
+                    userTaskService.exit(targetContainerId, taskId, userId);
+                    break;
+                case FAIL:
+                    userTaskService.fail(targetContainerId, taskId, userId, data);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported task operation " + operation.getOperation());
+            }
+            return new TaskOperationResult(taskId, targetContainerId, operation.getOperation(), true, null);
+        } catch (Exception e) {
+            logger.debug("Operation {} on task with id '{}' failed due to {}", operation.getOperation(), taskId, e.getMessage(), e);
+            return new TaskOperationResult(taskId, targetContainerId, operation.getOperation(), false, e.getMessage());
+        }
+    }
+
+    private String getTargetUser(TaskOperation operation) {
+        if (operation.getTargetUser() == null) {
+            throw new IllegalArgumentException(operation.getOperation() + " operation requires target user");
+        }
+        return operation.getTargetUser();
+    }
+
     private String getOrgEntityIfNotNull(OrganizationalEntity organizationalEntity) {
         if (organizationalEntity == null) {
             return "";
@@ -15,7 +15,14 @@
 
 package org.kie.server.services.jbpm.locator;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
@@ -38,6 +45,9 @@ public class ByTaskIdContainerLocator implements ContainerLocator {
     private static final Logger logger = LoggerFactory.getLogger(ByTaskIdContainerLocator.class);
 
     private static final String CONTAINER_ID_QUERY = "select log.deploymentId from AuditTaskImpl log where log.taskId = :taskId";
+    private static final String CONTAINER_IDS_QUERY = "select log.taskId, log.deploymentId from AuditTaskImpl log where log.taskId in (:taskIds)";
+    // keeps the in clause within limits of all supported data bases
+    private static final int MAX_TASK_IDS_PER_QUERY = 1000;
     private Long taskId;
 
     private String containerId;
@@ -46,6 +56,50 @@ public class ByTaskIdContainerLocator implements ContainerLocator {
         this.taskId = taskId;
     }
 
+    private ByTaskIdContainerLocator(Long taskId, String containerId) {
+        this.taskId = taskId;
+        this.containerId = containerId;
+    }
+
+    /**
+     * Creates locators for all given tasks, looking up their container ids with as few queries as possible
+     * instead of a query per task. Locators of tasks that were not found search again when used, so they fail the same way
+     * as locators created for a single task.
+     * @param taskIds ids of the tasks
+     * @return locator for every given task id
+     */
+    public static Map<Long, ByTaskIdContainerLocator> forTasks(Collection<Long> taskIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(taskIds));
+        Map<Long, ByTaskIdContainerLocator> locators = new HashMap<>();
+        Set<Long> ambiguous = new HashSet<>();
+        if (ids.isEmpty()) {
+            return locators;
+        }
+        EntityManager em = EntityManagerFactoryManager.get().getOrCreate(KieServerConstants.KIE_SERVER_PERSISTENCE_UNIT_NAME).createEntityManager();
+        try {
+            for (int i = 0; i < ids.size(); i += MAX_TASK_IDS_PER_QUERY) {
+                List<Object[]> found = em.createQuery(CONTAINER_IDS_QUERY, Object[].class)
+                        .setParameter("taskIds", ids.subList(i, Math.min(i + MAX_TASK_IDS_PER_QUERY, ids.size())))
+                        .getResultList();
+                for (Object[] row : found) {
+                    Long id = ((Number) row[0]).longValue();
+                    if (locators.put(id, new ByTaskIdContainerLocator(id, (String) row[1])) != null) {
+                        ambiguous.add(id);
+                    }
+                }
+            }
+        } finally {
+            em.close();
+        }
+        // multiple container ids are reported by the single task lookup once the locator is used
+        locators.keySet().removeAll(ambiguous);
+        logger.debug("Found container ids for {} out of {} tasks", locators.size(), ids.size());
+        for (Long id : ids) {
+            locators.computeIfAbsent(id, ByTaskIdContainerLocator::new);
+        }
+        return locators;
+    }
+
     @Override
     public String locateContainer(String alias, List<? extends KieContainerInstance> containerInstances) {
         if (containerId != null) {
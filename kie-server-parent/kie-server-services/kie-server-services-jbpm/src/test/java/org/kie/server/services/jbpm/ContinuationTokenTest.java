@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.jbpm;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class ContinuationTokenTest {
+
+    @Test
+    public void testRoundTrip() {
+        String token = new ContinuationToken("StartDate", false, 12345L, new Date(1000)).encode();
+
+        ContinuationToken decoded = ContinuationToken.decode(token, "StartDate", false);
+        assertEquals("StartDate", decoded.getSortKey());
+        assertFalse(decoded.isAscending());
+        assertEquals(12345L, decoded.getLastId());
+        assertEquals(new Date(1000), decoded.getLastValue());
+
+        // separator within the sort value
+        token = new ContinuationToken("ProcessName", true, 1L, "a;b").encode();
+        assertEquals("a;b", ContinuationToken.decode(token, "ProcessName", true).getLastValue());
+    }
+
+    @Test
+    public void testFirstPage() {
+        assertNull(ContinuationToken.decode(null, "TaskId", true));
+        assertNull(ContinuationToken.decode("", "TaskId", true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTokenOfOtherSortOrder() {
+        String token = new ContinuationToken("TaskId", true, 10L, null).encode();
+
+        ContinuationToken.decode(token, "TaskId", false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidToken() {
+        ContinuationToken.decode("not-a-token", "TaskId", true);
+    }
+}
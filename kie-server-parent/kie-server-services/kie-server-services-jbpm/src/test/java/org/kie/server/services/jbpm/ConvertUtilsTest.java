@@ -20,13 +20,33 @@ import java.util.Date;
 import org.jbpm.kie.services.impl.model.UserTaskInstanceDesc;
 import org.junit.Test;
 import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.internal.query.QueryFilter;
 import org.kie.server.api.model.instance.TaskInstance;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 
 public class ConvertUtilsTest {
 
+    @Test
+    public void testBuildKeysetTaskQueryFilter() {
+        QueryFilter filter = ConvertUtils.buildKeysetTaskQueryFilter(25L, true, 10, "Review%");
+
+        assertEquals(0, (int) filter.getOffset());
+        assertEquals(10, (int) filter.getCount());
+        assertEquals("t.id", filter.getOrderBy());
+        assertEquals("t.id > :lastTaskId and t.name like :taskName", filter.getFilterParams());
+        assertEquals(25L, filter.getParams().get("lastTaskId"));
+        assertEquals("Review%", filter.getParams().get("taskName"));
+
+        filter = ConvertUtils.buildKeysetTaskQueryFilter(25L, false, 10, null);
+        assertEquals("t.id < :lastTaskId", filter.getFilterParams());
+
+        // first page has no predicate
+        assertNull(ConvertUtils.buildKeysetTaskQueryFilter(null, true, 10, null).getFilterParams());
+    }
+
     @Test
     public void testConvertToTask() {
         Date testDate = new Date();
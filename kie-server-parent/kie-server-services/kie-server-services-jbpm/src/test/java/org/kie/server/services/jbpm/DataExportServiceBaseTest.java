@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.jbpm;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.jbpm.DataExportServiceBase.ExportType;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DataExportServiceBaseTest {
+
+    private static final List<String> COLUMNS = Arrays.asList("processInstanceId", "processId", "status", "start_date", "end_date");
+
+    private JdbcDataSource dataSource;
+    private Connection connection;
+    private DataExportServiceBase exportServiceBase;
+
+    @Before
+    public void setup() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:export;DB_CLOSE_DELAY=-1");
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table ProcessInstanceLog (processInstanceId bigint, processId varchar(255), status integer, start_date timestamp, end_date timestamp)");
+        }
+        try (PreparedStatement statement = connection.prepareStatement("insert into ProcessInstanceLog values (?, ?, ?, ?, ?)")) {
+            for (long i = 1; i <= 5; i++) {
+                statement.setLong(1, i);
+                statement.setString(2, "process-" + i);
+                statement.setInt(3, i % 2 == 0 ? 2 : 1);
+                statement.setTimestamp(4, new Timestamp(i * 1000));
+                statement.setTimestamp(5, i % 2 == 0 ? new Timestamp(10000 + i) : null);
+                statement.executeUpdate();
+            }
+        }
+        exportServiceBase = new DataExportServiceBase(dataSource, Mockito.mock(KieServerRegistry.class));
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table ProcessInstanceLog");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testExportAllRows() throws Exception {
+        String[] lines = export(null, null, COLUMNS);
+
+        assertEquals(5, lines.length);
+        assertEquals("{\"processInstanceId\":1,\"processId\":\"process-1\",\"status\":1,\"start_date\":\"1970-01-01T00:00:01.000Z\",\"end_date\":null}", lines[0]);
+        assertTrue(lines[4].startsWith("{\"processInstanceId\":5,"));
+    }
+
+    @Test
+    public void testExportModifiedSinceAndAfterId() throws Exception {
+        String[] lines = export(new Date(4000), null, Arrays.asList("processInstanceId"));
+        // 2 completed after the date, 4 and 5 started at or after it
+        assertEquals(Arrays.asList("{\"processInstanceId\":2}", "{\"processInstanceId\":4}", "{\"processInstanceId\":5}"), Arrays.asList(lines));
+
+        lines = export(new Date(4000), 2L, Arrays.asList("processInstanceId"));
+        assertEquals(Arrays.asList("{\"processInstanceId\":4}", "{\"processInstanceId\":5}"), Arrays.asList(lines));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExportUnknownColumn() throws Exception {
+        export(null, null, Arrays.asList("processInstanceId; drop table ProcessInstanceLog"));
+    }
+
+    @Test
+    public void testInvalidFetchSizeFallsBackToDefault() throws Exception {
+        System.setProperty(DataExportServiceBase.EXPORT_FETCH_SIZE, "0");
+        try {
+            exportServiceBase = new DataExportServiceBase(dataSource, Mockito.mock(KieServerRegistry.class));
+        } finally {
+            System.clearProperty(DataExportServiceBase.EXPORT_FETCH_SIZE);
+        }
+
+        assertEquals(5, export(null, null, COLUMNS).length);
+    }
+
+    @Test
+    public void testExportFailureWrittenAsLastRecord() throws Exception {
+        List<Connection> connections = new ArrayList<>();
+        DataSource trackingDataSource = Mockito.mock(DataSource.class);
+        when(trackingDataSource.getConnection()).thenAnswer(invocation -> {
+            Connection exportConnection = dataSource.getConnection();
+            connections.add(exportConnection);
+            return exportConnection;
+        });
+        exportServiceBase = new DataExportServiceBase(trackingDataSource, Mockito.mock(KieServerRegistry.class)) {
+            @Override
+            protected long writeRows(ResultSet resultSet, List<String> projection, OutputStream output) throws SQLException, IOException {
+                // connection lost while the third row is fetched
+                AtomicInteger fetched = new AtomicInteger();
+                ResultSet failing = spy(resultSet);
+                doAnswer(invocation -> {
+                    if (fetched.incrementAndGet() > 2) {
+                        throw new SQLException("connection lost");
+                    }
+                    return invocation.callRealMethod();
+                }).when(failing).next();
+                return super.writeRows(failing, projection, output);
+            }
+        };
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            exportServiceBase.export(ExportType.PROCESS_INSTANCES, null, null, Arrays.asList("processInstanceId"), output);
+            fail("Export should fail");
+        } catch (IOException e) {
+            assertTrue(e.getCause() instanceof SQLException);
+        }
+
+        String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"processInstanceId\":1}", lines[0]);
+        assertEquals("{\"processInstanceId\":2}", lines[1]);
+        assertTrue(lines[2].startsWith("{\"" + DataExportServiceBase.ERROR_FIELD + "\":\"Unable to export PROCESS_INSTANCES"));
+        // cursor was kept in a transaction which is ended before the connection is released
+        assertEquals(1, connections.size());
+        assertTrue(connections.get(0).isClosed());
+    }
+
+    @Test
+    public void testExportRestoresAutoCommit() throws Exception {
+        Connection exportConnection = Mockito.spy(dataSource.getConnection());
+        DataSource singleDataSource = Mockito.mock(DataSource.class);
+        when(singleDataSource.getConnection()).thenReturn(exportConnection);
+        doNothing().when(exportConnection).close();
+        exportServiceBase = new DataExportServiceBase(singleDataSource, Mockito.mock(KieServerRegistry.class));
+
+        assertEquals(5, export(null, null, COLUMNS).length);
+
+        verify(exportConnection).setAutoCommit(false);
+        verify(exportConnection).rollback();
+        assertTrue(exportConnection.getAutoCommit());
+        verify(exportConnection).close();
+    }
+
+    private String[] export(Date modifiedSince, Long afterId, List<String> columns) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportServiceBase.export(ExportType.PROCESS_INSTANCES, modifiedSince, afterId, columns, output);
+        String content = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(content.endsWith("\n"));
+        return content.split("\n");
+    }
+}
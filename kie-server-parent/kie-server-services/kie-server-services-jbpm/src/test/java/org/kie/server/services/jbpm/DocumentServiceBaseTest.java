@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.jbpm;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.jbpm.document.service.DocumentStorageService;
+import org.jbpm.document.service.impl.DocumentStorageServiceImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.server.services.api.KieServerRegistry;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class DocumentServiceBaseTest {
+
+    private static final String DOCUMENT_ID = "1a2b3c";
+
+    @Rule
+    public TemporaryFolder storage = new TemporaryFolder();
+
+    private File documents;
+    private String originalStorage;
+
+    @Before
+    public void setup() throws Exception {
+        documents = storage.newFolder("docs");
+        originalStorage = System.getProperty(DocumentServiceBase.DOCUMENT_STORAGE);
+        System.setProperty(DocumentServiceBase.DOCUMENT_STORAGE, documents.getAbsolutePath());
+    }
+
+    @After
+    public void cleanup() {
+        if (originalStorage == null) {
+            System.clearProperty(DocumentServiceBase.DOCUMENT_STORAGE);
+        } else {
+            System.setProperty(DocumentServiceBase.DOCUMENT_STORAGE, originalStorage);
+        }
+    }
+
+    @Test
+    public void testContentStreamedFromStorageFolderWithoutLoadingDocument() throws Exception {
+        File folder = new File(documents, DOCUMENT_ID);
+        folder.mkdirs();
+        Files.write(new File(folder, "invoice.txt").toPath(), "0123456789".getBytes(StandardCharsets.UTF_8));
+
+        DocumentStorageServiceImpl storageService = mock(DocumentStorageServiceImpl.class);
+        DocumentServiceBase documentServiceBase = new DocumentServiceBase(storageService, mock(KieServerRegistry.class));
+
+        DocumentServiceBase.DocumentContent content = documentServiceBase.getDocumentContent(DOCUMENT_ID);
+        assertEquals("invoice.txt", content.getName());
+        assertEquals(10, content.getSize());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        content.write(output, 2, 5);
+        assertEquals("23456", new String(output.toByteArray(), StandardCharsets.UTF_8));
+
+        // content bytes are only ever read through a loaded document
+        verify(storageService, never()).getDocument(anyString());
+        verify(storageService, never()).getDocumentContent(any());
+    }
+
+    @Test
+    public void testDocumentIdOutsideOfStorageIgnored() throws Exception {
+        File outside = storage.newFolder("outside");
+        Files.write(new File(outside, "secret.txt").toPath(), "secret".getBytes(StandardCharsets.UTF_8));
+        DocumentServiceBase documentServiceBase = new DocumentServiceBase(mock(DocumentStorageServiceImpl.class), mock(KieServerRegistry.class));
+
+        assertNull(documentServiceBase.findContentFile("../outside"));
+        assertNull(documentServiceBase.findContentFile(".."));
+    }
+
+    @Test
+    public void testContentReadRegardlessOfGivenSize() throws Exception {
+        DocumentServiceBase documentServiceBase = new DocumentServiceBase(mock(DocumentStorageServiceImpl.class), mock(KieServerRegistry.class));
+        byte[] content = new byte[200 * 1024];
+        new Random(1).nextBytes(content);
+
+        assertArrayEquals(content, documentServiceBase.readContent(new ByteArrayInputStream(content), content.length));
+        assertArrayEquals(content, documentServiceBase.readContent(new ByteArrayInputStream(content), -1));
+        assertArrayEquals(content, documentServiceBase.readContent(new ByteArrayInputStream(content), 10));
+        // size announced by the client is not allocated upfront
+        assertArrayEquals(content, documentServiceBase.readContent(new ByteArrayInputStream(content), Integer.MAX_VALUE));
+        assertEquals(0, documentServiceBase.readContent(new ByteArrayInputStream(new byte[0]), 0).length);
+    }
+
+    @Test
+    public void testContentOverMaxSizeRejected() throws Exception {
+        System.setProperty(DocumentServiceBase.DOCUMENT_MAX_SIZE, "100");
+        try {
+            DocumentServiceBase documentServiceBase = new DocumentServiceBase(mock(DocumentStorageServiceImpl.class), mock(KieServerRegistry.class));
+
+            assertEquals(100, documentServiceBase.readContent(new ByteArrayInputStream(new byte[100]), 100).length);
+            try {
+                documentServiceBase.readContent(new ByteArrayInputStream(new byte[10]), 101);
+                fail("Content with size over maximum should be rejected");
+            } catch (DocumentTooLargeException e) {
+                // expected
+            }
+            try {
+                documentServiceBase.readContent(new ByteArrayInputStream(new byte[101]), -1);
+                fail("Content over maximum should be rejected");
+            } catch (DocumentTooLargeException e) {
+                // expected
+            }
+        } finally {
+            System.clearProperty(DocumentServiceBase.DOCUMENT_MAX_SIZE);
+        }
+    }
+
+    @Test(expected = DocumentNotFoundException.class)
+    public void testMissingDocumentOfOtherStorage() {
+        DocumentStorageService storageService = mock(DocumentStorageService.class);
+        DocumentServiceBase documentServiceBase = new DocumentServiceBase(storageService, mock(KieServerRegistry.class));
+
+        documentServiceBase.getDocumentContent(DOCUMENT_ID);
+    }
+}
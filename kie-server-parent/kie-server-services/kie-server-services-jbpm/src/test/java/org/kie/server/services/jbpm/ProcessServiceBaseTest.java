@@ -15,20 +15,33 @@
 
 package org.kie.server.services.jbpm;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
+import org.drools.persistence.api.TransactionManager;
 import org.jbpm.kie.services.impl.model.ProcessInstanceDesc;
 import org.jbpm.kie.services.impl.model.UserTaskInstanceDesc;
 import org.jbpm.services.api.DefinitionService;
+import org.jbpm.services.api.ProcessDefinitionNotFoundException;
 import org.jbpm.services.api.ProcessService;
 import org.jbpm.services.api.RuntimeDataService;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.internal.process.CorrelationKey;
+import org.kie.server.api.model.instance.ProcessStartRequest;
+import org.kie.server.api.model.instance.ProcessStartResult;
 import org.kie.server.api.model.instance.TaskSummary;
+import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.impl.marshal.MarshallerHelper;
 import org.kie.server.services.jbpm.locator.ByProcessInstanceIdContainerLocator;
@@ -38,11 +51,15 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ProcessServiceBaseTest {
 
+    private static final String CONTAINER_ID = "container";
+
     @Mock
     private ProcessService processServiceMock;
 
@@ -58,6 +75,9 @@ public class ProcessServiceBaseTest {
     @Mock
     private RuntimeDataService runtimeDataServiceMock;
 
+    @Mock
+    private TransactionManager transactionManagerMock;
+
     ProcessServiceBase processServiceBase;
 
     @Before
@@ -65,7 +85,13 @@ public class ProcessServiceBaseTest {
         processServiceBase = new ProcessServiceBase(processServiceMock,
                                                     definitionServiceMock,
                                                     runtimeDataServiceMock,
-                                                    contextMock);
+                                                    contextMock) {
+
+            @Override
+            protected TransactionManager getTransactionManager() {
+                return transactionManagerMock;
+            }
+        };
         processServiceBase.setMarshallerHelper(marshallerHelperMock);
 
     }
@@ -122,6 +148,154 @@ public class ProcessServiceBaseTest {
 
     }
 
+    @Test
+    public void testStartProcessesInBatches() throws Exception {
+        AtomicLong processInstanceIds = new AtomicLong();
+        when(processServiceMock.startProcess(eq(CONTAINER_ID), eq("evaluation"), anyMap())).thenAnswer(invocation -> processInstanceIds.incrementAndGet());
+
+        List<ProcessStartRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(new ProcessStartRequest("evaluation", null, Collections.singletonMap("index", i)));
+        }
+        List<ProcessStartResult> results = startProcesses(requests, 2);
+
+        assertEquals(5, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(Integer.valueOf(i), results.get(i).getIndex());
+            assertNotNull(results.get(i).getProcessInstanceId());
+            assertNull(results.get(i).getError());
+        }
+        verify(transactionManagerMock, times(3)).begin();
+        verify(transactionManagerMock, times(3)).commit(anyBoolean());
+        verify(transactionManagerMock, never()).rollback(anyBoolean());
+        // process definition is verified once for all requests
+        verify(definitionServiceMock).getProcessDefinition(CONTAINER_ID, "evaluation");
+    }
+
+    @Test
+    public void testStartProcessesRetriesFailedBatchOneByOne() throws Exception {
+        when(transactionManagerMock.getStatus()).thenReturn(TransactionManager.STATUS_ACTIVE);
+        when(processServiceMock.startProcess(eq(CONTAINER_ID), eq("evaluation"), anyMap())).thenReturn(1L, 2L, 3L);
+        when(processServiceMock.startProcess(eq(CONTAINER_ID), eq("evaluation"), any(CorrelationKey.class), anyMap())).thenThrow(new RuntimeException("Correlation key duplicate already exists"));
+
+        List<ProcessStartResult> results = startProcesses(Arrays.asList(new ProcessStartRequest("evaluation", null, null),
+                                                                        new ProcessStartRequest("evaluation", "duplicate", null),
+                                                                        new ProcessStartRequest("evaluation", null, null)), 3);
+
+        assertEquals(3, results.size());
+        assertEquals(Long.valueOf(2L), results.get(0).getProcessInstanceId());
+        assertNull(results.get(1).getProcessInstanceId());
+        assertEquals("Correlation key duplicate already exists", results.get(1).getError());
+        assertEquals("duplicate", results.get(1).getCorrelationKey());
+        assertEquals(Long.valueOf(3L), results.get(2).getProcessInstanceId());
+        verify(transactionManagerMock).rollback(anyBoolean());
+        verify(transactionManagerMock, never()).commit(anyBoolean());
+    }
+
+    @Test
+    public void testStartProcessesReportsInvalidRequests() throws Exception {
+        when(definitionServiceMock.getProcessDefinition(CONTAINER_ID, "unknown")).thenThrow(new ProcessDefinitionNotFoundException("Process unknown not found"));
+        when(processServiceMock.startProcess(eq(CONTAINER_ID), eq("evaluation"), anyMap())).thenReturn(1L);
+
+        List<ProcessStartResult> results = startProcesses(Arrays.asList(new ProcessStartRequest("unknown", null, null),
+                                                                        new ProcessStartRequest(null, null, null),
+                                                                        new ProcessStartRequest("evaluation", null, null)), 10);
+
+        assertEquals("Process unknown not found", results.get(0).getError());
+        assertEquals("unknown", results.get(0).getProcessId());
+        assertNotNull(results.get(1).getError());
+        assertEquals(Long.valueOf(1L), results.get(2).getProcessInstanceId());
+        verify(transactionManagerMock).commit(anyBoolean());
+        verify(processServiceMock, never()).startProcess(eq(CONTAINER_ID), eq("unknown"), anyMap());
+    }
+
+    @Test
+    public void testStartProcessesFromNewlineDelimitedJson() throws Exception {
+        String valid = "{\"process-id\" : \"evaluation\"}";
+        when(contextMock.getContainerId(eq(CONTAINER_ID), any(ContainerLocator.class))).thenReturn(CONTAINER_ID);
+        when(marshallerHelperMock.unmarshal(CONTAINER_ID, valid, "json", ProcessStartRequest.class)).thenReturn(new ProcessStartRequest("evaluation", null, null));
+        when(marshallerHelperMock.unmarshal(CONTAINER_ID, "not json", "json", ProcessStartRequest.class)).thenThrow(new IllegalArgumentException("Unexpected token"));
+        when(processServiceMock.startProcess(eq(CONTAINER_ID), eq("evaluation"), anyMap())).thenReturn(10L);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        processServiceBase.startProcesses(CONTAINER_ID, 1, new ByteArrayInputStream((valid + "\n\nnot json\n").getBytes(StandardCharsets.UTF_8)), output);
+
+        String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"index\":0,\"process-id\":\"evaluation\",\"process-instance-id\":10}", lines[0]);
+        assertEquals("{\"index\":1,\"error\":\"Unexpected token\"}", lines[1]);
+    }
+
+    @Test
+    public void testStartProcessesLimitsBatchSize() throws Exception {
+        System.setProperty(ProcessServiceBase.BULK_START_MAX_BATCH_SIZE, "2");
+        try {
+            setup();
+        } finally {
+            System.clearProperty(ProcessServiceBase.BULK_START_MAX_BATCH_SIZE);
+        }
+        when(processServiceMock.startProcess(eq(CONTAINER_ID), eq("evaluation"), anyMap())).thenReturn(1L);
+
+        List<ProcessStartResult> results = startProcesses(Collections.nCopies(5, new ProcessStartRequest("evaluation", null, null)), 100);
+
+        assertEquals(5, results.size());
+        verify(transactionManagerMock, times(3)).begin();
+    }
+
+    @Test
+    public void testStartProcessesOnCallingThreadByDefault() throws Exception {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        when(processServiceMock.startProcess(eq(CONTAINER_ID), eq("evaluation"), anyMap())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return 1L;
+        });
+
+        startProcesses(Collections.nCopies(3, new ProcessStartRequest("evaluation", null, null)), 1);
+
+        assertEquals(Collections.nCopies(3, Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    public void testStartProcessesOnWorkerPool() throws Exception {
+        System.setProperty(ProcessServiceBase.BULK_START_THREADS, "not a number");
+        try {
+            setup();
+        } finally {
+            System.clearProperty(ProcessServiceBase.BULK_START_THREADS);
+        }
+        // invalid value falls back to the calling thread
+        assertEquals(Collections.singletonList(Thread.currentThread().getName()), startOnThreads());
+
+        System.setProperty(ProcessServiceBase.BULK_START_THREADS, "2");
+        try {
+            setup();
+        } finally {
+            System.clearProperty(ProcessServiceBase.BULK_START_THREADS);
+        }
+        try {
+            assertTrue(startOnThreads().get(0).startsWith("kie-server-bulk-start-"));
+        } finally {
+            ProcessServiceBase.shutdownBulkStartExecutor();
+        }
+    }
+
+    private List<String> startOnThreads() throws Exception {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        reset(processServiceMock);
+        when(processServiceMock.startProcess(eq(CONTAINER_ID), eq("evaluation"), anyMap())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return 1L;
+        });
+        startProcesses(Collections.singletonList(new ProcessStartRequest("evaluation", null, null)), 1);
+        return threads;
+    }
+
+    private List<ProcessStartResult> startProcesses(List<ProcessStartRequest> requests, int batchSize) throws Exception {
+        List<ProcessStartResult> results = new ArrayList<>();
+        processServiceBase.startProcesses(CONTAINER_ID, requests.iterator(), Function.identity(), batchSize, results::addAll);
+        return results;
+    }
+
     private void verifyProcessInstanceHasActiveTasks( ProcessInstanceDesc pid, org.kie.server.api.model.instance.ProcessInstance pi){
         assertNotNull(pid);
         assertNotNull(pi);
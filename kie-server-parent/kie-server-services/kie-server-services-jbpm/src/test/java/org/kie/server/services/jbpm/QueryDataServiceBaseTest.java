@@ -20,21 +20,33 @@ import static org.junit.Assert.*;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
+import org.jbpm.kie.services.impl.query.SqlQueryDefinition;
 import org.jbpm.services.api.model.UserTaskInstanceWithPotOwnerDesc;
 import org.jbpm.services.api.query.QueryMapperRegistry;
+import org.jbpm.services.api.query.QueryNotFoundException;
 import org.jbpm.services.api.query.QueryResultMapper;
 import org.jbpm.services.api.query.QueryService;
 import org.junit.Test;
+import org.kie.api.runtime.query.QueryContext;
+import org.kie.internal.identity.IdentityProvider;
 import org.kie.server.api.KieServerEnvironment;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.impl.KieServerRegistryImpl;
 import org.kie.server.services.impl.storage.file.KieServerStateFileRepository;
 import org.mockito.Mockito;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 
 public class QueryDataServiceBaseTest {
 
@@ -68,4 +80,93 @@ public class QueryDataServiceBaseTest {
         assertNotNull(resultQueryBase);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testCachedQueryResultInvalidatedOnUnregister() {
+        QueryService queryService = Mockito.mock(QueryService.class);
+        when(queryService.query(eq("cachedQuery"), any(QueryResultMapper.class), any(QueryContext.class))).thenReturn(new ArrayList<>());
+        when(queryService.query(eq("otherQuery"), any(QueryResultMapper.class), any(QueryContext.class))).thenReturn(new ArrayList<>());
+
+        QueryDataServiceBase queryServiceBase = new QueryDataServiceBase(queryService, new KieServerRegistryImpl());
+        QueryResultCache cache = new QueryResultCache("cachedQuery", 10000, 10, System::currentTimeMillis);
+        queryServiceBase.setResultCache(cache);
+
+        Object first = queryServiceBase.query("cachedQuery", "ProcessInstances", null, 0, 10);
+        assertSame(first, queryServiceBase.query("cachedQuery", "ProcessInstances", null, 0, 10));
+        queryServiceBase.query("cachedQuery", "ProcessInstances", null, 1, 10);
+        queryServiceBase.query("otherQuery", "ProcessInstances", null, 0, 10);
+        queryServiceBase.query("otherQuery", "ProcessInstances", null, 0, 10);
+
+        verify(queryService, times(2)).query(eq("cachedQuery"), any(QueryResultMapper.class), any(QueryContext.class));
+        verify(queryService, times(2)).query(eq("otherQuery"), any(QueryResultMapper.class), any(QueryContext.class));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        queryServiceBase.unregisterQuery("cachedQuery");
+        assertEquals(0, cache.size());
+        assertNotSame(first, queryServiceBase.query("cachedQuery", "ProcessInstances", null, 0, 10));
+    }
+
+    @Test
+    public void testCachedQueryResultNotSharedAcrossUsers() {
+        QueryService queryService = Mockito.mock(QueryService.class);
+        when(queryService.query(eq("cachedQuery"), any(QueryResultMapper.class), any(QueryContext.class))).thenReturn(new ArrayList<>());
+
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        KieServerRegistry context = new KieServerRegistryImpl();
+        context.registerIdentityProvider(identityProvider);
+
+        QueryDataServiceBase queryServiceBase = new QueryDataServiceBase(queryService, context);
+        QueryResultCache cache = new QueryResultCache("cachedQuery", 10000, 10, System::currentTimeMillis);
+        queryServiceBase.setResultCache(cache);
+
+        when(identityProvider.getName()).thenReturn("john");
+        when(identityProvider.getRoles()).thenReturn(Arrays.asList("managers", "users"));
+        Object johnsResult = queryServiceBase.query("cachedQuery", "ProcessInstances", null, 0, 10);
+
+        when(identityProvider.getName()).thenReturn("mary");
+        when(identityProvider.getRoles()).thenReturn(Arrays.asList("users"));
+        Object marysResult = queryServiceBase.query("cachedQuery", "ProcessInstances", null, 0, 10);
+        assertNotSame(johnsResult, marysResult);
+
+        // same user with roles given in different order hits the cache
+        when(identityProvider.getName()).thenReturn("john");
+        when(identityProvider.getRoles()).thenReturn(Arrays.asList("users", "managers"));
+        assertSame(johnsResult, queryServiceBase.query("cachedQuery", "ProcessInstances", null, 0, 10));
+
+        verify(queryService, times(2)).query(eq("cachedQuery"), any(QueryResultMapper.class), any(QueryContext.class));
+    }
+
+
+    @Test
+    public void testInternalQueriesHidden() {
+        QueryService queryService = Mockito.mock(QueryService.class);
+        SqlQueryDefinition internal = new SqlQueryDefinition(RuntimeDataServiceBase.PROCESS_INSTANCES_KEYSET_QUERY, "jdbc/ds");
+        SqlQueryDefinition custom = new SqlQueryDefinition("customQuery", "jdbc/ds");
+        custom.setTarget(org.jbpm.services.api.query.model.QueryDefinition.Target.CUSTOM);
+        when(queryService.getQueries(any(QueryContext.class))).thenReturn(Arrays.asList(internal, custom));
+
+        QueryDataServiceBase queryServiceBase = new QueryDataServiceBase(queryService, new KieServerRegistryImpl());
+
+        assertEquals(1, queryServiceBase.getQueries(0, 10).getItems().size());
+        assertEquals("customQuery", queryServiceBase.getQueries(0, 10).getItems().get(0).getName());
+        try {
+            queryServiceBase.getQuery(RuntimeDataServiceBase.PROCESS_INSTANCES_KEYSET_QUERY);
+            fail("Internal query must not be accessible");
+        } catch (QueryNotFoundException e) {
+            // expected
+        }
+        try {
+            queryServiceBase.query(RuntimeDataServiceBase.PROCESS_INSTANCES_KEYSET_QUERY, "ProcessInstances", null, 0, 10);
+            fail("Internal query must not be accessible");
+        } catch (QueryNotFoundException e) {
+            // expected
+        }
+        try {
+            queryServiceBase.unregisterQuery(RuntimeDataServiceBase.PROCESS_INSTANCES_KEYSET_QUERY);
+            fail("Internal query must not be accessible");
+        } catch (QueryNotFoundException e) {
+            // expected
+        }
+        verify(queryService, never()).unregisterQuery(any());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.jbpm;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class QueryResultCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    public void testDisabledByDefault() {
+        QueryResultCache cache = new QueryResultCache("", 10000, 10, clock::get);
+        assertFalse(cache.isEnabled());
+
+        cache.get("query", new Object[]{0, 10}, executions::incrementAndGet);
+        cache.get("query", new Object[]{0, 10}, executions::incrementAndGet);
+        assertEquals(2, executions.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEntriesExpireAfterTtl() {
+        QueryResultCache cache = new QueryResultCache("*", 1000, 10, clock::get);
+        assertTrue(cache.isCached("any"));
+
+        assertEquals(1, cache.get("query", new Object[]{"mapper", null}, executions::incrementAndGet));
+        clock.set(999);
+        assertEquals(1, cache.get("query", new Object[]{"mapper", null}, executions::incrementAndGet));
+        clock.set(1000);
+        assertEquals(2, cache.get("query", new Object[]{"mapper", null}, executions::incrementAndGet));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryEvicted() {
+        QueryResultCache cache = new QueryResultCache("first, second", 1000, 2, clock::get);
+        assertFalse(cache.isCached("third"));
+
+        cache.get("first", new Object[]{0}, executions::incrementAndGet);
+        cache.get("second", new Object[]{0}, executions::incrementAndGet);
+        cache.get("first", new Object[]{0}, executions::incrementAndGet);
+        cache.get("first", new Object[]{1}, executions::incrementAndGet);
+        assertEquals(2, cache.size());
+
+        // second was least recently used so it is executed again, first is still cached
+        assertEquals(4, cache.get("second", new Object[]{0}, executions::incrementAndGet));
+        assertEquals(3, cache.get("first", new Object[]{1}, executions::incrementAndGet));
+    }
+
+    @Test
+    public void testInvalidSettingFallsBackToDefault() {
+        String property = "org.kie.server.query.cache.test";
+        try {
+            assertEquals(500, QueryResultCache.readLong(property, 500));
+
+            System.setProperty(property, " 100 ");
+            assertEquals(100, QueryResultCache.readLong(property, 500));
+
+            System.setProperty(property, "10s");
+            assertEquals(500, QueryResultCache.readLong(property, 500));
+
+            System.setProperty(property, "-1");
+            assertEquals(500, QueryResultCache.readLong(property, 500));
+
+            System.setProperty(property, String.valueOf(Long.MAX_VALUE));
+            assertEquals(500, QueryResultCache.readLong(property, 500));
+        } finally {
+            System.clearProperty(property);
+        }
+    }
+}
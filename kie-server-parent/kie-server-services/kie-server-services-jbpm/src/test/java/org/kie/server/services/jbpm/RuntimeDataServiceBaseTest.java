@@ -15,7 +15,10 @@
 
 package org.kie.server.services.jbpm;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -23,15 +26,24 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 import org.jbpm.services.api.AdvanceRuntimeDataService;
 import org.jbpm.services.api.DeploymentNotFoundException;
 import org.jbpm.services.api.RuntimeDataService;
 import org.jbpm.services.api.model.ProcessDefinition;
+import org.jbpm.services.api.model.ProcessInstanceDesc;
+import org.jbpm.services.api.query.QueryService;
+import org.jbpm.services.api.query.model.QueryParam;
 import org.junit.Test;
 import org.kie.server.api.model.KieServerConfig;
 import org.kie.server.api.model.definition.ProcessDefinitionList;
+import org.kie.server.api.model.instance.ProcessInstance;
+import org.kie.server.api.model.instance.ProcessInstanceList;
 import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieServerRegistry;
 
@@ -88,4 +100,78 @@ public class RuntimeDataServiceBaseTest {
 
         assertTrue(result.getItems().isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testProcessInstancesKeysetPagesBySortKeyAndId() {
+        List<List<QueryParam>> queries = new ArrayList<>();
+        List<Collection<ProcessInstanceDesc>> results = new ArrayList<>();
+        RuntimeDataServiceBase svc = new RuntimeDataServiceBase(runtimeDataService, advanceRuntimeDataService, mock(QueryService.class), context) {
+
+            @Override
+            protected void registerKeysetQuery() {
+            }
+
+            @Override
+            protected Collection<ProcessInstanceDesc> queryKeyset(List<QueryParam> params, KeysetSort sort, boolean ascending, int count) {
+                queries.add(params);
+                return results.remove(0);
+            }
+        };
+        Date started = new Date(1000);
+        results.add(Arrays.asList(processInstance(1L, started), processInstance(5L, started)));
+
+        ProcessInstanceList firstPage = svc.getProcessInstancesAfter(null, null, null, "StartDate", true, null, 2);
+
+        assertEquals(2, firstPage.getItems().size());
+        assertNotNull(firstPage.getContinuationToken());
+        assertEquals(Collections.singletonList("status"), columns(queries.get(0)));
+
+        // rest of the instances started at the same time followed by those started later
+        results.add(Collections.singletonList(processInstance(7L, started)));
+        results.add(Collections.singletonList(processInstance(2L, new Date(2000))));
+
+        ProcessInstanceList secondPage = svc.getProcessInstancesAfter(null, null, null, "startdate", true, firstPage.getContinuationToken(), 2);
+
+        assertEquals(Arrays.asList(7L, 2L), secondPage.getItems().stream().map(ProcessInstance::getId).collect(toList()));
+        assertNotNull(secondPage.getContinuationToken());
+        assertEquals(Arrays.asList("status", "start_date", "processInstanceId"), columns(queries.get(1)));
+        assertEquals("EQUALS_TO", queries.get(1).get(1).getOperator());
+        assertEquals(started, queries.get(1).get(1).getValue().get(0));
+        assertEquals("GREATER_THAN", queries.get(1).get(2).getOperator());
+        assertEquals(5L, queries.get(1).get(2).getValue().get(0));
+        assertEquals(Arrays.asList("status", "start_date"), columns(queries.get(2)));
+        assertEquals("GREATER_THAN", queries.get(2).get(1).getOperator());
+
+        // last page
+        results.add(Collections.emptyList());
+        results.add(Collections.emptyList());
+        assertNull(svc.getProcessInstancesAfter(null, null, null, "StartDate", true, secondPage.getContinuationToken(), 2).getContinuationToken());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProcessInstancesKeysetTokenOfOtherSort() {
+        RuntimeDataServiceBase svc = new RuntimeDataServiceBase(runtimeDataService, advanceRuntimeDataService, mock(QueryService.class), context);
+        String token = new ContinuationToken("StartDate", true, 5L, new Date()).encode();
+
+        svc.getProcessInstancesAfter(null, null, null, "ProcessName", true, token, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProcessInstancesKeysetUnsupportedSort() {
+        RuntimeDataServiceBase svc = new RuntimeDataServiceBase(runtimeDataService, advanceRuntimeDataService, mock(QueryService.class), context);
+
+        svc.getProcessInstancesAfter(null, null, null, "EndDate", true, null, 2);
+    }
+
+    private static ProcessInstanceDesc processInstance(Long id, Date started) {
+        ProcessInstanceDesc processInstance = mock(ProcessInstanceDesc.class);
+        when(processInstance.getId()).thenReturn(id);
+        when(processInstance.getProcessId()).thenReturn("evaluation");
+        when(processInstance.getDataTimeStamp()).thenReturn(started);
+        return processInstance;
+    }
+
+    private static List<String> columns(List<QueryParam> params) {
+        return params.stream().map(QueryParam::getColumn).collect(toList());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.jbpm;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.persistence.api.TransactionManager;
+import org.jbpm.services.api.UserTaskService;
+import org.jbpm.services.task.exception.PermissionDeniedException;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.internal.identity.IdentityProvider;
+import org.kie.server.api.model.KieServerConfig;
+import org.kie.server.api.model.instance.TaskOperation;
+import org.kie.server.api.model.instance.TaskOperationResult;
+import org.kie.server.services.api.ContainerLocator;
+import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.jbpm.locator.ByTaskIdContainerLocator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UserTaskServiceBaseTest {
+
+    private static final String CONTAINER_ID = "container";
+    private static final String USER = "yoda";
+
+    private final UserTaskService userTaskService = mock(UserTaskService.class);
+    private final KieServerRegistry context = mock(KieServerRegistry.class);
+    private final TransactionManager transactionManager = mock(TransactionManager.class);
+
+    private UserTaskServiceBase userTaskServiceBase;
+
+    @Before
+    public void setup() {
+        IdentityProvider identityProvider = mock(IdentityProvider.class);
+        when(identityProvider.getName()).thenReturn(USER);
+        when(context.getIdentityProvider()).thenReturn(identityProvider);
+        when(context.getConfig()).thenReturn(mock(KieServerConfig.class));
+        when(context.getContainerId(anyString(), any(ContainerLocator.class))).thenReturn(CONTAINER_ID);
+        when(transactionManager.begin()).thenReturn(true);
+
+        userTaskServiceBase = new UserTaskServiceBase(userTaskService, context) {
+
+            @Override
+            protected Map<Long, ByTaskIdContainerLocator> locateContainers(List<Long> taskIds) {
+                Map<Long, ByTaskIdContainerLocator> locators = new HashMap<>();
+                taskIds.forEach(taskId -> locators.put(taskId, new ByTaskIdContainerLocator(taskId)));
+                return locators;
+            }
+
+            @Override
+            protected TransactionManager getTransactionManager() {
+                return transactionManager;
+            }
+        };
+    }
+
+    @Test
+    public void testExecuteOperationsBestEffort() {
+        doThrow(new PermissionDeniedException("not allowed")).when(userTaskService).start(CONTAINER_ID, 2L, USER);
+
+        List<TaskOperationResult> results = userTaskServiceBase.executeOperations(CONTAINER_ID, Arrays.asList(
+                operation(1L, TaskOperation.Type.CLAIM),
+                operation(2L, TaskOperation.Type.START),
+                operation(3L, TaskOperation.Type.COMPLETE)), false);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("not allowed", results.get(1).getMessage());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals(CONTAINER_ID, results.get(2).getContainerId());
+
+        verify(userTaskService).claim(CONTAINER_ID, 1L, USER);
+        verify(userTaskService).complete(eq(CONTAINER_ID), eq(3L), eq(USER), anyMap());
+        verify(transactionManager, never()).begin();
+    }
+
+    @Test
+    public void testExecuteOperationsAtomicCommits() {
+        List<TaskOperationResult> results = userTaskServiceBase.executeOperations(CONTAINER_ID, Arrays.asList(
+                operation(1L, TaskOperation.Type.CLAIM),
+                operation(2L, TaskOperation.Type.RELEASE)), true);
+
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        verify(transactionManager).commit(true);
+        verify(transactionManager, never()).rollback(true);
+    }
+
+    @Test
+    public void testExecuteOperationsAtomicRollsBackOnFailure() {
+        doThrow(new PermissionDeniedException("not allowed")).when(userTaskService).start(CONTAINER_ID, 2L, USER);
+
+        List<TaskOperationResult> results = userTaskServiceBase.executeOperations(CONTAINER_ID, Arrays.asList(
+                operation(1L, TaskOperation.Type.CLAIM),
+                operation(2L, TaskOperation.Type.START),
+                operation(3L, TaskOperation.Type.SKIP)), true);
+
+        assertEquals(3, results.size());
+        for (TaskOperationResult result : results) {
+            assertFalse(result.isSuccess());
+        }
+        assertEquals("not allowed", results.get(1).getMessage());
+        assertEquals("Rolled back due to failure of START operation on task 2", results.get(0).getMessage());
+        assertEquals(Long.valueOf(3L), results.get(2).getTaskId());
+        assertNull(results.get(2).getContainerId());
+
+        verify(userTaskService, never()).skip(anyString(), any(Long.class), anyString());
+        verify(transactionManager).rollback(true);
+        verify(transactionManager, never()).commit(true);
+    }
+
+    @Test
+    public void testDelegateRequiresTargetUser() {
+        TaskOperation delegate = operation(1L, TaskOperation.Type.DELEGATE);
+        TaskOperation forward = TaskOperation.builder().taskId(2L).operation(TaskOperation.Type.FORWARD).targetUser("john").build();
+
+        List<TaskOperationResult> results = userTaskServiceBase.executeOperations(CONTAINER_ID, Arrays.asList(delegate, forward), false);
+
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        verify(userTaskService).forward(CONTAINER_ID, 2L, USER, "john");
+    }
+
+    private TaskOperation operation(Long taskId, TaskOperation.Type type) {
+        return TaskOperation.builder().taskId(taskId).operation(type).build();
+    }
+}
@@ -49,6 +49,7 @@ import org.kie.server.services.casemgmt.CaseKieServerExtension;
 import org.kie.server.services.casemgmt.CaseManagementRuntimeDataServiceBase;
 import org.kie.server.services.impl.KieServerImpl;
 import org.kie.server.services.jbpm.JbpmKieServerExtension;
+import org.kie.server.services.jbpm.QueryResultCache;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,6 +69,7 @@ public class PrometheusKieServerExtension implements KieServerExtension {
     private KieServerRegistry context;
     private boolean initialized = false;
     private PrometheusCustomMetricsSupport customMetrics;
+    private PrometheusQueryCacheListener queryCacheListener;
 
     public static PrometheusMetrics getMetrics() {
         if (METRICS == null) {
@@ -126,6 +128,12 @@ public class PrometheusKieServerExtension implements KieServerExtension {
                 dataSetDefRegistry.addListener(listener);
             }
 
+            final QueryResultCache queryResultCache = QueryResultCache.get();
+            if (queryResultCache.isEnabled()) {
+                queryCacheListener = new PrometheusQueryCacheListener();
+                queryResultCache.addListener(queryCacheListener);
+            }
+
             final RuntimeDataService dataService = jBPMExtension.getAppComponents(RuntimeDataService.class);
             if (dataService != null) {
                 final Collection<ProcessInstanceDesc> processInstances = dataService.getProcessInstances(
@@ -173,7 +181,11 @@ public class PrometheusKieServerExtension implements KieServerExtension {
 
     @Override
     public void destroy(KieServerImpl kieServer, KieServerRegistry registry) {
-        //no-op
+        // the cache outlives the extension so the listener must not be left behind
+        if (queryCacheListener != null) {
+            QueryResultCache.get().removeListener(queryCacheListener);
+            queryCacheListener = null;
+        }
     }
 
     @Override
@@ -94,6 +94,48 @@ public class PrometheusMetrics {
         return droolsEvaluationTimeHistogram;
     }
 
+    private static final Gauge droolsKieSessionPoolSize = Gauge.build()
+            .name("drl_ksession_pool_size")
+            .help("Maximum number of pooled Drools sessions")
+            .labelNames("container_id", "ksessionId")
+            .register();
+
+    Gauge getDroolsKieSessionPoolSize() {
+        return droolsKieSessionPoolSize;
+    }
+
+    private static final Gauge droolsKieSessionPoolInUse = Gauge.build()
+            .name("drl_ksession_pool_in_use")
+            .help("Number of pooled Drools sessions currently borrowed")
+            .labelNames("container_id", "ksessionId")
+            .register();
+
+    Gauge getDroolsKieSessionPoolInUse() {
+        return droolsKieSessionPoolInUse;
+    }
+
+    private static final Histogram droolsKieSessionPoolWaitTimeHistogram = Histogram.build()
+            .name("drl_ksession_pool_wait_nanosecond")
+            .help("Time waited to borrow a pooled Drools session")
+            .labelNames("container_id", "ksessionId")
+            .buckets(RULE_TIME_BUCKETS)
+            .register();
+
+    Histogram getDroolsKieSessionPoolWaitTimeHistogram() {
+        return droolsKieSessionPoolWaitTimeHistogram;
+    }
+
+    private static final Histogram droolsKieSessionPoolResetTimeHistogram = Histogram.build()
+            .name("drl_ksession_pool_reset_nanosecond")
+            .help("Time to reset a pooled Drools session before it is returned to the pool")
+            .labelNames("container_id", "ksessionId")
+            .buckets(RULE_TIME_BUCKETS)
+            .register();
+
+    Histogram getDroolsKieSessionPoolResetTimeHistogram() {
+        return droolsKieSessionPoolResetTimeHistogram;
+    }
+
 
     private static final Summary optaPlannerSolverDuration = Summary.build()
             .name("solver_duration_seconds")
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.prometheus;
+
+/**
+ * Records usage of a pool of Drools sessions - pool size, sessions in use, time waited for a session and
+ * time spent resetting it once returned.
+ */
+public class PrometheusMetricsKieSessionPoolListener {
+
+    private final PrometheusMetrics metrics;
+    private final String containerId;
+    private final String kieSessionId;
+
+    public PrometheusMetricsKieSessionPoolListener(PrometheusMetrics metrics, String containerId, String kieSessionId) {
+        this.metrics = metrics;
+        this.containerId = containerId;
+        this.kieSessionId = kieSessionId;
+    }
+
+    public void poolCreated(int size) {
+        metrics.getDroolsKieSessionPoolSize().labels(containerId, kieSessionId).set(size);
+        metrics.getDroolsKieSessionPoolInUse().labels(containerId, kieSessionId).set(0);
+    }
+
+    public void sessionBorrowed(long waitNanos, int inUse) {
+        metrics.getDroolsKieSessionPoolWaitTimeHistogram().labels(containerId, kieSessionId).observe(waitNanos);
+        metrics.getDroolsKieSessionPoolInUse().labels(containerId, kieSessionId).set(inUse);
+    }
+
+    public void sessionReturned(long resetNanos, int inUse) {
+        metrics.getDroolsKieSessionPoolResetTimeHistogram().labels(containerId, kieSessionId).observe(resetNanos);
+        metrics.getDroolsKieSessionPoolInUse().labels(containerId, kieSessionId).set(inUse);
+    }
+
+    public void poolDisposed() {
+        metrics.getDroolsKieSessionPoolSize().remove(containerId, kieSessionId);
+        metrics.getDroolsKieSessionPoolInUse().remove(containerId, kieSessionId);
+    }
+}
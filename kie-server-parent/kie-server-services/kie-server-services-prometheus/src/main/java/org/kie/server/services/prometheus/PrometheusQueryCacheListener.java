@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.prometheus;
+
+import io.prometheus.client.Counter;
+import org.kie.server.services.jbpm.QueryResultCache;
+
+public class PrometheusQueryCacheListener implements QueryResultCache.Listener {
+
+    protected static final Counter queryCacheHits = Counter.build()
+            .name("kie_server_query_cache_hit_total")
+            .help("Kie Server Query Results Served From Cache")
+            .labelNames("query_name")
+            .register();
+
+    protected static final Counter queryCacheMisses = Counter.build()
+            .name("kie_server_query_cache_miss_total")
+            .help("Kie Server Query Results Not Found In Cache")
+            .labelNames("query_name")
+            .register();
+
+    protected static final Counter queryCacheInvalidations = Counter.build()
+            .name("kie_server_query_cache_invalidation_total")
+            .help("Kie Server Query Cache Invalidations")
+            .labelNames("query_name")
+            .register();
+
+    @Override
+    public void onHit(String queryName) {
+        queryCacheHits.labels(queryName).inc();
+    }
+
+    @Override
+    public void onMiss(String queryName) {
+        queryCacheMisses.labels(queryName).inc();
+    }
+
+    @Override
+    public void onInvalidate(String queryName) {
+        queryCacheInvalidations.labels(queryName).inc();
+    }
+}
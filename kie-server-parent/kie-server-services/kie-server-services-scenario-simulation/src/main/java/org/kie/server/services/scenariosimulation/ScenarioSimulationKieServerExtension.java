@@ -69,7 +69,9 @@ public class ScenarioSimulationKieServerExtension implements KieServerExtension
 
     @Override
     public void destroy(KieServerImpl kieServer, KieServerRegistry registry) {
-        //no-op
+        if (scenarioSimulationService != null) {
+            scenarioSimulationService.dispose();
+        }
     }
 
     @Override
@@ -15,9 +15,18 @@
 
 package org.kie.server.services.scenariosimulation;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.drools.scenariosimulation.api.model.ScenarioSimulationModel;
+import org.drools.scenariosimulation.api.model.ScenarioWithIndex;
 import org.drools.scenariosimulation.api.model.Settings;
 import org.drools.scenariosimulation.backend.runner.AbstractScenarioRunner;
 import org.drools.scenariosimulation.backend.runner.model.ScenarioRunnerDTO;
@@ -26,6 +35,7 @@ import org.junit.runner.JUnitCore;
 import org.junit.runner.Result;
 import org.junit.runner.notification.Failure;
 import org.kie.api.runtime.KieContainer;
+import org.kie.server.api.KieServerConstants;
 import org.kie.server.api.model.KieServiceResponse;
 import org.kie.server.api.model.ServiceResponse;
 import org.kie.server.api.model.scenariosimulation.ScenarioSimulationFailure;
@@ -34,27 +44,56 @@ import org.kie.server.services.api.ContainerLocator;
 import org.kie.server.services.api.KieContainerInstance;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.impl.locator.ContainerLocatorProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ScenarioSimulationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioSimulationService.class);
+
+    private static final int DEFAULT_PARALLELISM = 1;
+
     private KieServerRegistry kieServerRegistry;
+    private final int parallelism;
+    private ExecutorService executor;
 
     public ScenarioSimulationService(KieServerRegistry kieServerRegistry) {
+        this(kieServerRegistry, readParallelism());
+    }
+
+    public ScenarioSimulationService(KieServerRegistry kieServerRegistry, int parallelism) {
         this.kieServerRegistry = kieServerRegistry;
+        this.parallelism = Math.max(1, parallelism);
     }
 
     public ServiceResponse<ScenarioSimulationResult> executeScenario(KieContainer kieContainer, ScenarioSimulationModel scenarioSimulationModel) {
 
-        AbstractScenarioRunner runner = newRunner(kieContainer, scenarioSimulationModel);
-
-        JUnitCore jUnitCore = new JUnitCore();
-
-        Result result = jUnitCore.run(runner);
+        ScenarioRunnerDTO scenarioRunnerDTO = new ScenarioRunnerDTO(scenarioSimulationModel, null);
+        List<ScenarioRunnerDTO> partitions = partition(scenarioRunnerDTO);
+
+        ScenarioSimulationResult result;
+        boolean successful;
+        if (partitions.size() > 1) {
+            List<Result> results = runInParallel(kieContainer, scenarioSimulationModel, partitions);
+            result = convertResults(results);
+            successful = results.stream().allMatch(Result::wasSuccessful);
+        } else {
+            Result singleResult = runPartition(kieContainer, scenarioSimulationModel, partitions.get(0));
+            result = convertResult(singleResult);
+            successful = singleResult.wasSuccessful();
+        }
 
-        if (result.wasSuccessful()) {
-            return new ServiceResponse<>(KieServiceResponse.ResponseType.SUCCESS, "Test Scenario successfully executed", convertResult(result));
+        if (successful) {
+            return new ServiceResponse<>(KieServiceResponse.ResponseType.SUCCESS, "Test Scenario successfully executed", result);
         } else {
-            return new ServiceResponse<>(KieServiceResponse.ResponseType.FAILURE, "Test Scenario execution failed", convertResult(result));
+            return new ServiceResponse<>(KieServiceResponse.ResponseType.FAILURE, "Test Scenario execution failed", result);
+        }
+    }
+
+    public synchronized void dispose() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
         }
     }
 
@@ -75,12 +114,93 @@ public class ScenarioSimulationService {
     }
 
     protected AbstractScenarioRunner newRunner(KieContainer kieContainer, ScenarioSimulationModel scenarioSimulationModel) {
-        ScenarioRunnerDTO scenarioRunnerDTO = new ScenarioRunnerDTO(scenarioSimulationModel, null);
+        return newRunner(kieContainer, scenarioSimulationModel, new ScenarioRunnerDTO(scenarioSimulationModel, null));
+    }
+
+    protected AbstractScenarioRunner newRunner(KieContainer kieContainer, ScenarioSimulationModel scenarioSimulationModel, ScenarioRunnerDTO scenarioRunnerDTO) {
         Settings settings = scenarioSimulationModel.getSettings();
         return AbstractScenarioRunner.getSpecificRunnerProvider(settings.getType())
                 .create(kieContainer, scenarioRunnerDTO);
     }
 
+    /*
+     * splits scenarios into contiguous chunks, one per worker, so results can be merged back in the original order;
+     * every runner creates its own sessions from the shared container so chunks do not interfere
+     */
+    protected List<ScenarioRunnerDTO> partition(ScenarioRunnerDTO scenarioRunnerDTO) {
+        List<ScenarioWithIndex> scenarios = scenarioRunnerDTO.getScenarioWithIndices();
+        int partitionCount = Math.min(parallelism, scenarios.size());
+        List<ScenarioRunnerDTO> partitions = new ArrayList<>();
+        if (partitionCount <= 1) {
+            partitions.add(scenarioRunnerDTO);
+            return partitions;
+        }
+        int chunkSize = (scenarios.size() + partitionCount - 1) / partitionCount;
+        for (int from = 0; from < scenarios.size(); from += chunkSize) {
+            List<ScenarioWithIndex> chunk = new ArrayList<>(scenarios.subList(from, Math.min(from + chunkSize, scenarios.size())));
+            partitions.add(new ScenarioRunnerDTO(scenarioRunnerDTO.getSimulationModelDescriptor(),
+                                                 chunk,
+                                                 scenarioRunnerDTO.getFileName(),
+                                                 scenarioRunnerDTO.getSettings(),
+                                                 scenarioRunnerDTO.getBackground()));
+        }
+        return partitions;
+    }
+
+    protected List<Result> runInParallel(KieContainer kieContainer, ScenarioSimulationModel scenarioSimulationModel, List<ScenarioRunnerDTO> partitions) {
+        logger.debug("Running {} scenarios in {} partitions", partitions.stream().mapToInt(p -> p.getScenarioWithIndices().size()).sum(), partitions.size());
+        ExecutorService workers = getExecutor();
+        List<Future<Result>> futures = new ArrayList<>();
+        for (ScenarioRunnerDTO partition : partitions) {
+            futures.add(workers.submit(() -> runPartition(kieContainer, scenarioSimulationModel, partition)));
+        }
+        List<Result> results = new ArrayList<>();
+        try {
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Test Scenario execution interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Test Scenario execution failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return results;
+    }
+
+    protected Result runPartition(KieContainer kieContainer, ScenarioSimulationModel scenarioSimulationModel, ScenarioRunnerDTO partition) {
+        return new JUnitCore().run(newRunner(kieContainer, scenarioSimulationModel, partition));
+    }
+
+    protected synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(parallelism, new ScenarioThreadFactory());
+        }
+        return executor;
+    }
+
+    protected ScenarioSimulationResult convertResults(List<Result> results) {
+        ScenarioSimulationResult scenarioSimulationResult = new ScenarioSimulationResult();
+        int runCount = 0;
+        int ignoreCount = 0;
+        long runTime = 0;
+        for (Result result : results) {
+            runCount += result.getRunCount();
+            ignoreCount += result.getIgnoreCount();
+            // partitions run concurrently so the slowest one is the time the whole simulation took
+            runTime = Math.max(runTime, result.getRunTime());
+            for (Failure failure : result.getFailures()) {
+                scenarioSimulationResult.getFailures().add(convertFailure(failure));
+            }
+        }
+        scenarioSimulationResult.setRunCount(runCount);
+        scenarioSimulationResult.setIgnoreCount(ignoreCount);
+        scenarioSimulationResult.setRunTime(runTime);
+        return scenarioSimulationResult;
+    }
+
     protected ScenarioSimulationResult convertResult(Result result) {
         ScenarioSimulationResult scenarioSimulationResult = new ScenarioSimulationResult();
         scenarioSimulationResult.setRunCount(result.getRunCount());
@@ -98,4 +218,29 @@ public class ScenarioSimulationService {
         scenarioSimulationFailure.setDescription(failure.getDescription().getDisplayName());
         return scenarioSimulationFailure;
     }
+
+    private static int readParallelism() {
+        String value = System.getProperty(KieServerConstants.KIE_SCENARIO_SIMULATION_PARALLELISM);
+        if (value == null) {
+            return DEFAULT_PARALLELISM;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' of {}, using default {}", value, KieServerConstants.KIE_SCENARIO_SIMULATION_PARALLELISM, DEFAULT_PARALLELISM);
+            return DEFAULT_PARALLELISM;
+        }
+    }
+
+    private static class ScenarioThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "kie-server-scenario-simulation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
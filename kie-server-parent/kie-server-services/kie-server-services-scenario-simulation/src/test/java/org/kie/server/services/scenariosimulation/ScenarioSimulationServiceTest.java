@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.services.scenariosimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.drools.scenariosimulation.api.model.ScenarioSimulationModel;
+import org.drools.scenariosimulation.api.model.ScenarioWithIndex;
+import org.drools.scenariosimulation.backend.runner.model.ScenarioRunnerDTO;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.kie.api.runtime.KieContainer;
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.model.KieServiceResponse;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.scenariosimulation.ScenarioSimulationFailure;
+import org.kie.server.api.model.scenariosimulation.ScenarioSimulationResult;
+
+import static org.junit.Assert.assertEquals;
+
+public class ScenarioSimulationServiceTest {
+
+    private ScenarioSimulationService service;
+
+    @After
+    public void cleanUp() {
+        System.clearProperty(KieServerConstants.KIE_SCENARIO_SIMULATION_PARALLELISM);
+        if (service != null) {
+            service.dispose();
+        }
+    }
+
+    @Test
+    public void testPartitionsAreContiguous() {
+        service = new ScenarioSimulationService(null, 3);
+
+        List<ScenarioRunnerDTO> partitions = service.partition(new ScenarioRunnerDTO(model(7), null));
+
+        assertEquals(3, partitions.size());
+        assertEquals(7, partitions.stream().mapToInt(p -> p.getScenarioWithIndices().size()).sum());
+        List<Integer> indexes = partitions.stream()
+                .flatMap(p -> p.getScenarioWithIndices().stream())
+                .map(ScenarioWithIndex::getIndex)
+                .collect(Collectors.toList());
+        assertEquals(indexes(7), indexes);
+    }
+
+    @Test
+    public void testParallelResultsInScenarioOrder() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        service = new ScenarioSimulationService(null, 4) {
+            @Override
+            protected Result runPartition(KieContainer kieContainer, ScenarioSimulationModel scenarioSimulationModel, ScenarioRunnerDTO partition) {
+                threads.add(Thread.currentThread().getName());
+                List<ScenarioWithIndex> scenarios = partition.getScenarioWithIndices();
+                // earlier partitions finish last so merging by completion would reorder the failures
+                sleep(50L * (10 - scenarios.get(0).getIndex()));
+                return failingResult(scenarios);
+            }
+        };
+
+        ServiceResponse<ScenarioSimulationResult> response = service.executeScenario(null, model(8));
+
+        assertEquals(KieServiceResponse.ResponseType.FAILURE, response.getType());
+        ScenarioSimulationResult result = response.getResult();
+        assertEquals(8, result.getRunCount());
+        List<String> failures = result.getFailures().stream()
+                .map(ScenarioSimulationFailure::getDescription)
+                .collect(Collectors.toList());
+        assertEquals(indexes(8).stream().map(ScenarioSimulationServiceTest::scenarioName).collect(Collectors.toList()), failures);
+        assertEquals(4, threads.size());
+    }
+
+    @Test
+    public void testSinglePartitionRunsOnCallerThread() {
+        String caller = Thread.currentThread().getName();
+        List<String> threads = new ArrayList<>();
+        service = new ScenarioSimulationService(null, 1) {
+            @Override
+            protected Result runPartition(KieContainer kieContainer, ScenarioSimulationModel scenarioSimulationModel, ScenarioRunnerDTO partition) {
+                threads.add(Thread.currentThread().getName());
+                return failingResult(partition.getScenarioWithIndices());
+            }
+        };
+
+        ScenarioSimulationResult result = service.executeScenario(null, model(3)).getResult();
+
+        assertEquals(3, result.getRunCount());
+        assertEquals(3, result.getFailures().size());
+        assertEquals(1, threads.size());
+        assertEquals(caller, threads.get(0));
+    }
+
+    @Test
+    public void testInvalidParallelismFallsBackToDefault() {
+        System.setProperty(KieServerConstants.KIE_SCENARIO_SIMULATION_PARALLELISM, "four");
+        service = new ScenarioSimulationService(null);
+
+        assertEquals(1, service.partition(new ScenarioRunnerDTO(model(4), null)).size());
+    }
+
+    private static ScenarioSimulationModel model(int scenarios) {
+        ScenarioSimulationModel model = new ScenarioSimulationModel();
+        for (int i = 0; i < scenarios; i++) {
+            model.getSimulation().addData();
+        }
+        return model;
+    }
+
+    private static List<Integer> indexes(int count) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    private static String scenarioName(int index) {
+        return "#" + index;
+    }
+
+    private static Result failingResult(List<ScenarioWithIndex> scenarios) {
+        Result result = new Result();
+        RunListener listener = result.createListener();
+        try {
+            for (ScenarioWithIndex scenario : scenarios) {
+                Description description = Description.createSuiteDescription(scenarioName(scenario.getIndex()));
+                listener.testStarted(description);
+                listener.testFailure(new Failure(description, new AssertionError("failed")));
+                listener.testFinished(description);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -20,10 +20,13 @@ import org.jbpm.casemgmt.api.AdvanceCaseRuntimeDataService;
 import org.jbpm.casemgmt.api.CaseRuntimeDataService;
 import org.jbpm.casemgmt.api.CaseService;
 import org.jbpm.casemgmt.api.admin.CaseInstanceMigrationService;
+import org.kie.server.api.KieServerConstants;
 import org.kie.server.services.api.KieServerExtension;
 import org.kie.server.services.impl.KieServerImpl;
+import org.kie.server.springboot.KieServerWarmUp;
 import org.kie.server.springboot.autoconfiguration.KieServerProperties;
 import org.kie.server.springboot.autoconfiguration.jbpm.extensions.SpringBootCaseKieServerExtension;
+import org.kie.server.springboot.jbpm.RollbackOnlyWarmUpTransaction;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -31,6 +34,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 @ConditionalOnClass({KieServerImpl.class})
@@ -58,4 +62,14 @@ public class CaseMgmtKieServerAutoConfiguration {
     public KieServerExtension caseMgmtServerExtension() {
         return new SpringBootCaseKieServerExtension(caseService, caseRuntimeDataService, advanceCaseRuntimeDataService, caseInstanceMigrationService);
     }
+
+    /**
+     * Runs case warm-up scripts in a transaction that is always rolled back so sample cases are not kept.
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "kieServerWarmUpCaseTransaction")
+    @ConditionalOnProperty(name = "kieserver.warmup.enabled", havingValue = "true")
+    public KieServerWarmUp.Transaction kieServerWarmUpCaseTransaction(PlatformTransactionManager transactionManager) {
+        return new RollbackOnlyWarmUpTransaction(KieServerConstants.CAPABILITY_CASE, transactionManager);
+    }
 }
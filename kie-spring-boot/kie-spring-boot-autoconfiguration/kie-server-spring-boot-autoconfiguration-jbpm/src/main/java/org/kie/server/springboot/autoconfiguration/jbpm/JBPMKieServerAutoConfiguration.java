@@ -31,12 +31,15 @@ import org.jbpm.services.api.admin.UserTaskAdminService;
 import org.jbpm.services.api.query.QueryService;
 import org.jbpm.springboot.autoconfigure.JBPMAutoConfiguration;
 import org.kie.api.executor.ExecutorService;
+import org.kie.server.api.KieServerConstants;
 import org.kie.server.services.api.KieServerExtension;
 import org.kie.server.services.api.KieServerRegistry;
 import org.kie.server.services.impl.KieServerImpl;
+import org.kie.server.springboot.KieServerWarmUp;
 import org.kie.server.springboot.autoconfiguration.KieServerProperties;
 import org.kie.server.springboot.autoconfiguration.jbpm.extensions.SpringBootJBPMKieServerExtension;
 import org.kie.server.springboot.jbpm.ContainerAliasResolver;
+import org.kie.server.springboot.jbpm.RollbackOnlyWarmUpTransaction;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -44,6 +47,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 @ConditionalOnClass({KieServerImpl.class})
@@ -115,6 +119,16 @@ public class JBPMKieServerAutoConfiguration {
     }
     
     
+    /**
+     * Runs process warm-up scripts in a transaction that is always rolled back so sample process instances are not kept.
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "kieServerWarmUpProcessTransaction")
+    @ConditionalOnProperty(name = "kieserver.warmup.enabled", havingValue = "true")
+    public KieServerWarmUp.Transaction kieServerWarmUpProcessTransaction(PlatformTransactionManager transactionManager) {
+        return new RollbackOnlyWarmUpTransaction(KieServerConstants.CAPABILITY_BPM, transactionManager);
+    }
+
     @Bean
     @ConditionalOnMissingBean(name = "containerAliasResolver")
     public ContainerAliasResolver containerAliasResolver(KieServerRegistry kieServerRegistry) {
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.springboot.jbpm;
+
+import java.util.function.Supplier;
+
+import org.kie.server.api.model.ServiceResponsesList;
+import org.kie.server.springboot.KieServerWarmUp;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executes warm-up scripts of a capability in a transaction that is always rolled back, so sample process instances
+ * or cases are not kept. Every capability gets its own template so their transaction settings are independent.
+ */
+public class RollbackOnlyWarmUpTransaction implements KieServerWarmUp.Transaction {
+
+    private final String capability;
+    private final TransactionTemplate transactionTemplate;
+
+    public RollbackOnlyWarmUpTransaction(String capability, PlatformTransactionManager transactionManager) {
+        this.capability = capability;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String getCapability() {
+        return capability;
+    }
+
+    @Override
+    public ServiceResponsesList execute(Supplier<ServiceResponsesList> script) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return script.get();
+        });
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.springboot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.kie.server.api.commands.CommandScript;
+import org.kie.server.api.marshalling.MarshallingFormat;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.ServiceResponsesList;
+import org.kie.server.services.api.KieContainerCommandService;
+import org.kie.server.services.api.KieServerExtension;
+import org.kie.server.services.impl.KieContainerInstanceImpl;
+import org.kie.server.services.impl.KieServerImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+/**
+ * Executes sample requests shipped with the containers before the application reports itself ready, so the first
+ * real requests do not pay for class loading, JIT compilation and marshaller introspection.
+ * <p>
+ * Sample requests are command scripts looked up in container's class loader as
+ * <code>&lt;location&gt;/&lt;capability&gt;.json</code> (or <code>.xml</code> for JAXB and <code>.xstream</code>),
+ * e.g. <code>META-INF/kie-server-warmup/dmn.json</code>, and are executed by the command service of the extension
+ * implementing given capability. <code>${containerId}</code> in the script is replaced with id of the container
+ * being warmed up, as kjars do not know under which id they are deployed. Every script is executed within
+ * {@link Transaction} registered for the capability, if any, so that process instances or cases started by it can be
+ * rolled back.
+ */
+public class KieServerWarmUp implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(KieServerWarmUp.class);
+
+    private static final String CONTAINER_ID_PLACEHOLDER = "${containerId}";
+
+    private static final Map<String, MarshallingFormat> FORMATS = new LinkedHashMap<>();
+
+    static {
+        FORMATS.put("json", MarshallingFormat.JSON);
+        FORMATS.put("xml", MarshallingFormat.JAXB);
+        FORMATS.put("xstream", MarshallingFormat.XSTREAM);
+    }
+
+    private final KieServerImpl kieServer;
+    private final String location;
+    private final int iterations;
+    private final Map<String, Transaction> transactions = new HashMap<>();
+
+    private final Map<String, Long> durations = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public KieServerWarmUp(KieServerImpl kieServer, String location, int iterations, List<Transaction> transactions) {
+        this.kieServer = kieServer;
+        this.location = location.endsWith("/") ? location : location + "/";
+        this.iterations = Math.max(1, iterations);
+        if (transactions != null) {
+            transactions.forEach(transaction -> this.transactions.put(transaction.getCapability(), transaction));
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        for (KieContainerInstanceImpl container : kieServer.getServerRegistry().getContainers()) {
+            if (KieContainerStatus.STARTED.equals(container.getStatus())) {
+                warmUp(container);
+            }
+        }
+        logger.info("KieServer warm-up of {} containers finished in {} ms", durations.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Returns time (in milliseconds) spent warming up each container that shipped sample requests.
+     * @return map of container id to warm-up duration
+     */
+    public Map<String, Long> getDurations() {
+        synchronized (durations) {
+            return new LinkedHashMap<>(durations);
+        }
+    }
+
+    protected void warmUp(KieContainerInstanceImpl container) {
+        ClassLoader classLoader = container.getKieContainer().getClassLoader();
+        long start = System.currentTimeMillis();
+        int executed = 0;
+        int failures = 0;
+        for (KieServerExtension extension : kieServer.getServerExtensions()) {
+            KieContainerCommandService<?> commandService = extension.getAppComponents(KieContainerCommandService.class);
+            if (commandService == null) {
+                continue;
+            }
+            String capability = extension.getImplementedCapability();
+            Transaction transaction = transactions.get(capability);
+            for (Map.Entry<String, MarshallingFormat> format : FORMATS.entrySet()) {
+                String script = readScript(classLoader, capability.toLowerCase(Locale.ROOT) + "." + format.getKey());
+                if (script == null) {
+                    continue;
+                }
+                for (int i = 0; i < iterations; i++) {
+                    failures += execute(container, commandService, transaction, script, format.getValue());
+                    executed++;
+                }
+            }
+        }
+        if (executed > 0) {
+            long duration = System.currentTimeMillis() - start;
+            durations.put(container.getContainerId(), duration);
+            logger.info("Container {} warmed up with {} scripts in {} ms ({} failed requests)", container.getContainerId(), executed, duration, failures);
+        }
+    }
+
+    protected int execute(KieContainerInstanceImpl container, KieContainerCommandService<?> commandService, Transaction transaction,
+                          String script, MarshallingFormat format) {
+        try {
+            String payload = script.replace(CONTAINER_ID_PLACEHOLDER, container.getContainerId());
+            CommandScript commands = container.getMarshaller(format).unmarshall(payload, CommandScript.class);
+            Supplier<ServiceResponsesList> execution = () -> commandService.executeScript(commands, format, null);
+            ServiceResponsesList responses = transaction != null ? transaction.execute(execution) : execution.get();
+            int failures = 0;
+            for (ServiceResponse<?> response : responses.getResponses()) {
+                if (ServiceResponse.ResponseType.FAILURE.equals(response.getType())) {
+                    logger.debug("Warm-up request on container {} failed: {}", container.getContainerId(), response.getMsg());
+                    failures++;
+                }
+            }
+            return failures;
+        } catch (Exception e) {
+            // warm-up must never prevent the server from serving requests
+            logger.warn("Unable to execute warm-up script on container {} due to {}", container.getContainerId(), e.getMessage(), e);
+            return 1;
+        }
+    }
+
+    private String readScript(ClassLoader classLoader, String name) {
+        URL resource = classLoader.getResource(location + name);
+        if (resource == null) {
+            return null;
+        }
+        try (InputStream stream = resource.openStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = stream.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Unable to read warm-up script {}", resource, e);
+            return null;
+        }
+    }
+
+    /**
+     * Wraps execution of warm-up scripts of a single capability, e.g. in a transaction that is always rolled back.
+     * Scripts of capabilities without a transaction are executed directly.
+     */
+    public interface Transaction {
+
+        /**
+         * @return capability (as implemented by the server extension) whose scripts are wrapped
+         */
+        String getCapability();
+
+        ServiceResponsesList execute(Supplier<ServiceResponsesList> script);
+    }
+}
@@ -58,6 +58,7 @@ import org.kie.server.services.api.SupportedTransports;
 import org.kie.server.services.impl.KieServerContainerExtension;
 import org.kie.server.services.impl.KieServerImpl;
 import org.kie.server.springboot.ImmutableSpringBootKieServerImpl;
+import org.kie.server.springboot.KieServerWarmUp;
 import org.kie.server.springboot.SpringBootKieServerImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -153,6 +154,18 @@ public class KieServerAutoConfiguration extends AbstractJaxrsClassesScanServer {
         return kieServer.getServerRegistry();
     }
 
+    /**
+     * Runs sample requests of the containers before Spring Boot reports the application as ready to accept traffic.
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "kieServerWarmUp")
+    @ConditionalOnProperty(name = "kieserver.warmup.enabled", havingValue = "true")
+    public KieServerWarmUp kieServerWarmUp(KieServer server, Optional<List<KieServerWarmUp.Transaction>> warmUpTransactions) {
+        KieServerProperties.WarmUp warmUp = properties.getWarmup();
+        return new KieServerWarmUp((KieServerImpl) server, warmUp.getLocation(), warmUp.getIterations(),
+                                   warmUpTransactions.orElse(Collections.emptyList()));
+    }
+
     @Bean
     @ConditionalOnMissingBean(name="embeddedDeployments")
     @ConditionalOnProperty(name = "kieserver.autoScanDeployments", havingValue="false", matchIfMissing = true)
@@ -38,6 +38,7 @@ public class KieServerProperties implements InitializingBean {
     private boolean classPathContainer;
 
     private Swagger swagger = new Swagger();
+    private WarmUp warmup = new WarmUp();
     
     private List<EmbeddedKieJar> deployments;
 
@@ -95,6 +96,14 @@ public class KieServerProperties implements InitializingBean {
         this.swagger = swagger;
     }
 
+    public WarmUp getWarmup() {
+        return warmup;
+    }
+
+    public void setWarmup(WarmUp warmup) {
+        this.warmup = warmup;
+    }
+
     public Map<String, String> getAddons() {
         return addons;
     }
@@ -136,4 +145,35 @@ public class KieServerProperties implements InitializingBean {
         }
     }
 
+    public static class WarmUp {
+
+        private boolean enabled = false;
+        private int iterations = 1;
+        private String location = "META-INF/kie-server-warmup";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+    }
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.springboot;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.drools.core.impl.InternalKieContainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.server.api.commands.CommandScript;
+import org.kie.server.api.marshalling.Marshaller;
+import org.kie.server.api.marshalling.MarshallingFormat;
+import org.kie.server.api.model.KieContainerStatus;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.ServiceResponsesList;
+import org.kie.server.services.api.KieContainerCommandService;
+import org.kie.server.services.api.KieServerExtension;
+import org.kie.server.services.api.KieServerRegistry;
+import org.kie.server.services.impl.KieContainerInstanceImpl;
+import org.kie.server.services.impl.KieServerImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KieServerWarmUpTest {
+
+    private static final String LOCATION = "META-INF/kie-server-warmup";
+    private static final String CONTAINER_ID = "warm-container";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private URLClassLoader classLoader;
+    private KieServerImpl kieServer;
+    private KieContainerInstanceImpl container;
+    private Marshaller marshaller;
+    private KieContainerCommandService<?> processCommandService;
+    private KieContainerCommandService<?> rulesCommandService;
+    private List<String> executed;
+
+    @Before
+    public void setUp() throws Exception {
+        File scripts = new File(folder.getRoot(), LOCATION);
+        scripts.mkdirs();
+        Files.write(new File(scripts, "bpm.json").toPath(), "{\"container\":\"${containerId}\"}".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(scripts, "drools.json").toPath(), "{}".getBytes(StandardCharsets.UTF_8));
+        classLoader = new URLClassLoader(new URL[]{folder.getRoot().toURI().toURL()}, null);
+
+        InternalKieContainer kieContainer = mock(InternalKieContainer.class);
+        when(kieContainer.getClassLoader()).thenReturn(classLoader);
+        marshaller = mock(Marshaller.class);
+        when(marshaller.unmarshall(anyString(), eq(CommandScript.class))).thenReturn(new CommandScript());
+        container = mock(KieContainerInstanceImpl.class);
+        when(container.getContainerId()).thenReturn(CONTAINER_ID);
+        when(container.getStatus()).thenReturn(KieContainerStatus.STARTED);
+        when(container.getKieContainer()).thenReturn(kieContainer);
+        when(container.getMarshaller(MarshallingFormat.JSON)).thenReturn(marshaller);
+
+        executed = Collections.synchronizedList(new ArrayList<>());
+        processCommandService = commandService("BPM");
+        rulesCommandService = commandService("Drools");
+
+        KieServerRegistry registry = mock(KieServerRegistry.class);
+        when(registry.getContainers()).thenReturn(Collections.singletonList(container));
+        kieServer = mock(KieServerImpl.class);
+        when(kieServer.getServerRegistry()).thenReturn(registry);
+        when(kieServer.getServerExtensions()).thenReturn(Arrays.asList(extension("BPM", processCommandService),
+                                                                       extension("Drools", rulesCommandService)));
+    }
+
+    @After
+    public void cleanUp() throws Exception {
+        classLoader.close();
+    }
+
+    @Test
+    public void testScriptsExecutedInTransactionOfTheirCapability() {
+        RecordingTransaction processTransaction = new RecordingTransaction("BPM");
+        RecordingTransaction caseTransaction = new RecordingTransaction("CaseMgmt");
+
+        KieServerWarmUp warmUp = new KieServerWarmUp(kieServer, LOCATION, 2, Arrays.asList(processTransaction, caseTransaction));
+        warmUp.run(null);
+
+        assertEquals(2, processTransaction.executions);
+        assertEquals(0, caseTransaction.executions);
+        // scripts of capabilities without transaction run directly
+        assertEquals(Arrays.asList("BPM", "BPM", "Drools", "Drools"), executed);
+        verify(marshaller, times(2)).unmarshall("{\"container\":\"" + CONTAINER_ID + "\"}", CommandScript.class);
+        assertTrue(warmUp.getDurations().containsKey(CONTAINER_ID));
+    }
+
+    @Test
+    public void testFailingScriptDoesNotStopWarmUp() {
+        when(marshaller.unmarshall(anyString(), eq(CommandScript.class))).thenThrow(new IllegalStateException("broken script"));
+
+        KieServerWarmUp warmUp = new KieServerWarmUp(kieServer, LOCATION, 1, null);
+        warmUp.run(null);
+
+        assertTrue(executed.isEmpty());
+        assertTrue(warmUp.getDurations().containsKey(CONTAINER_ID));
+    }
+
+    @Test
+    public void testContainersNotStartedAreSkipped() {
+        when(container.getStatus()).thenReturn(KieContainerStatus.DEACTIVATED);
+
+        KieServerWarmUp warmUp = new KieServerWarmUp(kieServer, LOCATION, 1, Collections.emptyList());
+        warmUp.run(null);
+
+        verify(processCommandService, never()).executeScript(any(), any(), any());
+        assertTrue(warmUp.getDurations().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private KieContainerCommandService<?> commandService(String capability) {
+        KieContainerCommandService<?> commandService = mock(KieContainerCommandService.class);
+        when(commandService.executeScript(any(), any(), any())).thenAnswer(invocation -> {
+            executed.add(capability);
+            return new ServiceResponsesList(Collections.singletonList(new ServiceResponse<>(ServiceResponse.ResponseType.SUCCESS, "")));
+        });
+        return commandService;
+    }
+
+    private KieServerExtension extension(String capability, KieContainerCommandService<?> commandService) {
+        KieServerExtension extension = mock(KieServerExtension.class);
+        when(extension.getImplementedCapability()).thenReturn(capability);
+        when(extension.getAppComponents(KieContainerCommandService.class)).thenAnswer(invocation -> commandService);
+        return extension;
+    }
+
+    private static class RecordingTransaction implements KieServerWarmUp.Transaction {
+
+        private final String capability;
+        private int executions;
+
+        private RecordingTransaction(String capability) {
+            this.capability = capability;
+        }
+
+        @Override
+        public String getCapability() {
+            return capability;
+        }
+
+        @Override
+        public ServiceResponsesList execute(Supplier<ServiceResponsesList> script) {
+            executions++;
+            return script.get();
+        }
+    }
+}
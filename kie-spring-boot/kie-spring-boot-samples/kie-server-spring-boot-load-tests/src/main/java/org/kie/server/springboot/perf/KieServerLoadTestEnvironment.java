@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.springboot.perf;
+
+import org.kie.server.api.KieServerConstants;
+import org.kie.server.api.marshalling.MarshallingFormat;
+import org.kie.server.api.model.KieContainerResource;
+import org.kie.server.api.model.KieServerMode;
+import org.kie.server.api.model.ReleaseId;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.KieServicesConfiguration;
+import org.kie.server.client.KieServicesFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * KIE Server application shared by all scenario instances of a run. It is started on first use, with the sample
+ * containers deployed, and stopped when the JVM exits so that scenarios (which are created and closed several
+ * times during warm-up and measurement) do not restart it.
+ */
+public final class KieServerLoadTestEnvironment {
+
+    private static final Logger logger = LoggerFactory.getLogger(KieServerLoadTestEnvironment.class);
+
+    public static final String USER = "john";
+    private static final String PASSWORD = "john@pwd1";
+
+    private static KieServerLoadTestEnvironment instance;
+
+    private final ConfigurableApplicationContext context;
+    private final String serverUrl;
+
+    public static synchronized KieServerLoadTestEnvironment get() {
+        if (instance == null) {
+            instance = new KieServerLoadTestEnvironment();
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::close, "kie-server-load-test-shutdown"));
+        }
+        return instance;
+    }
+
+    private KieServerLoadTestEnvironment() {
+        System.setProperty(KieServerConstants.KIE_SERVER_MODE, KieServerMode.PRODUCTION.name());
+        SampleKJars.install();
+
+        long start = System.currentTimeMillis();
+        context = SpringApplication.run(KieServerLoadTestApplication.class);
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        serverUrl = "http://localhost:" + port + "/rest/server";
+        logger.info("KIE Server started at {} in {} ms", serverUrl, System.currentTimeMillis() - start);
+
+        KieServicesClient client = newClient();
+        createContainer(client, SampleKJars.DECISIONS_CONTAINER, SampleKJars.DECISIONS);
+        createContainer(client, SampleKJars.PROCESS_CONTAINER, SampleKJars.EVALUATION);
+    }
+
+    /**
+     * Creates a new client, every scenario instance uses its own one as clients keep per conversation state.
+     */
+    public KieServicesClient newClient() {
+        KieServicesConfiguration configuration = KieServicesFactory.newRestConfiguration(serverUrl, USER, PASSWORD);
+        configuration.setTimeout(60000);
+        configuration.setMarshallingFormat(MarshallingFormat.JSON);
+        return KieServicesFactory.newKieServicesClient(configuration);
+    }
+
+    public void close() {
+        context.close();
+    }
+
+    private void createContainer(KieServicesClient client, String containerId, org.kie.api.builder.ReleaseId releaseId) {
+        ReleaseId resource = new ReleaseId(releaseId.getGroupId(), releaseId.getArtifactId(), releaseId.getVersion());
+        ServiceResponse<KieContainerResource> response = client.createContainer(containerId, new KieContainerResource(containerId, resource));
+        if (!ServiceResponse.ResponseType.SUCCESS.equals(response.getType())) {
+            throw new IllegalStateException("Unable to create container " + containerId + ": " + response.getMsg());
+        }
+    }
+}
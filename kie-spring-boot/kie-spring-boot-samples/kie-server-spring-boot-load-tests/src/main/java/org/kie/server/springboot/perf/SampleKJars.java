@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.springboot.perf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.appformer.maven.integration.MavenRepository;
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
+import org.kie.scanner.KieMavenRepository;
+
+/**
+ * Kjars used by the load test scenarios. The decisions kjar (rules and DMN) is built on the fly, the process kjar
+ * is the evaluation sample shared with the other Spring Boot samples.
+ */
+public final class SampleKJars {
+
+    public static final String KJARS_LOCATION = "org.kie.server.perf.kjars";
+
+    public static final String DECISIONS_CONTAINER = "decisions";
+    public static final String DECISIONS_SESSION = "stateless-decisions";
+    public static final String DMN_NAMESPACE = "https://kie.org/perf/discount";
+    public static final String DMN_MODEL = "discount";
+
+    public static final String PROCESS_CONTAINER = "evaluation";
+    public static final String PROCESS_ID = "evaluation";
+
+    static final ReleaseId DECISIONS = KieServices.Factory.get().newReleaseId("org.kie.server.perf", "load-test-decisions", "1.0.0");
+    static final ReleaseId EVALUATION = KieServices.Factory.get().newReleaseId("org.jbpm.test", "evaluation", "1.0.0");
+
+    private static final String KMODULE = "<kmodule xmlns=\"http://www.drools.org/xsd/kmodule\">\n" +
+            "  <kbase name=\"decisions\" default=\"true\" packages=\"org.kie.server.perf\">\n" +
+            "    <ksession name=\"" + DECISIONS_SESSION + "\" type=\"stateless\" default=\"true\"/>\n" +
+            "  </kbase>\n" +
+            "</kmodule>";
+
+    private SampleKJars() {
+    }
+
+    public static void install() {
+        installDecisions();
+        installEvaluation();
+    }
+
+    private static void installDecisions() {
+        KieServices ks = KieServices.Factory.get();
+        KieFileSystem kfs = ks.newKieFileSystem();
+        kfs.writeKModuleXML(KMODULE);
+        kfs.write("src/main/resources/org/kie/server/perf/orders.drl", read("load-test-decisions/orders.drl"));
+        kfs.write("src/main/resources/org/kie/server/perf/discount.dmn", read("load-test-decisions/discount.dmn"));
+        kfs.generateAndWritePomXML(DECISIONS);
+
+        KieBuilder builder = ks.newKieBuilder(kfs).buildAll();
+        if (builder.getResults().hasMessages(Message.Level.ERROR)) {
+            throw new IllegalStateException("Unable to build " + DECISIONS + ": " + builder.getResults().getMessages());
+        }
+        try {
+            Path pom = Files.createTempFile(DECISIONS.getArtifactId(), ".pom");
+            Files.write(pom, kfs.read("pom.xml"));
+            KieMavenRepository.getKieMavenRepository().installArtifact(DECISIONS, (InternalKieModule) builder.getKieModule(), pom.toFile());
+            Files.delete(pom);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void installEvaluation() {
+        File location = new File(System.getProperty(KJARS_LOCATION, "../kjars"), "evaluation");
+        File kjar = new File(location, "jbpm-module.jar");
+        File pom = new File(location, "pom.xml");
+        if (!kjar.isFile()) {
+            throw new IllegalStateException("Evaluation kjar not found at " + kjar.getAbsolutePath() + ", set " + KJARS_LOCATION);
+        }
+        MavenRepository.getMavenRepository().installArtifact(EVALUATION, kjar, pom);
+    }
+
+    private static byte[] read(String resource) {
+        try (InputStream stream = SampleKJars.class.getClassLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalStateException("Resource " + resource + " not found");
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = stream.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.server.springboot.perf.scenario;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.KieServices;
+import org.kie.api.command.BatchExecutionCommand;
+import org.kie.api.command.Command;
+import org.kie.api.command.KieCommands;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.perf.SharedMetricRegistry;
+import org.kie.perf.scenario.IPerfTest;
+import org.kie.perf.scenario.ScheduledStart;
+import org.kie.server.api.model.ServiceResponse;
+import org.kie.server.api.model.instance.TaskSummary;
+import org.kie.server.client.DMNServicesClient;
+import org.kie.server.client.KieServicesClient;
+import org.kie.server.client.ProcessServicesClient;
+import org.kie.server.client.QueryServicesClient;
+import org.kie.server.client.RuleServicesClient;
+import org.kie.server.client.UserTaskServicesClient;
+import org.kie.server.springboot.perf.KieServerLoadTestEnvironment;
+import org.kie.server.springboot.perf.SampleKJars;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * Mix of rule, decision, process, user task and query requests. Every execution picks one operation at random,
+ * weighted by <code>org.kie.server.perf.workload</code> (e.g. <code>rules=30,dmn=30,process=15,task=10,query=15</code>),
+ * and records its latency in a timer of its own so percentiles are reported per operation. Latency is measured from
+ * the start scheduled by the suite, see {@link ScheduledStart}.
+ */
+public class MixedWorkload implements IPerfTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MixedWorkload.class);
+
+    public static final String WORKLOAD = "org.kie.server.perf.workload";
+
+    private static final String DEFAULT_WORKLOAD = "rules=30,dmn=30,process=15,task=10,query=15";
+
+    enum Operation {
+        RULES, DMN, PROCESS, TASK, QUERY
+    }
+
+    private final KieCommands commands = KieServices.Factory.get().getCommands();
+
+    private List<Operation> operations;
+    private int[] cumulativeWeights;
+
+    private RuleServicesClient ruleClient;
+    private DMNServicesClient dmnClient;
+    private ProcessServicesClient processClient;
+    private UserTaskServicesClient taskClient;
+    private QueryServicesClient queryClient;
+
+    private Map<Operation, Timer> timers;
+    private Map<Operation, Meter> failures;
+
+    @Override
+    public void init() {
+        parseWorkload(System.getProperty(WORKLOAD, DEFAULT_WORKLOAD));
+
+        KieServicesClient client = KieServerLoadTestEnvironment.get().newClient();
+        ruleClient = client.getServicesClient(RuleServicesClient.class);
+        dmnClient = client.getServicesClient(DMNServicesClient.class);
+        processClient = client.getServicesClient(ProcessServicesClient.class);
+        taskClient = client.getServicesClient(UserTaskServicesClient.class);
+        queryClient = client.getServicesClient(QueryServicesClient.class);
+    }
+
+    @Override
+    public void initMetrics() {
+        MetricRegistry metrics = SharedMetricRegistry.getInstance();
+        timers = new EnumMap<>(Operation.class);
+        failures = new EnumMap<>(Operation.class);
+        for (Operation operation : operations) {
+            String name = operation.name().toLowerCase(Locale.ROOT);
+            // values are already measured from the scheduled start, so no coordinated omission correction is needed
+            timers.put(operation, SharedMetricRegistry.latencyTimer(MetricRegistry.name(MixedWorkload.class, name)));
+            failures.put(operation, metrics.meter(MetricRegistry.name(MixedWorkload.class, name, "failures")));
+        }
+    }
+
+    @Override
+    public void execute() {
+        Operation operation = pick();
+        // measured from the scheduled start so time spent waiting for a free thread is not hidden
+        long start = ScheduledStart.get();
+        try {
+            switch (operation) {
+                case RULES:
+                    rules();
+                    break;
+                case DMN:
+                    dmn();
+                    break;
+                case PROCESS:
+                    process();
+                    break;
+                case TASK:
+                    task();
+                    break;
+                case QUERY:
+                    queryClient.findProcessInstances(0, 10);
+                    break;
+            }
+        } catch (RuntimeException e) {
+            failures.get(operation).mark();
+            log.debug("Operation {} failed", operation, e);
+        } finally {
+            timers.get(operation).update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        // the server is shared by all scenario instances and stopped when the JVM exits
+    }
+
+    private void rules() {
+        List<Command<?>> batch = new ArrayList<>();
+        batch.add(commands.newInsert(amount(), "amount"));
+        batch.add(commands.newFireAllRules("fired"));
+        batch.add(commands.newGetObjects("objects"));
+        BatchExecutionCommand command = commands.newBatchExecution(batch, SampleKJars.DECISIONS_SESSION);
+        check(ruleClient.executeCommandsWithResults(SampleKJars.DECISIONS_CONTAINER, command));
+    }
+
+    private void dmn() {
+        DMNContext context = dmnClient.newContext();
+        context.set("Amount", amount());
+        ServiceResponse<DMNResult> response = dmnClient.evaluateAll(SampleKJars.DECISIONS_CONTAINER, SampleKJars.DMN_NAMESPACE, SampleKJars.DMN_MODEL, context);
+        check(response);
+        if (response.getResult().hasErrors()) {
+            throw new IllegalStateException("Decision failed: " + response.getResult().getMessages());
+        }
+    }
+
+    private void process() {
+        Long processInstanceId = startEvaluation();
+        try {
+            processClient.getProcessInstance(SampleKJars.PROCESS_CONTAINER, processInstanceId);
+        } finally {
+            processClient.abortProcessInstance(SampleKJars.PROCESS_CONTAINER, processInstanceId);
+        }
+    }
+
+    private void task() {
+        Long processInstanceId = startEvaluation();
+        try {
+            List<TaskSummary> tasks = taskClient.findTasksByStatusByProcessInstanceId(processInstanceId, Collections.singletonList("Reserved"), 0, 10);
+            for (TaskSummary task : tasks) {
+                taskClient.startTask(SampleKJars.PROCESS_CONTAINER, task.getId(), KieServerLoadTestEnvironment.USER);
+                taskClient.completeTask(SampleKJars.PROCESS_CONTAINER, task.getId(), KieServerLoadTestEnvironment.USER, new HashMap<>());
+            }
+        } finally {
+            processClient.abortProcessInstance(SampleKJars.PROCESS_CONTAINER, processInstanceId);
+        }
+    }
+
+    private Long startEvaluation() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("employee", KieServerLoadTestEnvironment.USER);
+        parameters.put("reason", "load test");
+        return processClient.startProcess(SampleKJars.PROCESS_CONTAINER, SampleKJars.PROCESS_ID, parameters);
+    }
+
+    private Operation pick() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private void parseWorkload(String workload) {
+        operations = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String entry : workload.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid workload entry '" + entry + "', expected <operation>=<weight>");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                operations.add(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)));
+                weights.add(weight);
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Workload '" + workload + "' does not contain any operation");
+        }
+        cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            total += weights.get(i);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    private static int amount() {
+        return ThreadLocalRandom.current().nextInt(1, 2000);
+    }
+
+    private static void check(ServiceResponse<?> response) {
+        if (!ServiceResponse.ResponseType.SUCCESS.equals(response.getType())) {
+            throw new IllegalStateException(response.getMsg());
+        }
+    }
+}
@@ -20,7 +20,9 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
 
 import org.drools.compiler.kie.builder.impl.ClasspathKieProject;
@@ -78,6 +80,10 @@ public class KModuleBeanFactoryPostProcessor implements BeanFactoryPostProcessor
     protected ReleaseId releaseId;
     private ApplicationContext context;
 
+    private KieBaseInitializer kieBaseInitializer;
+    private final List<String> eagerKieBases = new ArrayList<>();
+    private final List<String> lazyKieBases = new ArrayList<>();
+
     public KModuleBeanFactoryPostProcessor() {
     }
 
@@ -127,6 +133,7 @@ public class KModuleBeanFactoryPostProcessor implements BeanFactoryPostProcessor
             if (beanDefinition.getBeanClassName() != null && beanDefinition.getBeanClassName().equalsIgnoreCase(KModuleFactoryBean.class.getName())) {
                 KieModuleModel kieModuleModel = fetchKieModuleModel(beanFactory);
                 addKieModuleToRepo(kieModuleModel);
+                buildKieBasesInBackground();
             }
         }
     }
@@ -147,6 +154,18 @@ public class KModuleBeanFactoryPostProcessor implements BeanFactoryPostProcessor
         }
     }
 
+    private void buildKieBasesInBackground() {
+        int parallelism = KieBaseInitializer.getParallelism();
+        if (parallelism > 1) {
+            log.info("Building KieBases {} using {} threads", eagerKieBases, parallelism);
+            kieBaseInitializer.buildInBackground(eagerKieBases, parallelism);
+        }
+        if (KieBaseInitializer.isWarmUpEnabled()) {
+            log.info("Warming up lazy KieBases {} in background", lazyKieBases);
+            kieBaseInitializer.buildInBackground(lazyKieBases, parallelism);
+        }
+    }
+
     protected InternalKieModule createKieModule(KieModuleModel kieProject) {
         String rootPath = parseKModuleRootPath(kModuleRootUrl);
         if (rootPath.lastIndexOf(':') >= 2) { // avoid to trucate Windows paths like C:\my\folder\...
@@ -157,6 +176,9 @@ public class KModuleBeanFactoryPostProcessor implements BeanFactoryPostProcessor
 
     private KieModuleModel fetchKieModuleModel(ConfigurableListableBeanFactory beanFactory) {
         KieModuleModelImpl kieModuleModel = new KieModuleModelImpl();
+        kieBaseInitializer = new KieBaseInitializer(releaseId);
+        eagerKieBases.clear();
+        lazyKieBases.clear();
         addKieBaseModels(beanFactory, kieModuleModel);
         return kieModuleModel;
     }
@@ -214,7 +236,18 @@ public class KModuleBeanFactoryPostProcessor implements BeanFactoryPostProcessor
 
                 kieModuleModel.getRawKieBaseModels().put( kBase.getName(), kBase );
                 beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("releaseId", releaseId));
-                addKieSessionModels(beanFactory, kBase);
+                beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("kieBaseInitializer", kieBaseInitializer));
+
+                boolean lazy = isLazy(beanDefinition);
+                if ( lazy ) {
+                    // the KieBase and its sessions are only created once requested
+                    beanDefinition.setLazyInit(true);
+                    beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("lazy", "true"));
+                    lazyKieBases.add(kBase.getName());
+                } else if ( isSingleton(beanDefinition) ) {
+                    eagerKieBases.add(kBase.getName());
+                }
+                addKieSessionModels(beanFactory, kBase, lazy);
             }
         }
     }
@@ -226,12 +259,22 @@ public class KModuleBeanFactoryPostProcessor implements BeanFactoryPostProcessor
         return expression;
     }
 
+    private boolean isLazy(BeanDefinition beanDefinition) {
+        String lazy = getPropertyValue(beanDefinition, "lazy");
+        return lazy.isEmpty() ? KieBaseInitializer.isLazyByDefault() : Boolean.parseBoolean(lazy.trim());
+    }
+
+    private boolean isSingleton(BeanDefinition beanDefinition) {
+        PropertyValue singleton = beanDefinition.getPropertyValues().getPropertyValue("singleton");
+        return singleton == null || !"false".equals(String.valueOf(singleton.getValue()));
+    }
+
     private String getPropertyValue(BeanDefinition beanDefinition, String propertyName) {
         PropertyValue propertyValue = beanDefinition.getPropertyValues().getPropertyValue(propertyName);
         return propertyValue != null ? (String) propertyValue.getValue() : "";
     }
 
-    private void addKieSessionModels(ConfigurableListableBeanFactory beanFactory, KieBaseModelImpl kBase) {
+    private void addKieSessionModels(ConfigurableListableBeanFactory beanFactory, KieBaseModelImpl kBase, boolean lazy) {
         for (String beanDef : beanFactory.getBeanDefinitionNames()){
             BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanDef);
             if ( beanDefinition.getBeanClassName() != null && beanDefinition.getBeanClassName().equalsIgnoreCase(KSessionFactoryBean.class.getName())){
@@ -245,6 +288,10 @@ public class KModuleBeanFactoryPostProcessor implements BeanFactoryPostProcessor
                     Map<String, KieSessionModel> rawKieSessionModels = kBase.getRawKieSessionModels();
                     rawKieSessionModels.put(kSession.getName(), kSession);
                     beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("releaseId", releaseId));
+                    beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("kieBaseInitializer", kieBaseInitializer));
+                    if ( lazy ) {
+                        beanDefinition.setLazyInit(true);
+                    }
 
                     kSession.setDefault( "true".equals( getPropertyValue(beanDefinition, "def") ) );
 
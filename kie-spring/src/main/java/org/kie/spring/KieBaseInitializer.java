@@ -0,0 +1,183 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.spring;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.kie.api.KieBase;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.runtime.KieContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds the KieBases of a KieModule, in the background when requested so that independent KieBases are
+ * compiled in parallel instead of one after another while Spring instantiates the beans. Spring creates
+ * singletons under a single lock, hence the builds are started from {@link KModuleBeanFactoryPostProcessor}
+ * and the KBaseFactoryBeans only pick up the results.
+ * <p>
+ * One instance is created per KieModule registered by the post processor and handed to its KBaseFactoryBeans
+ * and KSessionFactoryBeans, so the built KieBases are released together with the application context.
+ * Singleton KieSessions are created from the KieContainer their KieBase was built in, which avoids building
+ * the KieBase once more for them.
+ */
+public class KieBaseInitializer {
+
+    /**
+     * When <code>true</code> all KieBases are built on first use, unless set otherwise by the <code>lazy</code>
+     * attribute of the kbase element.
+     */
+    public static final String LAZY = "org.kie.spring.kbase.lazy";
+    /**
+     * When <code>true</code> lazy KieBases are built in the background right after the KieModule is registered.
+     */
+    public static final String WARM_UP = "org.kie.spring.kbase.warmup";
+    /**
+     * Number of KieBases built at the same time, eager KieBases are built one by one by the bean factory when 1.
+     */
+    public static final String PARALLELISM = "org.kie.spring.kbase.parallelism";
+
+    private static final int DEFAULT_PARALLELISM = 1;
+
+    private static final Logger log = LoggerFactory.getLogger(KieBaseInitializer.class);
+
+    private final ReleaseId releaseId;
+    private final Map<String, Future<Build>> builds = new ConcurrentHashMap<>();
+
+    public KieBaseInitializer(ReleaseId releaseId) {
+        this.releaseId = releaseId;
+    }
+
+    public static boolean isLazyByDefault() {
+        return Boolean.parseBoolean(System.getProperty(LAZY, "false"));
+    }
+
+    public static boolean isWarmUpEnabled() {
+        return Boolean.parseBoolean(System.getProperty(WARM_UP, "false"));
+    }
+
+    public static int getParallelism() {
+        String value = System.getProperty(PARALLELISM);
+        if (value == null) {
+            return DEFAULT_PARALLELISM;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed >= 1) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        log.warn("Invalid value '{}' of {}, using default {}", value, PARALLELISM, DEFAULT_PARALLELISM);
+        return DEFAULT_PARALLELISM;
+    }
+
+    public ReleaseId getReleaseId() {
+        return releaseId;
+    }
+
+    /**
+     * Starts building given KieBases on a pool of at most <code>parallelism</code> threads. The threads are
+     * released once all the KieBases are built.
+     */
+    public void buildInBackground(Collection<String> kBaseNames, int parallelism) {
+        if (kBaseNames.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, kBaseNames.size())),
+                                                                new KieBaseThreadFactory());
+        try {
+            for (String kBaseName : kBaseNames) {
+                log.debug("Building KieBase {} of {} in background", kBaseName, releaseId);
+                builds.computeIfAbsent(kBaseName, name -> executor.submit(() -> build(name)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns given KieBase, waiting for the build in background to finish or building it when not requested yet.
+     */
+    public KieBase getKieBase(String kBaseName) throws Exception {
+        return await(kBaseName).kieBase;
+    }
+
+    /**
+     * Creates given KieSession from the KieContainer the KieBase of the session was built in.
+     */
+    public Object getKieSession(String kSessionName, String kBaseName) throws Exception {
+        return new KieObjectsResolver().resolveKSession(await(kBaseName).kieContainer, kSessionName);
+    }
+
+    private Build await(String kBaseName) throws Exception {
+        FutureTask<Build> task = new FutureTask<>(() -> build(kBaseName));
+        Future<Build> build = builds.putIfAbsent(kBaseName, task);
+        if (build == null) {
+            build = task;
+            task.run();
+        }
+        try {
+            return build.get();
+        } catch (ExecutionException e) {
+            // failed build is not kept so it is attempted again on next request
+            builds.remove(kBaseName, build);
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Build build(String kBaseName) {
+        KieObjectsResolver kieObjectsResolver = new KieObjectsResolver();
+        KieContainer kieContainer = kieObjectsResolver.resolveKContainer(releaseId);
+        return new Build(kieContainer, kieObjectsResolver.resolveKBase(kieContainer, kBaseName));
+    }
+
+    private static class Build {
+
+        private final KieContainer kieContainer;
+        private final KieBase kieBase;
+
+        Build(KieContainer kieContainer, KieBase kieBase) {
+            this.kieContainer = kieContainer;
+            this.kieBase = kieBase;
+        }
+    }
+
+    private static class KieBaseThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "kie-spring-kbase-init-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -29,7 +29,10 @@ import org.kie.api.runtime.StatelessKieSession;
 public class KieObjectsResolver {
 
     public KieBase resolveKBase(String id, ReleaseId releaseId) {
-        KieContainer kieContainer = resolveKContainer(releaseId);
+        return resolveKBase(resolveKContainer(releaseId), id);
+    }
+
+    public KieBase resolveKBase(KieContainer kieContainer, String id) {
         KieBase kieBase = kieContainer.getKieBase(id);
         if (kieBase == null) {
             kieBase = kieContainer.newKieBase(id, null);
@@ -53,7 +56,7 @@ public class KieObjectsResolver {
         return null;
     }
 
-    private KieContainer resolveKContainer(ReleaseId releaseId) {
+    public KieContainer resolveKContainer(ReleaseId releaseId) {
         if (releaseId == null) {
             throw new IllegalArgumentException("Cannot resolve a KieContainer using a null ReleaseId");
         }
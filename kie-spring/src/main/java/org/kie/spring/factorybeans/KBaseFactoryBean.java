@@ -20,6 +20,7 @@ package org.kie.spring.factorybeans;
 import org.kie.api.KieBase;
 import org.kie.api.builder.ReleaseId;
 import org.kie.api.runtime.KieContainer;
+import org.kie.spring.KieBaseInitializer;
 import org.kie.spring.KieObjectsResolver;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
@@ -38,9 +39,11 @@ public class KBaseFactoryBean
     private String declarativeAgenda;
     private String scope;
     private String def;
+    private boolean lazy;
 
-    private KieBase kBase;
+    private volatile KieBase kBase;
     private ReleaseId releaseId;
+    private KieBaseInitializer kieBaseInitializer;
     protected boolean singleton = true;
     protected KieContainer kieContainer;
 
@@ -52,6 +55,14 @@ public class KBaseFactoryBean
         this.releaseId = releaseId;
     }
 
+    public KieBaseInitializer getKieBaseInitializer() {
+        return kieBaseInitializer;
+    }
+
+    public void setKieBaseInitializer(KieBaseInitializer kieBaseInitializer) {
+        this.kieBaseInitializer = kieBaseInitializer;
+    }
+
     public String getKBaseName() {
         return kBaseName;
     }
@@ -107,6 +118,17 @@ public class KBaseFactoryBean
         this.def = def;
     }
 
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * When set, singleton KieBase is built on first use instead of when the bean is initialized
+     */
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
     public String getEqualsBehavior() {
         return equalsBehavior;
     }
@@ -141,6 +163,13 @@ public class KBaseFactoryBean
 
     public KieBase getObject() throws Exception {
         if ( singleton) {
+            if ( kBase == null && lazy ) {
+                synchronized (this) {
+                    if ( kBase == null ) {
+                        kBase = resolveKBase();
+                    }
+                }
+            }
             return kBase;
         } else {
             return kieContainer.newKieBase(kBaseName, null);
@@ -164,9 +193,16 @@ public class KBaseFactoryBean
     }
 
     public void afterPropertiesSet() throws Exception {
-        if ( singleton ) {
-            KieObjectsResolver kieObjectsResolver = new KieObjectsResolver();
-            kBase = kieObjectsResolver.resolveKBase(kBaseName, releaseId);
+        if ( singleton && !lazy ) {
+            kBase = resolveKBase();
+        }
+    }
+
+    private KieBase resolveKBase() throws Exception {
+        if ( kieBaseInitializer != null ) {
+            return kieBaseInitializer.getKieBase(kBaseName);
         }
+        KieObjectsResolver kieObjectsResolver = new KieObjectsResolver();
+        return kieObjectsResolver.resolveKBase(kBaseName, releaseId);
     }
 }
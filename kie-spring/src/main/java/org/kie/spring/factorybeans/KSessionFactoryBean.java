@@ -34,11 +34,14 @@ import org.kie.api.runtime.KieRuntime;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.StatelessKieSession;
+import org.kie.spring.KieBaseInitializer;
 import org.kie.spring.KieObjectsResolver;
 import org.kie.spring.factorybeans.helper.KSessionFactoryBeanHelper;
+import org.kie.spring.factorybeans.helper.PooledKSessionFactoryBeanHelper;
 import org.kie.spring.factorybeans.helper.StatefulKSessionFactoryBeanHelper;
 import org.kie.spring.factorybeans.helper.StatelessKSessionFactoryBeanHelper;
 import org.kie.spring.namespace.EventListenersUtil;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.support.ManagedList;
@@ -46,7 +49,10 @@ import org.springframework.beans.factory.support.ManagedList;
 public class KSessionFactoryBean
         implements
         FactoryBean,
-        InitializingBean {
+        InitializingBean,
+        DisposableBean {
+
+    public static final int DEFAULT_POOL_SIZE = 10;
 
     private Object kSession;
     private String id;
@@ -67,9 +73,11 @@ public class KSessionFactoryBean
     protected List<Object> groupedListeners = new ArrayList<Object>();
 
     private ReleaseId releaseId;
+    private KieBaseInitializer kieBaseInitializer;
 
     private String def;
     private String scope;
+    private int poolSize = DEFAULT_POOL_SIZE;
 
     public KSessionFactoryBean() {
         agendaEventListeners = new ArrayList<AgendaEventListener>();
@@ -85,6 +93,14 @@ public class KSessionFactoryBean
         this.releaseId = releaseId;
     }
 
+    public KieBaseInitializer getKieBaseInitializer() {
+        return kieBaseInitializer;
+    }
+
+    public void setKieBaseInitializer(KieBaseInitializer kieBaseInitializer) {
+        this.kieBaseInitializer = kieBaseInitializer;
+    }
+
     public KieSessionConfiguration getConf() {
         return conf;
     }
@@ -140,6 +156,17 @@ public class KSessionFactoryBean
         this.scope = scope;
     }
 
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Initial number of sessions kept in the pool when scope is <code>pooled</code>
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
     public KieBase getKBase() {
         return kBase;
     }
@@ -180,7 +207,18 @@ public class KSessionFactoryBean
     }
 
     public Object getObject() throws Exception {
-        if ("prototype".equalsIgnoreCase(scope)) {
+        if (helper instanceof PooledKSessionFactoryBeanHelper) {
+            helper.setKieBase(kBase);
+            Object kSession = helper.internalNewObject();
+            if (((PooledKSessionFactoryBeanHelper) helper).markInitialized(kSession)) {
+                attachLoggers((KieRuntimeEventManager) kSession);
+            }
+            // listeners are removed first so they are not registered twice when a reset session keeps them
+            detachListeners((KieRuntimeEventManager) kSession);
+            attachListeners((KieRuntimeEventManager) kSession);
+            return kSession;
+        }
+        if ("prototype".equalsIgnoreCase(scope) || "pooled".equalsIgnoreCase(scope)) {
             helper.setKieBase(kBase);
             Object kSession = helper.internalNewObject();
             attachLoggers((KieRuntimeEventManager) kSession);
@@ -201,9 +239,13 @@ public class KSessionFactoryBean
     public void afterPropertiesSet() throws Exception {
 
         if ( "singleton".equalsIgnoreCase(scope) ) {
-            KieObjectsResolver kieObjectsResolver = new KieObjectsResolver();
-
-            kSession = kieObjectsResolver.resolveKSession(name, releaseId);
+            if ( kieBaseInitializer != null && kBaseName != null ) {
+                // reuses the KieBase built for the kbase bean instead of building it again
+                kSession = kieBaseInitializer.getKieSession(name, kBaseName);
+            } else {
+                KieObjectsResolver kieObjectsResolver = new KieObjectsResolver();
+                kSession = kieObjectsResolver.resolveKSession(name, releaseId);
+            }
             if (kSession instanceof StatelessKieSession) {
                 helper = new StatelessKSessionFactoryBeanHelper(this, (StatelessKieSession) kSession);
             } else if (kSession instanceof KieSession) {
@@ -218,13 +260,22 @@ public class KSessionFactoryBean
 
         } else {
             if ("stateless".equalsIgnoreCase(type)) {
+                // stateless sessions are cheap to create so pooled scope behaves as prototype for them
                 helper = new StatelessKSessionFactoryBeanHelper(this, null);
+            } else if ("pooled".equalsIgnoreCase(scope)) {
+                helper = new PooledKSessionFactoryBeanHelper(this);
             } else {
                 helper = new StatefulKSessionFactoryBeanHelper(this, null);
             }
         }
     }
 
+    public void destroy() throws Exception {
+        if (helper instanceof PooledKSessionFactoryBeanHelper) {
+            ((PooledKSessionFactoryBeanHelper) helper).shutdown();
+        }
+    }
+
     public StatefulKSessionFactoryBeanHelper.JpaConfiguration getJpaConfiguration() {
         return jpaConfiguration;
     }
@@ -339,6 +390,18 @@ public class KSessionFactoryBean
         this.ruleRuntimeEventListeners = ruleRuntimeEventListeners;
     }
 
+    public void detachListeners(KieRuntimeEventManager kieRuntimeEventManager) {
+        for (AgendaEventListener agendaEventListener : getAgendaEventListeners()) {
+            kieRuntimeEventManager.removeEventListener(agendaEventListener);
+        }
+        for (ProcessEventListener processEventListener : getProcessEventListeners()) {
+            kieRuntimeEventManager.removeEventListener(processEventListener);
+        }
+        for (RuleRuntimeEventListener ruleRuntimeEventListener : getRuleRuntimeEventListeners()) {
+            kieRuntimeEventManager.removeEventListener(ruleRuntimeEventListener);
+        }
+    }
+
     public void attachListeners(KieRuntimeEventManager kieRuntimeEventManager) {
         for (AgendaEventListener agendaEventListener : getAgendaEventListeners()) {
             kieRuntimeEventManager.addEventListener(agendaEventListener);
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.spring.factorybeans.helper;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.kie.api.runtime.KieSessionsPool;
+import org.kie.spring.factorybeans.KSessionFactoryBean;
+
+/**
+ * Hands out stateful sessions from a pool created for the kie base of the factory bean. Calling
+ * <code>dispose()</code> on such a session resets it and returns it to the pool instead of destroying it.
+ */
+public class PooledKSessionFactoryBeanHelper extends StatefulKSessionFactoryBeanHelper {
+
+    private KieSessionsPool pool;
+    private final Set<Object> initializedSessions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public PooledKSessionFactoryBeanHelper(KSessionFactoryBean factoryBean) {
+        super(factoryBean, null);
+    }
+
+    @Override
+    public Object internalNewObject() {
+        KieSessionsPool sessionsPool = getPool();
+        if (sessionsPool == null) {
+            return null;
+        }
+        if (factoryBean.getConf() != null) {
+            return sessionsPool.newKieSession(factoryBean.getConf());
+        }
+        return sessionsPool.newKieSession();
+    }
+
+    /**
+     * Returns true only the first time given session is handed out, so one time set up such as loggers is not
+     * repeated every time the session is taken from the pool.
+     */
+    public boolean markInitialized(Object kSession) {
+        return initializedSessions.add(kSession);
+    }
+
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        initializedSessions.clear();
+    }
+
+    protected synchronized KieSessionsPool getPool() {
+        if (pool == null && kieBase != null) {
+            pool = kieBase.newKieSessionsPool(factoryBean.getPoolSize());
+        }
+        return pool;
+    }
+}
@@ -41,6 +41,7 @@ public class KBaseDefinitionParser extends AbstractBeanDefinitionParser {
     private static final String ATTRIBUTE_DECLARATIVE_AGENDA = "declarativeAgenda";
     private static final String ATTRIBUTE_SCOPE = "scope";
     private static final String ATTRIBUTE_DEFAULT = "default";
+    private static final String ATTRIBUTE_LAZY = "lazy";
 
     @SuppressWarnings("unchecked")
     @Override
@@ -58,6 +59,9 @@ public class KBaseDefinitionParser extends AbstractBeanDefinitionParser {
         factory.addPropertyValue("declarativeAgenda", element.getAttribute(ATTRIBUTE_DECLARATIVE_AGENDA));
         factory.addPropertyValue("scope", element.getAttribute(ATTRIBUTE_SCOPE));
         factory.addPropertyValue("def", element.getAttribute(ATTRIBUTE_DEFAULT));
+        if (element.hasAttribute(ATTRIBUTE_LAZY)) {
+            factory.addPropertyValue("lazy", element.getAttribute(ATTRIBUTE_LAZY));
+        }
 
         element.setAttribute("name", id);
         List<Element> ksessionElements = DomUtils.getChildElementsByTagName(element, "ksession");
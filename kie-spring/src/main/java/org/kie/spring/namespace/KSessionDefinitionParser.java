@@ -57,6 +57,7 @@ public class KSessionDefinitionParser extends AbstractBeanDefinitionParser {
     private static final String KEEP_REFERENCE = "keep-reference";
     private static final String CLOCK_TYPE = "clockType";
     private static final String SCOPE = "scope";
+    private static final String POOL_SIZE = "pool-size";
 
     private static final String WORK_ITEMS = "work-item-handlers";
     private static final String WORK_ITEM = "work-item-handler";
@@ -91,6 +92,11 @@ public class KSessionDefinitionParser extends AbstractBeanDefinitionParser {
             factory.addPropertyValue(SCOPE, "singleton");
         }
 
+        String poolSize = element.getAttribute(POOL_SIZE);
+        if (StringUtils.hasText(poolSize)) {
+            factory.addPropertyValue("poolSize", poolSize);
+        }
+
         String clockType = element.getAttribute(CLOCK_TYPE);
         if (StringUtils.hasLength(clockType)){
             factory.addPropertyValue(CLOCK_TYPE, clockType);
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.spring.tests;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.spring.KieBaseInitializer;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+
+import static org.junit.Assert.*;
+
+public class KieSpringLazyKBaseTest {
+
+    static ClassPathXmlApplicationContext context = null;
+
+    @BeforeClass
+    public static void setup() {
+        System.setProperty(KieBaseInitializer.PARALLELISM, "2");
+        try {
+            context = new ClassPathXmlApplicationContext("org/kie/spring/beans-with-lazy-kbase.xml");
+        } finally {
+            System.clearProperty(KieBaseInitializer.PARALLELISM);
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    public void testEagerKBasesBuiltInParallel() throws Exception {
+        assertTrue(context.getBeanFactory().containsSingleton("drl_kiesample"));
+        assertTrue(context.getBeanFactory().containsSingleton("drl_kiesample2"));
+
+        KieBase kbase = (KieBase) context.getBean("drl_kiesample");
+        assertNotNull(kbase);
+        assertNotNull(kbase.getKiePackage("drl_kiesample"));
+        assertNotNull(context.getBean("drl_kiesample2"));
+        assertNotNull(context.getBean("eagerSession"));
+    }
+
+    @Test
+    public void testLazyKBaseBuiltOnFirstUse() throws Exception {
+        assertFalse(context.getBeanFactory().containsSingleton("lazySession"));
+
+        KieSession ksession = (KieSession) context.getBean("lazySession");
+        assertNotNull(ksession);
+
+        KieBase kbase = (KieBase) context.getBean("drl_kiesample3");
+        assertNotNull(kbase);
+        assertSame(kbase, context.getBean("drl_kiesample3"));
+        assertSame(kbase, ksession.getKieBase());
+    }
+
+    @Test
+    public void testSingletonSessionCreatedFromKBaseBean() throws Exception {
+        KieSession ksession = (KieSession) context.getBean("eagerSession");
+        assertSame(context.getBean("drl_kiesample"), ksession.getKieBase());
+    }
+
+    @Test
+    public void testInvalidParallelismFallsBackToDefault() {
+        try {
+            System.setProperty(KieBaseInitializer.PARALLELISM, "4");
+            assertEquals(4, KieBaseInitializer.getParallelism());
+
+            System.setProperty(KieBaseInitializer.PARALLELISM, "all");
+            assertEquals(1, KieBaseInitializer.getParallelism());
+
+            System.setProperty(KieBaseInitializer.PARALLELISM, "0");
+            assertEquals(1, KieBaseInitializer.getParallelism());
+        } finally {
+            System.clearProperty(KieBaseInitializer.PARALLELISM);
+        }
+    }
+}
@@ -89,6 +89,27 @@ public class KieSpringScopeTest {
 
         assertNotEquals(ksession.hashCode(), anotherKsession.hashCode());
     }
+    @Test
+    public void testStatefulPooledKieSession() throws Exception {
+        KieSession ksession = (KieSession) context.getBean("statefulPooledSession");
+        assertNotNull(ksession);
+
+        KieSession anotherKsession = (KieSession) context.getBean("statefulPooledSession");
+        assertNotSame(ksession, anotherKsession);
+
+        ksession.insert("fact");
+        assertEquals(1, ksession.getFactCount());
+        // disposing returns the reset session to the pool so it is reused
+        ksession.dispose();
+
+        KieSession recycledKsession = (KieSession) context.getBean("statefulPooledSession");
+        assertSame(ksession, recycledKsession);
+        assertEquals(0, recycledKsession.getFactCount());
+
+        recycledKsession.dispose();
+        anotherKsession.dispose();
+    }
+
     @Test
     public void testConcurrentlyGetStatefulPrototypeKieSession() throws Exception {
         final int nThreads = 10;